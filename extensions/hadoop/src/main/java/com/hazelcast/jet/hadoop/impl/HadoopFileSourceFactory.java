@@ -31,6 +31,7 @@ import com.hazelcast.jet.pipeline.file.RawBytesFileFormat;
 import com.hazelcast.jet.pipeline.file.TextFileFormat;
 import com.hazelcast.jet.pipeline.file.impl.FileSourceConfiguration;
 import com.hazelcast.jet.pipeline.file.impl.FileSourceFactory;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown;
 import com.hazelcast.security.permission.ConnectorPermission;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
@@ -344,8 +345,14 @@ public class HadoopFileSourceFactory implements FileSourceFactory {
 
         @Override
         public <T> void configure(Job job, FileFormat<T> format) {
-            job.setInputFormatClass(AvroParquetInputFormat.class);
-            job.getConfiguration().setBoolean(COPY_ON_READ, Boolean.FALSE);
+            Configuration configuration = job.getConfiguration();
+            if (configuration.get(ParquetPushdown.OPTION_COLUMNS) != null
+                    || configuration.get(ParquetPushdown.OPTION_FILTER) != null) {
+                job.setInputFormatClass(PushdownParquetInputFormat.class);
+            } else {
+                job.setInputFormatClass(AvroParquetInputFormat.class);
+            }
+            configuration.setBoolean(COPY_ON_READ, Boolean.FALSE);
         }
 
         @Override
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.hadoop.impl;
+
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Condition;
+import org.apache.avro.Schema;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.avro.AvroParquetInputFormat;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators.Column;
+import org.apache.parquet.filter2.predicate.Operators.SupportsEqNotEq;
+import org.apache.parquet.filter2.predicate.Operators.SupportsLtGt;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.ParquetRecordReader;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.IntLogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.StringLogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.parquet.format.converter.ParquetMetadataConverter.SKIP_ROW_GROUPS;
+
+/**
+ * Parquet input format that reads only the columns listed in {@link
+ * ParquetPushdown#OPTION_COLUMNS} and skips the row groups that can't match
+ * the conditions in {@link ParquetPushdown#OPTION_FILTER}.
+ * <p>
+ * The conditions are typed by the schema of each file, which is why the
+ * filter is built when the record reader for a split is created: a
+ * condition that doesn't fit the type of its column in a particular file is
+ * left out for that file. Leaving out conditions is always safe, because the
+ * SQL engine evaluates the complete predicate on the rows it receives.
+ *
+ * @param <T> type of the records
+ */
+public class PushdownParquetInputFormat<T> extends AvroParquetInputFormat<T> {
+
+    /**
+     * Key of the Avro read schema in the read support metadata, see {@code
+     * AvroReadSupport.AVRO_READ_SCHEMA_METADATA_KEY}.
+     */
+    private static final String AVRO_READ_SCHEMA_METADATA_KEY = "avro.read.schema";
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+    @Override
+    public RecordReader<Void, T> createRecordReader(InputSplit split, TaskAttemptContext context) throws IOException {
+        Configuration configuration = context.getConfiguration();
+        FilterCompat.Filter filter = ParquetInputFormat.getFilter(configuration);
+        String conditions = configuration.get(ParquetPushdown.OPTION_FILTER);
+        if (conditions != null && filter == FilterCompat.NOOP && split instanceof FileSplit fileSplit) {
+            MessageType fileSchema = readFileSchema(fileSplit.getPath(), configuration);
+            FilterPredicate predicate = toPredicate(ParquetPushdown.decodeFilter(conditions), fileSchema);
+            if (predicate != null) {
+                filter = FilterCompat.get(predicate);
+            }
+        }
+        return new ParquetRecordReader<>(new ProjectingAvroReadSupport<>(), filter);
+    }
+
+    private static MessageType readFileSchema(Path path, Configuration configuration) throws IOException {
+        ParquetReadOptions options = HadoopReadOptions.builder(configuration).withMetadataFilter(SKIP_ROW_GROUPS).build();
+        try (ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(path, configuration), options)) {
+            return reader.getFileMetaData().getSchema();
+        }
+    }
+
+    @Nullable
+    static FilterPredicate toPredicate(List<Condition> conditions, MessageType fileSchema) {
+        FilterPredicate result = null;
+        for (Condition condition : conditions) {
+            FilterPredicate predicate = toPredicate(condition, fileSchema);
+            if (predicate != null) {
+                result = result == null ? predicate : FilterApi.and(result, predicate);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static FilterPredicate toPredicate(Condition condition, MessageType fileSchema) {
+        String column = condition.column();
+        if (!fileSchema.containsField(column)) {
+            return null;
+        }
+        Type type = fileSchema.getType(column);
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveType primitiveType = type.asPrimitiveType();
+        LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
+        Object value = condition.value();
+        return switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32 -> isSignedInteger(annotation) && fitsInt(value)
+                    ? comparable(FilterApi.intColumn(column), condition, value == null ? null : ((Long) value).intValue())
+                    : null;
+            case INT64 -> isSignedInteger(annotation) && isNullOr(value, Long.class)
+                    ? comparable(FilterApi.longColumn(column), condition, (Long) value)
+                    : null;
+            case DOUBLE -> annotation == null && isNullOr(value, Double.class)
+                    ? comparable(FilterApi.doubleColumn(column), condition, (Double) value)
+                    : null;
+            case BOOLEAN -> isNullOr(value, Boolean.class)
+                    ? equality(FilterApi.booleanColumn(column), condition, (Boolean) value)
+                    : null;
+            // the byte order of UTF-8 strings differs from the SQL collation, so only equality is pushed down
+            case BINARY -> annotation instanceof StringLogicalTypeAnnotation && isNullOr(value, String.class)
+                    ? equality(FilterApi.binaryColumn(column), condition,
+                            value == null ? null : Binary.fromString((String) value))
+                    : null;
+            default -> null;
+        };
+    }
+
+    private static boolean isSignedInteger(LogicalTypeAnnotation annotation) {
+        return annotation == null || annotation instanceof IntLogicalTypeAnnotation intAnnotation && intAnnotation.isSigned();
+    }
+
+    private static boolean fitsInt(Object value) {
+        return value == null || value instanceof Long longValue && longValue == longValue.intValue();
+    }
+
+    private static boolean isNullOr(Object value, Class<?> clazz) {
+        return value == null || clazz.isInstance(value);
+    }
+
+    @Nullable
+    private static <V extends Comparable<V>, C extends Column<V> & SupportsLtGt> FilterPredicate comparable(
+            C column, Condition condition, V value
+    ) {
+        return switch (condition.operator()) {
+            case LESS_THAN -> value == null ? null : FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUAL -> value == null ? null : FilterApi.ltEq(column, value);
+            case GREATER_THAN -> value == null ? null : FilterApi.gt(column, value);
+            case GREATER_THAN_OR_EQUAL -> value == null ? null : FilterApi.gtEq(column, value);
+            default -> equality(column, condition, value);
+        };
+    }
+
+    @Nullable
+    private static <V extends Comparable<V>, C extends Column<V> & SupportsEqNotEq> FilterPredicate equality(
+            C column, Condition condition, V value
+    ) {
+        return switch (condition.operator()) {
+            case EQUALS -> value == null ? null : FilterApi.eq(column, value);
+            // parquet keeps nulls for notEq, SQL drops them later
+            case NOT_EQUALS -> value == null ? null : FilterApi.notEq(column, value);
+            case IS_NULL -> FilterApi.eq(column, null);
+            case IS_NOT_NULL -> FilterApi.notEq(column, null);
+            default -> null;
+        };
+    }
+
+    /**
+     * Avro read support that requests only the configured top-level columns
+     * from the file. The Avro schema of the records is the writer's Avro
+     * schema stored in the file, pruned to the same columns, or converted
+     * from the pruned Parquet schema if the file has no Avro schema.
+     */
+    static class ProjectingAvroReadSupport<T> extends AvroReadSupport<T> {
+
+        @Override
+        public ReadContext init(InitContext context) {
+            Configuration configuration = context.getConfiguration();
+            String columnsOption = configuration.get(ParquetPushdown.OPTION_COLUMNS);
+            if (columnsOption == null) {
+                return super.init(context);
+            }
+            Set<String> columns = new HashSet<>(ParquetPushdown.decodeColumns(columnsOption));
+            MessageType fileSchema = context.getFileSchema();
+            List<Type> fields = new ArrayList<>();
+            for (Type field : fileSchema.getFields()) {
+                if (columns.contains(field.getName())) {
+                    fields.add(field);
+                }
+            }
+            if (fields.isEmpty()) {
+                return super.init(context);
+            }
+            MessageType projection = new MessageType(fileSchema.getName(), fields);
+            Schema avroSchema = writerAvroSchema(context.getKeyValueMetadata());
+            Schema readSchema = avroSchema != null && avroSchema.getType() == Schema.Type.RECORD
+                    ? prune(avroSchema, columns)
+                    : new AvroSchemaConverter(configuration).convert(projection);
+            return new ReadContext(projection, Map.of(AVRO_READ_SCHEMA_METADATA_KEY, readSchema.toString()));
+        }
+
+        @Nullable
+        private static Schema writerAvroSchema(Map<String, Set<String>> keyValueMetadata) {
+            Set<String> schemas = keyValueMetadata.get(AVRO_SCHEMA_METADATA_KEY);
+            if (schemas == null || schemas.size() != 1) {
+                return null;
+            }
+            return new Schema.Parser().parse(schemas.iterator().next());
+        }
+
+        private static Schema prune(Schema schema, Set<String> columns) {
+            List<Schema.Field> fields = new ArrayList<>();
+            for (Schema.Field field : schema.getFields()) {
+                if (columns.contains(field.name())) {
+                    fields.add(new Schema.Field(field, field.schema()));
+                }
+            }
+            return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), fields);
+        }
+    }
+}
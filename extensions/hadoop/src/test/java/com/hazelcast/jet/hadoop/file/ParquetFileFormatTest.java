@@ -26,6 +26,9 @@ import com.hazelcast.jet.pipeline.Sinks;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 import com.hazelcast.jet.pipeline.file.FileSourceBuilder;
 import com.hazelcast.jet.pipeline.file.FileSources;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Condition;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Operator;
 import com.hazelcast.jet.test.IgnoreInJenkinsOnWindows;
 import com.hazelcast.test.annotation.NightlyTest;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -41,6 +44,7 @@ import org.junit.runners.Parameterized.Parameters;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -150,6 +154,41 @@ public class ParquetFileFormatTest extends BaseFileFormatTest {
         );
     }
 
+    @Test
+    public void shouldReadOnlyPushedDownColumns() throws Exception {
+        createParquetFile();
+
+        FileSourceBuilder<SpecificUser> source = FileSources.files(currentDir + "/target/parquet")
+                                                            .glob("file.parquet")
+                                                            .option(ParquetPushdown.OPTION_COLUMNS,
+                                                                    ParquetPushdown.encodeColumns(List.of("name")))
+                                                            .format(FileFormat.parquet());
+
+        assertItemsInSource(source,
+                new SpecificUser("Frantisek", null),
+                new SpecificUser("Ali", null)
+        );
+    }
+
+    @Test
+    public void shouldFilterByPushedDownConditions() throws Exception {
+        createParquetFile();
+
+        List<Condition> conditions = List.of(
+                new Condition("favorite_number", Operator.GREATER_THAN, 10L),
+                // conditions that don't fit the file schema are ignored
+                new Condition("favorite_number", Operator.EQUALS, "not a number"),
+                new Condition("no_such_column", Operator.IS_NULL, null)
+        );
+        FileSourceBuilder<SpecificUser> source = FileSources.files(currentDir + "/target/parquet")
+                                                            .glob("file.parquet")
+                                                            .option(ParquetPushdown.OPTION_FILTER,
+                                                                    ParquetPushdown.encodeFilter(conditions))
+                                                            .format(FileFormat.parquet());
+
+        assertItemsInSource(source, new SpecificUser("Ali", 42));
+    }
+
     private void createParquetFile() throws IOException {
         createParquetFile("file.parquet", new SpecificUser("Frantisek", 7), new SpecificUser("Ali", 42));
     }
@@ -678,16 +678,20 @@ SqlDrop SqlDropSnapshot(Span span, boolean replace) :
 }
 
 /**
- * Parses CREATE VIEW statement.
+ * Parses CREATE [MATERIALIZED] VIEW statement.
  */
 SqlCreate SqlCreateView(Span span, boolean replace) :
 {
     SqlParserPos startPos = span.pos();
+    boolean materialized = false;
     boolean ifNotExists = false;
     SqlIdentifier name;
     SqlNode query;
 }
 {
+    [
+        <MATERIALIZED> { materialized = true; }
+    ]
     <VIEW>
     [
         <IF> <NOT> <EXISTS> { ifNotExists = true; }
@@ -703,29 +707,34 @@ SqlCreate SqlCreateView(Span span, boolean replace) :
             replace,
             ifNotExists,
             name,
-            query
+            query,
+            materialized
         );
     }
 }
 
 /**
- * Parses DROP VIEW statement.
+ * Parses DROP [MATERIALIZED] VIEW statement.
  */
 SqlDrop SqlDropView(Span span, boolean replace) :
 {
     SqlParserPos pos = span.pos();
 
     SqlIdentifier name;
+    boolean materialized = false;
     boolean ifExists = false;
 }
 {
+    [
+        <MATERIALIZED> { materialized = true; }
+    ]
     <VIEW>
     [
         <IF> <EXISTS> { ifExists = true; }
     ]
     name = CompoundIdentifier()
     {
-        return new SqlDropView(name, ifExists, pos.plus(getPos()));
+        return new SqlDropView(name, ifExists, materialized, pos.plus(getPos()));
     }
 }
 
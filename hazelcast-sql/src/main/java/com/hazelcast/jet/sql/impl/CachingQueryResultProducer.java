@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.QueryResultProducer;
+import com.hazelcast.sql.impl.ResultIterator;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.hazelcast.sql.impl.ResultIterator.HasNextResult.DONE;
+
+/**
+ * A producer that records the rows of another producer as they are
+ * iterated and passes them to a consumer once the iteration completes.
+ * Nothing is passed if the result fails or has more than {@code maxRows}
+ * rows.
+ */
+class CachingQueryResultProducer implements QueryResultProducer {
+
+    private final QueryResultProducer delegate;
+    private final int maxRows;
+    private final Consumer<List<JetSqlRow>> onComplete;
+
+    private List<JetSqlRow> rows = new ArrayList<>();
+    private ResultIterator<JetSqlRow> iterator;
+
+    CachingQueryResultProducer(QueryResultProducer delegate, int maxRows, Consumer<List<JetSqlRow>> onComplete) {
+        this.delegate = delegate;
+        this.maxRows = maxRows;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public ResultIterator<JetSqlRow> iterator() {
+        if (iterator == null) {
+            ResultIterator<JetSqlRow> delegateIterator = delegate.iterator();
+            iterator = new ResultIterator<>() {
+                @Override
+                public HasNextResult hasNext(long timeout, TimeUnit timeUnit) {
+                    HasNextResult result = delegateIterator.hasNext(timeout, timeUnit);
+                    if (result == DONE) {
+                        complete();
+                    }
+                    return result;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    boolean result = delegateIterator.hasNext();
+                    if (!result) {
+                        complete();
+                    }
+                    return result;
+                }
+
+                @Override
+                public JetSqlRow next() {
+                    JetSqlRow row = delegateIterator.next();
+                    record(row);
+                    return row;
+                }
+            };
+        }
+        return iterator;
+    }
+
+    @Override
+    public void onError(QueryException error) {
+        rows = null;
+        delegate.onError(error);
+    }
+
+    private void record(JetSqlRow row) {
+        if (rows == null) {
+            return;
+        }
+        if (rows.size() == maxRows) {
+            rows = null;
+        } else {
+            rows.add(row);
+        }
+    }
+
+    private void complete() {
+        if (rows != null) {
+            List<JetSqlRow> completedRows = rows;
+            rows = null;
+            onComplete.accept(completedRows);
+        }
+    }
+}
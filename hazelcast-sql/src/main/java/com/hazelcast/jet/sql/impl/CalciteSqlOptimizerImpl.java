@@ -136,14 +136,18 @@ import org.apache.calcite.plan.hep.HepProgramBuilder;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelShuttleImpl;
 import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rel.core.TableFunctionScan;
 import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rel.core.TableModify.Operation;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexDynamicParam;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexSubQuery;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.dialect.PostgresqlSqlDialect;
 import org.apache.calcite.sql.util.SqlString;
@@ -157,6 +161,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -494,12 +499,13 @@ public class CalciteSqlOptimizerImpl implements CalciteSqlOptimizer {
                 sql,
                 replace,
                 ifNotExists,
+                sqlNode.isMaterialized(),
                 planExecutor
         );
     }
 
     private SqlPlan toDropViewPlan(PlanKey planKey, SqlDropView sqlNode) {
-        return new DropViewPlan(planKey, sqlNode.viewName(), sqlNode.ifExists(), planExecutor);
+        return new DropViewPlan(planKey, sqlNode.viewName(), sqlNode.ifExists(), sqlNode.isMaterialized(), planExecutor);
     }
 
     private SqlPlan toDropTypePlan(PlanKey planKey, SqlDropType sqlNode) {
@@ -712,7 +718,8 @@ public class CalciteSqlOptimizerImpl implements CalciteSqlOptimizer {
                     permissions,
                     partitionStrategyCandidates(physicalRel, parameterMetadata),
                     analyze,
-                    analyzeJobConfig
+                    analyzeJobConfig,
+                    analyze || OptUtils.isUnbounded(physicalRel) ? null : ResultCacheabilityFinder.find(rel)
             );
         }
     }
@@ -1020,6 +1027,63 @@ public class CalciteSqlOptimizerImpl implements CalciteSqlOptimizer {
         }
     }
 
+    /**
+     * Decides whether the result of a query can be cached, see {@link
+     * com.hazelcast.sql.impl.plan.cache.QueryResultCache}. It can if the query
+     * reads only from IMaps whose mappings opted in to the cache and calls
+     * only deterministic functions.
+     */
+    static class ResultCacheabilityFinder extends RelVisitor {
+        private final Set<String> mapNames = new LinkedHashSet<>();
+        private boolean cacheable = true;
+
+        private final RexShuttle expressionChecker = new RexShuttle() {
+            @Override
+            public RexNode visitCall(RexCall call) {
+                if (!call.getOperator().isDeterministic() || call.getOperator().isDynamicFunction()) {
+                    cacheable = false;
+                }
+                return super.visitCall(call);
+            }
+
+            @Override
+            public RexNode visitSubQuery(RexSubQuery subQuery) {
+                ResultCacheabilityFinder.this.go(subQuery.rel);
+                return super.visitSubQuery(subQuery);
+            }
+        };
+
+        @Override
+        public void visit(RelNode node, int ordinal, @Nullable RelNode parent) {
+            if (!cacheable) {
+                return;
+            }
+            if (node instanceof TableScan scan) {
+                HazelcastTable table = scan.getTable().unwrap(HazelcastTable.class);
+                if (table != null && table.getTarget() instanceof PartitionedMapTable mapTable
+                        && mapTable.isResultCacheEnabled()) {
+                    mapNames.add(mapTable.getMapName());
+                } else {
+                    cacheable = false;
+                }
+            } else if (node instanceof TableFunctionScan) {
+                cacheable = false;
+            }
+            node.accept(expressionChecker);
+            super.visit(node, ordinal, parent);
+        }
+
+        /**
+         * Returns the names of the maps read by the query if its result can be cached, {@code null} otherwise.
+         */
+        @Nullable
+        static List<String> find(RelNode rel) {
+            ResultCacheabilityFinder finder = new ResultCacheabilityFinder();
+            finder.go(rel);
+            return finder.cacheable && !finder.mapNames.isEmpty() ? new ArrayList<>(finder.mapNames) : null;
+        }
+    }
+
     private static HepProgram prepareUnconditionalSubqueryRewriter(boolean cyclicUserTypesAreAllowed) {
         HepProgramBuilder hepProgramBuilder = new HepProgramBuilder();
 
@@ -224,6 +224,28 @@ public final class ExpressionUtil {
         return projection(projections, context, row);
     }
 
+    /**
+     * Projection with optional filter predicate for a single row, writing the
+     * projected values to the given array instead of allocating a new row.
+     * Returns {@code false} if the row is rejected by the predicate, the
+     * array isn't modified in that case.
+     */
+    public static boolean projectionInto(
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull List<Expression<?>> projections,
+            @Nonnull Row row,
+            @Nonnull ExpressionEvalContext context,
+            @Nonnull Object[] result
+    ) {
+        if (predicate != null && !Boolean.TRUE.equals(evaluate(predicate, row, context))) {
+            return false;
+        }
+        for (int i = 0; i < projections.size(); i++) {
+            result[i] = evaluate(projections.get(i), row, context);
+        }
+        return true;
+    }
+
     private static JetSqlRow projection(
             @Nonnull List<Expression<?>> projections,
             @Nonnull ExpressionEvalContext context,
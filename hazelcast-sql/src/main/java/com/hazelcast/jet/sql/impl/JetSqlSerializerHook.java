@@ -21,6 +21,7 @@ import com.hazelcast.internal.serialization.impl.ArrayDataSerializableFactory;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.jet.sql.impl.ExpressionUtil.SqlRowComparator;
 import com.hazelcast.jet.sql.impl.connector.map.LazyDefiningSpecificMemberPms;
+import com.hazelcast.jet.sql.impl.connector.map.RowProjectorAccumulateByKeyProcessorSupplier;
 import com.hazelcast.jet.sql.impl.connector.map.RowProjectorProcessorSupplier;
 import com.hazelcast.jet.sql.impl.expression.UdtObjectToJsonFunction;
 import com.hazelcast.jet.sql.impl.expression.json.JsonArrayFunction;
@@ -40,6 +41,7 @@ import com.hazelcast.jet.sql.impl.opt.physical.AggregateAbstractPhysicalRule.Agg
 import com.hazelcast.jet.sql.impl.opt.physical.AggregateAbstractPhysicalRule.RowGetFn;
 import com.hazelcast.jet.sql.impl.opt.physical.AggregateAbstractPhysicalRule.RowGetMaybeSerializedFn;
 import com.hazelcast.jet.sql.impl.opt.physical.AggregateAbstractPhysicalRule.RowIdentityFn;
+import com.hazelcast.jet.sql.impl.processors.TopNProcessorSupplier;
 import com.hazelcast.jet.sql.impl.validate.UpdateDataConnectionOperation;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -231,7 +233,10 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
     public static final int LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER = 91;
 
-    public static final int LEN = LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER + 1;
+    public static final int TOP_N_PROCESSOR_SUPPLIER = 92;
+    public static final int ROW_PROJECTOR_ACCUMULATE_BY_KEY_PROCESSOR_SUPPLIER = 93;
+
+    public static final int LEN = ROW_PROJECTOR_ACCUMULATE_BY_KEY_PROCESSOR_SUPPLIER + 1;
 
     @Override
     public int getFactoryId() {
@@ -349,6 +354,9 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
         constructors[LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER] = LazyDefiningSpecificMemberPms::new;
 
+        constructors[TOP_N_PROCESSOR_SUPPLIER] = TopNProcessorSupplier::new;
+        constructors[ROW_PROJECTOR_ACCUMULATE_BY_KEY_PROCESSOR_SUPPLIER] = RowProjectorAccumulateByKeyProcessorSupplier::new;
+
         return new ArrayDataSerializableFactory(constructors);
     }
 
@@ -59,6 +59,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.IMapSinkPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.IMapUpdatePlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.SelectPlan;
 import com.hazelcast.jet.sql.impl.SqlPlanImpl.ShowStatementPlan;
+import com.hazelcast.jet.sql.impl.connector.map.MaterializedViews;
 import com.hazelcast.jet.sql.impl.parse.SqlShowStatement.ShowStatementTarget;
 import com.hazelcast.jet.sql.impl.schema.DataConnectionResolver;
 import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
@@ -84,11 +85,13 @@ import com.hazelcast.sql.impl.ParameterConverter;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.QueryId;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.QueryResultProducer;
 import com.hazelcast.sql.impl.SqlErrorCode;
 import com.hazelcast.sql.impl.UpdateSqlResultImpl;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.expression.UntrustedExpressionEvalContext;
+import com.hazelcast.sql.impl.plan.cache.QueryResultCache;
 import com.hazelcast.sql.impl.row.EmptyRow;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.dataconnection.DataConnectionCatalogEntry;
@@ -122,6 +125,7 @@ import java.util.stream.Stream;
 
 import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
 import static com.hazelcast.config.BitmapIndexOptions.UniqueKeyTransformation;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_PREFIX_RESULT_CACHE;
 import static com.hazelcast.jet.config.JobConfigArguments.KEY_SQL_QUERY_TEXT;
 import static com.hazelcast.jet.config.JobConfigArguments.KEY_SQL_UNBOUNDED;
 import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
@@ -151,6 +155,8 @@ public class PlanExecutor {
     private final HazelcastInstance hazelcastInstance;
     private final NodeEngine nodeEngine;
     private final QueryResultRegistry resultRegistry;
+    private final MaterializedViews materializedViews;
+    private final QueryResultCache resultCache;
     private final List<SqlJobInvocationObserver> sqlJobInvocationObservers = new ArrayList<>();
 
     private final ILogger logger;
@@ -169,6 +175,9 @@ public class PlanExecutor {
         this.catalog = catalog;
         this.dataConnectionCatalog = dataConnectionResolver;
         this.resultRegistry = resultRegistry;
+        this.materializedViews = new MaterializedViews(nodeEngine, catalog);
+        this.resultCache = new QueryResultCache(nodeEngine);
+        nodeEngine.getMetricsRegistry().registerStaticMetrics(resultCache, SQL_PREFIX_RESULT_CACHE);
 
         logger = nodeEngine.getLogger(getClass());
     }
@@ -373,7 +382,7 @@ public class PlanExecutor {
         return UpdateSqlResultImpl.createUpdateCountResult(0);
     }
 
-    SqlResult execute(CreateViewPlan plan) {
+    SqlResult execute(CreateViewPlan plan, SqlSecurityContext ssc) {
         OptimizerContext context = plan.context();
         SqlNode sqlNode = context.parse(plan.viewQuery()).getNode();
         RelNode relNode = context.convert(sqlNode).getRel();
@@ -387,13 +396,24 @@ public class PlanExecutor {
             fieldTypes.add(toHazelcastType(field.getType()));
         }
 
-        View view = new View(plan.viewName(), plan.viewQuery(), fieldNames, fieldTypes);
-        catalog.createView(view, plan.isReplace(), plan.ifNotExists());
+        if (plan.isMaterialized()) {
+            materializedViews.create(plan.viewName(), relNode, fieldNames, fieldTypes, plan.isReplace(),
+                    plan.ifNotExists(), ssc);
+        } else {
+            View view = new View(plan.viewName(), plan.viewQuery(), fieldNames, fieldTypes);
+            catalog.createView(view, plan.isReplace(), plan.ifNotExists());
+        }
         return UpdateSqlResultImpl.createUpdateCountResult(0);
     }
 
     SqlResult execute(DropViewPlan plan) {
-        catalog.removeView(plan.viewName(), plan.isIfExists());
+        if (plan.isMaterialized()) {
+            materializedViews.drop(plan.viewName(), plan.isIfExists());
+        } else if (materializedViews.isMaterializedView(plan.viewName())) {
+            throw QueryException.error("Use DROP MATERIALIZED VIEW to drop the materialized view: " + plan.viewName());
+        } else {
+            catalog.removeView(plan.viewName(), plan.isIfExists());
+        }
         return UpdateSqlResultImpl.createUpdateCountResult(0);
     }
 
@@ -522,6 +542,25 @@ public class PlanExecutor {
                 ssc
         );
 
+        QueryResultCache.Key resultCacheKey = null;
+        QueryResultCache.MutationStamps mutationStamps = null;
+        if (plan.getResultCacheMapNames() != null && resultCache.isEnabled()) {
+            // the stamps must be collected before the job starts, so that concurrent mutations make them stale
+            mutationStamps = resultCache.mutationStamps(plan.getResultCacheMapNames());
+            if (mutationStamps != null) {
+                resultCacheKey = new QueryResultCache.Key(plan.getPlanKey(), plan.getObjectKeys(), args);
+                List<JetSqlRow> rows = resultCache.get(resultCacheKey, mutationStamps);
+                if (rows != null) {
+                    return new SqlResultImpl(
+                            queryId,
+                            new StaticQueryResultProducerImpl(rows.iterator()),
+                            plan.getRowMetadata(),
+                            false
+                    );
+                }
+            }
+        }
+
         JobConfig jobConfig = plan.isAnalyzed() ? plan.analyzeJobConfig() : new JobConfig();
         jobConfig.setArgument(SQL_ARGUMENTS_KEY_NAME, args)
                 .setArgument(KEY_SQL_QUERY_TEXT, plan.getQuery())
@@ -562,14 +601,29 @@ public class PlanExecutor {
             throw e;
         }
 
+        QueryResultProducer resultProducer = queryResultProducer;
+        if (resultCacheKey != null) {
+            QueryResultCache.Key key = resultCacheKey;
+            QueryResultCache.MutationStamps stamps = mutationStamps;
+            resultProducer = new CachingQueryResultProducer(queryResultProducer, resultCache.getMaxRows(),
+                    rows -> resultCache.put(key, stamps, rows));
+        }
+
         return new SqlResultImpl(
                 queryId,
-                queryResultProducer,
+                resultProducer,
                 plan.getRowMetadata(),
                 plan.isStreaming()
         );
     }
 
+    /**
+     * For testing only.
+     */
+    QueryResultCache getResultCache() {
+        return resultCache;
+    }
+
     SqlResult execute(DmlPlan plan,
                       QueryId queryId,
                       List<Object> arguments,
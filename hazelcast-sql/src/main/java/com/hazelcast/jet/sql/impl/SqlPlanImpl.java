@@ -48,6 +48,7 @@ import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rel.core.TableModify.Operation;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.security.Permission;
 import java.util.Collections;
 import java.util.List;
@@ -789,6 +790,7 @@ abstract class SqlPlanImpl extends SqlPlan {
         private final String viewQuery;
         private final boolean replace;
         private final boolean ifNotExists;
+        private final boolean materialized;
         private final PlanExecutor planExecutor;
 
         CreateViewPlan(
@@ -798,6 +800,7 @@ abstract class SqlPlanImpl extends SqlPlan {
                 String viewQuery,
                 boolean replace,
                 boolean ifNotExists,
+                boolean materialized,
                 PlanExecutor planExecutor
         ) {
             super(planKey);
@@ -807,6 +810,7 @@ abstract class SqlPlanImpl extends SqlPlan {
             this.viewQuery = viewQuery;
             this.replace = replace;
             this.ifNotExists = ifNotExists;
+            this.materialized = materialized;
             this.planExecutor = planExecutor;
         }
 
@@ -830,6 +834,10 @@ abstract class SqlPlanImpl extends SqlPlan {
             return ifNotExists;
         }
 
+        boolean isMaterialized() {
+            return materialized;
+        }
+
         @Override
         public boolean isCacheable() {
             return false;
@@ -854,25 +862,28 @@ abstract class SqlPlanImpl extends SqlPlan {
         public SqlResult execute(QueryId queryId, List<Object> arguments, long timeout, SqlSecurityContext ssc) {
             SqlPlanImpl.ensureNoArguments("CREATE VIEW", arguments);
             SqlPlanImpl.ensureNoTimeout("CREATE VIEW", timeout);
-            return planExecutor.execute(this);
+            return planExecutor.execute(this, ssc);
         }
     }
 
     static class DropViewPlan extends SqlPlanImpl {
         private final String viewName;
         private final boolean ifExists;
+        private final boolean materialized;
         private final PlanExecutor planExecutor;
 
         DropViewPlan(
                 PlanKey planKey,
                 String viewName,
                 boolean ifExists,
+                boolean materialized,
                 PlanExecutor planExecutor
         ) {
             super(planKey);
 
             this.viewName = viewName;
             this.ifExists = ifExists;
+            this.materialized = materialized;
             this.planExecutor = planExecutor;
         }
 
@@ -884,6 +895,10 @@ abstract class SqlPlanImpl extends SqlPlan {
             return ifExists;
         }
 
+        boolean isMaterialized() {
+            return materialized;
+        }
+
         @Override
         public boolean isCacheable() {
             return false;
@@ -1155,6 +1170,8 @@ abstract class SqlPlanImpl extends SqlPlan {
         private final Map<String, List<Map<String, Expression<?>>>> partitionStrategyCandidates;
         private final boolean analyzed;
         private final JobConfig analyzeJobConfig;
+        // names of the maps read by the query if its result can be cached, null otherwise
+        private final List<String> resultCacheMapNames;
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         SelectPlan(
@@ -1169,7 +1186,8 @@ abstract class SqlPlanImpl extends SqlPlan {
                 List<Permission> permissions,
                 Map<String, List<Map<String, Expression<?>>>> partitionStrategyCandidates,
                 final boolean analyzed,
-                final JobConfig analyzeJobConfig
+                final JobConfig analyzeJobConfig,
+                List<String> resultCacheMapNames
         ) {
             super(planKey);
 
@@ -1184,6 +1202,7 @@ abstract class SqlPlanImpl extends SqlPlan {
             this.partitionStrategyCandidates = partitionStrategyCandidates;
             this.analyzed = analyzed;
             this.analyzeJobConfig = analyzeJobConfig;
+            this.resultCacheMapNames = resultCacheMapNames;
         }
 
         QueryParameterMetadata getParameterMetadata() {
@@ -1230,6 +1249,18 @@ abstract class SqlPlanImpl extends SqlPlan {
             return analyzeJobConfig;
         }
 
+        Set<PlanObjectKey> getObjectKeys() {
+            return objectKeys;
+        }
+
+        /**
+         * Returns the names of the maps read by the query if its result can be cached, {@code null} otherwise.
+         */
+        @Nullable
+        List<String> getResultCacheMapNames() {
+            return resultCacheMapNames;
+        }
+
         @Override
         public void checkPermissions(SqlSecurityContext context) {
             checkPermissions(context, dag);
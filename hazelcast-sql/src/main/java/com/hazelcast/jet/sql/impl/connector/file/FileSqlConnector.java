@@ -40,6 +40,7 @@ import java.util.Set;
 import static com.hazelcast.jet.core.Edge.between;
 import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
 import static com.hazelcast.security.permission.ConnectorPermission.file;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
 public class FileSqlConnector implements SqlConnector {
@@ -151,7 +152,12 @@ public class FileSqlConnector implements SqlConnector {
 
         FileTable table = context.getTable();
 
-        Vertex vStart = context.getDag().newUniqueVertex(table.toString(), table.processorMetaSupplier());
+        // Parquet sources read only the columns and row groups the query needs,
+        // the filter below still evaluates the complete predicate
+        Map<String, String> pushdownOptions = table.supportsParquetPushdown()
+                ? ParquetPushdownResolver.resolve(table.getFields(), predicate, projection)
+                : emptyMap();
+        Vertex vStart = context.getDag().newUniqueVertex(table.toString(), table.processorMetaSupplier(pushdownOptions));
 
         Vertex vEnd = context.getDag().newUniqueVertex(
                 "Project(" + table + ")",
@@ -27,6 +27,7 @@ import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.type.QueryDataType;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 abstract class FileTable extends JetTable {
@@ -49,8 +50,12 @@ abstract class FileTable extends JetTable {
         this.queryTargetSupplier = queryTargetSupplier;
     }
 
-    ProcessorMetaSupplier processorMetaSupplier() {
-        return processorMetaSupplierProvider.get();
+    ProcessorMetaSupplier processorMetaSupplier(Map<String, String> extraOptions) {
+        return processorMetaSupplierProvider.get(extraOptions);
+    }
+
+    boolean supportsParquetPushdown() {
+        return processorMetaSupplierProvider.supportsParquetPushdown();
     }
 
     SupplierEx<QueryTarget> queryTargetSupplier() {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.file;
+
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Condition;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Operator;
+import com.hazelcast.jet.sql.impl.connector.HazelcastRexNode;
+import com.hazelcast.sql.impl.schema.TableField;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelOptUtil.InputFinder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates the predicate and projection of a scan over Parquet files to
+ * the {@link ParquetPushdown} options of the file source.
+ * <p>
+ * Only the conjuncts of the form {@code column <op> literal}, {@code column
+ * IS [NOT] NULL} and bare boolean columns are translated. The rest of the
+ * predicate is simply not pushed down - the rows are still filtered by the
+ * complete predicate after they are read.
+ */
+final class ParquetPushdownResolver {
+
+    private ParquetPushdownResolver() {
+    }
+
+    @Nonnull
+    static Map<String, String> resolve(
+            @Nonnull List<TableField> fields,
+            @Nullable HazelcastRexNode predicate,
+            @Nonnull List<HazelcastRexNode> projection
+    ) {
+        List<RexNode> nodes = new ArrayList<>(projection.size() + 1);
+        for (HazelcastRexNode node : projection) {
+            nodes.add(node.unwrap(RexNode.class));
+        }
+        RexNode filter = predicate == null ? null : predicate.unwrap(RexNode.class);
+
+        // a query referencing no columns, e.g. COUNT(*), still needs one to count the rows
+        ImmutableBitSet usedFields = InputFinder.bits(nodes, filter);
+        List<String> columns = new ArrayList<>();
+        for (int index : usedFields.isEmpty() ? ImmutableBitSet.of(0) : usedFields) {
+            columns.add(((FileTableField) fields.get(index)).getPath());
+        }
+
+        Map<String, String> options = new HashMap<>();
+        options.put(ParquetPushdown.OPTION_COLUMNS, ParquetPushdown.encodeColumns(columns));
+        if (filter != null) {
+            List<Condition> conditions = new ArrayList<>();
+            for (RexNode conjunction : RelOptUtil.conjunctions(filter)) {
+                Condition condition = toCondition(fields, conjunction);
+                if (condition != null) {
+                    conditions.add(condition);
+                }
+            }
+            if (!conditions.isEmpty()) {
+                options.put(ParquetPushdown.OPTION_FILTER, ParquetPushdown.encodeFilter(conditions));
+            }
+        }
+        return options;
+    }
+
+    @Nullable
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:ReturnCount"})
+    private static Condition toCondition(List<TableField> fields, RexNode node) {
+        if (node instanceof RexInputRef ref) {
+            return condition(fields, ref, Operator.EQUALS, true);
+        }
+        if (!(node instanceof RexCall call)) {
+            return null;
+        }
+        List<RexNode> operands = call.getOperands();
+        switch (call.getKind()) {
+            case NOT:
+                return operands.get(0) instanceof RexInputRef ref ? condition(fields, ref, Operator.EQUALS, false) : null;
+            case IS_TRUE:
+                return operands.get(0) instanceof RexInputRef ref ? condition(fields, ref, Operator.EQUALS, true) : null;
+            case IS_FALSE:
+                return operands.get(0) instanceof RexInputRef ref ? condition(fields, ref, Operator.EQUALS, false) : null;
+            case IS_NULL:
+                return operands.get(0) instanceof RexInputRef ref ? condition(fields, ref, Operator.IS_NULL, null) : null;
+            case IS_NOT_NULL:
+                return operands.get(0) instanceof RexInputRef ref ? condition(fields, ref, Operator.IS_NOT_NULL, null) : null;
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return comparison(fields, call.getKind(), operands.get(0), operands.get(1));
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity", "checkstyle:ReturnCount"})
+    private static Condition comparison(List<TableField> fields, SqlKind kind, RexNode left, RexNode right) {
+        if (left instanceof RexLiteral && right instanceof RexInputRef) {
+            return comparison(fields, kind.reverse(), right, left);
+        }
+        if (!(left instanceof RexInputRef ref) || !(right instanceof RexLiteral literal) || literal.isNull()) {
+            return null;
+        }
+        Operator operator = switch (kind) {
+            case EQUALS -> Operator.EQUALS;
+            case NOT_EQUALS -> Operator.NOT_EQUALS;
+            case LESS_THAN -> Operator.LESS_THAN;
+            case LESS_THAN_OR_EQUAL -> Operator.LESS_THAN_OR_EQUAL;
+            case GREATER_THAN -> Operator.GREATER_THAN;
+            default -> Operator.GREATER_THAN_OR_EQUAL;
+        };
+        SqlTypeName columnType = ref.getType().getSqlTypeName();
+        Object value = literal.getValue();
+        if (SqlTypeName.INT_TYPES.contains(columnType) && value instanceof BigDecimal decimal) {
+            // a fractional literal can't be compared with an integer column without rounding, skip it
+            BigDecimal integral = decimal.stripTrailingZeros();
+            return integral.scale() <= 0 && integral.toBigInteger().bitLength() < Long.SIZE
+                    ? condition(fields, ref, operator, integral.longValueExact())
+                    : null;
+        }
+        if (columnType == SqlTypeName.DOUBLE && value instanceof BigDecimal decimal) {
+            return condition(fields, ref, operator, decimal.doubleValue());
+        }
+        if (columnType == SqlTypeName.DOUBLE && value instanceof Double doubleValue && !doubleValue.isNaN()) {
+            return condition(fields, ref, operator, doubleValue);
+        }
+        boolean equality = operator == Operator.EQUALS || operator == Operator.NOT_EQUALS;
+        if (equality && SqlTypeName.CHAR_TYPES.contains(columnType) && SqlTypeName.CHAR_TYPES.contains(literal.getTypeName())) {
+            return condition(fields, ref, operator, literal.getValueAs(String.class));
+        }
+        if (equality && columnType == SqlTypeName.BOOLEAN && value instanceof Boolean booleanValue) {
+            return condition(fields, ref, operator, booleanValue);
+        }
+        return null;
+    }
+
+    private static Condition condition(List<TableField> fields, RexInputRef ref, Operator operator, Object value) {
+        return new Condition(((FileTableField) fields.get(ref.getIndex())).getPath(), operator, value);
+    }
+}
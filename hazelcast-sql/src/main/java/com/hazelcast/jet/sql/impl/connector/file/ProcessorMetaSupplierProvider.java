@@ -20,6 +20,8 @@ import com.hazelcast.jet.core.ProcessorMetaSupplier;
 import com.hazelcast.jet.pipeline.file.FileFormat;
 import com.hazelcast.jet.pipeline.file.FileSourceBuilder;
 import com.hazelcast.jet.pipeline.file.FileSources;
+import com.hazelcast.jet.pipeline.file.ParquetFileFormat;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown;
 
 import java.util.Map;
 import java.util.Objects;
@@ -29,6 +31,7 @@ import static com.hazelcast.jet.sql.impl.connector.file.FileSqlConnector.OPTION_
 import static com.hazelcast.jet.sql.impl.connector.file.FileSqlConnector.OPTION_IGNORE_FILE_NOT_FOUND;
 import static com.hazelcast.jet.sql.impl.connector.file.FileSqlConnector.OPTION_PATH;
 import static com.hazelcast.jet.sql.impl.connector.file.FileSqlConnector.OPTION_SHARED_FILE_SYSTEM;
+import static java.util.Collections.emptyMap;
 
 class ProcessorMetaSupplierProvider implements Supplier<ProcessorMetaSupplier> {
 
@@ -40,9 +43,25 @@ class ProcessorMetaSupplierProvider implements Supplier<ProcessorMetaSupplier> {
         this.format = format;
     }
 
+    /**
+     * Returns whether the source can read only a subset of columns and row
+     * groups, see {@link ParquetPushdown}.
+     */
+    boolean supportsParquetPushdown() {
+        return format instanceof ParquetFileFormat;
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public ProcessorMetaSupplier get() {
+        return get(emptyMap());
+    }
+
+    /**
+     * Creates the meta supplier with additional source options, which take
+     * precedence over the options of the mapping.
+     */
+    @SuppressWarnings("unchecked")
+    ProcessorMetaSupplier get(Map<String, String> extraOptions) {
         FileSourceBuilder<?> builder = FileSources.files((String) options.get(OPTION_PATH)).format(format);
 
         String glob = (String) options.get(OPTION_GLOB);
@@ -78,6 +97,9 @@ class ProcessorMetaSupplierProvider implements Supplier<ProcessorMetaSupplier> {
                 throw new IllegalArgumentException("Unexpected option type: " + value.getClass());
             }
         }
+        for (Map.Entry<String, String> option : extraOptions.entrySet()) {
+            builder.option(option.getKey(), option.getValue());
+        }
         return builder.buildMetaSupplier();
     }
 
@@ -36,14 +36,22 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.impl.QueryException;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.MappingField;
 import com.hazelcast.sql.impl.schema.Table;
 import com.hazelcast.sql.impl.schema.TableField;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelOptUtil.InputFinder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -154,12 +162,43 @@ public class KafkaSqlConnector implements SqlConnector {
                                 table.keyQueryDescriptor(),
                                 table.valueQueryDescriptor(),
                                 context.convertFilter(predicate),
-                                context.convertProjection(projection)
+                                context.convertProjection(projection),
+                                keyPredicate(context, predicate, table.paths())
                         )
                 )
         );
     }
 
+    /**
+     * Returns the conjuncts of the predicate that refer only to the key
+     * columns, so that records can be filtered before their value is
+     * deserialized. Returns {@code null} if there are no such conjuncts.
+     */
+    @Nullable
+    private static Expression<Boolean> keyPredicate(
+            @Nonnull DagBuildContext context,
+            @Nullable HazelcastRexNode predicate,
+            @Nonnull QueryPath[] paths
+    ) {
+        if (predicate == null) {
+            return null;
+        }
+        List<Expression<Boolean>> keyConjunctions = new ArrayList<>();
+        for (RexNode conjunction : RelOptUtil.conjunctions(predicate.unwrap(RexNode.class))) {
+            ImmutableBitSet fields = InputFinder.bits(conjunction);
+            if (!fields.isEmpty() && RexUtil.isDeterministic(conjunction)
+                    && fields.asList().stream().allMatch(index -> paths[index].isKey())) {
+                keyConjunctions.add(context.convertFilter(HazelcastRexNode.wrap(conjunction)));
+            }
+        }
+        if (keyConjunctions.isEmpty()) {
+            return null;
+        }
+        return keyConjunctions.size() == 1
+                ? keyConjunctions.get(0)
+                : AndPredicate.create(keyConjunctions.toArray(new Expression<?>[0]));
+    }
+
     @Nonnull
     @Override
     public VertexWithInputConfig insertProcessor(@Nonnull DagBuildContext context) {
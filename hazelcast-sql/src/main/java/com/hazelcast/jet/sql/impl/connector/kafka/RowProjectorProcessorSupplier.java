@@ -16,11 +16,13 @@
 
 package com.hazelcast.jet.sql.impl.connector.kafka;
 
+import com.hazelcast.core.HazelcastException;
 import com.hazelcast.dataconnection.DataConnectionService;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.jet.core.EventTimePolicy;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.processor.ProcessorWrapper;
 import com.hazelcast.jet.kafka.impl.StreamKafkaP;
 import com.hazelcast.jet.pipeline.DataConnectionRef;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
@@ -34,14 +36,22 @@ import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.type.QueryDataType;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Utils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
+import static com.hazelcast.jet.sql.impl.connector.kafka.PropertiesResolver.VALUE_DESERIALIZER;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 //@SuppressFBWarnings(
@@ -55,6 +65,7 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
     private String topic;
     private FunctionEx<ExpressionEvalContext, EventTimePolicy<JetSqlRow>> eventTimePolicyProvider;
     private KvRowProjector.Supplier projectorSupplier;
+    private KvRowProjector.Supplier keyFilterSupplier;
 
     private transient ExpressionEvalContext evalContext;
     private transient EventTimePolicy<JetSqlRow> eventTimePolicy;
@@ -65,6 +76,7 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
     private RowProjectorProcessorSupplier() {
     }
 
+    @SuppressWarnings("checkstyle:ParameterNumber")
     RowProjectorProcessorSupplier(
             Properties properties,
             String dataConnectionName,
@@ -75,7 +87,8 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
             QueryTargetDescriptor keyDescriptor,
             QueryTargetDescriptor valueDescriptor,
             Expression<Boolean> predicate,
-            List<Expression<?>> projection
+            List<Expression<?>> projection,
+            @Nullable Expression<Boolean> keyPredicate
     ) {
         this.properties = properties;
         this.dataConnectionName = dataConnectionName;
@@ -89,6 +102,22 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
                 predicate,
                 projection
         );
+        this.keyFilterSupplier = keyPredicate != null && canDeferValueDeserialization(properties, dataConnectionName)
+                ? KvRowProjector.supplier(paths, types, keyDescriptor, valueDescriptor, keyPredicate, emptyList())
+                : null;
+    }
+
+    /**
+     * Deferring the value deserialization is only worth it if the value isn't
+     * read as raw bytes anyway. With a data connection, the value deserializer
+     * might be configured in the data connection, out of our reach.
+     */
+    private static boolean canDeferValueDeserialization(Properties properties, String dataConnectionName) {
+        Object valueDeserializer = properties.get(VALUE_DESERIALIZER);
+        return dataConnectionName == null
+                && valueDeserializer != null
+                && !ByteArrayDeserializer.class.getName().equals(valueDeserializer)
+                && !ByteArrayDeserializer.class.equals(valueDeserializer);
     }
 
     @Override
@@ -107,18 +136,84 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
         List<Processor> processors = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             KvRowProjector projector = projectorSupplier.get(evalContext, extractors);
-            Processor processor = new StreamKafkaP<>(
-                    (dataConnectionName == null) ? StreamKafkaP.kafkaConsumerFn(properties)
-                            : StreamKafkaP.kafkaConsumerFn(new DataConnectionRef(dataConnectionName), properties),
-                    singletonList(topic),
-                    record -> projector.project(record.key(), record.value()),
-                    eventTimePolicy
-            );
+            Processor processor = keyFilterSupplier == null
+                    ? new StreamKafkaP<>(
+                            (dataConnectionName == null) ? StreamKafkaP.kafkaConsumerFn(properties)
+                                    : StreamKafkaP.kafkaConsumerFn(new DataConnectionRef(dataConnectionName), properties),
+                            singletonList(topic),
+                            record -> projector.project(record.key(), record.value()),
+                            eventTimePolicy
+                    )
+                    : keyFilteringProcessor(projector, keyFilterSupplier.get(evalContext, extractors));
             processors.add(processor);
         }
         return processors;
     }
 
+    /**
+     * Creates a processor that consumes the values as raw bytes and
+     * deserializes them only for the records whose key passes the key filter.
+     */
+    private Processor keyFilteringProcessor(KvRowProjector projector, KvRowProjector keyFilter) {
+        Properties rawValueProperties = new Properties();
+        rawValueProperties.putAll(properties);
+        rawValueProperties.put(VALUE_DESERIALIZER, ByteArrayDeserializer.class.getName());
+
+        Deserializer<?> valueDeserializer = createValueDeserializer();
+        return new ValueDeserializerClosingP(valueDeserializer, new StreamKafkaP<Object, byte[], JetSqlRow>(
+                StreamKafkaP.kafkaConsumerFn(rawValueProperties),
+                singletonList(topic),
+                record -> {
+                    if (keyFilter.project(record.key(), null) == null) {
+                        return null;
+                    }
+                    Object value = valueDeserializer.deserialize(record.topic(), record.headers(), record.value());
+                    return projector.project(record.key(), value);
+                },
+                eventTimePolicy
+        ));
+    }
+
+    private Deserializer<?> createValueDeserializer() {
+        Object deserializerClass = properties.get(VALUE_DESERIALIZER);
+        Deserializer<?> deserializer;
+        try {
+            deserializer = deserializerClass instanceof Class<?> clazz
+                    ? (Deserializer<?>) Utils.newInstance(clazz)
+                    : Utils.newInstance((String) deserializerClass, Deserializer.class);
+        } catch (ClassNotFoundException e) {
+            throw new HazelcastException("Value deserializer class not found: " + deserializerClass, e);
+        }
+        Map<String, Object> configs = new HashMap<>();
+        properties.forEach((key, value) -> configs.put((String) key, value));
+        deserializer.configure(configs, false);
+        return deserializer;
+    }
+
+    /**
+     * Closes the value deserializer created by {@link #keyFilteringProcessor}
+     * when the wrapped processor is closed. The Kafka consumer closes only
+     * the deserializers it created itself.
+     */
+    private static final class ValueDeserializerClosingP extends ProcessorWrapper {
+
+        private final Deserializer<?> valueDeserializer;
+
+        private ValueDeserializerClosingP(Deserializer<?> valueDeserializer, Processor wrapped) {
+            super(wrapped);
+            this.valueDeserializer = valueDeserializer;
+        }
+
+        @Override
+        public void close() throws Exception {
+            try {
+                super.close();
+            } finally {
+                valueDeserializer.close();
+            }
+        }
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeObject(properties);
@@ -126,6 +221,7 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
         out.writeString(topic);
         out.writeObject(eventTimePolicyProvider);
         out.writeObject(projectorSupplier);
+        out.writeObject(keyFilterSupplier);
     }
 
     @Override
@@ -135,5 +231,6 @@ final class RowProjectorProcessorSupplier implements ProcessorSupplier, DataSeri
         topic = in.readString();
         eventTimePolicyProvider = in.readObject();
         projectorSupplier = in.readObject();
+        keyFilterSupplier = in.readObject();
     }
 }
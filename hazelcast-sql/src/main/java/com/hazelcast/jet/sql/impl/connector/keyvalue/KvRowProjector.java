@@ -104,6 +104,20 @@ public class KvRowProjector implements Row {
         return project(null, key, null, value);
     }
 
+    /**
+     * Projects the entry like {@link #project(Data, Data)} does, but writes
+     * the values to the given array, which must have {@link
+     * #getColumnCount()} elements, instead of allocating a new row.
+     *
+     * @return {@code false}, if the entry was rejected by the predicate
+     */
+    public boolean projectInto(Data key, Data value, Object[] result) {
+        keyTarget.setTarget(null, key);
+        valueTarget.setTarget(null, value);
+
+        return ExpressionUtil.projectionInto(predicate, projections, this, evalContext, result);
+    }
+
     private JetSqlRow project(Object key, Data keyData, Object value, Data valueData) {
         keyTarget.setTarget(key, keyData);
         valueTarget.setTarget(value, valueData);
@@ -27,6 +27,7 @@ import com.hazelcast.function.ComparatorEx;
 import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.StringUtil;
+import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.core.DefaultPartitionStrategy;
 import com.hazelcast.jet.core.Edge;
 import com.hazelcast.jet.core.EventTimePolicy;
@@ -62,6 +63,7 @@ import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.BadTable;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
 import com.hazelcast.sql.impl.schema.ConstantTableStatistics;
 import com.hazelcast.sql.impl.schema.MappingField;
 import com.hazelcast.sql.impl.schema.Table;
@@ -75,6 +77,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.hazelcast.jet.core.Edge.between;
 import static com.hazelcast.jet.core.processor.Processors.mapP;
@@ -105,6 +108,13 @@ public class IMapSqlConnector implements SqlConnector {
     public static final String OBJECT_TYPE_IMAP = "IMap";
     public static final List<String> PRIMARY_KEY_LIST = singletonList(QueryPath.KEY);
 
+    /**
+     * Opts the mapping in to the SQL result cache. Results of repeated
+     * queries reading only from opted-in mappings are reused until one of
+     * the underlying maps is modified. Disabled by default.
+     */
+    public static final String OPTION_RESULT_CACHE = "resultCache";
+
     private static final KvMetadataResolvers METADATA_RESOLVERS_WITH_COMPACT = new KvMetadataResolvers(
             KvMetadataJavaResolver.INSTANCE,
             MetadataPortableResolver.INSTANCE,
@@ -114,6 +124,9 @@ public class IMapSqlConnector implements SqlConnector {
 
     private static final Tuple2<PartitioningStrategy<?>, List<List<Expression<?>>>> NO_PARTITION_PRUNING = tuple2(null, null);
 
+    /** Collector of the member this connector instance was created for, see {@link #statisticsCollector(NodeEngine)}. */
+    private final AtomicReference<MapStatisticsCollector> statisticsCollector = new AtomicReference<>();
+
     @Override
     public String typeName() {
         return TYPE_NAME;
@@ -179,6 +192,14 @@ public class IMapSqlConnector implements SqlConnector {
                 ? MapTableUtils.getPartitionedMapIndexes(container, fields)
                 : emptyList();
 
+        // HD maps are not sampled: the sampled entries would be copied out of the native memory.
+        ColumnStatistics[] columnStatistics = hd ? null : statisticsCollector(nodeEngine).getStatistics(
+                mapName,
+                fields,
+                keyMetadata.getQueryTargetDescriptor(),
+                valueMetadata.getQueryTargetDescriptor()
+        );
+
         final List<String> partitioningAttributes = nodeEngine.getConfig()
                 .getMapConfig(mapName)
                 .getPartitioningAttributeConfigs().stream()
@@ -190,7 +211,7 @@ public class IMapSqlConnector implements SqlConnector {
                 mappingName,
                 mapName,
                 fields,
-                new ConstantTableStatistics(estimatedRowCount),
+                new ConstantTableStatistics(estimatedRowCount, columnStatistics),
                 keyMetadata.getQueryTargetDescriptor(),
                 valueMetadata.getQueryTargetDescriptor(),
                 keyMetadata.getUpsertTargetDescriptor(),
@@ -198,7 +219,30 @@ public class IMapSqlConnector implements SqlConnector {
                 indexes,
                 hd,
                 partitioningAttributes,
-                supportsPartitionPruning(nodeEngine, mapName));
+                supportsPartitionPruning(nodeEngine, mapName),
+                Boolean.parseBoolean(externalResource.options().get(OPTION_RESULT_CACHE)));
+    }
+
+    /**
+     * Connector instances are created per member by the {@code SqlConnectorCache}, so is the statistics collector. The
+     * shared {@link #INSTANCE} only gets a collector if it's used to create tables, in which case it's replaced whenever
+     * a different member uses it. The replacement is a CAS, so that concurrent callers of the same member agree on one
+     * collector instead of overwriting each other's collected statistics.
+     */
+    private MapStatisticsCollector statisticsCollector(NodeEngine nodeEngine) {
+        MapStatisticsCollector collector = statisticsCollector.get();
+
+        while (collector == null || collector.getNodeEngine() != nodeEngine) {
+            MapStatisticsCollector newCollector = new MapStatisticsCollector(nodeEngine);
+
+            if (statisticsCollector.compareAndSet(collector, newCollector)) {
+                return newCollector;
+            }
+
+            collector = statisticsCollector.get();
+        }
+
+        return collector;
     }
 
     private boolean supportsPartitionPruning(final NodeEngine nodeEngine, final String mapName) {
@@ -253,32 +297,7 @@ public class IMapSqlConnector implements SqlConnector {
         }
 
         PartitionedMapTable table = context.getTable();
-
-        if (partitionPruningCandidates == null && !table.partitioningAttributes().isEmpty()) {
-            // We have an IMap but the query cannot use member pruning.
-            // Maybe we still can use scan partition pruning.
-            // TODO: this would be better done if we could reuse results of the analysis
-            //  done for member pruning, eg. if it was available in each RelNode
-
-            // We need some low-level data which are not passed to SqlConnector, this code should be refactored.
-            DagBuildContextImpl contextImpl = (DagBuildContextImpl) context;
-            var relPrunability = CalciteSqlOptimizerImpl.partitionStrategyCandidates(contextImpl.getRel(),
-                    contextImpl.getParameterMetadata(),
-                    // expect only single map in the rel
-                    Map.of(table.getSqlName(), table));
-            partitionPruningCandidates = relPrunability.get(table.getSqlName());
-        }
-
-        Tuple2<PartitioningStrategy<?>, List<List<Expression<?>>>> requiredPartitionsExprs =
-                computeRequiredPartitionsToScan(context.getNodeEngine(), partitionPruningCandidates, table.getMapName());
-        Vertex vStart = context.getDag().newUniqueVertex(
-                toString(table),
-                requiredPartitionsExprs.f1() != null
-                        // pruned
-                    ? mapReader(table.getMapName(), requiredPartitionsExprs.f0(), requiredPartitionsExprs.f1())
-                        // not pruned
-                    : readMapP(table.getMapName())
-        );
+        Vertex vStart = mapReaderVertex(context, partitionPruningCandidates);
 
         Vertex vEnd = context.getDag().newUniqueVertex(
                 "Project(" + toString(table) + ")",
@@ -296,6 +315,89 @@ public class IMapSqlConnector implements SqlConnector {
         return vEnd;
     }
 
+    /**
+     * Creates a full scan of the map which also accumulates the rows by the
+     * group key, instead of emitting them. The returned vertex emits the
+     * partial accumulators as {@code Entry<groupKey, accumulator>}, exactly
+     * like {@link com.hazelcast.jet.core.processor.Processors#accumulateByKeyP}
+     * does, and is supposed to be followed by a distributed combining step.
+     * <p>
+     * The map reader emits the entries of the local partitions only, so the
+     * rows don't need to be partitioned by the group key before accumulating.
+     */
+    @Nonnull
+    public Vertex fullScanAccumulateByKeyReader(
+            @Nonnull DagBuildContext context,
+            @Nullable HazelcastRexNode filter,
+            @Nonnull List<HazelcastRexNode> projection,
+            @Nullable List<Map<String, Expression<?>>> partitionPruningCandidates,
+            @Nonnull FunctionEx<JetSqlRow, ?> groupKeyFn,
+            @Nonnull AggregateOperation<?, JetSqlRow> aggrOp
+    ) {
+        PartitionedMapTable table = context.getTable();
+        Vertex vStart = mapReaderVertex(context, partitionPruningCandidates);
+
+        Vertex vEnd = context.getDag().newUniqueVertex(
+                "ProjectAndAccumulateByKey(" + toString(table) + ")",
+                new RowProjectorAccumulateByKeyProcessorSupplier(
+                        KvRowProjector.supplier(
+                                table.paths(),
+                                table.types(),
+                                table.getKeyDescriptor(),
+                                table.getValueDescriptor(),
+                                context.convertFilter(filter),
+                                context.convertProjection(projection)
+                        ),
+                        groupKeyFn,
+                        aggrOp
+                )
+        );
+
+        context.getDag().edge(Edge.from(vStart).to(vEnd).isolated());
+        return vEnd;
+    }
+
+    private Vertex mapReaderVertex(
+            @Nonnull DagBuildContext context,
+            @Nullable List<Map<String, Expression<?>>> partitionPruningCandidates
+    ) {
+        PartitionedMapTable table = context.getTable();
+        Tuple2<PartitioningStrategy<?>, List<List<Expression<?>>>> requiredPartitionsExprs =
+                computeRequiredPartitionsToScan(context.getNodeEngine(),
+                        scanPartitionPruningCandidates(context, partitionPruningCandidates), table.getMapName());
+        return context.getDag().newUniqueVertex(
+                toString(table),
+                requiredPartitionsExprs.f1() != null
+                        // pruned
+                    ? mapReader(table.getMapName(), requiredPartitionsExprs.f0(), requiredPartitionsExprs.f1())
+                        // not pruned
+                    : readMapP(table.getMapName())
+        );
+    }
+
+    @Nullable
+    private static List<Map<String, Expression<?>>> scanPartitionPruningCandidates(
+            @Nonnull DagBuildContext context,
+            @Nullable List<Map<String, Expression<?>>> partitionPruningCandidates
+    ) {
+        PartitionedMapTable table = context.getTable();
+        if (partitionPruningCandidates == null && !table.partitioningAttributes().isEmpty()) {
+            // We have an IMap but the query cannot use member pruning.
+            // Maybe we still can use scan partition pruning.
+            // TODO: this would be better done if we could reuse results of the analysis
+            //  done for member pruning, eg. if it was available in each RelNode
+
+            // We need some low-level data which are not passed to SqlConnector, this code should be refactored.
+            DagBuildContextImpl contextImpl = (DagBuildContextImpl) context;
+            var relPrunability = CalciteSqlOptimizerImpl.partitionStrategyCandidates(contextImpl.getRel(),
+                    contextImpl.getParameterMetadata(),
+                    // expect only single map in the rel
+                    Map.of(table.getSqlName(), table));
+            return relPrunability.get(table.getSqlName());
+        }
+        return partitionPruningCandidates;
+    }
+
     @Nonnull
     @SuppressWarnings("checkstyle:ParameterNumber")
     public Vertex indexScanReader(
@@ -307,7 +409,8 @@ public class IMapSqlConnector implements SqlConnector {
             @Nullable IndexFilter indexFilter,
             @Nullable ComparatorEx<JetSqlRow> comparator,
             boolean descending,
-            boolean requiresSort) {
+            boolean requiresSort,
+            @Nullable List<Map<String, Expression<?>>> partitionPruningCandidates) {
         PartitionedMapTable table = context.getTable();
         MapIndexScanMetadata indexScanMetadata = new MapIndexScanMetadata(
                 table.getMapName(),
@@ -323,9 +426,13 @@ public class IMapSqlConnector implements SqlConnector {
                 descending
         );
 
+        // the partitions of other keys can't contain matching entries and aren't scanned at all
+        Tuple2<PartitioningStrategy<?>, List<List<Expression<?>>>> requiredPartitionsExprs =
+                computeRequiredPartitionsToScan(context.getNodeEngine(),
+                        scanPartitionPruningCandidates(context, partitionPruningCandidates), table.getMapName());
         Vertex scanner = context.getDag().newUniqueVertex(
                 "Index(" + toString(table) + ")",
-                readMapIndexSupplier(indexScanMetadata)
+                readMapIndexSupplier(indexScanMetadata, requiredPartitionsExprs.f1())
         );
         // LP must be 1 - one partitioned index contains all local partitions, if there are 2 local processors,
         // the index will be scanned twice and each time half of the partitions will be thrown out.
@@ -23,6 +23,7 @@ import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.internal.iteration.IndexIterationPointer;
 import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.PartitioningStrategyUtil;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
@@ -45,18 +46,22 @@ import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.spi.exception.WrongTargetException;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.QueryUtils;
 import com.hazelcast.sql.impl.exec.scan.MapIndexScanMetadata;
 import com.hazelcast.sql.impl.exec.scan.MapScanRow;
+import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.security.Permission;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +98,17 @@ import static java.util.stream.Collectors.toList;
  * original `split` into disjoint parts, according to the owner, and retry
  * with the new owners. If all partitions in a `split` were read, the
  * `split` is removed from execution.
+ * <p>
+ * The index iteration pointers are divided into up to {@link
+ * #FETCH_PARALLELISM_PROPERTY} contiguous segments, each read by its own
+ * split, so that the batches of disjoint key ranges, e.g. of an {@code IN}
+ * list, are fetched concurrently. Each split has at most one batch in
+ * flight while the previous one is being emitted, which bounds the
+ * prefetched data to two batches per split. The sorted splits are
+ * merged as usual.
+ * <p>
+ * If the filter constrains the partitioning key, the partitions that
+ * can't contain matching keys are not requested at all.
  */
 public final class MapIndexScanP extends AbstractProcessor {
 
@@ -100,9 +116,14 @@ public final class MapIndexScanP extends AbstractProcessor {
     public static final HazelcastProperty FETCH_SIZE_HINT_PROPERTY
             = new HazelcastProperty(MapIndexScanP.FETCH_SIZE_HINT_PROPERTY_NAME, 128);
 
+    public static final String FETCH_PARALLELISM_PROPERTY_NAME = "hazelcast.sql.index.fetch.parallelism";
+    public static final HazelcastProperty FETCH_PARALLELISM_PROPERTY
+            = new HazelcastProperty(MapIndexScanP.FETCH_PARALLELISM_PROPERTY_NAME, 4);
+
     private static final long DELAY_AFTER_MISSING_PARTITION = MILLISECONDS.toNanos(100);
 
     private final MapIndexScanMetadata metadata;
+    private final List<List<Expression<?>>> requiredPartitionsExprs;
 
     private HazelcastInstance hazelcastInstance;
     private ExpressionEvalContext evalContext;
@@ -113,8 +134,12 @@ public final class MapIndexScanP extends AbstractProcessor {
     private JetSqlRow pendingItem;
     private boolean isIndexSorted;
 
-    private MapIndexScanP(@Nonnull MapIndexScanMetadata indexScanMetadata) {
+    private MapIndexScanP(
+            @Nonnull MapIndexScanMetadata indexScanMetadata,
+            @Nullable List<List<Expression<?>>> requiredPartitionsExprs
+    ) {
         this.metadata = indexScanMetadata;
+        this.requiredPartitionsExprs = requiredPartitionsExprs;
     }
 
     @Override
@@ -127,14 +152,21 @@ public final class MapIndexScanP extends AbstractProcessor {
         boolean compositeIndex = MapFetchIndexOperation.getInternalIndex(mapContainer,
                         metadata.getMapName(), metadata.getIndexName()).isComposite();
 
-        int[] memberPartitions = context.processorPartitions();
-        IndexIterationPointer[] pointers = indexFilterToPointers(metadata.getFilter(), compositeIndex,
-                metadata.isDescending(), evalContext);
-        splits.add(new Split(
-                new PartitionIdSet(hazelcastInstance.getPartitionService().getPartitions().size(), memberPartitions),
-                hazelcastInstance.getCluster().getLocalMember().getAddress(),
-                pointers
-        ));
+        PartitionIdSet partitions = new PartitionIdSet(
+                hazelcastInstance.getPartitionService().getPartitions().size(), context.processorPartitions());
+        PartitionIdSet requiredPartitions = requiredPartitions(mapContainer);
+        if (requiredPartitions != null) {
+            partitions = partitions.intersectCopy(requiredPartitions);
+        }
+        if (!partitions.isEmpty()) {
+            IndexIterationPointer[] pointers = indexFilterToPointers(metadata.getFilter(), compositeIndex,
+                    metadata.isDescending(), evalContext);
+            int parallelism = getNodeEngine(hazelcastInstance).getProperties().getInteger(FETCH_PARALLELISM_PROPERTY);
+            Address localAddress = hazelcastInstance.getCluster().getLocalMember().getAddress();
+            for (IndexIterationPointer[] segment : segments(pointers, parallelism)) {
+                splits.add(new Split(partitions, localAddress, segment));
+            }
+        }
 
         row = MapScanRow.create(
                 metadata.getKeyDescriptor(),
@@ -149,8 +181,52 @@ public final class MapIndexScanP extends AbstractProcessor {
         isIndexSorted = metadata.getComparator() != null;
     }
 
+    /**
+     * Returns the partitions that can contain the keys matching the filter,
+     * or null, if all partitions must be scanned.
+     */
+    @Nullable
+    private PartitionIdSet requiredPartitions(MapContainer mapContainer) {
+        if (requiredPartitionsExprs == null) {
+            return null;
+        }
+        NodeEngine nodeEngine = getNodeEngine(hazelcastInstance);
+        PartitionIdSet result = new PartitionIdSet(nodeEngine.getPartitionService().getPartitionCount());
+        for (List<Expression<?>> requiredPartitionExprs : requiredPartitionsExprs) {
+            Object[] partitionKeyComponents = new Object[requiredPartitionExprs.size()];
+            for (int i = 0; i < partitionKeyComponents.length; i++) {
+                partitionKeyComponents[i] = requiredPartitionExprs.get(i).evalTop(null, evalContext);
+            }
+            Integer partitionId = PartitioningStrategyUtil.getPartitionIdFromKeyComponents(
+                    nodeEngine, mapContainer.getPartitioningStrategy(), partitionKeyComponents);
+            if (partitionId == null) {
+                // The partitioning key is invalid, most likely null, scan all partitions.
+                return null;
+            }
+            result.add(partitionId);
+        }
+        return result;
+    }
+
+    /**
+     * Divides the pointers into at most {@code parallelism} non-empty
+     * contiguous segments. Returns a single empty segment for no pointers.
+     */
+    static List<IndexIterationPointer[]> segments(IndexIterationPointer[] pointers, int parallelism) {
+        int count = Math.max(1, Math.min(parallelism, pointers.length));
+        List<IndexIterationPointer[]> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(Arrays.copyOfRange(pointers, i * pointers.length / count, (i + 1) * pointers.length / count));
+        }
+        return result;
+    }
+
     @Override
     public boolean complete() {
+        if (splits.isEmpty()) {
+            // all partitions of this processor were pruned
+            return true;
+        }
         return isIndexSorted ? runSortedIndex() : runHashIndex();
     }
 
@@ -212,6 +288,12 @@ public final class MapIndexScanP extends AbstractProcessor {
     }
 
     private boolean runHashIndex() {
+        // an item rejected by the outbox must be offered again before any other
+        if (pendingItem != null && !tryEmit(pendingItem)) {
+            return false;
+        }
+        pendingItem = null;
+
         boolean allIdle;
         do {
             allIdle = true;
@@ -234,11 +316,12 @@ public final class MapIndexScanP extends AbstractProcessor {
                     }
                 } else {
                     allIdle = false;
-                    if (tryEmit(split.currentRow)) {
-                        split.remove();
-                    } else {
+                    pendingItem = split.currentRow;
+                    split.remove();
+                    if (!tryEmit(pendingItem)) {
                         return false;
                     }
+                    pendingItem = null;
                 }
             }
         } while (!allIdle);
@@ -460,26 +543,44 @@ public final class MapIndexScanP extends AbstractProcessor {
     }
 
     static ProcessorSupplier readMapIndexSupplier(MapIndexScanMetadata indexScanMetadata) {
-        return new MapIndexScanProcessorSupplier(indexScanMetadata);
+        return readMapIndexSupplier(indexScanMetadata, null);
+    }
+
+    /**
+     * Returns a supplier of processors scanning only the partitions of the
+     * keys produced by {@code requiredPartitionsExprs}, each item of the list
+     * contains the components of a partitioning key. If it's null, all
+     * partitions are scanned.
+     */
+    static ProcessorSupplier readMapIndexSupplier(
+            MapIndexScanMetadata indexScanMetadata,
+            @Nullable List<List<Expression<?>>> requiredPartitionsExprs
+    ) {
+        return new MapIndexScanProcessorSupplier(indexScanMetadata, requiredPartitionsExprs);
     }
 
     private static final class MapIndexScanProcessorSupplier implements ProcessorSupplier, DataSerializable {
 
         private MapIndexScanMetadata metadata;
+        private List<List<Expression<?>>> requiredPartitionsExprs;
 
         @SuppressWarnings("unused")
         private MapIndexScanProcessorSupplier() {
         }
 
-        private MapIndexScanProcessorSupplier(@Nonnull MapIndexScanMetadata metadata) {
+        private MapIndexScanProcessorSupplier(
+                @Nonnull MapIndexScanMetadata metadata,
+                @Nullable List<List<Expression<?>>> requiredPartitionsExprs
+        ) {
             this.metadata = metadata;
+            this.requiredPartitionsExprs = requiredPartitionsExprs;
         }
 
         @Override
         @Nonnull
         public List<Processor> get(int count) {
             return IntStream.range(0, count)
-                    .mapToObj(i -> new MapIndexScanP(metadata))
+                    .mapToObj(i -> new MapIndexScanP(metadata, requiredPartitionsExprs))
                     .collect(toList());
         }
 
@@ -491,11 +592,13 @@ public final class MapIndexScanP extends AbstractProcessor {
         @Override
         public void writeData(ObjectDataOutput out) throws IOException {
             out.writeObject(metadata);
+            out.writeObject(requiredPartitionsExprs);
         }
 
         @Override
         public void readData(ObjectDataInput in) throws IOException {
             metadata = in.readObject();
+            requiredPartitionsExprs = in.readObject();
         }
     }
 }
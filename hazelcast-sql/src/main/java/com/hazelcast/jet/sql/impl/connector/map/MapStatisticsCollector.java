@@ -0,0 +1,456 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.cardinality.impl.hyperloglog.HyperLogLog;
+import com.hazelcast.cardinality.impl.hyperloglog.impl.HyperLogLogImpl;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.Storage;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperty;
+import com.hazelcast.sql.impl.extract.QueryExtractor;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.extract.QueryTarget;
+import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.map.MapTableField;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.QUERY_EXECUTOR;
+import static com.hazelcast.sql.impl.schema.map.MapTableUtils.estimatePartitionedMapRowCount;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Collects column statistics of IMap-backed tables for the SQL optimizer.
+ * <p>
+ * The statistics are collected from a random sample of entries stored in the partitions owned by the local member, which
+ * is taken on the partition threads. For every column the collector estimates the number of distinct values
+ * with a {@link HyperLogLog} sketch and the fraction of {@code NULL} values; numeric columns additionally get an
+ * equi-depth histogram built from a reservoir sample of the column values.
+ * <p>
+ * Collection never happens on the planning thread: {@link #getStatistics} returns the last collected statistics and
+ * schedules an asynchronous refresh when they are missing or older than the refresh interval. Until the first collection
+ * completes the optimizer falls back to its default selectivity guesses.
+ * <p>
+ * The collector is disabled by default, see {@link #SAMPLE_SIZE}.
+ */
+public class MapStatisticsCollector {
+
+    /**
+     * Maximum number of entries sampled on each member to collect the statistics of a map. Zero disables the collection.
+     */
+    public static final HazelcastProperty SAMPLE_SIZE
+            = new HazelcastProperty("hazelcast.sql.statistics.sample.size", 0);
+
+    /**
+     * Minimum interval between two collections of the statistics of the same map.
+     */
+    public static final HazelcastProperty REFRESH_INTERVAL_SECONDS
+            = new HazelcastProperty("hazelcast.sql.statistics.refresh.interval.seconds", 60, SECONDS);
+
+    /** Number of buckets of the equi-depth histograms. */
+    static final int HISTOGRAM_BUCKET_COUNT = 32;
+
+    /**
+     * If the ratio of distinct values in the sample exceeds this threshold, the column is considered to be unique and the
+     * distinct count is scaled to the whole table. Otherwise we assume that the sample has seen most of the distinct values.
+     */
+    private static final double UNIQUE_RATIO_THRESHOLD = 0.9d;
+
+    private static final int HLL_PRECISION = 12;
+
+    /**
+     * Statistics not requested for this many refresh intervals are evicted, e.g. the ones of dropped mappings.
+     */
+    private static final int UNUSED_REFRESH_INTERVALS = 10;
+
+    private final NodeEngine nodeEngine;
+    private final ILogger logger;
+    private final ConcurrentMap<CacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    public MapStatisticsCollector(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+        this.logger = nodeEngine.getLogger(getClass());
+    }
+
+    NodeEngine getNodeEngine() {
+        return nodeEngine;
+    }
+
+    /**
+     * Returns the last collected statistics of the given table columns, and schedules their refresh if needed.
+     *
+     * @return Statistics indexed by the field index, or {@code null} if they are not collected yet or disabled.
+     */
+    @Nullable
+    public ColumnStatistics[] getStatistics(
+            String mapName,
+            List<TableField> fields,
+            QueryTargetDescriptor keyDescriptor,
+            QueryTargetDescriptor valueDescriptor
+    ) {
+        int sampleSize = nodeEngine.getProperties().getInteger(SAMPLE_SIZE);
+
+        if (sampleSize <= 0) {
+            return null;
+        }
+
+        CacheEntry entry = cache.computeIfAbsent(new CacheKey(mapName, fields), key -> new CacheEntry());
+        long refreshIntervalMillis = nodeEngine.getProperties().getMillis(REFRESH_INTERVAL_SECONDS);
+        long now = System.currentTimeMillis();
+        entry.requestedAt = now;
+
+        if (entry.isStale(refreshIntervalMillis) && entry.refreshing.compareAndSet(false, true)) {
+            evictUnused(now, refreshIntervalMillis);
+            nodeEngine.getExecutionService().execute(QUERY_EXECUTOR, () -> {
+                try {
+                    entry.statistics = collect(mapName, fields, keyDescriptor, valueDescriptor, sampleSize);
+                } catch (Exception e) {
+                    logger.fine("Failed to collect SQL statistics of map " + mapName, e);
+                } finally {
+                    entry.collectedAt = System.currentTimeMillis();
+                    entry.refreshing.set(false);
+                }
+            });
+        }
+
+        return entry.statistics;
+    }
+
+    /**
+     * Removes the statistics of destroyed maps and the statistics that were not requested for {@link
+     * #UNUSED_REFRESH_INTERVALS} refresh intervals, such as the ones of dropped mappings. Runs whenever a refresh is
+     * scheduled, so the cache only holds the statistics of the maps and mappings that are in use.
+     */
+    private void evictUnused(long now, long refreshIntervalMillis) {
+        MapService service = nodeEngine.getService(MapService.SERVICE_NAME);
+        MapServiceContext context = service.getMapServiceContext();
+        long unusedMillis = refreshIntervalMillis * UNUSED_REFRESH_INTERVALS;
+
+        cache.entrySet().removeIf(e -> now - e.getValue().requestedAt > unusedMillis
+                || e.getValue().collectedAt != 0 && context.getExistingMapContainer(e.getKey().mapName) == null);
+    }
+
+    boolean isCached(String mapName) {
+        return cache.keySet().stream().anyMatch(key -> key.mapName.equals(mapName));
+    }
+
+    /**
+     * Samples the partitions owned by the local member and builds the statistics of every column.
+     */
+    @Nullable
+    ColumnStatistics[] collect(
+            String mapName,
+            List<TableField> fields,
+            QueryTargetDescriptor keyDescriptor,
+            QueryTargetDescriptor valueDescriptor,
+            int sampleSize
+    ) {
+        MapService service = nodeEngine.getService(MapService.SERVICE_NAME);
+        MapServiceContext context = service.getMapServiceContext();
+        MapContainer container = context.getExistingMapContainer(mapName);
+
+        if (container == null) {
+            return null;
+        }
+
+        InternalSerializationService ss = (InternalSerializationService) nodeEngine.getSerializationService();
+        QueryTarget keyTarget = keyDescriptor.create(ss, container.getExtractors(), true);
+        QueryTarget valueTarget = valueDescriptor.create(ss, container.getExtractors(), false);
+
+        ColumnCollector[] columns = new ColumnCollector[fields.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            MapTableField field = (MapTableField) fields.get(i);
+            QueryPath path = field.getPath();
+            QueryExtractor extractor = path.isKey()
+                    ? keyTarget.createExtractor(path.getPath(), field.getType())
+                    : valueTarget.createExtractor(path.getPath(), field.getType());
+
+            columns[i] = new ColumnCollector(extractor, sampleSize);
+        }
+
+        sample(context, mapName, sampleSize, keyTarget, valueTarget, columns);
+
+        // The same estimate the table row count is based on, the distinct counts are scaled to the whole table.
+        long estimatedRowCount = estimatePartitionedMapRowCount(nodeEngine, context, mapName);
+        ColumnStatistics[] res = new ColumnStatistics[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            res[i] = columns[i].build(estimatedRowCount);
+        }
+
+        return res;
+    }
+
+    /**
+     * Feeds up to {@code sampleSize} entries of the locally owned partitions to the column collectors, taking the same
+     * number of entries from every partition.
+     * <p>
+     * The entries of a partition are taken from a random position of its storage onwards. The storage is ordered by the
+     * hash of the key, so the sample is random, unless the column values correlate with the hash of the key.
+     */
+    private void sample(
+            MapServiceContext context,
+            String mapName,
+            int sampleSize,
+            QueryTarget keyTarget,
+            QueryTarget valueTarget,
+            ColumnCollector[] columns
+    ) {
+        PartitionIdSet ownedPartitions = context.getCachedOwnedPartitions();
+
+        if (ownedPartitions.isEmpty()) {
+            return;
+        }
+
+        int perPartitionSize = Math.max(1, sampleSize / ownedPartitions.size());
+        List<CompletableFuture<List<Map.Entry<Data, Data>>>> samples = new ArrayList<>(ownedPartitions.size());
+
+        for (int partitionId : ownedPartitions) {
+            samples.add(sample(context, mapName, partitionId, perPartitionSize));
+        }
+
+        for (CompletableFuture<List<Map.Entry<Data, Data>>> sample : samples) {
+            for (Map.Entry<Data, Data> entry : sample.join()) {
+                keyTarget.setTarget(null, entry.getKey());
+                valueTarget.setTarget(null, entry.getValue());
+
+                for (ColumnCollector column : columns) {
+                    column.accept();
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes random samples of the entries of a partition on its partition thread. The values are serialized there, so
+     * that they can be read by the collecting thread.
+     */
+    private CompletableFuture<List<Map.Entry<Data, Data>>> sample(
+            MapServiceContext context,
+            String mapName,
+            int partitionId,
+            int sampleSize
+    ) {
+        CompletableFuture<List<Map.Entry<Data, Data>>> future = new CompletableFuture<>();
+        OperationServiceImpl operationService = (OperationServiceImpl) nodeEngine.getOperationService();
+
+        operationService.execute(new PartitionSpecificRunnable() {
+            @Override
+            public void run() {
+                try {
+                    future.complete(sampleRecordStore(
+                            context.getPartitionContainer(partitionId).getExistingRecordStore(mapName), sampleSize));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+        });
+
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map.Entry<Data, Data>> sampleRecordStore(RecordStore<?> recordStore, int sampleSize) {
+        if (recordStore == null) {
+            return emptyList();
+        }
+
+        Storage<Data, Record<?>> storage = recordStore.getStorage();
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(Math.min(sampleSize, recordStore.size()));
+
+        for (EntryView<?, ?> view : storage.getRandomSamples(sampleSize)) {
+            Data key = storage.extractDataKeyFromLazy(view);
+            Record<?> record = storage.get(key);
+
+            if (record != null) {
+                entries.add(new AbstractMap.SimpleEntry<>(key, nodeEngine.toData(record.getValue())));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Accumulates the statistics of a single column.
+     */
+    private final class ColumnCollector {
+
+        private final QueryExtractor extractor;
+        private final HyperLogLog distinctValues = new HyperLogLogImpl(HLL_PRECISION);
+        private final double[] reservoir;
+
+        private long rowCount;
+        private long nullCount;
+        private long numericCount;
+        private boolean numeric = true;
+
+        private ColumnCollector(QueryExtractor extractor, int sampleSize) {
+            this.extractor = extractor;
+            this.reservoir = new double[sampleSize];
+        }
+
+        private void accept() {
+            rowCount++;
+
+            Object value;
+
+            try {
+                value = extractor.get();
+            } catch (Exception e) {
+                // The entry doesn't match the mapping, the query would fail or skip it as well.
+                return;
+            }
+
+            if (value == null) {
+                nullCount++;
+                return;
+            }
+
+            distinctValues.add(nodeEngine.getSerializationService().toData(value).hash64());
+
+            if (value instanceof Number number) {
+                addToReservoir(number.doubleValue());
+            } else {
+                numeric = false;
+            }
+        }
+
+        private void addToReservoir(double value) {
+            long index = numericCount++;
+
+            if (index < reservoir.length) {
+                reservoir[(int) index] = value;
+            } else {
+                long replaced = ThreadLocalRandom.current().nextLong(index + 1);
+
+                if (replaced < reservoir.length) {
+                    reservoir[(int) replaced] = value;
+                }
+            }
+        }
+
+        /**
+         * @param estimatedRowCount Estimated row count of the whole table.
+         */
+        private ColumnStatistics build(long estimatedRowCount) {
+            if (rowCount == 0) {
+                return null;
+            }
+
+            long sampledDistinct = Math.min(distinctValues.estimate(), rowCount - nullCount);
+            long distinct = sampledDistinct;
+
+            if (rowCount - nullCount > 0 && (double) sampledDistinct / (rowCount - nullCount) > UNIQUE_RATIO_THRESHOLD) {
+                distinct = Math.round(sampledDistinct * ((double) Math.max(estimatedRowCount, rowCount) / rowCount));
+            }
+
+            return new ColumnStatistics(distinct, (double) nullCount / rowCount, histogram());
+        }
+
+        private double[] histogram() {
+            int size = (int) Math.min(numericCount, reservoir.length);
+
+            if (!numeric || size < 2) {
+                return null;
+            }
+
+            double[] sorted = Arrays.copyOf(reservoir, size);
+            Arrays.sort(sorted);
+
+            int bucketCount = Math.min(HISTOGRAM_BUCKET_COUNT, size - 1);
+            double[] bounds = new double[bucketCount + 1];
+
+            for (int i = 0; i <= bucketCount; i++) {
+                bounds[i] = sorted[(int) ((long) i * (size - 1) / bucketCount)];
+            }
+
+            return bounds;
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile ColumnStatistics[] statistics;
+        private volatile long collectedAt;
+        private volatile long requestedAt;
+
+        private boolean isStale(long refreshIntervalMillis) {
+            return collectedAt == 0 || System.currentTimeMillis() - collectedAt >= refreshIntervalMillis;
+        }
+    }
+
+    private static final class CacheKey {
+
+        private final String mapName;
+        private final List<TableField> fields;
+
+        private CacheKey(String mapName, List<TableField> fields) {
+            this.mapName = mapName;
+            this.fields = new ArrayList<>(fields);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return mapName.equals(that.mapName) && fields.equals(that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mapName, fields);
+        }
+    }
+}
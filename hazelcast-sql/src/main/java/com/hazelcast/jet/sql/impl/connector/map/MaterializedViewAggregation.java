@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.jet.sql.impl.aggregate.SqlAggregation;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import static com.hazelcast.sql.impl.type.QueryDataTypeUtils.DECIMAL_MATH_CONTEXT;
+
+/**
+ * The aggregated values of a single group of a materialized view.
+ * <p>
+ * Unlike {@link SqlAggregation}, a row that was accumulated earlier can be
+ * removed again, which is what updates and removals in the event journal of
+ * the source map translate to. That is also why only {@code COUNT} and {@code
+ * SUM} are supported.
+ */
+@NotThreadSafe
+final class MaterializedViewAggregation implements Serializable {
+
+    static final int COUNT_STAR = 0;
+    static final int COUNT = 1;
+    static final int SUM_LONG = 2;
+    static final int SUM_DECIMAL = 3;
+    static final int SUM_REAL = 4;
+    static final int SUM_DOUBLE = 5;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int[] kinds;
+    private final int[] arguments;
+
+    private final long[] nonNullCounts;
+    private final long[] longSums;
+    private final double[] doubleSums;
+    private final BigDecimal[] decimalSums;
+    private long rowCount;
+
+    /**
+     * @param kinds     the kind of each aggregate, one of the constants in this class
+     * @param arguments for each aggregate, the index of its argument in the
+     *                  accumulated rows, ignored for {@link #COUNT_STAR}
+     */
+    MaterializedViewAggregation(int[] kinds, int[] arguments) {
+        this.kinds = kinds;
+        this.arguments = arguments;
+
+        this.nonNullCounts = new long[kinds.length];
+        this.longSums = new long[kinds.length];
+        this.doubleSums = new double[kinds.length];
+        this.decimalSums = new BigDecimal[kinds.length];
+    }
+
+    /**
+     * Returns the kind of the {@code SUM} of an operand of the given type.
+     */
+    static int sumKind(QueryDataTypeFamily operandType) {
+        switch (operandType) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+                return SUM_LONG;
+            case BIGINT:
+            case DECIMAL:
+                return SUM_DECIMAL;
+            case REAL:
+                return SUM_REAL;
+            case DOUBLE:
+                return SUM_DOUBLE;
+            default:
+                throw QueryException.error("Unsupported operand type: " + operandType);
+        }
+    }
+
+    /**
+     * Adds the row to the aggregates if {@code sign} is 1, removes it if
+     * {@code sign} is -1.
+     */
+    void accumulate(Object[] row, int sign) {
+        rowCount += sign;
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == COUNT_STAR) {
+                continue;
+            }
+            Object value = row[arguments[i]];
+            if (value == null) {
+                continue;
+            }
+            nonNullCounts[i] += sign;
+            switch (kinds[i]) {
+                case SUM_LONG:
+                    longSums[i] = addExact(longSums[i], ((Number) value).longValue(), sign);
+                    break;
+                case SUM_DECIMAL:
+                    BigDecimal decimalValue = value instanceof BigDecimal bd ? bd : new BigDecimal((long) value);
+                    BigDecimal sum = decimalSums[i] == null ? BigDecimal.ZERO : decimalSums[i];
+                    decimalSums[i] = sign > 0
+                            ? sum.add(decimalValue, DECIMAL_MATH_CONTEXT)
+                            : sum.subtract(decimalValue, DECIMAL_MATH_CONTEXT);
+                    break;
+                case SUM_REAL:
+                case SUM_DOUBLE:
+                    doubleSums[i] += sign * ((Number) value).doubleValue();
+                    break;
+                default:
+            }
+        }
+    }
+
+    private static long addExact(long sum, long value, int sign) {
+        try {
+            return sign > 0 ? Math.addExact(sum, value) : Math.subtractExact(sum, value);
+        } catch (ArithmeticException e) {
+            throw QueryException.dataException(QueryDataTypeFamily.BIGINT + " overflow in 'SUM' function " +
+                    "(consider adding explicit CAST to DECIMAL)");
+        }
+    }
+
+    /**
+     * Returns true if all rows of the group were removed.
+     */
+    boolean isEmpty() {
+        return rowCount <= 0;
+    }
+
+    /**
+     * Returns the values of the aggregates followed by the number of rows in
+     * the group.
+     */
+    Object[] collect() {
+        Object[] values = new Object[kinds.length + 1];
+        for (int i = 0; i < kinds.length; i++) {
+            values[i] = collect(i);
+        }
+        values[kinds.length] = rowCount;
+        return values;
+    }
+
+    private Object collect(int index) {
+        switch (kinds[index]) {
+            case COUNT_STAR:
+                return rowCount;
+            case COUNT:
+                return nonNullCounts[index];
+            default:
+        }
+        if (nonNullCounts[index] <= 0) {
+            return null;
+        }
+        switch (kinds[index]) {
+            case SUM_LONG:
+                return longSums[index];
+            case SUM_DECIMAL:
+                return decimalSums[index];
+            case SUM_REAL:
+                return (float) doubleSums[index];
+            default:
+                return doubleSums[index];
+        }
+    }
+}
@@ -0,0 +1,762 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.function.PredicateEx;
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.config.ProcessingGuarantee;
+import com.hazelcast.jet.core.DAG;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.Vertex;
+import com.hazelcast.jet.core.processor.SinkProcessors;
+import com.hazelcast.jet.core.processor.SourceProcessors;
+import com.hazelcast.jet.datamodel.Tuple2;
+import com.hazelcast.jet.impl.AbstractJetInstance;
+import com.hazelcast.jet.pipeline.ServiceFactory;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.schema.Mapping;
+import com.hazelcast.sql.impl.schema.MappingField;
+import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import com.hazelcast.sql.impl.schema.view.View;
+import com.hazelcast.sql.impl.security.SqlSecurityContext;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Calc;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.rex.RexVisitor;
+import org.apache.calcite.sql.SqlKind;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import static com.hazelcast.function.Functions.entryKey;
+import static com.hazelcast.jet.Traversers.empty;
+import static com.hazelcast.jet.Traversers.singleton;
+import static com.hazelcast.jet.Traversers.traverseItems;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.jet.core.Edge.from;
+import static com.hazelcast.jet.core.EventTimePolicy.noEventTime;
+import static com.hazelcast.jet.core.processor.Processors.flatMapStatefulP;
+import static com.hazelcast.jet.core.processor.Processors.mapStatefulP;
+import static com.hazelcast.jet.core.processor.Processors.mapUsingServiceP;
+import static com.hazelcast.jet.core.processor.SourceProcessors.readMapP;
+import static com.hazelcast.jet.datamodel.Tuple2.tuple2;
+import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.jet.pipeline.JournalInitialPosition.START_FROM_CURRENT;
+import static com.hazelcast.jet.pipeline.ServiceFactories.nonSharedService;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.COMPACT_FORMAT;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_KEY_COMPACT_TYPE_NAME;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_KEY_FORMAT;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_VALUE_COMPACT_TYPE_NAME;
+import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_VALUE_FORMAT;
+import static com.hazelcast.jet.sql.impl.validate.types.HazelcastTypeUtils.toHazelcastType;
+import static com.hazelcast.sql.impl.QueryUtils.CATALOG;
+import static com.hazelcast.sql.impl.QueryUtils.SCHEMA_NAME_PUBLIC;
+import static com.hazelcast.sql.impl.QuoteIdentifierUtil.quoteCompoundIdentifier;
+import static com.hazelcast.sql.impl.QuoteIdentifierUtil.quoteIdentifier;
+import static com.hazelcast.sql.impl.extract.QueryPath.KEY;
+import static com.hazelcast.sql.impl.extract.QueryPath.VALUE;
+
+/**
+ * Creates and drops materialized views, defined by {@code CREATE MATERIALIZED
+ * VIEW ... AS SELECT ... FROM ... GROUP BY ...} over an IMap mapping.
+ * <p>
+ * A materialized view {@code v} consists of:<ul>
+ *     <li>an IMap and a mapping for it, both named {@code __sql.mv.v}. The
+ *     map has one entry per group. Its key holds the grouping columns and
+ *     its value the aggregates, both in the Compact format
+ *
+ *     <li>a streaming job, also named {@code __sql.mv.v}, that scans the
+ *     source map and then follows its event journal, applying every insert,
+ *     update and removal to the affected group. The job keeps the row each
+ *     source entry contributes to the aggregates and the running aggregates
+ *     in its state, and overwrites the whole entry of the group. The job is
+ *     {@linkplain ProcessingGuarantee#EXACTLY_ONCE exactly-once}, so the
+ *     state restored after a restart matches the restored journal position
+ *
+ *     <li>a regular view {@code v} selecting from the mapping, which makes
+ *     the materialized view queryable like any other relation and takes part
+ *     in the plan cache invalidation through the catalog
+ * </ul>
+ * Only {@code COUNT} and {@code SUM} aggregates are supported, because the
+ * other aggregates can't be updated when a row is removed. The source map
+ * must have the event journal enabled.
+ * <p>
+ * The journal position is fixed when the job initializes, before the scan
+ * starts, and the journal isn't read before the scan completes. A change
+ * made during the scan may therefore be both scanned and read from the
+ * journal, which is harmless because each change replaces the row of its
+ * source entry: the last change read from the journal leaves the current
+ * row. The journal only has to hold the changes made while the map is
+ * scanned, not every entry of the map.
+ * <p>
+ * The state of the job grows with the source map, not with the number of
+ * changes: it holds the row of every source entry passing the filter of the
+ * view, and the aggregates of every non-empty group. The row of an entry is
+ * dropped when the entry is removed, evicted or expired, or stops passing
+ * the filter, and the aggregates of a group are dropped with its last row.
+ * Only the grouping and aggregated columns are kept, still, a view over a
+ * large map holds, and snapshots, a copy of those columns of every entry.
+ */
+public final class MaterializedViews {
+
+    static final String NAME_PREFIX = "__sql.mv.";
+
+    private static final String ROW_COUNT_FIELD = "rowCount";
+
+    /** Priority of the edge of the scanned rows, higher than the default one of the journal edge. */
+    private static final int SCAN_PRIORITY = -1;
+
+    private static final Set<QueryDataTypeFamily> SUPPORTED_TYPES = EnumSet.of(
+            QueryDataTypeFamily.BOOLEAN,
+            QueryDataTypeFamily.TINYINT,
+            QueryDataTypeFamily.SMALLINT,
+            QueryDataTypeFamily.INTEGER,
+            QueryDataTypeFamily.BIGINT,
+            QueryDataTypeFamily.REAL,
+            QueryDataTypeFamily.DOUBLE,
+            QueryDataTypeFamily.DECIMAL,
+            QueryDataTypeFamily.VARCHAR,
+            QueryDataTypeFamily.TIME,
+            QueryDataTypeFamily.DATE,
+            QueryDataTypeFamily.TIMESTAMP,
+            QueryDataTypeFamily.TIMESTAMP_WITH_TIME_ZONE
+    );
+
+    private final NodeEngine nodeEngine;
+    private final HazelcastInstance hazelcastInstance;
+    private final TableResolverImpl catalog;
+
+    public MaterializedViews(NodeEngine nodeEngine, TableResolverImpl catalog) {
+        this.nodeEngine = nodeEngine;
+        this.hazelcastInstance = nodeEngine.getHazelcastInstance();
+        this.catalog = catalog;
+    }
+
+    /**
+     * Creates the materialized view.
+     *
+     * @param rel        the converted, not yet optimized, query of the view
+     * @param fieldNames the names of the view columns
+     * @param fieldTypes the types of the view columns
+     */
+    public void create(
+            String viewName,
+            RelNode rel,
+            List<String> fieldNames,
+            List<QueryDataType> fieldTypes,
+            boolean replace,
+            boolean ifNotExists,
+            SqlSecurityContext ssc
+    ) {
+        boolean exists = catalog.getViewNames().contains(viewName) || catalog.getMappingNames().contains(viewName);
+        if (exists && ifNotExists) {
+            return;
+        }
+        if (exists && !replace) {
+            throw QueryException.error("Mapping or view already exists: " + viewName);
+        }
+
+        Definition definition = analyze(rel);
+        String sourceMapName = definition.table.getMapName();
+        if (!nodeEngine.getConfig().findMapConfig(sourceMapName).getEventJournalConfig().isEnabled()) {
+            throw QueryException.error("The event journal must be enabled for map '" + sourceMapName
+                    + "' to create a materialized view over it");
+        }
+        if (exists) {
+            dropBackingObjects(viewName);
+        }
+
+        String name = NAME_PREFIX + viewName;
+        catalog.createMapping(mapping(name, definition), true, false, ssc);
+        View view = new View(viewName, viewQuery(name, fieldNames, definition.outputOrder), fieldNames, fieldTypes);
+        catalog.createView(view, replace, false);
+        try {
+            JobConfig jobConfig = new JobConfig()
+                    .setName(name)
+                    .setProcessingGuarantee(ProcessingGuarantee.EXACTLY_ONCE)
+                    .setSuspendOnFailure(true)
+                    .setArgument(SQL_ARGUMENTS_KEY_NAME, new ArrayList<>());
+            ((AbstractJetInstance<?>) hazelcastInstance.getJet())
+                    .newJob(dag(name, definition), jobConfig, ssc.subject());
+        } catch (RuntimeException e) {
+            drop(viewName, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the materialized view: cancels its job and removes the view,
+     * the mapping and the map holding the result.
+     */
+    public void drop(String viewName, boolean ifExists) {
+        if (!isMaterializedView(viewName)) {
+            if (catalog.getViewNames().contains(viewName)) {
+                throw QueryException.error("View is not materialized: " + viewName);
+            }
+            if (!ifExists) {
+                throw QueryException.error("View does not exist: " + viewName);
+            }
+        }
+        catalog.removeView(viewName, true);
+        dropBackingObjects(viewName);
+    }
+
+    /**
+     * Returns true if the view with the given name is a materialized view.
+     */
+    public boolean isMaterializedView(String viewName) {
+        return catalog.getMappingNames().contains(NAME_PREFIX + viewName);
+    }
+
+    private void dropBackingObjects(String viewName) {
+        String name = NAME_PREFIX + viewName;
+        Job job = hazelcastInstance.getJet().getJob(name);
+        if (job != null && !job.getStatus().isTerminal()) {
+            job.cancel();
+            try {
+                job.join();
+            } catch (CancellationException ignored) {
+            }
+        }
+        catalog.removeMapping(name, true);
+        hazelcastInstance.getMap(name).destroy();
+    }
+
+    // region analysis
+
+    /**
+     * Decomposes the query of the view into the scanned map table, the
+     * filter, the grouping expressions and the aggregates.
+     */
+    static Definition analyze(RelNode rel) {
+        int[] outputOrder = null;
+        if (rel instanceof Project project) {
+            outputOrder = outputOrder(project.getProjects());
+            rel = project.getInput();
+        } else if (rel instanceof Calc calc && calc.getProgram().getCondition() == null) {
+            outputOrder = outputOrder(expandedProjects(calc.getProgram()));
+            rel = calc.getInput();
+        }
+        if (!(rel instanceof Aggregate aggregate)
+                || aggregate.getGroupType() != Aggregate.Group.SIMPLE
+                || aggregate.getGroupSet().isEmpty()) {
+            throw QueryException.error("A materialized view must be defined by an aggregation with a GROUP BY clause");
+        }
+        if (outputOrder == null) {
+            outputOrder = new int[aggregate.getRowType().getFieldCount()];
+            Arrays.setAll(outputOrder, i -> i);
+        }
+        ScanInput input = new ScanInput(aggregate);
+
+        // the rows fed to the aggregation are the grouping values followed by the aggregate arguments
+        List<RexNode> rowProjects = new ArrayList<>();
+        for (int index : aggregate.getGroupSet()) {
+            rowProjects.add(input.projects.get(index));
+        }
+        int groupCount = rowProjects.size();
+        List<AggregateCall> calls = aggregate.getAggCallList();
+        int[] aggregateKinds = new int[calls.size()];
+        int[] aggregateArguments = new int[calls.size()];
+        for (int i = 0; i < calls.size(); i++) {
+            AggregateCall call = calls.get(i);
+            if (call.getArgList().isEmpty()) {
+                aggregateKinds[i] = aggregateKind(call, null);
+                aggregateArguments[i] = -1;
+            } else {
+                RexNode argument = input.projects.get(call.getArgList().get(0));
+                aggregateKinds[i] = aggregateKind(call, toHazelcastType(argument.getType()).getTypeFamily());
+                aggregateArguments[i] = rowProjects.size();
+                rowProjects.add(argument);
+            }
+        }
+
+        RexVisitor<Expression<?>> visitor =
+                OptUtils.createRexToExpressionVisitor(OptUtils.schema(input.table), QueryParameterMetadata.EMPTY);
+        @SuppressWarnings("unchecked")
+        Expression<Boolean> predicate = input.condition == null ? null : (Expression<Boolean>) input.condition.accept(visitor);
+        List<Expression<?>> projection = new ArrayList<>(rowProjects.size());
+        for (RexNode node : rowProjects) {
+            projection.add(node.accept(visitor));
+        }
+
+        return new Definition(input.table, predicate, projection, groupCount, aggregateKinds, aggregateArguments,
+                columnTypes(aggregate), outputOrder);
+    }
+
+    private static int[] outputOrder(List<RexNode> projects) {
+        int[] outputOrder = new int[projects.size()];
+        for (int i = 0; i < outputOrder.length; i++) {
+            if (!(projects.get(i) instanceof RexInputRef ref)) {
+                throw QueryException.error("Expressions over aggregated values are not supported in a materialized view");
+            }
+            outputOrder[i] = ref.getIndex();
+        }
+        return outputOrder;
+    }
+
+    private static List<QueryDataType> columnTypes(Aggregate aggregate) {
+        List<QueryDataType> columnTypes = new ArrayList<>();
+        for (RelDataTypeField field : aggregate.getRowType().getFieldList()) {
+            QueryDataType type = toHazelcastType(field.getType());
+            if (!SUPPORTED_TYPES.contains(type.getTypeFamily())) {
+                throw QueryException.error("Type " + type.getTypeFamily() + " of column '" + field.getName()
+                        + "' is not supported in a materialized view");
+            }
+            columnTypes.add(type);
+        }
+        return columnTypes;
+    }
+
+    private static int aggregateKind(AggregateCall call, QueryDataTypeFamily operandType) {
+        if (call.isDistinct() || call.hasFilter() || call.getArgList().size() > 1) {
+            throw QueryException.error("Aggregate " + call + " is not supported in a materialized view");
+        }
+        SqlKind kind = call.getAggregation().getKind();
+        if (kind == SqlKind.COUNT) {
+            return operandType == null ? MaterializedViewAggregation.COUNT_STAR : MaterializedViewAggregation.COUNT;
+        } else if (kind == SqlKind.SUM && operandType != null) {
+            return MaterializedViewAggregation.sumKind(operandType);
+        }
+        throw QueryException.error("Aggregate function " + call.getAggregation().getName()
+                + " is not supported in a materialized view, only COUNT and SUM can be maintained incrementally");
+    }
+
+    private static List<RexNode> expandedProjects(RexProgram program) {
+        List<RexNode> projects = new ArrayList<>(program.getProjectList().size());
+        for (RexLocalRef ref : program.getProjectList()) {
+            projects.add(program.expandLocalRef(ref));
+        }
+        return projects;
+    }
+
+    // endregion
+    // region catalog objects
+
+    private static Mapping mapping(String name, Definition definition) {
+        List<MappingField> fields = new ArrayList<>();
+        for (int i = 0; i < definition.columnTypes.size(); i++) {
+            String prefix = i < definition.groupCount ? KEY : VALUE;
+            fields.add(new MappingField(columnName(i), definition.columnTypes.get(i), prefix + "." + columnName(i)));
+        }
+        fields.add(new MappingField(ROW_COUNT_FIELD, QueryDataType.BIGINT, VALUE + "." + ROW_COUNT_FIELD));
+
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put(OPTION_KEY_FORMAT, COMPACT_FORMAT);
+        options.put(OPTION_KEY_COMPACT_TYPE_NAME, keyTypeName(name));
+        options.put(OPTION_VALUE_FORMAT, COMPACT_FORMAT);
+        options.put(OPTION_VALUE_COMPACT_TYPE_NAME, valueTypeName(name));
+        return new Mapping(name, name, null, IMapSqlConnector.TYPE_NAME, null, fields, options);
+    }
+
+    private static String viewQuery(String name, List<String> fieldNames, int[] outputOrder) {
+        StringBuilder sb = new StringBuilder("SELECT ");
+        for (int i = 0; i < outputOrder.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            quoteIdentifier(sb, columnName(outputOrder[i]));
+            sb.append(" AS ");
+            quoteIdentifier(sb, fieldNames.get(i));
+        }
+        return sb.append(" FROM ").append(quoteCompoundIdentifier(CATALOG, SCHEMA_NAME_PUBLIC, name)).toString();
+    }
+
+    private static String columnName(int index) {
+        return "c" + index;
+    }
+
+    private static String keyTypeName(String name) {
+        return name + ".key";
+    }
+
+    private static String valueTypeName(String name) {
+        return name + ".value";
+    }
+
+    // endregion
+    // region job
+
+    private DAG dag(String name, Definition definition) {
+        String mapName = definition.table.getMapName();
+        ServiceFactory<?, KvRowProjector> projectorService = projectorService(definition);
+        int groupCount = definition.groupCount;
+        FunctionEx<Tuple2<Object, Object[]>, Object> sourceKeyFn = Tuple2::f0;
+        FunctionEx<Tuple2<Object[], Integer>, List<Object>> groupKeyFn =
+                delta -> Arrays.asList(Arrays.copyOf(delta.f0(), groupCount));
+
+        DAG dag = new DAG();
+        Vertex scan = dag.newVertex("scan", readMapP(mapName));
+        // the journal position is fixed in the processor's init(), before the scan starts
+        Vertex journal = dag.newVertex("journal", SourceProcessors.<Entry<Object, Object>, Object, Object>streamMapP(
+                mapName,
+                PredicateEx.alwaysTrue(),
+                event -> entry(event.getKey(), event.getNewValue()),
+                START_FROM_CURRENT,
+                noEventTime()));
+        Vertex projectScan = dag.newVertex("project-scan", mapUsingServiceP(projectorService, MaterializedViews::row));
+        Vertex projectJournal = dag.newVertex("project-journal",
+                mapUsingServiceP(projectorService, MaterializedViews::row));
+        Vertex deltas = dag.newVertex("deltas", deltasP(sourceKeyFn));
+        Vertex aggregate = dag.newVertex("aggregate", aggregateP(name, definition, groupKeyFn));
+        Vertex sink = dag.newVertex("sink",
+                SinkProcessors.<Entry<GenericRecord, GenericRecord>, GenericRecord, GenericRecord>updateMapP(
+                        name, Entry::getKey, (oldValue, item) -> item.getValue()));
+
+        dag.edge(between(scan, projectScan));
+        // the changes of an entry must stay in the journal order
+        dag.edge(between(journal, projectJournal).partitioned(entryKey()));
+        // the scanned rows are applied before any change read from the journal
+        dag.edge(from(projectScan).to(deltas, 0).priority(SCAN_PRIORITY).partitioned(sourceKeyFn).distributed());
+        dag.edge(from(projectJournal).to(deltas, 1).partitioned(sourceKeyFn).distributed());
+        dag.edge(between(deltas, aggregate).partitioned(groupKeyFn).distributed());
+        dag.edge(between(aggregate, sink));
+        return dag;
+    }
+
+    private ServiceFactory<?, KvRowProjector> projectorService(Definition definition) {
+        InternalSerializationService serializationService =
+                (InternalSerializationService) nodeEngine.getSerializationService();
+        KvRowProjector.Supplier projectorSupplier = KvRowProjector.supplier(
+                definition.table.paths(),
+                definition.table.types(),
+                definition.table.getKeyDescriptor(),
+                definition.table.getValueDescriptor(),
+                definition.predicate,
+                definition.projection
+        );
+        // the supplier is not java-serializable, the lambdas capture its serialized form
+        byte[] projectorSupplierBytes = serializationService.toBytes(projectorSupplier);
+        boolean cooperative = definition.projection.stream().allMatch(Expression::isCooperative)
+                && (definition.predicate == null || definition.predicate.isCooperative());
+        return nonSharedService(ctx -> {
+            ExpressionEvalContext evalContext = ExpressionEvalContext.from(ctx);
+            InternalSerializationService ss = evalContext.getSerializationService();
+            KvRowProjector.Supplier supplier = ss.toObject(new HeapData(projectorSupplierBytes));
+            return supplier.get(evalContext, Extractors.newBuilder(ss).build());
+        }).setCooperative(cooperative);
+    }
+
+    /**
+     * Keeps the row of every source entry, and converts the rows of the
+     * scanned entries and of the changed entries to deltas of the aggregates.
+     * The state of an entry is deleted once it doesn't contribute a row.
+     */
+    private static SupplierEx<Processor> deltasP(FunctionEx<Tuple2<Object, Object[]>, Object> sourceKeyFn) {
+        SupplierEx<SourceRow> createFn = SourceRow::new;
+        return flatMapStatefulP(
+                0,
+                sourceKeyFn,
+                row -> 0L,
+                createFn,
+                (SourceRow state, Object sourceKey, Tuple2<Object, Object[]> row) -> state.update(row.f1()),
+                (state, sourceKey, row) -> state.row == null,
+                null);
+    }
+
+    /**
+     * Applies the deltas to the aggregates of their group, and converts the
+     * aggregates to the entry of the group in the result map.
+     */
+    private static SupplierEx<Processor> aggregateP(
+            String name,
+            Definition definition,
+            FunctionEx<Tuple2<Object[], Integer>, List<Object>> groupKeyFn
+    ) {
+        int groupCount = definition.groupCount;
+        int[] aggregateKinds = definition.aggregateKinds;
+        int[] aggregateArguments = definition.aggregateArguments;
+        RecordLayout keyLayout = new RecordLayout(keyTypeName(name), 0, groupCount, definition.columnTypes, false);
+        RecordLayout valueLayout = new RecordLayout(valueTypeName(name), groupCount, definition.columnTypes.size(),
+                definition.columnTypes, true);
+        SupplierEx<MaterializedViewAggregation> createFn =
+                () -> new MaterializedViewAggregation(aggregateKinds, aggregateArguments);
+        return mapStatefulP(
+                0,
+                groupKeyFn,
+                delta -> 0L,
+                createFn,
+                (MaterializedViewAggregation aggregation, List<Object> groupKey, Tuple2<Object[], Integer> delta) -> {
+                    aggregation.accumulate(delta.f0(), delta.f1());
+                    GenericRecord value = aggregation.isEmpty() ? null : valueLayout.toRecord(aggregation.collect());
+                    return entry(keyLayout.toRecord(groupKey.toArray()), value);
+                },
+                (aggregation, groupKey, delta) -> aggregation.isEmpty(),
+                null);
+    }
+
+    /**
+     * Projects the current value of a source map entry to the row it
+     * contributes to the aggregates, {@code null} if it doesn't contribute
+     * any row because it was removed or filtered out.
+     */
+    private static Tuple2<Object, Object[]> row(KvRowProjector projector, Entry<Object, Object> entry) {
+        return tuple2(entry.getKey(), project(projector, entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Converts the replacement of the row of a source entry to the rows to
+     * remove from (sign -1) and to add to (sign 1) the aggregates.
+     */
+    private static Traverser<Tuple2<Object[], Integer>> deltas(Object[] removed, Object[] added) {
+        if (removed == null) {
+            return added == null ? empty() : singleton(tuple2(added, 1));
+        } else if (added == null) {
+            return singleton(tuple2(removed, -1));
+        } else if (Arrays.equals(removed, added)) {
+            // the update didn't change any column the view depends on
+            return empty();
+        }
+        return traverseItems(tuple2(removed, -1), tuple2(added, 1));
+    }
+
+    private static Object[] project(KvRowProjector projector, Object key, Object value) {
+        if (value == null) {
+            return null;
+        }
+        JetSqlRow row = projector.project(key, value);
+        if (row == null) {
+            return null;
+        }
+        Object[] values = new Object[row.getFieldCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.get(i);
+        }
+        return values;
+    }
+
+    // endregion
+
+    /**
+     * The input of the aggregation, with the projections and the filter
+     * between the aggregation and the table scan expressed over the fields
+     * of the table.
+     */
+    private static final class ScanInput {
+        private final PartitionedMapTable table;
+        private List<RexNode> projects;
+        private RexNode condition;
+
+        private ScanInput(Aggregate aggregate) {
+            RexBuilder rexBuilder = aggregate.getCluster().getRexBuilder();
+            RelNode input = aggregate.getInput();
+            projects = new ArrayList<>(rexBuilder.identityProjects(input.getRowType()));
+            while (!(input instanceof TableScan)) {
+                if (input instanceof Project project) {
+                    pushPast(project.getProjects());
+                    input = project.getInput();
+                } else if (input instanceof Filter filter) {
+                    addCondition(rexBuilder, filter.getCondition());
+                    input = filter.getInput();
+                } else if (input instanceof Calc calc) {
+                    RexProgram program = calc.getProgram();
+                    pushPast(expandedProjects(program));
+                    if (program.getCondition() != null) {
+                        addCondition(rexBuilder, program.expandLocalRef(program.getCondition()));
+                    }
+                    input = calc.getInput();
+                } else {
+                    throw QueryException.error("A materialized view must aggregate rows of a single IMap mapping");
+                }
+            }
+            Table target = input.getTable().unwrap(HazelcastTable.class).getTarget();
+            if (!(target instanceof PartitionedMapTable partitionedMapTable)) {
+                throw QueryException.error("A materialized view must aggregate rows of a single IMap mapping");
+            }
+            table = partitionedMapTable;
+        }
+
+        /**
+         * Rewrites the projections and the condition over the input of a
+         * node with the given projections.
+         */
+        private void pushPast(List<RexNode> inputProjects) {
+            RexShuttle shuttle = new RexShuttle() {
+                @Override
+                public RexNode visitInputRef(RexInputRef inputRef) {
+                    return inputProjects.get(inputRef.getIndex());
+                }
+            };
+            projects = shuttle.apply(projects);
+            condition = condition == null ? null : condition.accept(shuttle);
+        }
+
+        private void addCondition(RexBuilder rexBuilder, RexNode inputCondition) {
+            condition = condition == null
+                    ? inputCondition
+                    : RexUtil.composeConjunction(rexBuilder, List.of(condition, inputCondition));
+        }
+    }
+
+    /**
+     * The row a single source map entry contributes to the aggregates.
+     */
+    private static final class SourceRow implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Object[] row;
+
+        /**
+         * Replaces the row and returns the deltas to apply to the aggregates.
+         */
+        private Traverser<Tuple2<Object[], Integer>> update(Object[] newRow) {
+            Object[] oldRow = row;
+            row = newRow;
+            return deltas(oldRow, newRow);
+        }
+    }
+
+    static final class Definition {
+        private final PartitionedMapTable table;
+        private final Expression<Boolean> predicate;
+        private final List<Expression<?>> projection;
+        private final int groupCount;
+        private final int[] aggregateKinds;
+        private final int[] aggregateArguments;
+        private final List<QueryDataType> columnTypes;
+        private final int[] outputOrder;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private Definition(
+                PartitionedMapTable table,
+                Expression<Boolean> predicate,
+                List<Expression<?>> projection,
+                int groupCount,
+                int[] aggregateKinds,
+                int[] aggregateArguments,
+                List<QueryDataType> columnTypes,
+                int[] outputOrder
+        ) {
+            this.table = table;
+            this.predicate = predicate;
+            this.projection = projection;
+            this.groupCount = groupCount;
+            this.aggregateKinds = aggregateKinds;
+            this.aggregateArguments = aggregateArguments;
+            this.columnTypes = columnTypes;
+            this.outputOrder = outputOrder;
+        }
+    }
+
+    /**
+     * Builds the Compact records of the result map. The field kinds match the
+     * ones derived by {@link MetadataCompactResolver} for the mapping, so the
+     * records can be read and written by SQL.
+     */
+    private static final class RecordLayout implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String typeName;
+        private final String[] fieldNames;
+        private final QueryDataTypeFamily[] fieldTypes;
+
+        private RecordLayout(String typeName, int from, int to, List<QueryDataType> columnTypes, boolean withRowCount) {
+            int fieldCount = to - from + (withRowCount ? 1 : 0);
+            this.typeName = typeName;
+            this.fieldNames = new String[fieldCount];
+            this.fieldTypes = new QueryDataTypeFamily[fieldCount];
+            for (int i = from; i < to; i++) {
+                fieldNames[i - from] = columnName(i);
+                fieldTypes[i - from] = columnTypes.get(i).getTypeFamily();
+            }
+            if (withRowCount) {
+                fieldNames[fieldCount - 1] = ROW_COUNT_FIELD;
+                fieldTypes[fieldCount - 1] = QueryDataTypeFamily.BIGINT;
+            }
+        }
+
+        private GenericRecord toRecord(Object[] values) {
+            GenericRecordBuilder builder = GenericRecordBuilder.compact(typeName);
+            for (int i = 0; i < fieldNames.length; i++) {
+                set(builder, fieldNames[i], fieldTypes[i], values[i]);
+            }
+            return builder.build();
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private static void set(GenericRecordBuilder builder, String name, QueryDataTypeFamily type, Object value) {
+            switch (type) {
+                case BOOLEAN -> builder.setNullableBoolean(name, (Boolean) value);
+                case TINYINT -> builder.setNullableInt8(name, (Byte) value);
+                case SMALLINT -> builder.setNullableInt16(name, (Short) value);
+                case INTEGER -> builder.setNullableInt32(name, (Integer) value);
+                case BIGINT -> builder.setNullableInt64(name, (Long) value);
+                case REAL -> builder.setNullableFloat32(name, (Float) value);
+                case DOUBLE -> builder.setNullableFloat64(name, (Double) value);
+                case DECIMAL -> builder.setDecimal(name, (BigDecimal) value);
+                case VARCHAR -> builder.setString(name, (String) value);
+                case TIME -> builder.setTime(name, (LocalTime) value);
+                case DATE -> builder.setDate(name, (LocalDate) value);
+                case TIMESTAMP -> builder.setTimestamp(name, (LocalDateTime) value);
+                case TIMESTAMP_WITH_TIME_ZONE -> builder.setTimestampWithTimezone(name, (OffsetDateTime) value);
+                default -> throw new IllegalArgumentException("Unsupported type: " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.processor.GroupP;
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.map.impl.LazyMapEntry;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Supplier of processors that project the entries read from an IMap to
+ * rows and accumulate them by the group key right away. It's a fusion of
+ * {@link RowProjectorProcessorSupplier} and {@link
+ * com.hazelcast.jet.core.processor.Processors#accumulateByKeyP}: the
+ * projected rows aren't emitted, only the partial accumulators are, which
+ * saves sending each row over a local edge to a separate vertex.
+ * <p>
+ * Each processor projects all entries into a single reused row, so the
+ * accumulation doesn't allocate a row per entry. That's safe because the
+ * SQL group key function and aggregations only extract values from the
+ * row and never retain the row itself. The group key and the extracted
+ * values are still created for each entry.
+ */
+public final class RowProjectorAccumulateByKeyProcessorSupplier implements ProcessorSupplier, IdentifiedDataSerializable {
+
+    private KvRowProjector.Supplier projectorSupplier;
+    private FunctionEx<JetSqlRow, ?> groupKeyFn;
+    private AggregateOperation<?, JetSqlRow> aggrOp;
+
+    private transient ExpressionEvalContext evalContext;
+    private transient Extractors extractors;
+
+    @SuppressWarnings("unused")
+    public RowProjectorAccumulateByKeyProcessorSupplier() {
+    }
+
+    public RowProjectorAccumulateByKeyProcessorSupplier(
+            KvRowProjector.Supplier projectorSupplier,
+            FunctionEx<JetSqlRow, ?> groupKeyFn,
+            AggregateOperation<?, JetSqlRow> aggrOp
+    ) {
+        this.projectorSupplier = projectorSupplier;
+        this.groupKeyFn = groupKeyFn;
+        this.aggrOp = aggrOp;
+    }
+
+    @Override
+    public void init(@Nonnull Context context) {
+        evalContext = ExpressionEvalContext.from(context);
+        extractors = Extractors.newBuilder(evalContext.getSerializationService()).build();
+    }
+
+    @Nonnull
+    @Override
+    public Collection<? extends Processor> get(int count) {
+        List<Processor> processors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            processors.add(new ProjectingGroupP<>(projectorSupplier.get(evalContext, extractors),
+                    evalContext.getSerializationService(), groupKeyFn, aggrOp));
+        }
+        return processors;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(projectorSupplier);
+        out.writeObject(groupKeyFn);
+        out.writeObject(aggrOp);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        projectorSupplier = in.readObject();
+        groupKeyFn = in.readObject();
+        aggrOp = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.ROW_PROJECTOR_ACCUMULATE_BY_KEY_PROCESSOR_SUPPLIER;
+    }
+
+    /**
+     * A {@link GroupP} accumulating the map entries projected into the
+     * reused {@link #row}.
+     */
+    private static final class ProjectingGroupP<K, A> extends GroupP<K, A, A, Entry<K, A>> {
+
+        private final KvRowProjector projector;
+        private final Object[] values;
+        private final JetSqlRow row;
+
+        ProjectingGroupP(
+                KvRowProjector projector,
+                SerializationService serializationService,
+                FunctionEx<JetSqlRow, ? extends K> groupKeyFn,
+                AggregateOperation<A, JetSqlRow> aggrOp
+        ) {
+            super(singletonList(groupKeyFn), aggrOp.withIdentityFinish(), Util::entry);
+            this.projector = projector;
+            this.values = new Object[projector.getColumnCount()];
+            this.row = new JetSqlRow(serializationService, values);
+        }
+
+        @Override
+        public boolean isCooperative() {
+            return projector.isCooperative();
+        }
+
+        @Override
+        protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+            LazyMapEntry<?, ?> entry = (LazyMapEntry<?, ?>) item;
+            return !projector.projectInto(entry.getKeyData(), entry.getValueData(), values)
+                    || super.tryProcess(ordinal, row);
+        }
+    }
+}
@@ -419,6 +419,31 @@ public final class OptUtils {
         return table;
     }
 
+    /**
+     * If the {@code node} is a {@link TableScan}, returns it. If it's a {@link
+     * RelSubset}, which has no table, returns any table scan from its set. The
+     * rels in a set are equivalent, so any of the scans tells which table
+     * fields the rows of the node consist of. Otherwise, returns {@code null}.
+     */
+    @Nullable
+    public static TableScan findTableScan(RelNode node) {
+        if (node instanceof TableScan scan) {
+            return scan;
+        }
+
+        if (node instanceof RelSubset) {
+            for (RelSubset subset : HazelcastRelSubsetUtil.getSubsets(node)) {
+                for (RelNode rel : subset.getRels()) {
+                    if (rel instanceof TableScan scan) {
+                        return scan;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
     @SuppressWarnings("checkstyle:AvoidNestedBlocks")
     public static RexNode extractKeyConstantExpression(RelOptTable relTable, RexBuilder rexBuilder) {
         HazelcastTable table = relTable.unwrap(HazelcastTable.class);
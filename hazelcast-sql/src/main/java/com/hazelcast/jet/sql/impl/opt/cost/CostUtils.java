@@ -41,6 +41,12 @@ public final class CostUtils {
     /** CPU multiplier applied to sorted index scan when ordering is required. */
     public static final double INDEX_SCAN_CPU_MULTIPLIER_SORTED_ORDER_REQUIRED = 0.1d;
 
+    /**
+     * CPU multiplier applied to a lookup of a single right-side row by its primary key in a nested loop join. The lookup
+     * is local, because the left input is partitioned by the key, but it is still more expensive than a hash table probe.
+     */
+    public static final double JOIN_LOOKUP_CPU_MULTIPLIER = 10.0d;
+
     /** Multiplier for the CPU part of the cost. Assumes 1ns per item. */
     public static final double CPU_COST_MULTIPLIER = 1.0d;
 
@@ -48,7 +54,7 @@ public final class CostUtils {
     public static final double NETWORK_COST_MULTIPLIER = CPU_COST_MULTIPLIER * 10;
 
     /** Replacement value if filter selectivity cannot be determined.  */
-    private static final double UNKNOWN_SELECTIVITY = 0.25d;
+    static final double UNKNOWN_SELECTIVITY = 0.25d;
 
     private CostUtils() {
         // No-op.
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.cost;
+
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.TableStatistics;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+
+/**
+ * Estimates selectivity of the filters pushed into table scans using the column statistics of the table.
+ * <p>
+ * Equality predicates use the number of distinct values, {@code IS [NOT] NULL} predicates use the fraction of
+ * {@code NULL} values and range predicates against numeric literals use the histograms. Conjunctions and disjunctions
+ * assume independence of their operands. Everything else, as well as columns without statistics, falls back to
+ * {@link RelMdUtil#guessSelectivity(RexNode)}.
+ */
+public final class SelectivityEstimator {
+
+    private SelectivityEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimate selectivity of a filter over the table.
+     *
+     * @param table     Table.
+     * @param condition Filter that references the table fields by their original indexes.
+     * @return Selectivity, between 0 and 1.
+     */
+    public static double estimateSelectivity(HazelcastTable table, @Nullable RexNode condition) {
+        if (condition == null) {
+            return 1.0d;
+        }
+
+        TableStatistics statistics = table.getTarget().getStatistics();
+
+        return statistics != null ? estimateSelectivity(statistics, condition) : guess(condition);
+    }
+
+    static double estimateSelectivity(TableStatistics statistics, RexNode condition) {
+        if (!(condition instanceof RexCall call)) {
+            return guess(condition);
+        }
+
+        switch (call.getKind()) {
+            case AND:
+                double conjunction = 1.0d;
+                for (RexNode operand : call.getOperands()) {
+                    conjunction *= estimateSelectivity(statistics, operand);
+                }
+                return conjunction;
+
+            case OR:
+                double noneMatches = 1.0d;
+                for (RexNode operand : call.getOperands()) {
+                    noneMatches *= 1.0d - estimateSelectivity(statistics, operand);
+                }
+                return 1.0d - noneMatches;
+
+            case NOT:
+                return 1.0d - estimateSelectivity(statistics, call.getOperands().get(0));
+
+            case IS_NULL:
+            case IS_NOT_NULL:
+                return nullSelectivity(statistics, call);
+
+            default:
+                return call.isA(SqlKind.COMPARISON) ? comparisonSelectivity(statistics, call) : guess(call);
+        }
+    }
+
+    private static double nullSelectivity(TableStatistics statistics, RexCall call) {
+        ColumnStatistics column = columnStatistics(statistics, call.getOperands().get(0));
+
+        if (column == null) {
+            return guess(call);
+        }
+
+        return call.getKind() == SqlKind.IS_NULL ? column.getNullFraction() : 1.0d - column.getNullFraction();
+    }
+
+    private static double comparisonSelectivity(TableStatistics statistics, RexCall call) {
+        if (call.getOperands().size() != 2) {
+            return guess(call);
+        }
+
+        RexNode columnOperand = call.getOperands().get(0);
+        RexNode valueOperand = call.getOperands().get(1);
+        SqlKind kind = call.getKind();
+
+        if (!(RexUtil.removeCast(columnOperand) instanceof RexInputRef)) {
+            columnOperand = call.getOperands().get(1);
+            valueOperand = call.getOperands().get(0);
+            kind = kind.reverse();
+        }
+
+        ColumnStatistics column = columnStatistics(statistics, columnOperand);
+
+        if (column == null || RexUtil.removeCast(valueOperand) instanceof RexInputRef) {
+            // Column-to-column comparisons are not estimated.
+            return guess(call);
+        }
+
+        double res = comparisonSelectivity(column, kind, numericValue(valueOperand));
+
+        return res < 0.0d ? guess(call) : Math.min(res, 1.0d);
+    }
+
+    /**
+     * @return Selectivity of the comparison of the column with the value, or a negative number if it can't be estimated.
+     */
+    private static double comparisonSelectivity(ColumnStatistics column, SqlKind kind, @Nullable Double value) {
+        if (kind == SqlKind.EQUALS) {
+            return column.equalsSelectivity();
+        } else if (kind == SqlKind.NOT_EQUALS) {
+            return Math.max(1.0d - column.getNullFraction() - column.equalsSelectivity(), 0.0d);
+        } else if (value == null || !column.hasHistogram()) {
+            return -1.0d;
+        }
+
+        switch (kind) {
+            case LESS_THAN:
+                return column.lessThanSelectivity(value);
+
+            case LESS_THAN_OR_EQUAL:
+                return column.lessThanSelectivity(value) + column.equalsSelectivity();
+
+            case GREATER_THAN:
+                return column.greaterThanSelectivity(value);
+
+            case GREATER_THAN_OR_EQUAL:
+                return column.greaterThanSelectivity(value) + column.equalsSelectivity();
+
+            default:
+                return -1.0d;
+        }
+    }
+
+    @Nullable
+    private static ColumnStatistics columnStatistics(TableStatistics statistics, RexNode operand) {
+        RexNode node = RexUtil.removeCast(operand);
+
+        return node instanceof RexInputRef ref ? statistics.getColumnStatistics(ref.getIndex()) : null;
+    }
+
+    @Nullable
+    private static Double numericValue(RexNode operand) {
+        RexNode node = RexUtil.removeCast(operand);
+
+        if (!(node instanceof RexLiteral literal) || literal.isNull() || !SqlTypeUtil.isNumeric(literal.getType())) {
+            return null;
+        }
+
+        BigDecimal value = literal.getValueAs(BigDecimal.class);
+
+        return value != null ? value.doubleValue() : null;
+    }
+
+    private static double guess(RexNode condition) {
+        Double res = RelMdUtil.guessSelectivity(condition);
+
+        return res != null ? res : CostUtils.UNKNOWN_SELECTIVITY;
+    }
+}
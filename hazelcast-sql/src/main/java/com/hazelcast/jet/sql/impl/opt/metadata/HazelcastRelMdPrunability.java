@@ -41,6 +41,7 @@ import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.util.Util;
 
 import java.lang.reflect.Method;
@@ -77,8 +78,30 @@ public final class HazelcastRelMdPrunability
             FullScanPhysicalRel scan,
             RelMetadataQuery mq
     ) {
-
         final HazelcastTable hazelcastTable = OptUtils.extractHazelcastTable(scan);
+        return extractTablePrunability(hazelcastTable, hazelcastTable.getFilter());
+    }
+
+    @SuppressWarnings("unused")
+    public Map<String, List<Map<String, RexNode>>> extractPrunability(
+            IndexScanMapPhysicalRel scan,
+            RelMetadataQuery mq
+    ) {
+        // The filter of the table was split into the index and the remainder expressions, both
+        // reference the fields of the table, the same as the filter of the table in a full scan.
+        final List<RexNode> conjunctions = new ArrayList<>(2);
+        conjunctions.add(scan.getIndexExp());
+        if (scan.getRemainderExp() != null) {
+            conjunctions.add(scan.getRemainderExp());
+        }
+        final RexNode filter = RexUtil.composeConjunction(scan.getCluster().getRexBuilder(), conjunctions);
+        return extractTablePrunability(OptUtils.extractHazelcastTable(scan), filter);
+    }
+
+    private static Map<String, List<Map<String, RexNode>>> extractTablePrunability(
+            HazelcastTable hazelcastTable,
+            RexNode filter
+    ) {
         if (!(hazelcastTable.getTarget() instanceof PartitionedMapTable)) {
             return emptyMap();
         }
@@ -101,7 +124,6 @@ public final class HazelcastRelMdPrunability
                     .collect(Collectors.toSet());
         }
 
-        final RexNode filter = hazelcastTable.getFilter();
         if (!(filter instanceof RexCall)) {
             return emptyMap();
         }
@@ -111,15 +133,6 @@ public final class HazelcastRelMdPrunability
         return conditionExtractor.extractCondition(targetTable, call, partitioningColumns);
     }
 
-    @SuppressWarnings("unused")
-    public Map<String, List<Map<String, RexNode>>> extractPrunability(
-            IndexScanMapPhysicalRel scan,
-            RelMetadataQuery mq
-    ) {
-        // TODO: Implement
-        return emptyMap();
-    }
-
     @SuppressWarnings("unused")
     public Map<String, List<Map<String, RexNode>>> extractPrunability(Calc calc, RelMetadataQuery mq) {
         HazelcastRelMetadataQuery query = HazelcastRelMetadataQuery.reuseOrCreate(mq);
@@ -16,11 +16,23 @@
 
 package com.hazelcast.jet.sql.impl.opt.metadata;
 
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
 import org.apache.calcite.rel.metadata.RelMdRowCount;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.BuiltInMethod;
 
+import javax.annotation.Nullable;
+
 /**
  * Metadata which provides row count estimates.
  */
@@ -33,6 +45,81 @@ public final class HazelcastRelMdRowCount extends RelMdRowCount {
         // No-op.
     }
 
-    // Empty at the moment, will be extended in the future.
-    // Now it serves as an example of how to wire up a metadata handler into Calcite.
+    /**
+     * Estimates the row count of an equi-join from the number of distinct values of the join keys, assuming that every
+     * key value of the side with fewer distinct values has a match on the other side:
+     * {@code rows(left) * rows(right) / max(ndv(left key), ndv(right key))}. Falls back to the default Calcite estimate
+     * if the join is not an equi-join or the statistics of the key columns are not available.
+     */
+    @Override
+    public Double getRowCount(Join rel, RelMetadataQuery mq) {
+        Double rowCount = estimateEquiJoinRowCount(rel, mq);
+
+        return rowCount != null ? rowCount : super.getRowCount(rel, mq);
+    }
+
+    @Nullable
+    private static Double estimateEquiJoinRowCount(Join rel, RelMetadataQuery mq) {
+        if (rel.getJoinType() != JoinRelType.INNER && rel.getJoinType() != JoinRelType.LEFT) {
+            return null;
+        }
+
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        if (joinInfo.leftKeys.isEmpty() || !joinInfo.isEqui()) {
+            return null;
+        }
+
+        Double leftRowCount = mq.getRowCount(rel.getLeft());
+        Double rightRowCount = mq.getRowCount(rel.getRight());
+
+        if (leftRowCount == null || rightRowCount == null) {
+            return null;
+        }
+
+        double rowCount = leftRowCount * rightRowCount;
+
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            Double leftDistinctCount = distinctCount(rel.getLeft(), joinInfo.leftKeys.get(i), leftRowCount, mq);
+            Double rightDistinctCount = distinctCount(rel.getRight(), joinInfo.rightKeys.get(i), rightRowCount, mq);
+
+            if (leftDistinctCount == null || rightDistinctCount == null) {
+                return null;
+            }
+
+            rowCount /= Math.max(Math.max(leftDistinctCount, rightDistinctCount), 1.0d);
+        }
+
+        // Every row of the left side is emitted at least once by the LEFT join.
+        return rel.getJoinType() == JoinRelType.LEFT ? Math.max(rowCount, leftRowCount) : rowCount;
+    }
+
+    /**
+     * Number of distinct values of the input column, if it originates directly from a column of a Hazelcast table
+     * with statistics. Capped by the number of input rows, because the input may be filtered.
+     */
+    @Nullable
+    private static Double distinctCount(RelNode input, int column, double inputRowCount, RelMetadataQuery mq) {
+        RelColumnOrigin origin = mq.getColumnOrigin(input, column);
+
+        if (origin == null || origin.isDerived()) {
+            return null;
+        }
+
+        HazelcastTable table = origin.getOriginTable().unwrap(HazelcastTable.class);
+
+        if (table == null) {
+            return null;
+        }
+
+        RexNode project = table.getProjects().get(origin.getOriginColumnOrdinal());
+
+        if (!(project instanceof RexInputRef ref)) {
+            return null;
+        }
+
+        ColumnStatistics statistics = table.getTarget().getStatistics().getColumnStatistics(ref.getIndex());
+
+        return statistics != null ? Math.min((double) statistics.getDistinctCount(), inputRowCount) : null;
+    }
 }
@@ -35,6 +35,8 @@ public interface CreateDagVisitor<V> {
 
     V onSort(SortPhysicalRel rel);
 
+    V onTopN(TopNPhysicalRel rel);
+
     V onAggregate(AggregatePhysicalRel rel);
 
     V onAccumulate(AggregateAccumulatePhysicalRel rel);
@@ -71,6 +71,11 @@ public abstract class CreateDagVisitorBase<V> implements CreateDagVisitor<V> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public V onTopN(TopNPhysicalRel rel) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public V onAggregate(AggregatePhysicalRel rel) {
         throw new UnsupportedOperationException();
@@ -48,11 +48,15 @@ import com.hazelcast.jet.sql.impl.connector.SqlConnector.VertexWithInputConfig;
 import com.hazelcast.jet.sql.impl.connector.SqlConnectorUtil;
 import com.hazelcast.jet.sql.impl.connector.map.IMapSqlConnector;
 import com.hazelcast.jet.sql.impl.opt.ExpressionValues;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.WatermarkKeysAssigner;
 import com.hazelcast.jet.sql.impl.opt.WatermarkThrottlingFrameSizeCalculator;
 import com.hazelcast.jet.sql.impl.processors.LateItemsDropP;
 import com.hazelcast.jet.sql.impl.processors.SqlHashJoinP;
+import com.hazelcast.jet.sql.impl.processors.SqlJoinFilterBuildP;
+import com.hazelcast.jet.sql.impl.processors.SqlJoinFilterP;
 import com.hazelcast.jet.sql.impl.processors.StreamToStreamJoinP.StreamToStreamJoinProcessorSupplier;
+import com.hazelcast.jet.sql.impl.processors.TopNProcessorSupplier;
 import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.sql.impl.QueryException;
@@ -64,6 +68,7 @@ import com.hazelcast.sql.impl.expression.MockExpressionEvalContext;
 import com.hazelcast.sql.impl.optimizer.PlanObjectKey;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.SingleRel;
@@ -101,6 +106,20 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
     private static final int HIGH_PRIORITY = 1;
     private static final int LOW_PRIORITY = 10;
 
+    /**
+     * The Bloom filter of a hash join is used only if the probe side is
+     * estimated to have at least this many times more rows than the build
+     * side, so that it pays off for the cost of building the filter.
+     */
+    private static final int JOIN_FILTER_MIN_PROBE_TO_BUILD_RATIO = 10;
+
+    /**
+     * The maximum estimated number of build-side rows for which a hash join
+     * Bloom filter is created. With 10 bits per key the filter, broadcast
+     * from each member, has at most about 1.2 MB.
+     */
+    private static final int JOIN_FILTER_MAX_BUILD_ROWS = 1_000_000;
+
     private final Set<PlanObjectKey> objectKeys = new HashSet<>();
     private final NodeEngine nodeEngine;
     private final Address localMemberAddress;
@@ -260,6 +279,12 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
 
         dagBuildContext.setTable(table);
         dagBuildContext.setRel(rel);
+
+        List<Map<String, Expression<?>>> partitionStrategyCandidate = null;
+        if (partitionStrategyCandidates != null) {
+            partitionStrategyCandidate = partitionStrategyCandidates.get(table.getSqlName());
+        }
+
         return SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table)
                 .indexScanReader(
                         dagBuildContext,
@@ -270,7 +295,8 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
                         rel.getIndexFilter(),
                         rel.getComparator(),
                         rel.isDescending(),
-                        rel.requiresSort()
+                        rel.requiresSort(),
+                        partitionStrategyCandidate
                 );
     }
 
@@ -329,6 +355,39 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         return combineVertex;
     }
 
+    @Override
+    public Vertex onTopN(TopNPhysicalRel rel) {
+        ComparatorEx<JetSqlRow> comparator = ExpressionUtil.comparisonFn(rel.getCollations());
+        Expression<?> fetch = rel.fetch(dagBuildContext.getParameterMetadata());
+        Expression<?> offset = rel.offset(dagBuildContext.getParameterMetadata());
+
+        // Each processor keeps only the first OFFSET + FETCH rows of its input
+        Vertex topNVertex = dag.newUniqueVertex("TopN",
+                ProcessorMetaSupplier.of(new TopNProcessorSupplier(fetch, offset, comparator)));
+        connectInput(rel.getInput(), topNVertex, null);
+
+        // Then, each member merges its local results, so that at most OFFSET + FETCH rows leave the member
+        Vertex mergeVertex = dag.newUniqueVertex("TopNLocalMerge",
+                ProcessorMetaSupplier.of(1, new TopNProcessorSupplier(fetch, offset, comparator)));
+        dag.edge(between(topNVertex, mergeVertex)
+                .ordered(comparator)
+                .allToOne());
+
+        // Finally, combine the members' results on the coordinator while preserving the ordering
+        Vertex combineVertex = dag.newUniqueVertex("SortCombine",
+                ProcessorMetaSupplier.forceTotalParallelismOne(
+                        ProcessorSupplier.of(mapP(FunctionEx.identity())),
+                        localMemberAddress
+                )
+        );
+        dag.edge(between(mergeVertex, combineVertex)
+                .ordered(comparator)
+                .distributeTo(localMemberAddress)
+                .allToOne());
+
+        return combineVertex;
+    }
+
     @Override
     public Vertex onAggregate(AggregatePhysicalRel rel) {
         AggregateOperation<?, JetSqlRow> aggregateOperation = rel.aggrOp();
@@ -391,6 +450,10 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         FunctionEx<JetSqlRow, ?> groupKeyFn = rel.groupKeyFn();
         AggregateOperation<?, JetSqlRow> aggregateOperation = rel.aggrOp();
 
+        if (rel.getInput() instanceof FullScanPhysicalRel scan && isPreAggregatableMapScan(scan)) {
+            return onFullScanAccumulateByKey(scan, groupKeyFn, aggregateOperation);
+        }
+
         Vertex vertex = dag.newUniqueVertex(
                 "AccumulateByKey",
                 Processors.accumulateByKeyP(singletonList(groupKeyFn), aggregateOperation)
@@ -399,6 +462,44 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         return vertex;
     }
 
+    /**
+     * Returns true if the rows of the given scan can be accumulated right in
+     * the scanning vertex. That's the case for a batch scan of an IMap: each
+     * member reads only its own partitions, so the partial accumulation doesn't
+     * need the rows partitioned by the group key.
+     */
+    private static boolean isPreAggregatableMapScan(FullScanPhysicalRel scan) {
+        return scan.watermarkedColumnIndex() < 0
+                && scan.getTable().unwrap(HazelcastTable.class).getTarget() instanceof PartitionedMapTable;
+    }
+
+    private Vertex onFullScanAccumulateByKey(
+            FullScanPhysicalRel scan,
+            FunctionEx<JetSqlRow, ?> groupKeyFn,
+            AggregateOperation<?, JetSqlRow> aggregateOperation
+    ) {
+        Table table = scan.getTable().unwrap(HazelcastTable.class).getTarget();
+        collectObjectKeys(table);
+
+        dagBuildContext.setTable(table);
+        dagBuildContext.setRel(scan);
+
+        List<Map<String, Expression<?>>> partitionStrategyCandidate = null;
+        if (partitionStrategyCandidates != null) {
+            partitionStrategyCandidate = partitionStrategyCandidates.get(table.getSqlName());
+        }
+
+        return SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table)
+                .fullScanAccumulateByKeyReader(
+                        dagBuildContext,
+                        wrap(scan.filter()),
+                        wrap(scan.projection()),
+                        partitionStrategyCandidate,
+                        groupKeyFn,
+                        aggregateOperation
+                );
+    }
+
     @Override
     public Vertex onCombineByKey(AggregateCombineByKeyPhysicalRel rel) {
         AggregateOperation<?, JetSqlRow> aggregateOperation = rel.aggrOp();
@@ -537,7 +638,7 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
                         rel.getRight().getRowType().getFieldCount()
                 )
         );
-        connectJoinInput(joinInfo, rel.getLeft(), rel.getRight(), joinVertex);
+        connectJoinInput(joinInfo, rel.getLeft(), rel.getRight(), joinVertex, rel.partitioningKeyOrder());
         return joinVertex;
     }
 
@@ -720,7 +821,8 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
             JetJoinInfo joinInfo,
             RelNode leftInputRel,
             RelNode rightInputRel,
-            Vertex joinVertex
+            Vertex joinVertex,
+            @Nullable int[] partitioningKeyOrder
     ) {
         Vertex leftInput = ((PhysicalRel) leftInputRel).accept(this);
         Vertex rightInput = ((PhysicalRel) rightInputRel).accept(this);
@@ -731,7 +833,27 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
             left = left.unicast().local();
             right = right.broadcast().distributed();
         }
-        if (joinInfo.isEquiJoin()) {
+        if (partitioningKeyOrder != null) {
+            // co-located inputs: partitioning by the IMap partitioning key keeps the rows on the member that read them
+            left = left.distributed().partitioned(
+                    JoinColocation.partitioningKeyFn(joinInfo.leftEquiJoinIndices(), partitioningKeyOrder));
+            right = right.distributed().partitioned(
+                    JoinColocation.partitioningKeyFn(joinInfo.rightEquiJoinIndices(), partitioningKeyOrder));
+        } else if (joinInfo.isEquiJoin()) {
+            int joinFilterKeys = joinInfo.isInner() ? joinFilterKeys(rightInputRel, leftInputRel) : 0;
+            if (joinFilterKeys > 0) {
+                // drop the probe rows without a match before they're sent to the join. Each member builds
+                // a filter of its build rows, only the filters are broadcast and merged
+                Vertex buildVertex = dag.newUniqueVertex("Hash Join Filter Build",
+                        SqlJoinFilterBuildP.supplier(joinInfo.rightEquiJoinIndices(), joinFilterKeys))
+                        .localParallelism(1);
+                Vertex filterVertex = dag.newUniqueVertex("Hash Join Filter",
+                        SqlJoinFilterP.supplier(joinInfo, joinFilterKeys));
+                dag.edge(from(rightInput, 1).to(buildVertex));
+                dag.edge(between(leftInput, filterVertex).priority(LOW_PRIORITY));
+                dag.edge(from(buildVertex).to(filterVertex, 1).priority(HIGH_PRIORITY).broadcast().distributed());
+                left = between(filterVertex, joinVertex).priority(LOW_PRIORITY);
+            }
             left = left.distributed().partitioned(ObjectArrayKey.projectFn(joinInfo.leftEquiJoinIndices()));
             right = right.distributed().partitioned(ObjectArrayKey.projectFn(joinInfo.rightEquiJoinIndices()));
         }
@@ -739,6 +861,22 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         dag.edge(right);
     }
 
+    /**
+     * Returns the number of keys to size the Bloom filter of the build side
+     * for, or 0 if the filter is not worth it: if the build side is too big
+     * or not much smaller than the probe side.
+     */
+    private static int joinFilterKeys(RelNode buildRel, RelNode probeRel) {
+        Double buildRowCount = OptUtils.metadataQuery(buildRel).getRowCount(buildRel);
+        Double probeRowCount = OptUtils.metadataQuery(probeRel).getRowCount(probeRel);
+        if (buildRowCount == null || probeRowCount == null
+                || buildRowCount > JOIN_FILTER_MAX_BUILD_ROWS
+                || buildRowCount * JOIN_FILTER_MIN_PROBE_TO_BUILD_RATIO > probeRowCount) {
+            return 0;
+        }
+        return Math.max(1, (int) Math.ceil(buildRowCount));
+    }
+
     private void connectStreamToStreamJoinInput(
             JetJoinInfo joinInfo,
             RelNode leftInputRel,
@@ -42,7 +42,6 @@ import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 
@@ -53,6 +52,7 @@ import java.util.stream.Collectors;
 
 import static com.hazelcast.jet.impl.util.Util.toList;
 import static com.hazelcast.jet.sql.impl.opt.cost.CostUtils.TABLE_SCAN_CPU_MULTIPLIER;
+import static com.hazelcast.jet.sql.impl.opt.cost.SelectivityEstimator.estimateSelectivity;
 
 public class FullScanPhysicalRel extends FullScan implements HazelcastPhysicalScan {
 
@@ -104,7 +104,7 @@ public class FullScanPhysicalRel extends FullScan implements HazelcastPhysicalSc
         double filterRowCount = totalRowCount;
 
         if (table.getFilter() != null) {
-            filterRowCount = CostUtils.adjustFilteredRowCount(totalRowCount, RelMdUtil.guessSelectivity(table.getFilter()));
+            filterRowCount = CostUtils.adjustFilteredRowCount(totalRowCount, estimateSelectivity(table, table.getFilter()));
         }
 
         return computeSelfCost(
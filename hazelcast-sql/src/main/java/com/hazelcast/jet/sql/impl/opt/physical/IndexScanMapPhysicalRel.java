@@ -37,18 +37,16 @@ import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
-import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 
 import java.util.List;
 
 import static com.hazelcast.jet.impl.util.Util.toList;
-import static java.util.stream.Collectors.toList;
+import static com.hazelcast.jet.sql.impl.opt.cost.SelectivityEstimator.estimateSelectivity;
 
 /**
  * Map index scan operator.
@@ -85,25 +83,24 @@ public class IndexScanMapPhysicalRel extends TableScan implements HazelcastPhysi
         return indexFilter;
     }
 
+    public RexNode getIndexExp() {
+        return indexExp;
+    }
+
     public RexNode getRemainderExp() {
         return remainderExp;
     }
 
+    /**
+     * Returns the comparator of the output rows, or null if the order of the
+     * rows isn't required. The index columns aren't necessarily part of the
+     * projected rows, so an unforced order can't be preserved when the index
+     * is read in several parts.
+     */
     public ComparatorEx<JetSqlRow> getComparator() {
-        if (index.getType() == IndexType.SORTED) {
+        if (requiresSort()) {
             RelCollation relCollation = getTraitSet().getCollation();
-            assert relCollation != null;
-            List<FieldCollation> collations;
-            if (relCollation != RelCollations.EMPTY) {
-                collations = FieldCollation.convertCollation(relCollation.getFieldCollations());
-            } else {
-                // order is not forced, use default comparator for the index columns
-                collations = index.getFieldOrdinals().stream()
-                        .map(i -> new FieldCollation(i, RelFieldCollation.Direction.ASCENDING,
-                                RelFieldCollation.NullDirection.UNSPECIFIED))
-                        .collect(toList());
-            }
-            return ExpressionUtil.comparisonFn(collations);
+            return ExpressionUtil.comparisonFn(FieldCollation.convertCollation(relCollation.getFieldCollations()));
         } else {
             return null;
         }
@@ -157,11 +154,11 @@ public class IndexScanMapPhysicalRel extends TableScan implements HazelcastPhysi
         double rowCount = table.getRowCount();
 
         if (indexExp != null) {
-            rowCount = CostUtils.adjustFilteredRowCount(rowCount, RelMdUtil.guessSelectivity(indexExp));
+            rowCount = CostUtils.adjustFilteredRowCount(rowCount, estimateSelectivity(getTableUnwrapped(), indexExp));
         }
 
         if (remainderExp != null) {
-            rowCount = CostUtils.adjustFilteredRowCount(rowCount, RelMdUtil.guessSelectivity(remainderExp));
+            rowCount = CostUtils.adjustFilteredRowCount(rowCount, estimateSelectivity(getTableUnwrapped(), remainderExp));
         }
 
         return rowCount;
@@ -173,7 +170,7 @@ public class IndexScanMapPhysicalRel extends TableScan implements HazelcastPhysi
         double scanRowCount = table.getRowCount();
 
         if (indexExp != null) {
-            scanRowCount = CostUtils.adjustFilteredRowCount(scanRowCount, RelMdUtil.guessSelectivity(indexExp));
+            scanRowCount = CostUtils.adjustFilteredRowCount(scanRowCount, estimateSelectivity(getTableUnwrapped(), indexExp));
         }
 
         // Get the number of rows that we expect after the remainder filter is applied.
@@ -181,7 +178,10 @@ public class IndexScanMapPhysicalRel extends TableScan implements HazelcastPhysi
         double filterRowCount = scanRowCount;
 
         if (hasFilter) {
-            filterRowCount = CostUtils.adjustFilteredRowCount(filterRowCount, RelMdUtil.guessSelectivity(remainderExp));
+            filterRowCount = CostUtils.adjustFilteredRowCount(
+                    filterRowCount,
+                    estimateSelectivity(getTableUnwrapped(), remainderExp)
+            );
         }
 
         return computeSelfCost(
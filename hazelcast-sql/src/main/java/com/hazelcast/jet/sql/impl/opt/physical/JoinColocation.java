@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.physical;
+
+import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.util.PartitioningStrategyUtil;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.map.MapTableField;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Detection of co-located joins.
+ * <p>
+ * Two IMaps are co-partitioned on the join keys if both use the default or attribute-based partitioning, and the
+ * equi-join condition pairs every partitioning column of the left map with the corresponding partitioning column
+ * of the right map. In that case matching rows are stored in the same partition, and if both join inputs are
+ * partitioned by the IMap partitioning key instead of the whole equi-join key, every row is routed to the member
+ * that owns its partition. Because the scans read the locally owned partitions, the rows don't leave the member
+ * that read them and the hash join runs without a network shuffle.
+ * <p>
+ * The routing stays correct even if the partitions migrate while the query runs: it only depends on the
+ * partitioning key of the row, the locality is just an optimization.
+ */
+final class JoinColocation {
+
+    private JoinColocation() {
+    }
+
+    /**
+     * Returns the positions of the equi-join keys in the order of the partitioning columns of the joined maps,
+     * or {@code null} if the inputs are not co-partitioned on the join keys.
+     */
+    @Nullable
+    static int[] partitioningKeyOrder(Join join) {
+        JoinInfo joinInfo = join.analyzeCondition();
+
+        if (joinInfo.leftKeys.isEmpty()) {
+            return null;
+        }
+
+        List<QueryPath> leftPaths = partitioningPaths(join.getLeft());
+        List<QueryPath> rightPaths = partitioningPaths(join.getRight());
+
+        if (leftPaths == null || rightPaths == null || leftPaths.size() != rightPaths.size()) {
+            return null;
+        }
+
+        int[] order = new int[leftPaths.size()];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = equiJoinKeyPosition(join, joinInfo, leftPaths.get(i), rightPaths.get(i));
+
+            if (order[i] < 0) {
+                return null;
+            }
+        }
+
+        return order;
+    }
+
+    /**
+     * Function extracting the IMap partitioning key from the join input row. With the default partitioner, the
+     * returned key is mapped to the same partition as the entry it was read from.
+     *
+     * @param equiJoinIndices Indices of the equi-join keys in the input row.
+     * @param keyOrder        Result of {@link #partitioningKeyOrder(Join)}.
+     */
+    static FunctionEx<JetSqlRow, Object> partitioningKeyFn(int[] equiJoinIndices, int[] keyOrder) {
+        int[] indices = new int[keyOrder.length];
+
+        for (int i = 0; i < keyOrder.length; i++) {
+            indices[i] = equiJoinIndices[keyOrder[i]];
+        }
+
+        return row -> {
+            Object[] values = new Object[indices.length];
+
+            for (int i = 0; i < indices.length; i++) {
+                values[i] = row.get(indices[i]);
+            }
+
+            Object key = PartitioningStrategyUtil.constructAttributeBasedKey(values);
+
+            // A row with a null key doesn't match anything, any partition will do.
+            return key != null ? key : values;
+        };
+    }
+
+    private static int equiJoinKeyPosition(Join join, JoinInfo joinInfo, QueryPath leftPath, QueryPath rightPath) {
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            MapTableField leftField = field(join.getLeft(), joinInfo.leftKeys.get(i));
+            MapTableField rightField = field(join.getRight(), joinInfo.rightKeys.get(i));
+
+            if (leftField != null && rightField != null
+                    && leftPath.equals(leftField.getPath())
+                    && rightPath.equals(rightField.getPath())
+                    // equal values of different types might be serialized differently
+                    && leftField.getType().equals(rightField.getType())) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Paths of the columns that determine the partition of an entry, or {@code null} if the input isn't a scan of an
+     * IMap with the default or attribute-based partitioning.
+     */
+    @Nullable
+    private static List<QueryPath> partitioningPaths(RelNode input) {
+        PartitionedMapTable mapTable = mapTable(input);
+
+        if (mapTable == null || !mapTable.supportsPartitionPruning()) {
+            return null;
+        }
+
+        List<String> attributes = mapTable.partitioningAttributes();
+
+        if (attributes.isEmpty()) {
+            return singletonList(QueryPath.KEY_PATH);
+        }
+
+        List<QueryPath> paths = new ArrayList<>(attributes.size());
+
+        for (String attribute : attributes) {
+            paths.add(new QueryPath(attribute, true));
+        }
+
+        return paths;
+    }
+
+    /**
+     * The table field that is projected by the scan to the given column, or {@code null} if the column is an
+     * expression.
+     */
+    @Nullable
+    private static MapTableField field(RelNode input, int column) {
+        HazelcastTable table = table(input);
+
+        if (table == null || !(table.getTarget() instanceof PartitionedMapTable mapTable)) {
+            return null;
+        }
+
+        RexNode project = table.getProjects().get(column);
+
+        if (!(project instanceof RexInputRef ref)) {
+            return null;
+        }
+
+        TableField field = mapTable.getField(ref.getIndex());
+
+        return field instanceof MapTableField mapField ? mapField : null;
+    }
+
+    @Nullable
+    private static PartitionedMapTable mapTable(RelNode input) {
+        HazelcastTable table = table(input);
+
+        return table != null && table.getTarget() instanceof PartitionedMapTable mapTable ? mapTable : null;
+    }
+
+    /**
+     * The table scanned by the input. While the plan is optimized, the input is a subset, whose table is found
+     * through the scans in its set.
+     */
+    @Nullable
+    private static HazelcastTable table(RelNode input) {
+        TableScan scan = OptUtils.findTableScan(input);
+
+        return scan != null ? scan.getTable().unwrap(HazelcastTable.class) : null;
+    }
+}
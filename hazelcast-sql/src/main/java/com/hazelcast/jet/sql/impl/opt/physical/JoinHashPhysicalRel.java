@@ -16,19 +16,28 @@
 
 package com.hazelcast.jet.sql.impl.opt.physical;
 
+import com.hazelcast.jet.sql.impl.opt.cost.CostUtils;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptCost;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.Join;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Hash join. The right input is collected into a hash table which is probed by the rows of the left input.
+ * <p>
+ * For equi-joins both inputs are re-partitioned by the join key over distributed edges, so that every member
+ * builds the hash table for its share of the keys only, and the join scales with the cluster size. If both inputs
+ * are scans of IMaps co-partitioned on the join keys, they are partitioned by the IMap partitioning key instead, and
+ * no rows need to be shuffled, see {@link JoinColocation}. Other joins broadcast one of the inputs to all members.
+ */
 public class JoinHashPhysicalRel extends JoinPhysicalRel {
-    private static final double COST_FACTOR = 1.1;
 
     JoinHashPhysicalRel(
             RelOptCluster cluster,
@@ -41,6 +50,18 @@ public class JoinHashPhysicalRel extends JoinPhysicalRel {
         super(cluster, traitSet, left, right, condition, joinType);
     }
 
+    /**
+     * See {@link JoinColocation#partitioningKeyOrder(Join)}, {@code null} if the inputs are not co-located.
+     */
+    public int[] partitioningKeyOrder() {
+        return JoinColocation.partitioningKeyOrder(this);
+    }
+
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw).itemIf("colocated", true, partitioningKeyOrder() != null);
+    }
+
     @Override
     public <V> V accept(CreateDagVisitor<V> visitor) {
         return visitor.onHashJoin(this);
@@ -61,6 +82,32 @@ public class JoinHashPhysicalRel extends JoinPhysicalRel {
     @Override
     @Nullable
     public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
-        return super.computeSelfCost(planner, mq).multiplyBy(COST_FACTOR);
+        double leftRowCount = mq.getRowCount(getLeft());
+        double rightRowCount = mq.getRowCount(getRight());
+        double rowCount = mq.getRowCount(this);
+
+        double leftBytes = leftRowCount * CostUtils.getEstimatedRowWidth(getLeft());
+        double rightBytes = rightRowCount * CostUtils.getEstimatedRowWidth(getRight());
+
+        if (partitioningKeyOrder() != null) {
+            // Co-located: both inputs are routed to the members that read them.
+            return planner.getCostFactory().makeCost(rowCount, rightRowCount + leftRowCount + rowCount, 0);
+        }
+
+        if (!analyzeCondition().leftKeys.isEmpty()) {
+            // Shuffle: both inputs are sent over the network once, every row is hashed once.
+            return planner.getCostFactory().makeCost(
+                    rowCount,
+                    rightRowCount + leftRowCount + rowCount,
+                    leftBytes + rightBytes
+            );
+        }
+
+        // Broadcast: there's a single hash table bucket, every left row is compared with every right row.
+        return planner.getCostFactory().makeCost(
+                rowCount,
+                rightRowCount + leftRowCount * rightRowCount,
+                getJoinType() == JoinRelType.LEFT ? rightBytes : leftBytes
+        );
     }
 }
@@ -19,14 +19,22 @@ package com.hazelcast.jet.sql.impl.opt.physical;
 import com.google.common.collect.ImmutableList;
 import com.hazelcast.jet.sql.impl.HazelcastPhysicalScan;
 import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.jet.sql.impl.opt.cost.CostUtils;
 import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
 import com.hazelcast.jet.sql.impl.validate.HazelcastSqlOperatorTable;
+import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.map.MapTableField;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
 import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Join;
 import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
@@ -104,6 +112,62 @@ public class JoinNestedLoopPhysicalRel extends JoinPhysicalRel {
         return modifiedJoinInfo;
     }
 
+    /**
+     * The right side is not scanned, instead every left row is sent to the right side's reader. If the join condition
+     * contains the right-side primary key, the reader looks the matching row up; otherwise it matches every left row
+     * against all right rows, either with a predicate query or by a scan. The latter makes the nested loop join
+     * expensive when both sides are large, and the hash join is preferred.
+     */
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        double leftRowCount = mq.getRowCount(getLeft());
+        double rightRowCount = mq.getRowCount(getRight());
+        double rowCount = mq.getRowCount(this);
+
+        double matchCpu = isPrimaryKeyLookup()
+                ? leftRowCount * CostUtils.JOIN_LOOKUP_CPU_MULTIPLIER
+                : leftRowCount * rightRowCount;
+
+        return planner.getCostFactory().makeCost(
+                rowCount,
+                matchCpu + rowCount,
+                leftRowCount * CostUtils.getEstimatedRowWidth(getLeft())
+        );
+    }
+
+    /**
+     * Whether the join condition compares a left field with the entire key of the right-side map, see
+     * {@code Joiner.leftEquiJoinPrimitiveKeyIndex()}. The right keys are columns of the row projected by the
+     * right-side scan, they are resolved to the table fields through the scan's projects.
+     */
+    private boolean isPrimaryKeyLookup() {
+        TableScan scan = OptUtils.findTableScan(getRight());
+
+        if (scan == null) {
+            return false;
+        }
+
+        HazelcastTable table = OptUtils.extractHazelcastTable(scan);
+
+        if (!(table.getTarget() instanceof PartitionedMapTable mapTable)) {
+            return false;
+        }
+
+        for (int rightKey : super.analyzeCondition().rightKeys) {
+            if (!(table.getProjects().get(rightKey) instanceof RexInputRef ref)) {
+                continue;
+            }
+
+            TableField field = mapTable.getField(ref.getIndex());
+
+            if (field instanceof MapTableField mapField && mapField.getPath().isTopLevel() && mapField.getPath().isKey()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public <V> V accept(CreateDagVisitor<V> visitor) {
         return visitor.onNestedLoopJoin(this);
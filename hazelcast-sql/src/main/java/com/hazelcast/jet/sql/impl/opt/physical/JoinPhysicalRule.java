@@ -80,6 +80,9 @@ public final class JoinPhysicalRule extends RelRule<RelRule.Config> {
         RelNode leftInputConverted = RelRule.convert(leftInput, leftInput.getTraitSet().replace(PHYSICAL));
         RelNode rightInputConverted = RelRule.convert(rightInput, rightInput.getTraitSet().replace(PHYSICAL));
 
+        // Both the hash join and the nested loop join are registered when possible, the cheaper one is chosen
+        // by cost: nested loop for primary key lookups and small left inputs, the hash join, which shuffles
+        // both inputs by the join key, when both sides are large.
         // we don't use hash join for unbounded left input because it doesn't refresh the right side
         if (OptUtils.isBounded(leftInput)) {
             RelNode rel = new JoinHashPhysicalRel(
@@ -40,7 +40,19 @@ public class SortPhysicalRel extends Sort implements PhysicalRel {
             RelCollation collation,
             RelDataType rowType
     ) {
-        super(cluster, traits, input, collation, null, null);
+        this(cluster, traits, input, collation, null, null, rowType);
+    }
+
+    SortPhysicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            RelCollation collation,
+            RexNode offset,
+            RexNode fetch,
+            RelDataType rowType
+    ) {
+        super(cluster, traits, input, collation, offset, fetch);
         this.rowType = rowType;
     }
 
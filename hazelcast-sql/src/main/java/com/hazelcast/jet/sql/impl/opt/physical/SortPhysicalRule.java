@@ -119,6 +119,18 @@ final class SortPhysicalRule extends RelRule<RelRule.Config> {
         // Input traits are propagated, but new collation is used.
         RelTraitSet traitSet = OptUtils.traitPlus(physicalInput.getTraitSet(), logicalSort.getCollation());
 
+        if (logicalSort.fetch != null) {
+            // Only the first OFFSET + FETCH rows can reach the output, the LimitPhysicalRel above still trims them.
+            return new TopNPhysicalRel(
+                    logicalSort.getCluster(),
+                    traitSet,
+                    physicalInput,
+                    logicalSort.getCollation(),
+                    logicalSort.offset,
+                    logicalSort.fetch,
+                    logicalSort.getRowType()
+            );
+        }
         return new SortPhysicalRel(
                 logicalSort.getCluster(),
                 traitSet,
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.opt.physical;
+
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
+import com.hazelcast.sql.impl.QueryParameterMetadata;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.plan.node.PlanNodeSchema;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexVisitor;
+
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Sort fused with the {@code LIMIT} above it: each processor keeps only the
+ * first {@code OFFSET + FETCH} rows of its input, and so does each member
+ * before sending its rows to the coordinator. The {@link LimitPhysicalRel}
+ * above this rel still skips the offset and applies the fetch.
+ */
+public class TopNPhysicalRel extends SortPhysicalRel {
+
+    TopNPhysicalRel(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            RelCollation collation,
+            RexNode offset,
+            RexNode fetch,
+            RelDataType rowType
+    ) {
+        super(cluster, traits, input, collation, offset, requireNonNull(fetch), rowType);
+    }
+
+    public Expression<?> fetch(QueryParameterMetadata parameterMetadata) {
+        PlanNodeSchema schema = schema(parameterMetadata);
+        RexVisitor<Expression<?>> visitor = OptUtils.createRexToExpressionVisitor(schema, parameterMetadata);
+        return fetch.accept(visitor);
+    }
+
+    @Nullable
+    public Expression<?> offset(QueryParameterMetadata parameterMetadata) {
+        if (offset == null) {
+            return null;
+        }
+        PlanNodeSchema schema = schema(parameterMetadata);
+        RexVisitor<Expression<?>> visitor = OptUtils.createRexToExpressionVisitor(schema, parameterMetadata);
+        return offset.accept(visitor);
+    }
+
+    @Override
+    public <V> V accept(CreateDagVisitor<V> visitor) {
+        return visitor.onTopN(this);
+    }
+
+    @Override
+    public Sort copy(RelTraitSet traitSet, RelNode input, RelCollation collation, RexNode offset, RexNode fetch) {
+        return new TopNPhysicalRel(getCluster(), traitSet, input, collation, offset, fetch, rowType);
+    }
+}
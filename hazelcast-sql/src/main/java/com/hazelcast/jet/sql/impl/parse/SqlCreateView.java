@@ -45,12 +45,21 @@ public class SqlCreateView extends SqlCreate {
     private static final SqlOperator CREATE_VIEW = new HazelcastCreateViewOperator();
 
     private final SqlIdentifier name;
+    private final boolean materialized;
     private SqlNode query;
 
-    public SqlCreateView(SqlParserPos pos, boolean replace, boolean ifNotExists, SqlIdentifier name, SqlNode query) {
+    public SqlCreateView(
+            SqlParserPos pos,
+            boolean replace,
+            boolean ifNotExists,
+            SqlIdentifier name,
+            SqlNode query,
+            boolean materialized
+    ) {
         super(CREATE_VIEW, pos, replace, ifNotExists);
         this.name = name;
         this.query = query;
+        this.materialized = materialized;
     }
 
     public String name() {
@@ -61,6 +70,15 @@ public class SqlCreateView extends SqlCreate {
         return query;
     }
 
+    /**
+     * Returns true for {@code CREATE MATERIALIZED VIEW}, whose result is
+     * maintained incrementally in an IMap instead of being expanded into
+     * every query that uses the view.
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
     @Override
     public List<SqlNode> getOperandList() {
         return ImmutableList.of(name, query);
@@ -81,6 +99,9 @@ public class SqlCreateView extends SqlCreate {
         } else {
             writer.keyword("CREATE");
         }
+        if (materialized) {
+            writer.keyword("MATERIALIZED");
+        }
         writer.keyword("VIEW");
         if (ifNotExists) {
             writer.keyword("IF NOT EXISTS");
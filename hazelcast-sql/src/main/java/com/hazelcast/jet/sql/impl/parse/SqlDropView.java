@@ -40,16 +40,22 @@ public class SqlDropView extends SqlDrop {
             new SqlSpecialOperator("DROP VIEW", SqlKind.DROP_VIEW);
 
     private final SqlIdentifier viewName;
+    private final boolean materialized;
 
-    public SqlDropView(SqlIdentifier name, boolean ifExists, SqlParserPos pos) {
+    public SqlDropView(SqlIdentifier name, boolean ifExists, boolean materialized, SqlParserPos pos) {
         super(DROP_VIEW, pos, ifExists);
         this.viewName = requireNonNull(name, "View name should not be null");
+        this.materialized = materialized;
     }
 
     public boolean ifExists() {
         return ifExists;
     }
 
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
     public String viewName() {
         return viewName.names.get(viewName.names.size() - 1);
     }
@@ -68,7 +74,11 @@ public class SqlDropView extends SqlDrop {
 
     @Override
     public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
-        writer.keyword("DROP VIEW");
+        writer.keyword("DROP");
+        if (materialized) {
+            writer.keyword("MATERIALIZED");
+        }
+        writer.keyword("VIEW");
         if (ifExists) {
             writer.keyword("IF EXISTS");
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_fmix;
+
+/**
+ * A Bloom filter of 32-bit hashes, sized once for a known number of keys.
+ * Filters created for the same number of keys have the same size and can
+ * be merged.
+ * <p>
+ * It uses double hashing: the {@code i}-th probe of a hash {@code h} is
+ * {@code h + i * fmix(h)}, which is as good as {@code k} independent hash
+ * functions for the purpose of the filter.
+ */
+final class JoinKeyBloomFilter {
+
+    /**
+     * With 10 bits per key and 7 probes the false positive rate is about 1%.
+     */
+    static final int BITS_PER_KEY = 10;
+    static final int PROBE_COUNT = 7;
+
+    /** The largest array length all JVMs can allocate. */
+    private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+    /** log2 of {@link Long#SIZE}, shifts a bit index to the index of its word. */
+    private static final int WORD_SHIFT = 6;
+
+    private final long[] words;
+    private final long bitCount;
+
+    JoinKeyBloomFilter(int expectedKeys) {
+        long bits = Math.max(Long.SIZE, (long) expectedKeys * BITS_PER_KEY);
+        words = new long[(int) Math.min(MAX_WORDS, (bits + Long.SIZE - 1) / Long.SIZE)];
+        bitCount = (long) words.length * Long.SIZE;
+    }
+
+    /**
+     * Adds the keys of the other filter created for the same number of
+     * expected keys to this filter.
+     */
+    void merge(long[] otherWords) {
+        if (otherWords.length != words.length) {
+            throw new IllegalArgumentException("Filter sizes differ: " + otherWords.length + " != " + words.length);
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= otherWords[i];
+        }
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    void add(int hash) {
+        long combined = Integer.toUnsignedLong(hash);
+        long step = Integer.toUnsignedLong(MurmurHash3_fmix(hash));
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            long bit = Long.remainderUnsigned(combined, bitCount);
+            words[(int) (bit >>> WORD_SHIFT)] |= 1L << bit;
+            combined += step;
+        }
+    }
+
+    boolean mightContain(int hash) {
+        long combined = Integer.toUnsignedLong(hash);
+        long step = Integer.toUnsignedLong(MurmurHash3_fmix(hash));
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            long bit = Long.remainderUnsigned(combined, bitCount);
+            if ((words[(int) (bit >>> WORD_SHIFT)] & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += step;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.sql.impl.ObjectArrayKey;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds the Bloom filter of the build-side join keys for {@link
+ * SqlJoinFilterP}.
+ * <p>
+ * It runs with a local parallelism of 1 and receives the build-side rows
+ * read on its member. When they complete, it emits the words of its filter,
+ * which are broadcast to the {@link SqlJoinFilterP} processors and merged
+ * there. So only one bitset per member is sent over the network, not the
+ * build-side rows.
+ */
+public class SqlJoinFilterBuildP extends AbstractProcessor {
+
+    private final int[] rightEquiJoinIndices;
+    private final JoinKeyBloomFilter filter;
+
+    public SqlJoinFilterBuildP(int[] rightEquiJoinIndices, int expectedKeys) {
+        this.rightEquiJoinIndices = rightEquiJoinIndices;
+        this.filter = new JoinKeyBloomFilter(expectedKeys);
+    }
+
+    @Override
+    protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+        add(filter, (JetSqlRow) item, rightEquiJoinIndices);
+        return true;
+    }
+
+    @Override
+    public boolean complete() {
+        return tryEmit(filter.words());
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+
+    static void add(JoinKeyBloomFilter filter, JetSqlRow row, int[] equiJoinIndices) {
+        ObjectArrayKey joinKeys = ObjectArrayKey.project(row, equiJoinIndices);
+        // a key with a null never matches in an inner join
+        if (!joinKeys.containsNull()) {
+            filter.add(joinKeys.hashCode());
+        }
+    }
+
+    public static ProcessorSupplier supplier(int[] rightEquiJoinIndices, int expectedKeys) {
+        return new JoinFilterBuildProcessorSupplier(rightEquiJoinIndices, expectedKeys);
+    }
+
+    private static final class JoinFilterBuildProcessorSupplier implements ProcessorSupplier, DataSerializable {
+        private int[] rightEquiJoinIndices;
+        private int expectedKeys;
+
+        @SuppressWarnings("unused") // for deserialization
+        private JoinFilterBuildProcessorSupplier() {
+        }
+
+        private JoinFilterBuildProcessorSupplier(int[] rightEquiJoinIndices, int expectedKeys) {
+            this.rightEquiJoinIndices = rightEquiJoinIndices;
+            this.expectedKeys = expectedKeys;
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            List<SqlJoinFilterBuildP> processors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                processors.add(new SqlJoinFilterBuildP(rightEquiJoinIndices, expectedKeys));
+            }
+            return processors;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeIntArray(rightEquiJoinIndices);
+            out.writeInt(expectedKeys);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            rightEquiJoinIndices = in.readIntArray();
+            expectedKeys = in.readInt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.sql.impl.JetJoinInfo;
+import com.hazelcast.jet.sql.impl.ObjectArrayKey;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runtime semi-join filter in front of the probe input of {@link
+ * SqlHashJoinP} for inner equi-joins.
+ * <p>
+ * The processor receives the Bloom filters of the build-side join keys on
+ * ordinal 1, one from the {@link SqlJoinFilterBuildP} of each member through
+ * a broadcast edge with a higher priority, and merges them. It receives the
+ * probe-side rows on ordinal 0 and forwards only the rows whose key might be
+ * in the merged filter. The rows that surely have no match are dropped
+ * before they're sent to the join over the network.
+ */
+public class SqlJoinFilterP extends AbstractProcessor {
+
+    private final JetJoinInfo joinInfo;
+    private final JoinKeyBloomFilter filter;
+
+    public SqlJoinFilterP(JetJoinInfo joinInfo, int expectedKeys) {
+        this.joinInfo = joinInfo;
+        this.filter = new JoinKeyBloomFilter(expectedKeys);
+    }
+
+    @Override
+    protected boolean tryProcess0(@Nonnull Object item) {
+        ObjectArrayKey joinKeys = ObjectArrayKey.project((JetSqlRow) item, joinInfo.leftEquiJoinIndices());
+        // a key with a null never matches in an inner join
+        if (joinKeys.containsNull() || !filter.mightContain(joinKeys.hashCode())) {
+            return true;
+        }
+        return tryEmit(item);
+    }
+
+    @Override
+    protected boolean tryProcess1(@Nonnull Object item) {
+        filter.merge((long[]) item);
+        return true;
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+
+    /**
+     * @param expectedKeys the number of keys the filters are sized for, the
+     *                     same as for the {@link SqlJoinFilterBuildP}
+     */
+    public static ProcessorSupplier supplier(JetJoinInfo joinInfo, int expectedKeys) {
+        return new JoinFilterProcessorSupplier(joinInfo, expectedKeys);
+    }
+
+    private static final class JoinFilterProcessorSupplier implements ProcessorSupplier, DataSerializable {
+        private JetJoinInfo joinInfo;
+        private int expectedKeys;
+
+        @SuppressWarnings("unused") // for deserialization
+        private JoinFilterProcessorSupplier() {
+        }
+
+        private JoinFilterProcessorSupplier(JetJoinInfo joinInfo, int expectedKeys) {
+            this.joinInfo = joinInfo;
+            this.expectedKeys = expectedKeys;
+        }
+
+        @Nonnull
+        @Override
+        public Collection<? extends Processor> get(int count) {
+            List<SqlJoinFilterP> processors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                processors.add(new SqlJoinFilterP(joinInfo, expectedKeys));
+            }
+            return processors;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeObject(joinInfo);
+            out.writeInt(expectedKeys);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            joinInfo = in.readObject();
+            expectedKeys = in.readInt();
+        }
+    }
+}
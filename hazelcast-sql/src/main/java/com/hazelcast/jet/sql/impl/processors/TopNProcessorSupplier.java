@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.processor.TopNP;
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Supplier of {@link TopNP} processors for {@code ORDER BY ... LIMIT}. Each
+ * processor keeps the first {@code OFFSET + LIMIT} rows of its input, the
+ * offset itself is skipped by the root sink. The values are evaluated on
+ * each member, because they can be dynamic parameters.
+ * SQL engine-specific private API.
+ */
+public class TopNProcessorSupplier implements ProcessorSupplier, IdentifiedDataSerializable {
+
+    private Expression<?> fetchExpression;
+    private Expression<?> offsetExpression;
+    private ComparatorEx<JetSqlRow> comparator;
+
+    private transient long n;
+
+    @SuppressWarnings("unused")
+    public TopNProcessorSupplier() {
+    }
+
+    public TopNProcessorSupplier(
+            @Nonnull Expression<?> fetchExpression,
+            @Nullable Expression<?> offsetExpression,
+            @Nonnull ComparatorEx<JetSqlRow> comparator
+    ) {
+        this.fetchExpression = fetchExpression;
+        this.offsetExpression = offsetExpression;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void init(@Nonnull Context context) {
+        ExpressionEvalContext evalContext = ExpressionEvalContext.from(context);
+        long fetch = evaluate(fetchExpression, evalContext);
+        long offset = offsetExpression == null ? 0 : evaluate(offsetExpression, evalContext);
+        // invalid values are reported by the root sink, here we just keep all rows
+        n = fetch < 0 || offset < 0 ? Long.MAX_VALUE : saturatedAdd(fetch, offset);
+    }
+
+    private static long evaluate(Expression<?> expression, ExpressionEvalContext evalContext) {
+        Number value = (Number) expression.eval(EmptyRow.INSTANCE, evalContext);
+        return value == null ? -1 : value.longValue();
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<? extends Processor> get(int count) {
+        List<Processor> processors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            processors.add(new TopNP<>(n, comparator));
+        }
+        return processors;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(fetchExpression);
+        out.writeObject(offsetExpression);
+        out.writeObject(comparator);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        fetchExpression = in.readObject();
+        offsetExpression = in.readObject();
+        comparator = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.TOP_N_PROCESSOR_SUPPLIER;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.plan.cache;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.operation.MapGetMutationStampsOperation;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.spi.properties.HazelcastProperty;
+import com.hazelcast.sql.impl.optimizer.PlanKey;
+import com.hazelcast.sql.impl.optimizer.PlanObjectKey;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_HIT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_MISS_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_RESULT_CACHE_METRIC_SIZE;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Cache for the results of queries which read only from IMaps whose mappings opted in to it.
+ * <p>
+ * Every cached result is stamped with the {@linkplain MapGetMutationStampsOperation mutation stamps} of the
+ * queried maps on all members, collected before the query was started. A cached result is returned only if
+ * the current stamps are equal to the stored ones, i.e. if none of the maps was modified on any member since
+ * the result was computed and the cluster membership didn't change in the meantime. Every lookup therefore
+ * costs one round trip to each member, which is still much cheaper than a scan.
+ */
+public class QueryResultCache {
+
+    /**
+     * Maximum number of cached results on the member. Zero disables the cache.
+     */
+    public static final HazelcastProperty SIZE
+            = new HazelcastProperty("hazelcast.sql.result.cache.size", 1_000);
+
+    /**
+     * Maximum number of rows of a single cached result. Larger results are not cached.
+     */
+    public static final HazelcastProperty MAX_ROWS
+            = new HazelcastProperty("hazelcast.sql.result.cache.max.rows", 1_000);
+
+    private final NodeEngine nodeEngine;
+    private final ILogger logger;
+    private final int maxSize;
+    private final int maxRows;
+    private final ConcurrentHashMap<Key, CachedResult> results = new ConcurrentHashMap<>();
+
+    @Probe(name = SQL_RESULT_CACHE_METRIC_HIT_COUNT)
+    private final Counter hitCount = MwCounter.newMwCounter();
+    @Probe(name = SQL_RESULT_CACHE_METRIC_MISS_COUNT)
+    private final Counter missCount = MwCounter.newMwCounter();
+
+    public QueryResultCache(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+        this.logger = nodeEngine.getLogger(getClass());
+        this.maxSize = nodeEngine.getProperties().getInteger(SIZE);
+        this.maxRows = nodeEngine.getProperties().getInteger(MAX_ROWS);
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0 && maxRows > 0;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Collects the current mutation stamps of the given maps from all members. Must be called before the query
+     * is started, so that any mutation concurrent with the query makes the stamps stale.
+     *
+     * @return the stamps or {@code null} if they couldn't be collected, in which case the cache must be bypassed
+     */
+    @Nullable
+    public MutationStamps mutationStamps(List<String> mapNames) {
+        OperationService operationService = nodeEngine.getOperationService();
+        Map<UUID, InternalCompletableFuture<long[]>> futures = new HashMap<>();
+        for (Member member : nodeEngine.getClusterService().getMembers()) {
+            futures.put(member.getUuid(), operationService.invokeOnTarget(MapService.SERVICE_NAME,
+                    new MapGetMutationStampsOperation(mapNames), member.getAddress()));
+        }
+
+        Map<UUID, long[]> stamps = new HashMap<>();
+        try {
+            for (Map.Entry<UUID, InternalCompletableFuture<long[]>> entry : futures.entrySet()) {
+                stamps.put(entry.getKey(), entry.getValue().joinInternal());
+            }
+        } catch (Exception e) {
+            logger.fine("Failed to collect mutation stamps of " + mapNames + ", bypassing the result cache", e);
+            return null;
+        }
+        return new MutationStamps(stamps);
+    }
+
+    /**
+     * Returns copies of the cached rows, or {@code null} if there's no result with matching stamps.
+     */
+    @Nullable
+    public List<JetSqlRow> get(Key key, MutationStamps stamps) {
+        CachedResult result = results.get(key);
+        if (result == null || !result.stamps.equals(stamps)) {
+            missCount.inc();
+            return null;
+        }
+        hitCount.inc();
+        result.lastUsed = System.nanoTime();
+
+        List<JetSqlRow> rows = new ArrayList<>(result.rows.size());
+        for (JetSqlRow row : result.rows) {
+            // rows aren't thread-safe, each result gets its own copy
+            rows.add(new JetSqlRow(row.getSerializationService(), row.getValues().clone()));
+        }
+        return rows;
+    }
+
+    /**
+     * Caches the rows of a completed query. The values are stored in serialized form, so that the cached
+     * rows can't be modified through the deserialized objects handed out to the users.
+     */
+    public void put(Key key, MutationStamps stamps, List<JetSqlRow> rows) {
+        if (rows.size() > maxRows) {
+            return;
+        }
+
+        List<JetSqlRow> serializedRows = new ArrayList<>(rows.size());
+        for (JetSqlRow row : rows) {
+            SerializationService ss = row.getSerializationService();
+            Object[] values = new Object[row.getFieldCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ss.toData(row.getMaybeSerialized(i));
+            }
+            serializedRows.add(new JetSqlRow(ss, values));
+        }
+
+        results.put(key, new CachedResult(stamps, serializedRows));
+        shrinkIfNeeded();
+    }
+
+    @Probe(name = SQL_RESULT_CACHE_METRIC_SIZE)
+    public int size() {
+        return results.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    private void shrinkIfNeeded() {
+        int oversize = results.size() - maxSize;
+
+        if (oversize <= 0) {
+            return;
+        }
+
+        // Remove the least recently used results
+        results.entrySet().stream()
+                .sorted(comparingLong(entry -> entry.getValue().lastUsed))
+                .limit(oversize)
+                .forEach(entry -> results.remove(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Key of a cached result. The plan object keys are part of the key, so that a result is never reused after the
+     * plan was invalidated because a mapping or a map changed.
+     */
+    public static final class Key {
+
+        private final PlanKey planKey;
+        private final Set<PlanObjectKey> objectKeys;
+        private final List<Object> arguments;
+
+        public Key(PlanKey planKey, Set<PlanObjectKey> objectKeys, List<Object> arguments) {
+            this.planKey = planKey;
+            this.objectKeys = objectKeys;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return planKey.equals(that.planKey)
+                    && objectKeys.equals(that.objectKeys)
+                    && arguments.equals(that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(planKey, objectKeys, arguments);
+        }
+    }
+
+    /**
+     * Mutation stamps of the queried maps, per member.
+     */
+    public static final class MutationStamps {
+
+        private final Map<UUID, long[]> stamps;
+
+        MutationStamps(Map<UUID, long[]> stamps) {
+            this.stamps = stamps;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Map<UUID, long[]> thatStamps = ((MutationStamps) o).stamps;
+            if (!stamps.keySet().equals(thatStamps.keySet())) {
+                return false;
+            }
+            for (Map.Entry<UUID, long[]> entry : stamps.entrySet()) {
+                if (!Arrays.equals(entry.getValue(), thatStamps.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 0;
+            for (Map.Entry<UUID, long[]> entry : stamps.entrySet()) {
+                result += entry.getKey().hashCode() ^ Arrays.hashCode(entry.getValue());
+            }
+            return result;
+        }
+    }
+
+    private static final class CachedResult {
+
+        private final MutationStamps stamps;
+        private final List<JetSqlRow> rows;
+        private volatile long lastUsed = System.nanoTime();
+
+        private CachedResult(MutationStamps stamps, List<JetSqlRow> rows) {
+            this.stamps = stamps;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema;
+
+import java.util.Arrays;
+
+/**
+ * Statistics of a single table column used during planning.
+ * <p>
+ * The number of distinct values and the fraction of {@code NULL} values are available for all columns. Numeric columns
+ * additionally carry an equi-depth histogram: an ascending array of {@code N + 1} bounds that splits the non-null values
+ * into {@code N} buckets holding roughly the same number of rows.
+ */
+public final class ColumnStatistics {
+
+    private final long distinctCount;
+    private final double nullFraction;
+    private final double[] histogramBounds;
+
+    /**
+     * @param distinctCount   Estimated number of distinct non-null values.
+     * @param nullFraction    Fraction of rows with {@code NULL} value, between 0 and 1.
+     * @param histogramBounds Ascending bounds of the equi-depth histogram, or {@code null} if not available.
+     */
+    public ColumnStatistics(long distinctCount, double nullFraction, double[] histogramBounds) {
+        this.distinctCount = Math.max(distinctCount, 0L);
+        this.nullFraction = Math.min(Math.max(nullFraction, 0.0d), 1.0d);
+        this.histogramBounds = histogramBounds != null && histogramBounds.length > 1
+                ? Arrays.copyOf(histogramBounds, histogramBounds.length)
+                : null;
+    }
+
+    public long getDistinctCount() {
+        return distinctCount;
+    }
+
+    public double getNullFraction() {
+        return nullFraction;
+    }
+
+    public boolean hasHistogram() {
+        return histogramBounds != null;
+    }
+
+    /**
+     * @return Selectivity of the {@code column = <constant>} predicate, assuming uniform distribution of distinct values.
+     */
+    public double equalsSelectivity() {
+        return (1.0d - nullFraction) / Math.max(distinctCount, 1L);
+    }
+
+    /**
+     * @return Selectivity of the {@code column < value} predicate, or {@code -1} if the column has no histogram.
+     */
+    public double lessThanSelectivity(double value) {
+        if (histogramBounds == null) {
+            return -1.0d;
+        }
+
+        return (1.0d - nullFraction) * fractionBelow(value);
+    }
+
+    /**
+     * @return Selectivity of the {@code column > value} predicate, or {@code -1} if the column has no histogram.
+     */
+    public double greaterThanSelectivity(double value) {
+        if (histogramBounds == null) {
+            return -1.0d;
+        }
+
+        return Math.max(1.0d - nullFraction - lessThanSelectivity(value) - equalsSelectivity(), 0.0d);
+    }
+
+    /**
+     * Fraction of non-null values below the given value, interpolated linearly within the bucket the value falls into.
+     */
+    private double fractionBelow(double value) {
+        int bucketCount = histogramBounds.length - 1;
+
+        if (value <= histogramBounds[0]) {
+            return 0.0d;
+        } else if (value > histogramBounds[bucketCount]) {
+            return 1.0d;
+        }
+
+        int bucket = 0;
+
+        while (bucket < bucketCount - 1 && value > histogramBounds[bucket + 1]) {
+            bucket++;
+        }
+
+        double lower = histogramBounds[bucket];
+        double upper = histogramBounds[bucket + 1];
+        double withinBucket = upper > lower ? (value - lower) / (upper - lower) : 0.0d;
+
+        return (bucket + withinBucket) / bucketCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnStatistics{distinctCount=" + distinctCount
+                + ", nullFraction=" + nullFraction
+                + ", histogramBuckets=" + (histogramBounds != null ? histogramBounds.length - 1 : 0)
+                + '}';
+    }
+}
@@ -22,13 +22,32 @@ package com.hazelcast.sql.impl.schema;
 public class ConstantTableStatistics implements TableStatistics {
 
     private final long rowCount;
+    private final ColumnStatistics[] columnStatistics;
 
     public ConstantTableStatistics(long rowCount) {
+        this(rowCount, null);
+    }
+
+    /**
+     * @param rowCount         Estimated number of rows in the table.
+     * @param columnStatistics Statistics of the table columns indexed by the field index, or {@code null}.
+     */
+    public ConstantTableStatistics(long rowCount, ColumnStatistics[] columnStatistics) {
         this.rowCount = rowCount;
+        this.columnStatistics = columnStatistics;
     }
 
     @Override
     public long getRowCount() {
         return rowCount;
     }
+
+    @Override
+    public ColumnStatistics getColumnStatistics(int fieldIndex) {
+        if (columnStatistics == null || fieldIndex < 0 || fieldIndex >= columnStatistics.length) {
+            return null;
+        }
+
+        return columnStatistics[fieldIndex];
+    }
 }
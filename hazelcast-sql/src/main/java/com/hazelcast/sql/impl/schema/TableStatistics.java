@@ -28,4 +28,15 @@ public interface TableStatistics {
      * @return Estimated number of rows in the table. Never negative.
      */
     long getRowCount();
+
+    /**
+     * Gets the statistics of a single column that are used during planning to estimate the selectivity
+     * of filters and the cardinality of joins.
+     *
+     * @param fieldIndex Index of the field in the table.
+     * @return Column statistics or {@code null} if they are not available.
+     */
+    default ColumnStatistics getColumnStatistics(int fieldIndex) {
+        return null;
+    }
 }
@@ -37,6 +37,7 @@ public class PartitionedMapTable extends AbstractMapTable {
     private final boolean hd;
     private final List<String> partitioningAttributes;
     private final boolean supportsPartitionPruning;
+    private final boolean resultCacheEnabled;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     public PartitionedMapTable(
@@ -53,6 +54,27 @@ public class PartitionedMapTable extends AbstractMapTable {
             boolean hd,
             List<String> partitioningAttributes,
             boolean supportsPartitionPruning
+    ) {
+        this(schemaName, tableName, mapName, fields, statistics, keyDescriptor, valueDescriptor, keyJetMetadata,
+                valueJetMetadata, indexes, hd, partitioningAttributes, supportsPartitionPruning, false);
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public PartitionedMapTable(
+            String schemaName,
+            String tableName,
+            String mapName,
+            List<TableField> fields,
+            TableStatistics statistics,
+            QueryTargetDescriptor keyDescriptor,
+            QueryTargetDescriptor valueDescriptor,
+            Object keyJetMetadata,
+            Object valueJetMetadata,
+            List<MapTableIndex> indexes,
+            boolean hd,
+            List<String> partitioningAttributes,
+            boolean supportsPartitionPruning,
+            boolean resultCacheEnabled
     ) {
         super(
             schemaName,
@@ -71,6 +93,7 @@ public class PartitionedMapTable extends AbstractMapTable {
         this.hd = hd;
         this.partitioningAttributes = partitioningAttributes;
         this.supportsPartitionPruning = supportsPartitionPruning;
+        this.resultCacheEnabled = resultCacheEnabled;
     }
 
     @Override
@@ -92,7 +115,8 @@ public class PartitionedMapTable extends AbstractMapTable {
                 getIndexes(),
                 isHd(),
                 partitioningAttributes(),
-                supportsPartitionPruning());
+                supportsPartitionPruning(),
+                isResultCacheEnabled());
     }
 
     public List<MapTableIndex> getIndexes() {
@@ -149,6 +173,15 @@ public class PartitionedMapTable extends AbstractMapTable {
         return supportsPartitionPruning;
     }
 
+    /**
+     * Flag to indicate whether the results of queries reading only from opted-in tables may be cached,
+     * see {@link IMapSqlConnector#OPTION_RESULT_CACHE}.
+     * @return true if the mapping opted in to the SQL result cache
+     */
+    public boolean isResultCacheEnabled() {
+        return resultCacheEnabled;
+    }
+
     static class PartitionedMapPlanObjectKey implements PlanObjectKey {
 
         private final String schemaName;
@@ -164,6 +197,7 @@ public class PartitionedMapTable extends AbstractMapTable {
         private final Set<String> conflictingSchemas;
         private final List<String> partitioningAttributes;
         private final boolean supportsPartitionPruning;
+        private final boolean resultCacheEnabled;
 
         @SuppressWarnings("checkstyle:ParameterNumber")
         PartitionedMapPlanObjectKey(
@@ -179,7 +213,8 @@ public class PartitionedMapTable extends AbstractMapTable {
                 List<MapTableIndex> indexes,
                 boolean hd,
                 final List<String> partitioningAttributes,
-                final boolean supportsPartitionPruning) {
+                final boolean supportsPartitionPruning,
+                final boolean resultCacheEnabled) {
             this.schemaName = schemaName;
             this.tableName = tableName;
             this.mapName = mapName;
@@ -193,6 +228,7 @@ public class PartitionedMapTable extends AbstractMapTable {
             this.conflictingSchemas = conflictingSchemas;
             this.partitioningAttributes = partitioningAttributes;
             this.supportsPartitionPruning = supportsPartitionPruning;
+            this.resultCacheEnabled = resultCacheEnabled;
         }
 
         @Override
@@ -220,7 +256,8 @@ public class PartitionedMapTable extends AbstractMapTable {
                     && indexes.equals(that.indexes)
                     && conflictingSchemas.equals(that.conflictingSchemas)
                     && partitioningAttributes.equals(that.partitioningAttributes)
-                    && supportsPartitionPruning == that.supportsPartitionPruning;
+                    && supportsPartitionPruning == that.supportsPartitionPruning
+                    && resultCacheEnabled == that.resultCacheEnabled;
         }
 
         @Override
@@ -238,6 +275,7 @@ public class PartitionedMapTable extends AbstractMapTable {
             result = 31 * result + conflictingSchemas.hashCode();
             result = 31 * result + partitioningAttributes.hashCode();
             result = 31 * result + (supportsPartitionPruning ? 1 : 0);
+            result = 31 * result + (resultCacheEnabled ? 1 : 0);
             return result;
         }
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CreateMaterializedViewStatementTest extends SqlTestSupport {
+
+    @BeforeClass
+    public static void beforeClass() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("journaled_*").getEventJournalConfig().setEnabled(true);
+        config.getMapConfig("small_journal_*").getEventJournalConfig().setEnabled(true).setCapacity(100);
+        initialize(1, config);
+    }
+
+    @Test
+    public void when_mapChanges_then_viewFollows() {
+        String mapName = createSourceMapping("journaled_");
+        String viewName = randomName();
+        execute("SINK INTO " + mapName + " VALUES (1, 'a', 10), (2, 'a', 20), (3, 'b', 30)");
+
+        execute("CREATE MATERIALIZED VIEW " + viewName + " AS "
+                + "SELECT category, COUNT(*), SUM(amount) FROM " + mapName + " GROUP BY category");
+        assertViewEventually("SELECT * FROM " + viewName,
+                asList(new Row("a", 2L, 30L), new Row("b", 1L, 30L)));
+
+        execute("UPDATE " + mapName + " SET amount = 25 WHERE __key = 2");
+        execute("DELETE FROM " + mapName + " WHERE __key = 3");
+        execute("SINK INTO " + mapName + " VALUES (4, 'c', null)");
+        assertViewEventually("SELECT * FROM " + viewName,
+                asList(new Row("a", 2L, 35L), new Row("c", 1L, null)));
+    }
+
+    @Test
+    public void when_viewHasFilterAndReorderedColumns_then_viewFollows() {
+        String mapName = createSourceMapping("journaled_");
+        String viewName = randomName();
+        execute("SINK INTO " + mapName + " VALUES (1, 'a', 10), (2, 'a', 20), (3, 'b', 5)");
+
+        execute("CREATE MATERIALIZED VIEW " + viewName + " AS "
+                + "SELECT SUM(amount) AS total, category FROM " + mapName + " WHERE amount > 5 GROUP BY category");
+        assertViewEventually("SELECT total, category FROM " + viewName,
+                asList(new Row(30L, "a")));
+
+        execute("UPDATE " + mapName + " SET amount = 6 WHERE __key = 3");
+        assertViewEventually("SELECT total, category FROM " + viewName,
+                asList(new Row(30L, "a"), new Row(6L, "b")));
+    }
+
+    @Test
+    public void when_journalHasWrapped_then_viewContainsAllEntries() {
+        String mapName = createSourceMapping("small_journal_");
+        String viewName = randomName();
+        execute("SINK INTO " + mapName + " SELECT v, 'a', 1 FROM TABLE(generate_series(1, 5000))");
+
+        execute("CREATE MATERIALIZED VIEW " + viewName + " AS "
+                + "SELECT category, COUNT(*), SUM(amount) FROM " + mapName + " GROUP BY category");
+        assertViewEventually("SELECT * FROM " + viewName,
+                asList(new Row("a", 5000L, 5000L)));
+
+        execute("UPDATE " + mapName + " SET category = 'b' WHERE __key <= 10");
+        assertViewEventually("SELECT * FROM " + viewName,
+                asList(new Row("a", 4990L, 4990L), new Row("b", 10L, 10L)));
+    }
+
+    @Test
+    public void when_aggregateCannotBeMaintained_then_throws() {
+        String mapName = createSourceMapping("journaled_");
+
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW " + randomName() + " AS "
+                + "SELECT category, MIN(amount) FROM " + mapName + " GROUP BY category"))
+                .hasMessageContaining("only COUNT and SUM can be maintained incrementally");
+    }
+
+    @Test
+    public void when_eventJournalIsDisabled_then_throws() {
+        String mapName = createSourceMapping("plain_");
+
+        assertThatThrownBy(() -> execute("CREATE MATERIALIZED VIEW " + randomName() + " AS "
+                + "SELECT category, COUNT(*) FROM " + mapName + " GROUP BY category"))
+                .hasMessageContaining("The event journal must be enabled for map '" + mapName + "'");
+    }
+
+    @Test
+    public void when_dropped_then_jobAndMapAreRemoved() {
+        String mapName = createSourceMapping("journaled_");
+        String viewName = randomName();
+        execute("CREATE MATERIALIZED VIEW " + viewName + " AS "
+                + "SELECT category, COUNT(*) FROM " + mapName + " GROUP BY category");
+
+        assertThatThrownBy(() -> execute("DROP VIEW " + viewName))
+                .hasMessageContaining("Use DROP MATERIALIZED VIEW");
+
+        execute("DROP MATERIALIZED VIEW " + viewName);
+        assertThat(instance().getJet().getJob("__sql.mv." + viewName).getStatus().isTerminal()).isTrue();
+        assertThat(instance().getSql().execute("SHOW VIEWS")).noneMatch(row -> viewName.equals(row.getObject(0)));
+        assertThat(instance().getSql().execute("SHOW MAPPINGS"))
+                .noneMatch(row -> ("__sql.mv." + viewName).equals(row.getObject(0)));
+    }
+
+    private static String createSourceMapping(String prefix) {
+        String name = prefix + randomName();
+        execute("CREATE MAPPING " + name + " (__key INT, category VARCHAR, amount INT) TYPE IMap "
+                + "OPTIONS ('keyFormat'='int', 'valueFormat'='json-flat')");
+        return name;
+    }
+
+    /**
+     * The queries of the view are batch queries, they are repeated until the
+     * job maintaining the view has applied the changes.
+     */
+    private static void assertViewEventually(String sql, List<Row> expectedRows) {
+        assertTrueEventually(() -> assertRowsAnyOrder(sql, expectedRows));
+    }
+
+    private static void execute(String sql) {
+        instance().getSql().execute(sql).close();
+    }
+}
@@ -16,7 +16,9 @@
 
 package com.hazelcast.jet.sql.impl;
 
+import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.util.UuidUtil;
 import com.hazelcast.jet.Job;
 import com.hazelcast.jet.SimpleTestInClusterSupport;
@@ -29,6 +31,7 @@ import com.hazelcast.jet.sql.impl.SqlPlanImpl.DropMappingPlan;
 import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
 import com.hazelcast.mock.MockUtil;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.sql.SqlResult;
 import com.hazelcast.sql.impl.QueryId;
 import com.hazelcast.sql.impl.QueryParameterMetadata;
@@ -89,6 +92,8 @@ public class PlanExecutorTest extends SimpleTestInClusterSupport {
         openMocks = openMocks(this);
         given(job.getFuture()).willReturn(new CompletableFuture<>());
         given(nodeEngine.getHazelcastInstance()).willReturn(hazelcastInstance);
+        given(nodeEngine.getProperties()).willReturn(new HazelcastProperties(new Config()));
+        given(nodeEngine.getMetricsRegistry()).willReturn(mock(MetricsRegistry.class));
         planExecutor = new PlanExecutor(
                 nodeEngine,
                 catalog,
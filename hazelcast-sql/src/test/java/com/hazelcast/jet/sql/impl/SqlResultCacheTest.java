@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.plan.cache.QueryResultCache;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlResultCacheTest extends SqlTestSupport {
+
+    private QueryResultCache resultCache;
+    private long hits;
+    private long misses;
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(2, null);
+    }
+
+    @Before
+    public void before() {
+        resultCache = sqlServiceImpl(instance()).getOptimizer().getPlanExecutor().getResultCache();
+        resultCache.clear();
+        hits = resultCache.getHitCount();
+        misses = resultCache.getMissCount();
+    }
+
+    @Test
+    public void when_queryIsRepeated_then_resultIsCached() {
+        String mapName = createCachedMapping(true);
+        IMap<Integer, String> map = instance().getMap(mapName);
+        map.put(1, "a");
+        map.put(2, "b");
+
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(1, "a"), new Row(2, "b"));
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(1, "a"), new Row(2, "b"));
+
+        assertCacheCounts(1, 1);
+        assertThat(resultCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void when_mapIsModified_then_cachedResultIsNotUsed() {
+        String mapName = createCachedMapping(true);
+        IMap<Integer, String> map = instance().getMap(mapName);
+        map.put(1, "a");
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(1, "a"));
+
+        // modified through the other member, which may also own the key
+        instances()[1].<Integer, String>getMap(mapName).put(2, "b");
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(1, "a"), new Row(2, "b"));
+
+        map.remove(1);
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(2, "b"));
+
+        map.clear();
+        assertRowsAnyOrder("SELECT * FROM " + mapName);
+
+        assertCacheCounts(0, 4);
+    }
+
+    @Test
+    public void when_argumentsDiffer_then_resultsAreCachedSeparately() {
+        String mapName = createCachedMapping(true);
+        IMap<Integer, String> map = instance().getMap(mapName);
+        map.put(1, "a");
+        map.put(2, "b");
+
+        String sql = "SELECT __key FROM " + mapName + " WHERE this = ?";
+        assertRowsAnyOrder(sql, singletonList("a"), new Row(1));
+        assertRowsAnyOrder(sql, singletonList("b"), new Row(2));
+        assertRowsAnyOrder(sql, singletonList("a"), new Row(1));
+
+        assertCacheCounts(1, 2);
+    }
+
+    @Test
+    public void when_mappingDidNotOptIn_then_cacheIsBypassed() {
+        String mapName = createCachedMapping(false);
+        instance().getMap(mapName).put(1, "a");
+
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(1, "a"));
+        assertRowsAnyOrder("SELECT * FROM " + mapName, new Row(1, "a"));
+
+        assertCacheCounts(0, 0);
+    }
+
+    @Test
+    public void when_queryIsNotDeterministic_then_cacheIsBypassed() {
+        String mapName = createCachedMapping(true);
+        instance().getMap(mapName).put(1, "a");
+
+        execute("SELECT __key, RAND() FROM " + mapName);
+        execute("SELECT __key, RAND() FROM " + mapName);
+
+        assertCacheCounts(0, 0);
+    }
+
+    private static String createCachedMapping(boolean resultCache) {
+        String name = randomName();
+        instance().getSql().executeUpdate("CREATE MAPPING " + name + " TYPE IMap OPTIONS ("
+                + "'keyFormat'='int', 'valueFormat'='varchar', 'resultCache'='" + resultCache + "')");
+        return name;
+    }
+
+    private static void execute(String sql) {
+        try (var result = instance().getSql().execute(sql)) {
+            result.forEach(row -> { });
+        }
+    }
+
+    private void assertCacheCounts(long expectedHits, long expectedMisses) {
+        assertThat(resultCache.getHitCount() - hits).isEqualTo(expectedHits);
+        assertThat(resultCache.getMissCount() - misses).isEqualTo(expectedMisses);
+    }
+}
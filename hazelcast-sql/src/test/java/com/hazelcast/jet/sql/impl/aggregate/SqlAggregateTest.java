@@ -30,6 +30,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import static com.hazelcast.sql.impl.type.QueryDataTypeFamily.INTEGER;
 import static com.hazelcast.sql.impl.type.QueryDataTypeFamily.TIMESTAMP_WITH_TIME_ZONE;
@@ -1066,6 +1067,29 @@ public class SqlAggregateTest extends SqlTestSupport {
                 .hasMessageContaining("GROUPING SETS not supported");
     }
 
+    @Test
+    public void test_groupByOverIMap() {
+        String name = randomName();
+        createMapping(name, Integer.class, String.class);
+        Map<Integer, String> map = instance().getMap(name);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i % 3 == 0 ? "none" : "value-" + i % 5);
+        }
+
+        // the rows are accumulated in the scanning vertex, the filter is applied before it
+        assertRowsAnyOrder(
+                "SELECT this, COUNT(*), SUM(__key) FROM " + name + " WHERE __key < 100 GROUP BY this",
+                asList(
+                        new Row("none", 34L, 1683L),
+                        new Row("value-0", 13L, 635L),
+                        new Row("value-1", 13L, 613L),
+                        new Row("value-2", 14L, 693L),
+                        new Row("value-3", 13L, 674L),
+                        new Row("value-4", 13L, 652L)
+                )
+        );
+    }
+
     @Test
     public void test_streamAggregationWithoutWindowFunction() {
         String name = randomName();
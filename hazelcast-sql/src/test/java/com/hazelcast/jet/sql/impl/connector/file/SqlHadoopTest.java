@@ -46,6 +46,7 @@ import static com.hazelcast.jet.sql.impl.connector.SqlConnector.OPTION_FORMAT;
 import static com.hazelcast.jet.sql.impl.connector.SqlConnector.PARQUET_FORMAT;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -257,6 +258,37 @@ public class SqlHadoopTest extends SqlTestSupport {
         );
     }
 
+    @Test
+    public void test_parquet_projectionAndFilterPushdown() throws IOException {
+        storeParquet("/parquet-pushdown/file.parquet");
+
+        String name = randomName();
+        sqlService.execute("CREATE MAPPING " + name + " ("
+                + "string VARCHAR"
+                + ", \"boolean\" BOOLEAN"
+                + ", \"int\" INT"
+                + ", long BIGINT"
+                + ") TYPE " + FileSqlConnector.TYPE_NAME + ' '
+                + "OPTIONS ("
+                + '\'' + OPTION_FORMAT + "'='" + PARQUET_FORMAT + '\''
+                + ", '" + FileSqlConnector.OPTION_PATH + "'='" + path("parquet-pushdown") + '\''
+                + ")"
+        );
+
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE \"int\" = 2147483647 AND \"boolean\" AND long > 0",
+                singletonList(new Row("string"))
+        );
+        assertRowsAnyOrder(
+                "SELECT string FROM " + name + " WHERE \"int\" < 0 OR string = 'other'",
+                emptyList()
+        );
+        assertRowsAnyOrder(
+                "SELECT COUNT(*) FROM " + name + " WHERE string <> 'other'",
+                singletonList(new Row(1L))
+        );
+    }
+
     @Test
     public void test_parquet_allTypes() throws IOException {
         storeParquet("/parquet-all-types/file.parquet");
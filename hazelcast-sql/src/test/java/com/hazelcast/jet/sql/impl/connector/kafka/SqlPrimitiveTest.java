@@ -26,6 +26,7 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -375,6 +376,26 @@ public class SqlPrimitiveTest extends KafkaSqlTestSupport {
         assertRowsEventuallyInAnyOrder("SELECT * FROM " + topicName, singletonList(new Row(42)));
     }
 
+    @Test
+    public void test_keyFilterAppliedBeforeValueDeserialization() {
+        String name = createRandomTopic();
+        new SqlMapping(name, KafkaSqlConnector.class)
+                .options(OPTION_KEY_FORMAT, "int",
+                         OPTION_VALUE_FORMAT, "int",
+                         "bootstrap.servers", kafkaTestSupport.getBrokerConnectionString(),
+                         "auto.offset.reset", "earliest")
+                .create();
+
+        kafkaTestSupport.produceSync(name, 1, ByteBuffer.allocate(Integer.BYTES).putInt(42).array());
+        // not a valid int, deserializing it would fail the query
+        kafkaTestSupport.produceSync(name, 2, new byte[]{1, 2, 3});
+
+        assertRowsEventuallyInAnyOrder(
+                "SELECT this FROM " + name + " WHERE __key = 1",
+                singletonList(new Row(42))
+        );
+    }
+
     @Test
     public void test_noValueFormat() {
         assertThatThrownBy(() ->
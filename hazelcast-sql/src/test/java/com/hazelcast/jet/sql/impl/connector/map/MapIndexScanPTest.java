@@ -18,12 +18,14 @@ package com.hazelcast.jet.sql.impl.connector.map;
 
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
+import com.hazelcast.internal.iteration.IndexIterationPointer;
 import com.hazelcast.jet.SimpleTestInClusterSupport;
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.core.test.TestSupport;
 import com.hazelcast.jet.sql.impl.opt.FieldCollation;
 import com.hazelcast.map.IMap;
 import com.hazelcast.sql.impl.exec.scan.MapIndexScanMetadata;
+import com.hazelcast.sql.impl.exec.scan.index.IndexCompositeFilter;
 import com.hazelcast.sql.impl.exec.scan.index.IndexEqualsFilter;
 import com.hazelcast.sql.impl.exec.scan.index.IndexFilter;
 import com.hazelcast.sql.impl.exec.scan.index.IndexFilterValue;
@@ -64,6 +66,8 @@ import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 @SuppressWarnings("rawtypes")
 @RunWith(HazelcastParametrizedRunner.class)
@@ -261,6 +265,105 @@ public class MapIndexScanPTest extends SimpleTestInClusterSupport {
                 .expectOutput(expected);
     }
 
+    @Test
+    public void test_inLookup_hashed() {
+        for (int i = count; i > 0; i--) {
+            map.put(i, new Person("value-" + i, i));
+        }
+        // more values than the fetch parallelism, each segment is read by its own split
+        List<IndexFilter> filters = new ArrayList<>();
+        List<JetSqlRow> expected = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            filters.add(new IndexEqualsFilter(intValue(i * 7)));
+            expected.add(jetRow(i * 7, "value-" + i * 7, i * 7));
+        }
+
+        IndexConfig indexConfig = new IndexConfig(IndexType.HASH, "age").setName(randomName());
+        map.addIndex(indexConfig);
+
+        MapIndexScanMetadata metadata = metadata(indexConfig.getName(), new IndexCompositeFilter(filters), -1, false);
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(MapIndexScanP.readMapIndexSupplier(metadata)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(TestSupport.SAME_ITEMS_ANY_ORDER)
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void test_inLookup_sorted() {
+        for (int i = count; i > 0; i--) {
+            map.put(i, new Person("value-" + i, i));
+        }
+        List<IndexFilter> filters = new ArrayList<>();
+        List<JetSqlRow> expected = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            filters.add(new IndexEqualsFilter(intValue(i * 7)));
+            expected.add(jetRow(i * 7, "value-" + i * 7, i * 7));
+        }
+
+        IndexConfig indexConfig = new IndexConfig(IndexType.SORTED, "age").setName(randomName());
+        map.addIndex(indexConfig);
+
+        MapIndexScanMetadata metadata = metadata(indexConfig.getName(), new IndexCompositeFilter(filters), 2, false);
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(MapIndexScanP.readMapIndexSupplier(metadata)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(LENIENT_SAME_ITEMS_IN_ORDER)
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void test_requiredPartitions_sorted() {
+        int requiredKey = 5;
+        int requiredPartition = instance().getPartitionService().getPartition(requiredKey).getPartitionId();
+        List<JetSqlRow> expected = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            map.put(i, new Person("value-" + i, i));
+            if (instance().getPartitionService().getPartition(i).getPartitionId() == requiredPartition) {
+                expected.add(jetRow(i, "value-" + i, i));
+            }
+        }
+
+        IndexConfig indexConfig = new IndexConfig(IndexType.SORTED, "age").setName(randomName());
+        map.addIndex(indexConfig);
+
+        MapIndexScanMetadata metadata = metadata(indexConfig.getName(), null, 2, false);
+        List<List<Expression<?>>> requiredPartitionsExprs = singletonList(singletonList(constant(requiredKey, INT)));
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(MapIndexScanP.readMapIndexSupplier(metadata, requiredPartitionsExprs)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(LENIENT_SAME_ITEMS_IN_ORDER)
+                .disableSnapshots()
+                .disableProgressAssertion()
+                .expectOutput(expected);
+    }
+
+    @Test
+    public void test_segments() {
+        IndexIterationPointer[] pointers = new IndexIterationPointer[5];
+        for (int i = 0; i < pointers.length; i++) {
+            pointers[i] = IndexIterationPointer.create(i, true, i, true, false, null);
+        }
+
+        List<IndexIterationPointer[]> segments = MapIndexScanP.segments(pointers, 2);
+        assertEquals(2, segments.size());
+        assertArrayEquals(Arrays.copyOfRange(pointers, 0, 2), segments.get(0));
+        assertArrayEquals(Arrays.copyOfRange(pointers, 2, 5), segments.get(1));
+
+        assertEquals(5, MapIndexScanP.segments(pointers, 16).size());
+        assertEquals(1, MapIndexScanP.segments(new IndexIterationPointer[0], 4).size());
+    }
+
     private MapIndexScanMetadata metadata(String indexName, IndexFilter filter, int fieldIndex, boolean descending) {
         return metadata(indexName, filter, null, fieldIndex, descending);
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.map.IMap;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
+import com.hazelcast.sql.impl.extract.QueryPath;
+import com.hazelcast.sql.impl.schema.ColumnStatistics;
+import com.hazelcast.sql.impl.schema.TableField;
+import com.hazelcast.sql.impl.schema.map.MapTableField;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastSerialClassRunner.class)
+public class MapStatisticsCollectorTest extends SqlTestSupport {
+
+    private static final int ROW_COUNT = 10_000;
+    private static final List<TableField> FIELDS = List.of(
+            new MapTableField("__key", QueryDataType.INT, false, QueryPath.KEY_PATH),
+            new MapTableField("this", QueryDataType.INT, false, QueryPath.VALUE_PATH)
+    );
+
+    @BeforeClass
+    public static void setUpClass() {
+        Config config = smallInstanceConfig()
+                .setProperty(MapStatisticsCollector.SAMPLE_SIZE.getName(), "1000");
+        initialize(2, config);
+    }
+
+    @Test
+    public void when_mapIsDestroyed_then_statisticsAreEvicted() {
+        String mapName = randomName();
+        instance().getMap(mapName).put(1, 1);
+        MapStatisticsCollector collector = new MapStatisticsCollector(getNodeEngineImpl(instance()));
+
+        assertTrueEventually(() -> assertThat(getStatistics(collector, mapName)).isNotNull());
+        assertThat(collector.isCached(mapName)).isTrue();
+
+        instance().getMap(mapName).destroy();
+        // scheduling the collection of another map evicts the statistics of the destroyed one
+        getStatistics(collector, randomName());
+
+        assertThat(collector.isCached(mapName)).isFalse();
+    }
+
+    @Test
+    public void test_distinctCountOfUniqueColumn_isScaledToWholeTable() {
+        String mapName = randomName();
+        IMap<Integer, Integer> map = instance().getMap(mapName);
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            entries.put(i, i % 10);
+        }
+        map.putAll(entries);
+
+        MapStatisticsCollector collector = new MapStatisticsCollector(getNodeEngineImpl(instance()));
+
+        ColumnStatistics[] statistics = collector.collect(mapName, FIELDS, GenericQueryTargetDescriptor.DEFAULT,
+                GenericQueryTargetDescriptor.DEFAULT, 1_000);
+
+        // the sample only covers the partitions of one member, but the keys of all members are distinct
+        assertThat(statistics[0].getDistinctCount()).isBetween(ROW_COUNT * 8L / 10, ROW_COUNT * 12L / 10);
+        assertThat(statistics[0].getNullFraction()).isZero();
+        assertThat(statistics[0].hasHistogram()).isTrue();
+        // the sample has seen all the values of a column with few distinct values
+        assertThat(statistics[1].getDistinctCount()).isEqualTo(10);
+    }
+
+    private static ColumnStatistics[] getStatistics(MapStatisticsCollector collector, String mapName) {
+        return collector.getStatistics(mapName, FIELDS, GenericQueryTargetDescriptor.DEFAULT,
+                GenericQueryTargetDescriptor.DEFAULT);
+    }
+}
@@ -20,7 +20,7 @@ import com.hazelcast.config.IndexType;
 import com.hazelcast.jet.sql.impl.opt.physical.FullScanPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.IndexScanMapPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.LimitPhysicalRel;
-import com.hazelcast.jet.sql.impl.opt.physical.SortPhysicalRel;
+import com.hazelcast.jet.sql.impl.opt.physical.TopNPhysicalRel;
 import com.hazelcast.jet.sql.impl.schema.HazelcastTable;
 import com.hazelcast.map.IMap;
 import com.hazelcast.sql.impl.extract.QueryPath;
@@ -98,7 +98,7 @@ public class LimitOffsetScanOptimizerTest extends OptimizerTestSupport {
         assertPlan(optimizePhysical(sql, parameterTypes, table).getPhysical(),
                 plan(
                         planRow(0, LimitPhysicalRel.class),
-                        planRow(1, SortPhysicalRel.class),
+                        planRow(1, TopNPhysicalRel.class),
                         planRow(2, FullScanPhysicalRel.class)
                 )
         );
@@ -25,7 +25,9 @@ import com.hazelcast.jet.sql.impl.schema.HazelcastTableStatistic;
 import com.hazelcast.jet.sql.impl.schema.RelationsStorage;
 import com.hazelcast.jet.sql.impl.schema.TableResolverImpl;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.TableField;
 import com.hazelcast.sql.impl.schema.TableResolver;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -41,6 +43,8 @@ import static com.hazelcast.sql.impl.type.QueryDataType.INT;
 import static com.hazelcast.sql.impl.type.QueryDataTypeFamily.INTEGER;
 import static com.hazelcast.sql.impl.type.QueryDataTypeFamily.TIMESTAMP;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class PhysicalJoinTest extends OptimizerTestSupport {
     private TableResolver resolver;
@@ -75,6 +79,102 @@ public class PhysicalJoinTest extends OptimizerTestSupport {
         );
     }
 
+    @Test
+    public void when_bothInputsAreLargeAndJoinIsNotOnKey_then_useHashJoin() {
+        HazelcastTable tableLeft = partitionedTable("l", asList(field(KEY, INT), field(VALUE, INT)), 1_000_000);
+        HazelcastTable tableRight = partitionedTable("r", asList(field(KEY, INT), field(VALUE, INT)), 1_000_000);
+
+        String query = "SELECT * FROM l JOIN r ON l.this = r.this";
+        assertPlan(
+                optimizePhysical(query, asList(INT, INT, INT, INT), tableLeft, tableRight).getPhysical(),
+                plan(
+                        planRow(0, JoinHashPhysicalRel.class),
+                        planRow(1, FullScanPhysicalRel.class),
+                        planRow(1, FullScanPhysicalRel.class)
+                )
+        );
+    }
+
+    @Test
+    public void when_bothInputsAreLargeAndJoinIsOnKey_then_useNestedLoopJoin() {
+        HazelcastTable tableLeft = partitionedTable("l", mapFields(), 1_000_000);
+        HazelcastTable tableRight = partitionedTable("r", mapFields(), 1_000_000);
+
+        String query = "SELECT * FROM l JOIN r ON l.this = r.__key";
+        assertPlan(
+                optimizePhysical(query, asList(INT, INT, INT, INT), tableLeft, tableRight).getPhysical(),
+                plan(
+                        planRow(0, JoinNestedLoopPhysicalRel.class),
+                        planRow(1, FullScanPhysicalRel.class),
+                        planRow(1, FullScanPhysicalRel.class)
+                )
+        );
+    }
+
+    @Test
+    public void when_rightScanReordersFieldsAndJoinIsOnKey_then_useNestedLoopJoin() {
+        HazelcastTable tableLeft = partitionedTable("l", mapFields(), 1_000_000);
+        HazelcastTable tableRight = partitionedTable("r", mapFields(), 1_000_000);
+
+        String query = "SELECT * FROM l JOIN (SELECT this, __key FROM r) r ON l.this = r.__key";
+        assertPlan(
+                optimizePhysical(query, asList(INT, INT, INT, INT), tableLeft, tableRight).getPhysical(),
+                plan(
+                        planRow(0, CalcPhysicalRel.class),
+                        planRow(1, JoinNestedLoopPhysicalRel.class),
+                        planRow(2, FullScanPhysicalRel.class),
+                        planRow(2, FullScanPhysicalRel.class)
+                )
+        );
+    }
+
+    @Test
+    public void when_rightScanReordersFieldsAndJoinIsNotOnKey_then_useHashJoin() {
+        HazelcastTable tableLeft = partitionedTable("l", mapFields(), 1_000_000);
+        HazelcastTable tableRight = partitionedTable("r", mapFields(), 1_000_000);
+
+        // the first column of the right scan is the value, not the key
+        String query = "SELECT * FROM l JOIN (SELECT this, __key FROM r) r ON l.this = r.this";
+        assertPlan(
+                optimizePhysical(query, asList(INT, INT, INT, INT), tableLeft, tableRight).getPhysical(),
+                plan(
+                        planRow(0, CalcPhysicalRel.class),
+                        planRow(1, JoinHashPhysicalRel.class),
+                        planRow(2, FullScanPhysicalRel.class),
+                        planRow(2, FullScanPhysicalRel.class)
+                )
+        );
+    }
+
+    @Test
+    public void when_inputsAreCoPartitionedOnJoinKey_then_useColocatedHashJoin() {
+        HazelcastTable tableLeft = partitionedTable("l", mapFields(), emptyList(), 1_000_000, emptyList(), true);
+        HazelcastTable tableRight = partitionedTable("r", mapFields(), emptyList(), 1_000_000, emptyList(), true);
+
+        String query = "SELECT * FROM l JOIN r ON l.__key = r.__key";
+        PhysicalRel physical = optimizePhysical(query, asList(INT, INT, INT, INT), tableLeft, tableRight).getPhysical();
+        assertPlan(
+                physical,
+                plan(
+                        planRow(0, JoinHashPhysicalRel.class),
+                        planRow(1, FullScanPhysicalRel.class),
+                        planRow(1, FullScanPhysicalRel.class)
+                )
+        );
+        assertThat(((JoinHashPhysicalRel) physical).partitioningKeyOrder()).containsExactly(0);
+    }
+
+    @Test
+    public void when_inputsAreNotCoPartitionedOnJoinKey_then_notColocated() {
+        HazelcastTable tableLeft = partitionedTable("l", mapFields(), emptyList(), 1_000_000, emptyList(), true);
+        HazelcastTable tableRight = partitionedTable("r", mapFields(), emptyList(), 1_000_000, emptyList(), true);
+
+        String query = "SELECT * FROM l JOIN r ON l.this = r.this";
+        PhysicalRel physical = optimizePhysical(query, asList(INT, INT, INT, INT), tableLeft, tableRight).getPhysical();
+        assertThat(physical).isInstanceOf(JoinHashPhysicalRel.class);
+        assertThat(((JoinHashPhysicalRel) physical).partitioningKeyOrder()).isNull();
+    }
+
     @Test
     public void when_rightChildIsNotTableScan_then_useHashJoin() {
         HazelcastTable tableLeft = partitionedTable("l", asList(field(KEY, INT), field(VALUE, INT)), 1);
@@ -131,6 +231,10 @@ public class PhysicalJoinTest extends OptimizerTestSupport {
         );
     }
 
+    private static List<TableField> mapFields() {
+        return asList(mapField(KEY, INT, QueryPath.KEY_PATH), mapField(VALUE, INT, QueryPath.VALUE_PATH));
+    }
+
     private static HazelcastTable streamingTable(Table table) {
         return new HazelcastTable(table, new HazelcastTableStatistic(1));
     }
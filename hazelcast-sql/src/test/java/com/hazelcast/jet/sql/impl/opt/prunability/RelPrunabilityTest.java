@@ -16,6 +16,7 @@
 
 package com.hazelcast.jet.sql.impl.opt.prunability;
 
+import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.jet.sql.impl.HazelcastRexBuilder;
 import com.hazelcast.jet.sql.impl.opt.OptimizerTestSupport;
@@ -25,7 +26,7 @@ import com.hazelcast.jet.sql.impl.opt.physical.AggregateCombineByKeyPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.CalcPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.FullScanPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.IndexScanMapPhysicalRel;
-import com.hazelcast.jet.sql.impl.opt.physical.JoinNestedLoopPhysicalRel;
+import com.hazelcast.jet.sql.impl.opt.physical.JoinHashPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.PhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.SortPhysicalRel;
 import com.hazelcast.jet.sql.impl.opt.physical.UnionPhysicalRel;
@@ -43,9 +44,9 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.junit.Before;
 import org.junit.BeforeClass;
-import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -148,16 +149,14 @@ public class RelPrunabilityTest extends OptimizerTestSupport {
     }
 
     @Test
-    @Ignore("Resolve later : There is no suitable accessor for 'comp1' on class 'java.lang.String'")
-    public void test_indexScan_isNotSupported() {
+    public void test_indexScan() {
         String mapName = randomName();
-        String indexName = randomName();
         IMap<CompoundKey, String> map = instance().getMap(mapName);
-        createMapping(mapName, CompoundKey.class, String.class);
-        createIndex(indexName, mapName, IndexType.HASH, "comp1");
         for (int i = 0; i < 100; ++i) {
             map.put(new CompoundKey(i, i), String.valueOf(i));
         }
+        // the index is on the key component, the value has no 'comp1' attribute
+        map.addIndex(new IndexConfig(IndexType.HASH, QueryPath.KEY_PREFIX + "comp1").setName(randomName()));
 
         table = partitionedTable(
                 mapName,
@@ -178,9 +177,7 @@ public class RelPrunabilityTest extends OptimizerTestSupport {
         Map<String, List<Map<String, RexNode>>> prunability = query.extractPrunability(root);
         final RexLiteral expectedLiteral = HazelcastRexBuilder.INSTANCE.makeLiteral(10, REL_TYPE_BIGINT);
 
-        assertEquals(emptyMap(), prunability);
-        // TODO: uncomment when IndexScan prunability is implemented
-        // assertEquals(Map.of(MAP_NAME, singletonList(Map.of("comp1", expectedLiteral))), prunability);
+        assertEquals(Map.of(mapName, singletonList(Map.of("comp1", expectedLiteral))), prunability);
     }
 
 
@@ -220,8 +217,9 @@ public class RelPrunabilityTest extends OptimizerTestSupport {
                 table
         ).getPhysical();
 
+        // both sides are partitioned by comp1, the co-located hash join needs no shuffle
         assertPlan(root, plan(
-                planRow(0, JoinNestedLoopPhysicalRel.class),
+                planRow(0, JoinHashPhysicalRel.class),
                 planRow(1, FullScanPhysicalRel.class),
                 planRow(1, FullScanPhysicalRel.class)
         ));
@@ -282,11 +280,11 @@ public class RelPrunabilityTest extends OptimizerTestSupport {
         assertEquals(Map.of(), prunability);
     }
 
-    static class CompoundKey {
-        public Integer comp0;
-        public Integer comp1;
+    public static class CompoundKey implements Serializable {
+        public Long comp0;
+        public Long comp1;
 
-        CompoundKey(Integer comp0, Integer comp1) {
+        CompoundKey(long comp0, long comp1) {
             this.comp0 = comp0;
             this.comp1 = comp1;
         }
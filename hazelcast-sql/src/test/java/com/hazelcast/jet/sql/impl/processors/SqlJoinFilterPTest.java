@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.jet.sql.impl.JetJoinInfo;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
+import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastSerialClassRunner.class)
+public class SqlJoinFilterPTest extends SqlTestSupport {
+    private static final int LOW_PRIORITY = 10;
+    private static final int HIGH_PRIORITY = 1;
+    private static final int EXPECTED_KEYS = 16;
+
+    private static final Expression<Boolean> TRUE_PREDICATE =
+            (Expression<Boolean>) ConstantExpression.create(true, BOOLEAN);
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void test_dropsRowsWithoutMatch() {
+        runTest(new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(1, "left-1"),
+                        jetRow(2, "left-2"),
+                        jetRow(null, "left-null"),
+                        jetRow(3, "left-3")
+                ),
+                asList(
+                        jetRow(2, "right-2"),
+                        jetRow(3, "right-3"),
+                        jetRow(null, "right-null")
+                ),
+                asList(
+                        jetRow(2, "left-2"),
+                        jetRow(3, "left-3")
+                )
+        );
+    }
+
+    @Test
+    public void test_emptyBuildSide() {
+        runTest(new int[]{0}, new int[]{0},
+                asList(
+                        jetRow(1, "left-1"),
+                        jetRow(2, "left-2")
+                ),
+                emptyList(),
+                emptyList()
+        );
+    }
+
+    @Test
+    public void test_compositeKey() {
+        runTest(new int[]{0, 1}, new int[]{1, 0},
+                asList(
+                        jetRow(1, "a"),
+                        jetRow(1, "b"),
+                        jetRow(2, "a")
+                ),
+                asList(
+                        jetRow("a", 1),
+                        jetRow("a", 2)
+                ),
+                asList(
+                        jetRow(1, "a"),
+                        jetRow(2, "a")
+                )
+        );
+    }
+
+    @Test
+    public void test_bloomFilter_noFalseNegatives() {
+        JoinKeyBloomFilter filter = new JoinKeyBloomFilter(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(i * 31);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(i * 31)).isTrue();
+            if (filter.mightContain(-i - 1)) {
+                falsePositives++;
+            }
+        }
+        // the expected rate is about 1%
+        assertThat(falsePositives).isLessThan(500);
+    }
+
+    @Test
+    public void test_buildEmitsFilterOfBuildKeys() {
+        List<JetSqlRow> rightInput = asList(
+                jetRow(2, "right-2"),
+                jetRow(3, "right-3"),
+                jetRow(null, "right-null")
+        );
+        JoinKeyBloomFilter expected = new JoinKeyBloomFilter(EXPECTED_KEYS);
+        for (JetSqlRow row : rightInput) {
+            SqlJoinFilterBuildP.add(expected, row, new int[]{0});
+        }
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(SqlJoinFilterBuildP.supplier(new int[]{0}, EXPECTED_KEYS)))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .input(rightInput)
+                .hazelcastInstance(instance())
+                .outputChecker((expectedOutput, actualOutput) -> actualOutput.size() == 1
+                        && Arrays.equals((long[]) expectedOutput.get(0), (long[]) actualOutput.get(0)))
+                .disableSnapshots()
+                .expectOutput(singletonList(expected.words()));
+    }
+
+    private void runTest(
+            int[] leftEquiJoinIndices,
+            int[] rightEquiJoinIndices,
+            List<JetSqlRow> leftInput,
+            List<JetSqlRow> rightInput,
+            List<JetSqlRow> output
+    ) {
+        ProcessorSupplier processor = SqlJoinFilterP.supplier(
+                new JetJoinInfo(INNER, leftEquiJoinIndices, rightEquiJoinIndices, TRUE_PREDICATE, null),
+                EXPECTED_KEYS);
+
+        // the filters of two members, each having half of the build side
+        JoinKeyBloomFilter filter1 = new JoinKeyBloomFilter(EXPECTED_KEYS);
+        JoinKeyBloomFilter filter2 = new JoinKeyBloomFilter(EXPECTED_KEYS);
+        for (int i = 0; i < rightInput.size(); i++) {
+            SqlJoinFilterBuildP.add(i % 2 == 0 ? filter1 : filter2, rightInput.get(i), rightEquiJoinIndices);
+        }
+
+        TestSupport
+                .verifyProcessor(adaptSupplier(processor))
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .inputs(asList(leftInput, asList(filter1.words(), filter2.words())),
+                        new int[]{LOW_PRIORITY, HIGH_PRIORITY})
+                .hazelcastInstance(instance())
+                .outputChecker(SqlTestSupport::compareRowLists)
+                .disableSnapshots()
+                .expectOutput(output);
+    }
+}
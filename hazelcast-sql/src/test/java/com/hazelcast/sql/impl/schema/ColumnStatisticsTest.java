@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.schema;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ColumnStatisticsTest {
+
+    private static final double DELTA = 0.0001d;
+
+    @Test
+    public void test_equalsSelectivity() {
+        ColumnStatistics statistics = new ColumnStatistics(100, 0.2d, null);
+
+        assertThat(statistics.equalsSelectivity()).isCloseTo(0.008d, within(DELTA));
+    }
+
+    @Test
+    public void test_equalsSelectivity_noDistinctValues() {
+        ColumnStatistics statistics = new ColumnStatistics(0, 1.0d, null);
+
+        assertThat(statistics.equalsSelectivity()).isCloseTo(0.0d, within(DELTA));
+    }
+
+    @Test
+    public void test_rangeSelectivity_withoutHistogram() {
+        ColumnStatistics statistics = new ColumnStatistics(100, 0.0d, new double[]{1.0d});
+
+        assertThat(statistics.hasHistogram()).isFalse();
+        assertThat(statistics.lessThanSelectivity(10)).isNegative();
+        assertThat(statistics.greaterThanSelectivity(10)).isNegative();
+    }
+
+    @Test
+    public void test_rangeSelectivity_uniform() {
+        // values 0..100 in four buckets of equal depth
+        ColumnStatistics statistics = new ColumnStatistics(100, 0.0d, new double[]{0, 25, 50, 75, 100});
+
+        assertThat(statistics.lessThanSelectivity(-1)).isCloseTo(0.0d, within(DELTA));
+        assertThat(statistics.lessThanSelectivity(10)).isCloseTo(0.1d, within(DELTA));
+        assertThat(statistics.lessThanSelectivity(50)).isCloseTo(0.5d, within(DELTA));
+        assertThat(statistics.lessThanSelectivity(90)).isCloseTo(0.9d, within(DELTA));
+        assertThat(statistics.lessThanSelectivity(101)).isCloseTo(1.0d, within(DELTA));
+        assertThat(statistics.greaterThanSelectivity(90)).isCloseTo(0.09d, within(DELTA));
+    }
+
+    @Test
+    public void test_rangeSelectivity_skewed() {
+        // half of the values are between 0 and 1, the other half between 1 and 1000
+        ColumnStatistics statistics = new ColumnStatistics(1000, 0.5d, new double[]{0, 1, 1000});
+
+        assertThat(statistics.lessThanSelectivity(1)).isCloseTo(0.25d, within(DELTA));
+        assertThat(statistics.lessThanSelectivity(500.5)).isCloseTo(0.375d, within(DELTA));
+    }
+}
@@ -77,6 +77,11 @@ public class ClientFlakeIdGeneratorConfig {
     /**
      * Sets how many IDs are pre-fetched on the background when one call to
      * {@link FlakeIdGenerator#newId()} is made. Default is 100.
+     * <p>
+     * The count is an upper bound: if IDs are consumed too slowly to use up
+     * a full batch within half of the {@linkplain #setPrefetchValidityMillis
+     * prefetch validity}, smaller batches are fetched. The next batch is
+     * fetched on the background before the current one is used up.
      *
      * @param prefetchCount the desired prefetch count, in the range 1..100,000.
      * @return this instance for fluent API
@@ -28,6 +28,7 @@ import com.hazelcast.cp.CPSubsystem;
 import com.hazelcast.cp.internal.session.ProxySessionManager;
 import com.hazelcast.internal.nearcache.NearCacheManager;
 import com.hazelcast.internal.networking.ChannelInitializer;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.jet.JetService;
 import com.hazelcast.map.impl.MapService;
@@ -113,6 +114,13 @@ public interface ClientExtension {
      */
     MemoryStats getMemoryStats();
 
+    /**
+     * Returns the statistics shared by all compressed connections of the client.
+     *
+     * @return compression statistics
+     */
+    CompressionStats getCompressionStats();
+
     /**
      * Returns a JetService.
      */
@@ -51,6 +51,7 @@ import com.hazelcast.internal.memory.MemoryStats;
 import com.hazelcast.internal.nearcache.NearCacheManager;
 import com.hazelcast.internal.nearcache.impl.DefaultNearCacheManager;
 import com.hazelcast.internal.networking.ChannelInitializer;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationService;
@@ -91,6 +92,7 @@ public class DefaultClientExtension implements ClientExtension {
     protected JetClientInstanceImpl jetClient;
 
     private final MemoryStats memoryStats = new DefaultMemoryStats();
+    private final CompressionStats compressionStats = new CompressionStats();
 
     @Override
     public void beforeStart(HazelcastClientInstanceImpl client) {
@@ -204,6 +206,10 @@ public class DefaultClientExtension implements ClientExtension {
 
         HazelcastProperties properties = client.getProperties();
         boolean directBuffer = properties.getBoolean(SOCKET_CLIENT_BUFFER_DIRECT);
+        if (properties.getBoolean(ClientProperty.NETWORK_COMPRESSION_ENABLED)) {
+            return new ClientPlainChannelInitializer(socketOptions, directBuffer, compressionStats,
+                    properties.getInteger(ClientProperty.NETWORK_COMPRESSION_THRESHOLD_BYTES));
+        }
         return new ClientPlainChannelInitializer(socketOptions, directBuffer);
     }
 
@@ -220,6 +226,11 @@ public class DefaultClientExtension implements ClientExtension {
         return memoryStats;
     }
 
+    @Override
+    public CompressionStats getCompressionStats() {
+        return compressionStats;
+    }
+
     private ClientProxyFactory createClientMapProxyFactory() {
         return (id, context) -> {
             ClientConfig clientConfig = client.getClientConfig();
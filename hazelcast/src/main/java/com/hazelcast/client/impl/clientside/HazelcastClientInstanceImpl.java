@@ -168,6 +168,7 @@ import static com.hazelcast.client.properties.ClientProperty.IO_WRITE_THROUGH_EN
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
 import static com.hazelcast.client.properties.ClientProperty.RESPONSE_THREAD_DYNAMIC;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_MEMORY;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_PREFIX_COMPRESSION;
 import static com.hazelcast.internal.metrics.impl.MetricsConfigHelper.clientMetricsLevel;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
@@ -343,6 +344,7 @@ public class HazelcastClientInstanceImpl implements HazelcastClientInstance, Ser
         ClassLoadingMetricSet.register(metricsRegistry);
         FileMetricSet.register(metricsRegistry);
         metricsRegistry.registerStaticMetrics(clientExtension.getMemoryStats(), CLIENT_PREFIX_MEMORY);
+        metricsRegistry.registerStaticMetrics(clientExtension.getCompressionStats(), TCP_PREFIX_COMPRESSION);
         metricsRegistry.provideMetrics(clientExtension);
         metricsRegistry.provideMetrics(executionService);
     }
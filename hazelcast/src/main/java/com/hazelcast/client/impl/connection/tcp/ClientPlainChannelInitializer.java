@@ -21,6 +21,10 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageDecoder;
 import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelInitializer;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
+import com.hazelcast.internal.networking.compression.CompressionFallback;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 
 import static com.hazelcast.client.config.SocketOptions.KILO_BYTE;
 import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
@@ -31,6 +35,8 @@ import static com.hazelcast.internal.networking.ChannelOption.SO_REUSEADDR;
 import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
 import static com.hazelcast.internal.networking.ChannelOption.SO_TIMEOUT;
 import static com.hazelcast.internal.networking.ChannelOption.TCP_NODELAY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 
 
 /**
@@ -43,10 +49,25 @@ import static com.hazelcast.internal.networking.ChannelOption.TCP_NODELAY;
 public class ClientPlainChannelInitializer implements ChannelInitializer {
     private final boolean directBuffer;
     private final SocketOptions socketOptions;
+    private final CompressionStats compressionStats;
+    private final int compressionThreshold;
+    private final CompressionFallback compressionFallback = new CompressionFallback();
 
     public ClientPlainChannelInitializer(SocketOptions socketOptions, boolean directBuffer) {
+        this(socketOptions, directBuffer, null, 0);
+    }
+
+    /**
+     * @param compressionStats     the statistics of the compressed connections or
+     *                             {@code null} if the connections should not be compressed
+     * @param compressionThreshold the minimum number of pending bytes to compress
+     */
+    public ClientPlainChannelInitializer(SocketOptions socketOptions, boolean directBuffer,
+                                         CompressionStats compressionStats, int compressionThreshold) {
         this.socketOptions = socketOptions;
         this.directBuffer = directBuffer;
+        this.compressionStats = compressionStats;
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
@@ -63,12 +84,23 @@ public class ClientPlainChannelInitializer implements ChannelInitializer {
 
         final TcpClientConnection connection = (TcpClientConnection) channel.attributeMap().get(TcpClientConnection.class);
 
+        // a member running an older version rejects the compressed protocol,
+        // the following connections to it are then opened uncompressed
+        boolean compressed = compressionStats != null && compressionFallback.tryCompress(channel);
+
         ClientMessageDecoder decoder = new ClientMessageDecoder(connection, connection::handleClientMessage, null);
+        if (compressed) {
+            channel.inboundPipeline().addLast(new CompressionDecoder(compressionStats));
+        }
         channel.inboundPipeline().addLast(decoder);
 
         channel.outboundPipeline().addLast(new ClientMessageEncoder());
+        if (compressed) {
+            channel.outboundPipeline().addLast(new CompressionEncoder(compressionThreshold, compressionStats));
+        }
         // before a client sends any data, it first needs to send the protocol.
         // so the protocol encoder is actually the last handler in the outbound pipeline.
-        channel.outboundPipeline().addLast(new ClientProtocolEncoder());
+        channel.outboundPipeline().addLast(new ClientProtocolEncoder(
+                compressed ? CLIENT_BINARY_COMPRESSED : CLIENT_BINARY));
     }
 }
@@ -119,6 +119,7 @@ import static com.hazelcast.client.impl.connection.tcp.AuthenticationKeyValuePai
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
+import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_IMBALANCED_ROUNDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.client.properties.ClientProperty.IO_OUTPUT_THREAD_COUNT;
@@ -332,6 +333,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                         .outputThreadCount(outputThreads)
                         .outputThreadAffinity(newSystemThreadAffinity("hazelcast.client.io.output.thread.affinity"))
                         .balancerIntervalSeconds(properties.getInteger(IO_BALANCER_INTERVAL_SECONDS))
+                        .balancerImbalancedRounds(properties.getInteger(IO_BALANCER_IMBALANCED_ROUNDS))
                         .writeThroughEnabled(properties.getBoolean(IO_WRITE_THROUGH_ENABLED))
                         .concurrencyDetection(client.getConcurrencyDetection())
         );
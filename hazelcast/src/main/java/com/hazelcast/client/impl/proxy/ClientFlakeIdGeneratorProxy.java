@@ -27,6 +27,8 @@ import com.hazelcast.flakeidgen.FlakeIdGenerator;
 import com.hazelcast.flakeidgen.impl.AutoBatcher;
 import com.hazelcast.flakeidgen.impl.IdBatch;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Proxy implementation of {@link FlakeIdGenerator}.
  */
@@ -39,7 +41,17 @@ public class ClientFlakeIdGeneratorProxy extends ClientProxy implements FlakeIdG
 
         ClientFlakeIdGeneratorConfig config = getContext().getClientConfig().findFlakeIdGeneratorConfig(getName());
         batcher = new AutoBatcher(config.getPrefetchCount(), config.getPrefetchValidityMillis(),
-                ClientFlakeIdGeneratorProxy.this::newIdBatch);
+                new AutoBatcher.IdBatchSupplier() {
+                    @Override
+                    public IdBatch newIdBatch(int batchSize) {
+                        return ClientFlakeIdGeneratorProxy.this.newIdBatch(batchSize);
+                    }
+
+                    @Override
+                    public CompletableFuture<IdBatch> newIdBatchAsync(int batchSize) {
+                        return ClientFlakeIdGeneratorProxy.this.newIdBatchAsync(batchSize);
+                    }
+                }, true);
     }
 
     @Override
@@ -51,6 +63,17 @@ public class ClientFlakeIdGeneratorProxy extends ClientProxy implements FlakeIdG
         ClientMessage requestMsg = FlakeIdGeneratorNewIdBatchCodec.encodeRequest(name, batchSize);
         ClientMessage responseMsg = new ClientInvocation(getClient(), requestMsg, getName())
                 .invoke().joinInternal();
+        return decodeIdBatch(responseMsg);
+    }
+
+    private CompletableFuture<IdBatch> newIdBatchAsync(int batchSize) {
+        ClientMessage requestMsg = FlakeIdGeneratorNewIdBatchCodec.encodeRequest(name, batchSize);
+        return new ClientInvocation(getClient(), requestMsg, getName())
+                .invoke()
+                .thenApply(ClientFlakeIdGeneratorProxy::decodeIdBatch);
+    }
+
+    private static IdBatch decodeIdBatch(ClientMessage responseMsg) {
         ResponseParameters response = FlakeIdGeneratorNewIdBatchCodec.decodeResponse(responseMsg);
         return new IdBatch(response.base, response.increment, response.batchSize);
     }
@@ -153,6 +153,48 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_BALANCER_INTERVAL_SECONDS
             = new HazelcastProperty("hazelcast.client.io.balancer.interval.seconds", 20, SECONDS);
 
+    /**
+     * The number of consecutive {@link com.hazelcast.internal.networking.nio.iobalancer.IOBalancer IOBalancer}
+     * executions that need to see an imbalance between the same pair of I/O threads before a pipeline is
+     * migrated between them.
+     * <p>
+     * The default is 2. A value of 1 migrates as soon as an imbalance is seen.
+     *
+     * @since 5.7
+     */
+    public static final HazelcastProperty IO_BALANCER_IMBALANCED_ROUNDS
+            = new HazelcastProperty("hazelcast.client.io.balancer.imbalanced.rounds", 2);
+
+    /**
+     * If the client should open compressed connections to the members
+     * ({@code true}) or not ({@code false}).
+     * <p>
+     * The client requests the compression with the protocol bytes. Members
+     * running an older version, or accepting clients on an advanced network
+     * endpoint, reject the connection; the client then opens the following
+     * connections to such a member uncompressed for five minutes. A connection
+     * closed before the member answered is taken as a rejection too.
+     * Compression applies to connections without TLS only.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @see #NETWORK_COMPRESSION_THRESHOLD_BYTES
+     * @since 5.7
+     */
+    public static final HazelcastProperty NETWORK_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.client.network.compression.enabled", false);
+
+    /**
+     * The minimum number of pending bytes on a compressed connection before
+     * they are compressed. Smaller batches are sent uncompressed.
+     * <p>
+     * Default is {@code 1024} bytes.
+     *
+     * @since 5.7
+     */
+    public static final HazelcastProperty NETWORK_COMPRESSION_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.client.network.compression.threshold.bytes", 1024);
+
     /**
      * Optimization that allows sending of packets over the network to be done on the calling thread if the
      * conditions are right. This can reduce latency and increase performance for low threaded environments.
@@ -143,6 +143,11 @@ public class FlakeIdGeneratorConfig implements IdentifiedDataSerializable, Named
      * Sets how many IDs are pre-fetched on the background when one call to
      * {@link FlakeIdGenerator#newId()} is made. Default is 100.
      * <p>
+     * The count is an upper bound: if IDs are consumed too slowly to use up
+     * a full batch within half of the {@linkplain #setPrefetchValidityMillis
+     * prefetch validity}, smaller batches are fetched. The next batch is
+     * fetched on the background before the current one is used up.
+     * <p>
      * This setting pertains only to {@link FlakeIdGenerator#newId newId()} calls made on the member
      * that configured it.
      *
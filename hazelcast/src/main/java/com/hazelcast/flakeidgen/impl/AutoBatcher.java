@@ -16,27 +16,101 @@
 
 package com.hazelcast.flakeidgen.impl;
 
+import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.tpcengine.util.ReflectionUtil;
 import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.internal.util.counters.SwCounter;
 
 import java.lang.invoke.VarHandle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.FLAKE_ID_METRIC_BATCH_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.FLAKE_ID_METRIC_STALL_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.FLAKE_ID_METRIC_STALL_TIME;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.util.ConcurrencyUtil.getDefaultAsyncExecutor;
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 
 /**
  * A utility to serve IDs from IdBatch one by one, watching for validity.
  * It's a separate class due to testability.
+ * <p>
+ * In adaptive mode, the size of each batch is derived from the observed
+ * consumption rate so that a batch is used up in about half of its validity,
+ * capped by the configured batch size. The next batch is fetched in the
+ * background once half of the current batch is used or half of its validity
+ * has elapsed, so under steady load callers never wait for a batch fetch.
+ * Every time a caller has to wait for a batch anyway, it's counted as a
+ * stall.
  */
 public class AutoBatcher {
+
+    /**
+     * The fraction of a batch (by count and by validity) after which the next
+     * batch is fetched in the background.
+     */
+    private static final double REFILL_THRESHOLD = 0.5;
+    /**
+     * The weight of the newest sample in the consumption rate estimate.
+     */
+    private static final double RATE_SMOOTHING = 0.5;
+    /**
+     * The target lifetime of a batch, if the IDs never expire.
+     */
+    private static final long DEFAULT_TARGET_BATCH_MILLIS = 1000;
+
     private final int batchSize;
     private final long validity;
+    private final boolean adaptive;
+    private final LongSupplier clock;
 
-    private volatile Block block = new Block(new IdBatch(0, 0, 0), 0);
+    private volatile Block block;
 
     private final IdBatchSupplier batchIdSupplier;
 
+    // the batch fetched in the background, guarded by this
+    private CompletableFuture<Block> nextBlock;
+    // the smoothed consumption rate in IDs per millisecond, negative if unknown, guarded by this
+    private double consumptionRate = -1;
+
+    @Probe(name = FLAKE_ID_METRIC_STALL_COUNT)
+    private final SwCounter stallCount = newSwCounter();
+    @Probe(name = FLAKE_ID_METRIC_STALL_TIME, unit = NS)
+    private final SwCounter stallTimeNanos = newSwCounter();
+    @Probe(name = FLAKE_ID_METRIC_BATCH_SIZE)
+    private volatile int lastBatchSize;
+
+    /**
+     * Creates a batcher fetching batches of fixed size synchronously, when
+     * the current batch is spent or expired.
+     */
     public AutoBatcher(int batchSize, long validity, IdBatchSupplier idGenerator) {
+        this(batchSize, validity, idGenerator, false);
+    }
+
+    /**
+     * @param batchSize   the size of the batches, the maximum size in adaptive mode
+     * @param validity    the validity of a batch in milliseconds, unlimited if &lt;= 0
+     * @param idGenerator the batch supplier
+     * @param adaptive    whether to size batches from the consumption rate and
+     *                    fetch them in the background
+     */
+    public AutoBatcher(int batchSize, long validity, IdBatchSupplier idGenerator, boolean adaptive) {
+        this(batchSize, validity, idGenerator, adaptive, Clock::currentTimeMillis);
+    }
+
+    AutoBatcher(int batchSize, long validity, IdBatchSupplier idGenerator, boolean adaptive, LongSupplier clock) {
         this.batchSize = batchSize;
         this.validity = validity;
         this.batchIdSupplier = idGenerator;
+        this.adaptive = adaptive;
+        this.clock = clock;
+        this.block = new Block(new IdBatch(0, 0, 0), 0, clock);
     }
 
     /**
@@ -48,6 +122,9 @@ public class AutoBatcher {
             Block block = this.block;
             long res = block.next();
             if (res != Long.MIN_VALUE) {
+                if (adaptive && block.shouldRefill()) {
+                    startRefill(block);
+                }
                 return res;
             }
 
@@ -56,28 +133,131 @@ public class AutoBatcher {
                     // new block was assigned in the meantime
                     continue;
                 }
-                this.block = new Block(batchIdSupplier.newIdBatch(batchSize), validity);
+                if (adaptive) {
+                    this.block = nextAdaptiveBlock(block);
+                } else {
+                    lastBatchSize = batchSize;
+                    this.block = new Block(batchIdSupplier.newIdBatch(batchSize), validity, clock);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of times a caller had to wait for a batch to be fetched.
+     */
+    public long getStallCount() {
+        return stallCount.get();
+    }
+
+    /**
+     * Returns the total time callers waited for batches to be fetched, in nanoseconds.
+     */
+    public long getStallTimeNanos() {
+        return stallTimeNanos.get();
+    }
+
+    /**
+     * Returns the size of the most recently requested batch.
+     */
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    private void startRefill(Block block) {
+        synchronized (this) {
+            if (block != this.block || nextBlock != null) {
+                return;
+            }
+            int size = nextBatchSize();
+            lastBatchSize = size;
+            nextBlock = batchIdSupplier.newIdBatchAsync(size).thenApply(idBatch -> new Block(idBatch, validity, clock));
+        }
+    }
+
+    // must be called while holding the lock on this
+    private Block nextAdaptiveBlock(Block spent) {
+        updateConsumptionRate(spent);
+        CompletableFuture<Block> pending = nextBlock;
+        nextBlock = null;
+
+        long startNanos = Timer.nanos();
+        boolean stalled = pending == null || !pending.isDone();
+        Block next = null;
+        if (pending != null) {
+            try {
+                next = pending.join();
+            } catch (CompletionException | CancellationException e) {
+                // fetch again below, so the failure is reported to the caller
+                ignore(e);
             }
         }
+        if (next == null || !next.isUsable()) {
+            stalled = true;
+            int size = nextBatchSize();
+            lastBatchSize = size;
+            next = new Block(batchIdSupplier.newIdBatch(size), validity, clock);
+        }
+        if (stalled) {
+            stallCount.inc();
+            stallTimeNanos.inc(Timer.nanosElapsed(startNanos));
+        }
+        next.currentSince = clock.getAsLong();
+        return next;
+    }
+
+    private void updateConsumptionRate(Block spent) {
+        int size = spent.idBatch.batchSize();
+        if (size == 0) {
+            // the initial empty block
+            return;
+        }
+        long elapsedMillis = Math.max(1, clock.getAsLong() - spent.currentSince);
+        double sample = (double) Math.min(spent.numReturned, size) / elapsedMillis;
+        consumptionRate = consumptionRate < 0
+                ? sample
+                : RATE_SMOOTHING * sample + (1 - RATE_SMOOTHING) * consumptionRate;
+    }
+
+    private int nextBatchSize() {
+        if (consumptionRate < 0) {
+            return batchSize;
+        }
+        long targetMillis = validity > 0 ? (long) (validity * REFILL_THRESHOLD) : DEFAULT_TARGET_BATCH_MILLIS;
+        double size = Math.ceil(consumptionRate * targetMillis);
+        return (int) Math.max(1, Math.min(batchSize, size));
     }
 
     private static final class Block {
         private static final VarHandle NUM_RETURNED = ReflectionUtil.findVarHandle("numReturned", int.class);
+        private static final VarHandle REFILL_REQUESTED = ReflectionUtil.findVarHandle("refillRequested", boolean.class);
 
         private final IdBatch idBatch;
+        private final LongSupplier clock;
         private final long invalidSince;
+        private final int refillIndex;
+        private final long refillSince;
+        // the time the block became the current one, the validity counts from the fetch time instead;
+        // written under the lock on the batcher before the block is published
+        private long currentSince;
         private volatile int numReturned;
+        private volatile boolean refillRequested;
 
-        private Block(IdBatch idBatch, long validity) {
+        private Block(IdBatch idBatch, long validity, LongSupplier clock) {
             this.idBatch = idBatch;
-            this.invalidSince = validity > 0 ? Clock.currentTimeMillis() + validity : Long.MAX_VALUE;
+            this.clock = clock;
+            long fetchedAt = clock.getAsLong();
+            this.currentSince = fetchedAt;
+            this.invalidSince = validity > 0 ? fetchedAt + validity : Long.MAX_VALUE;
+            this.refillIndex = (int) (idBatch.batchSize() * REFILL_THRESHOLD);
+            this.refillSince = validity > 0 ? fetchedAt + (long) (validity * REFILL_THRESHOLD) : Long.MAX_VALUE;
         }
 
         /**
          * Returns next ID or Long.MIN_VALUE, if there is none.
          */
         long next() {
-            if (invalidSince <= Clock.currentTimeMillis()) {
+            if (invalidSince <= clock.getAsLong()) {
                 return Long.MIN_VALUE;
             }
             int index;
@@ -89,10 +269,34 @@ public class AutoBatcher {
             } while (!NUM_RETURNED.compareAndSet(this, index, index + 1));
             return idBatch.base() + index * idBatch.increment();
         }
+
+        /**
+         * Returns {@code true} exactly once, after the block is used up or
+         * aged past the refill threshold.
+         */
+        boolean shouldRefill() {
+            if (refillRequested
+                    || (numReturned < refillIndex && clock.getAsLong() < refillSince)) {
+                return false;
+            }
+            return REFILL_REQUESTED.compareAndSet(this, false, true);
+        }
+
+        boolean isUsable() {
+            return numReturned < idBatch.batchSize() && invalidSince > clock.getAsLong();
+        }
     }
 
     public interface IdBatchSupplier {
         IdBatch newIdBatch(int batchSize);
+
+        /**
+         * Fetches a new batch without blocking the caller. The default
+         * implementation runs {@link #newIdBatch(int)} on the default
+         * asynchronous executor.
+         */
+        default CompletableFuture<IdBatch> newIdBatchAsync(int batchSize) {
+            return CompletableFuture.supplyAsync(() -> newIdBatch(batchSize), getDefaultAsyncExecutor());
+        }
     }
 }
-
@@ -32,12 +32,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.ASYNC_EXECUTOR;
 import static java.lang.Thread.currentThread;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -70,7 +73,7 @@ public class FlakeIdGeneratorProxy
     private final AtomicLong generatedValue = new AtomicLong(Long.MIN_VALUE);
 
     private volatile Member randomMember;
-    private AutoBatcher batcher;
+    private final AutoBatcher batcher;
 
     /**
      * Set of member UUIDs of which we know have node IDs out of range. These members are never again used
@@ -108,11 +111,21 @@ public class FlakeIdGeneratorProxy
                         }
                         return result.idBatch;
                     }
-                });
+
+                    @Override
+                    public CompletableFuture<IdBatch> newIdBatchAsync(int batchSize) {
+                        Executor executor = nodeEngine.getExecutionService().getExecutor(ASYNC_EXECUTOR);
+                        return CompletableFuture.supplyAsync(() -> newIdBatch(batchSize), executor);
+                    }
+                }, true);
 
         logger.finest("Created FlakeIdGeneratorProxy, name='%s'", name);
     }
 
+    AutoBatcher getBatcher() {
+        return batcher;
+    }
+
     @Override
     public long newId() {
         // The cluster version is checked when ClusterService.getMemberListJoinVersion() is called. This always happens
@@ -32,6 +32,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.FLAKE_ID_GENERATOR_PREFIX;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.GENERAL_DISCRIMINATOR_NAME;
 import static com.hazelcast.internal.metrics.impl.ProviderHelper.provide;
 import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutIfAbsent;
 
@@ -40,6 +41,10 @@ public class FlakeIdGeneratorServiceImpl implements FlakeIdGeneratorService {
     private final ConcurrentHashMap<String, LocalFlakeIdGeneratorStatsImpl> statsMap = new ConcurrentHashMap<>();
     private final ConstructorFunction<String, LocalFlakeIdGeneratorStatsImpl> localFlakeIdStatsConstructorFunction
         = key -> new LocalFlakeIdGeneratorStatsImpl();
+    /**
+     * The batchers of the proxies created on this member, keyed by generator name.
+     */
+    private final ConcurrentHashMap<String, AutoBatcher> batchers = new ConcurrentHashMap<>();
 
     public FlakeIdGeneratorServiceImpl(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -58,6 +63,7 @@ public class FlakeIdGeneratorServiceImpl implements FlakeIdGeneratorService {
     @Override
     public void reset() {
         statsMap.clear();
+        batchers.clear();
     }
 
     @Override
@@ -67,12 +73,17 @@ public class FlakeIdGeneratorServiceImpl implements FlakeIdGeneratorService {
 
     @Override
     public DistributedObject createDistributedObject(String name, UUID source, boolean local) {
-        return new FlakeIdGeneratorProxy(name, nodeEngine, this, source);
+        FlakeIdGeneratorProxy proxy = new FlakeIdGeneratorProxy(name, nodeEngine, this, source);
+        if (nodeEngine.getConfig().findFlakeIdGeneratorConfig(name).isStatisticsEnabled()) {
+            batchers.put(name, proxy.getBatcher());
+        }
+        return proxy;
     }
 
     @Override
     public void destroyDistributedObject(String name, boolean local) {
         statsMap.remove(name);
+        batchers.remove(name);
     }
 
     @Override
@@ -98,5 +109,12 @@ public class FlakeIdGeneratorServiceImpl implements FlakeIdGeneratorService {
     @Override
     public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
         provide(descriptor, context, FLAKE_ID_GENERATOR_PREFIX, getStats());
+        for (Map.Entry<String, AutoBatcher> entry : batchers.entrySet()) {
+            MetricDescriptor batcherDescriptor = descriptor
+                    .copy()
+                    .withPrefix(FLAKE_ID_GENERATOR_PREFIX)
+                    .withDiscriminator(GENERAL_DISCRIMINATOR_NAME, entry.getKey());
+            context.collect(batcherDescriptor, entry.getValue());
+        }
     }
 }
@@ -43,6 +43,7 @@ import java.util.Properties;
 
 import static com.hazelcast.config.ConfigAccessor.getActiveMemberNetworkConfig;
 import static com.hazelcast.internal.util.ThreadAffinity.newSystemThreadAffinity;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_IMBALANCED_ROUNDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_OUTPUT_THREAD_COUNT;
@@ -174,6 +175,7 @@ public class DefaultNodeContext implements NodeContext {
                         .outputThreadCount(props.getInteger(IO_OUTPUT_THREAD_COUNT))
                         .outputThreadAffinity(newSystemThreadAffinity("hazelcast.io.output.thread.affinity"))
                         .balancerIntervalSeconds(props.getInteger(IO_BALANCER_INTERVAL_SECONDS))
+                        .balancerImbalancedRounds(props.getInteger(IO_BALANCER_IMBALANCED_ROUNDS))
                         .writeThroughEnabled(props.getBoolean(IO_WRITE_THROUGH_ENABLED))
                         .concurrencyDetection(node.nodeEngine.getConcurrencyDetection())
         );
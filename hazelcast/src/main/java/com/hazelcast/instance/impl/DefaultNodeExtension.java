@@ -88,6 +88,9 @@ import com.hazelcast.internal.namespace.impl.NodeEngineThreadLocalContext;
 import com.hazelcast.internal.networking.ChannelInitializer;
 import com.hazelcast.internal.networking.InboundHandler;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationServiceBuilder;
@@ -97,6 +100,7 @@ import com.hazelcast.internal.serialization.impl.compact.schema.MemberSchemaServ
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.tcp.ChannelInitializerFunction;
+import com.hazelcast.internal.server.tcp.GatheringPacketEncoder;
 import com.hazelcast.internal.server.tcp.PacketDecoder;
 import com.hazelcast.internal.server.tcp.PacketEncoder;
 import com.hazelcast.internal.tpc.TpcServerBootstrap;
@@ -475,12 +479,25 @@ public class DefaultNodeExtension implements NodeExtension {
                                                   ServerConnection connection, ServerContext serverContext) {
         NodeEngineImpl nodeEngine = node.nodeEngine;
         PacketDecoder decoder = new PacketDecoder(connection, nodeEngine.getPacketDispatcher());
+        CompressionStats compressionStats = (CompressionStats) connection.attributeMap().get(CompressionStats.class);
+        if (compressionStats != null) {
+            return new InboundHandler[]{new CompressionDecoder(compressionStats), decoder};
+        }
         return new InboundHandler[]{decoder};
     }
 
     @Override
     public OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier,
                                                     ServerConnection connection, ServerContext serverContext) {
+        CompressionStats compressionStats = (CompressionStats) connection.attributeMap().get(CompressionStats.class);
+        if (compressionStats != null) {
+            // the compressor consumes the encoded packets from a buffer, so gathering writes don't apply
+            int threshold = node.getProperties().getInteger(ClusterProperty.NETWORK_COMPRESSION_THRESHOLD_BYTES);
+            return new OutboundHandler[]{new PacketEncoder(), new CompressionEncoder(threshold, compressionStats)};
+        }
+        if (node.getProperties().getBoolean(ClusterProperty.SOCKET_GATHERING_WRITE)) {
+            return new OutboundHandler[]{new GatheringPacketEncoder()};
+        }
         return new OutboundHandler[]{new PacketEncoder()};
     }
 
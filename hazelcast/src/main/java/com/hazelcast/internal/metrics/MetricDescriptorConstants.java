@@ -168,6 +168,9 @@ public final class MetricDescriptorConstants {
     public static final String FLAKE_ID_METRIC_CREATION_TIME = "creationTime";
     public static final String FLAKE_ID_METRIC_BATCH_COUNT = "batchCount";
     public static final String FLAKE_ID_METRIC_ID_COUNT = "idCount";
+    public static final String FLAKE_ID_METRIC_STALL_COUNT = "stallCount";
+    public static final String FLAKE_ID_METRIC_STALL_TIME = "stallTime";
+    public static final String FLAKE_ID_METRIC_BATCH_SIZE = "batchSize";
     // ===[/FLAKE ID GENERATOR]=========================================
 
     // ===[GC]==========================================================
@@ -300,6 +303,7 @@ public final class MetricDescriptorConstants {
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME = "totalElapsedMigrationOperationTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME = "totalElapsedDestinationCommitTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME = "totalElapsedMigrationTime";
+    public static final String MIGRATION_METRIC_TOTAL_MIGRATED_BYTES = "totalMigratedBytes";
     // ===[/MIGRATION]==================================================
 
     // ===[MULTIMAP]====================================================
@@ -361,8 +365,10 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_THREAD_COMPLETED_TASK_COUNT = "completedTaskCount";
     public static final String NETWORKING_METRIC_NIO_THREAD_SELECTOR_REBUILD_COUNT = "selectorRebuildCount";
     public static final String NETWORKING_METRIC_NIO_THREAD_IDLE_TIME_MILLIS = "idleTimeMillis";
+    public static final String NETWORKING_METRIC_NIO_THREAD_BUSY_TIME_NANOS = "busyTimeNanos";
     public static final String NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT = "imbalanceDetectedCount";
     public static final String NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT = "migrationCompletedCount";
+    public static final String NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_SCHEDULED_COUNT = "migrationScheduledCount";
     // ===[/NETWORKING]=================================================
 
     // ===[OPERATION]===================================================
@@ -542,10 +548,18 @@ public final class MetricDescriptorConstants {
     public static final String SET_METRIC_CREATION_TIME = "creationTime";
     // ===[/SET]======================================================
 
+    // ===[SQL]=========================================================
+    public static final String SQL_PREFIX_RESULT_CACHE = "sql.resultCache";
+    public static final String SQL_RESULT_CACHE_METRIC_HIT_COUNT = "hitCount";
+    public static final String SQL_RESULT_CACHE_METRIC_MISS_COUNT = "missCount";
+    public static final String SQL_RESULT_CACHE_METRIC_SIZE = "size";
+    // ===[/SQL]========================================================
+
     // ===[TCP]=========================================================
     public static final String TCP_PREFIX = "tcp";
     public static final String TCP_PREFIX_ACCEPTOR = "tcp.acceptor";
     public static final String TCP_PREFIX_BALANCER = "tcp.balancer";
+    public static final String TCP_PREFIX_COMPRESSION = "tcp.compression";
     public static final String TCP_PREFIX_CONNECTION = "tcp.connection";
     public static final String TCP_PREFIX_CONNECTION_IN = "tcp.connection.in";
     public static final String TCP_PREFIX_CONNECTION_OUT = "tcp.connection.out";
@@ -571,6 +585,12 @@ public final class MetricDescriptorConstants {
     public static final String TCP_METRIC_ENDPOINT_MANAGER_ACCEPTED_SOCKET_COUNT = "acceptedSocketCount";
     public static final String TCP_METRIC_CLIENT_COUNT = "clientCount";
     public static final String TCP_METRIC_TEXT_COUNT = "textCount";
+    public static final String TCP_METRIC_COMPRESSION_BYTES_IN = "compressionBytesIn";
+    public static final String TCP_METRIC_COMPRESSION_BYTES_OUT = "compressionBytesOut";
+    public static final String TCP_METRIC_COMPRESSION_BYTES_BYPASSED = "compressionBytesBypassed";
+    public static final String TCP_METRIC_COMPRESSION_RATIO = "compressionRatio";
+    public static final String TCP_METRIC_DECOMPRESSION_BYTES_IN = "decompressionBytesIn";
+    public static final String TCP_METRIC_DECOMPRESSION_BYTES_OUT = "decompressionBytesOut";
     // ===[/TCP]========================================================
 
     // ===[TOPIC]=======================================================
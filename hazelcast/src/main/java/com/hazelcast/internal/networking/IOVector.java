@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * A vector of {@link ByteBuffer} instances that is written with a single gathering
+ * write (see {@link GatheringByteChannel#write(ByteBuffer[], int, int)}) instead of
+ * the buffers being copied into a single send buffer first.
+ * <p>
+ * It can be used as the dst of the last {@link OutboundHandler} in the outbound
+ * pipeline. The buffers added are expected to be in reading mode and should not
+ * be modified until they have been written.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IOVector {
+
+    /**
+     * The maximum number of buffers in the vector. Matches the IOV_MAX limit of
+     * the writev system call on Linux.
+     */
+    public static final int IOV_MAX = 1024;
+
+    private final ByteBuffer[] array = new ByteBuffer[IOV_MAX];
+    // index of the first buffer that has not been written completely
+    private int offset;
+    // index after the last buffer
+    private int length;
+    private long remaining;
+
+    /**
+     * Adds a buffer to the end of the vector.
+     *
+     * @param buffer the buffer to add
+     * @return {@code true} if the buffer was added, {@code false} if the vector is full.
+     */
+    public boolean offer(ByteBuffer buffer) {
+        if (length == IOV_MAX) {
+            if (offset == 0) {
+                return false;
+            }
+            compact();
+        }
+
+        array[length++] = buffer;
+        remaining += buffer.remaining();
+        return true;
+    }
+
+    /**
+     * @return the number of buffers that can still be added.
+     */
+    public int capacity() {
+        return IOV_MAX - size();
+    }
+
+    /**
+     * @return the number of buffers that have not been written completely.
+     */
+    public int size() {
+        return length - offset;
+    }
+
+    /**
+     * @return the number of bytes that have not been written.
+     */
+    public long remaining() {
+        return remaining;
+    }
+
+    public boolean hasRemaining() {
+        return remaining > 0;
+    }
+
+    /**
+     * Writes as many bytes as the channel accepts with a single gathering write.
+     *
+     * @param channel the channel to write to
+     * @return the number of bytes written
+     * @throws IOException if the write fails
+     */
+    public long write(GatheringByteChannel channel) throws IOException {
+        if (offset == length) {
+            return 0;
+        }
+
+        long written = channel.write(array, offset, length - offset);
+        remaining -= written;
+        while (offset < length && !array[offset].hasRemaining()) {
+            array[offset++] = null;
+        }
+        if (offset == length) {
+            offset = 0;
+            length = 0;
+        }
+        return written;
+    }
+
+    /**
+     * Removes all buffers from the vector.
+     */
+    public void clear() {
+        for (int k = offset; k < length; k++) {
+            array[k] = null;
+        }
+        offset = 0;
+        length = 0;
+        remaining = 0;
+    }
+
+    private void compact() {
+        int size = length - offset;
+        System.arraycopy(array, offset, array, 0, size);
+        for (int k = size; k < length; k++) {
+            array[k] = null;
+        }
+        offset = 0;
+        length = size;
+    }
+
+    @Override
+    public String toString() {
+        return "IOVector{size=" + size() + ", remaining=" + remaining + '}';
+    }
+}
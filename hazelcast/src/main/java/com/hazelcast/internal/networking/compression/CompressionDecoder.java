@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.InboundHandler;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.FRAME_DEFLATED;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.FRAME_HEADER_LENGTH;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.FRAME_RAW;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static java.lang.Math.min;
+
+/**
+ * A {@link InboundHandler} that decodes the frames written by the
+ * {@link CompressionEncoder} and forwards the decompressed bytes to the next
+ * handler in the pipeline.
+ *
+ * @see CompressionEncoder
+ */
+public class CompressionDecoder extends InboundHandler<ByteBuffer, ByteBuffer> {
+
+    private final Inflater inflater = new Inflater(true);
+    private final CompressionStats stats;
+    private byte frameType;
+    private int frameRemaining;
+    // true if the inflater may still hold output of an already read frame
+    private boolean inflatePending;
+
+    public CompressionDecoder(CompressionStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void handlerAdded() {
+        initSrcBuffer();
+        // the native memory of the inflater isn't released until it's ended
+        channel.addCloseListener(closed -> inflater.end());
+    }
+
+    @Override
+    public HandlerStatus onRead() throws Exception {
+        src.flip();
+        try {
+            for (; ; ) {
+                if (!dst.hasRemaining()) {
+                    // the next handler first needs to consume what has been decompressed
+                    return DIRTY;
+                }
+
+                if (frameRemaining == 0) {
+                    if (inflatePending) {
+                        inflate(0);
+                        continue;
+                    }
+
+                    if (src.remaining() < FRAME_HEADER_LENGTH) {
+                        // the frame header has not yet been fully received
+                        return CLEAN;
+                    }
+                    readFrameHeader();
+                }
+
+                int length = min(frameRemaining, src.remaining());
+                if (frameType == FRAME_RAW) {
+                    length = min(length, dst.remaining());
+                    if (length == 0) {
+                        return CLEAN;
+                    }
+                    copyRaw(length);
+                } else if (!inflate(length)) {
+                    if (length == 0) {
+                        // more compressed bytes are needed
+                        return CLEAN;
+                    }
+                    throw new IllegalStateException("Inflater made no progress on " + channel);
+                }
+            }
+        } finally {
+            compactOrClear(src);
+        }
+    }
+
+    private void readFrameHeader() {
+        frameType = src.get();
+        frameRemaining = src.getInt();
+        if ((frameType != FRAME_RAW && frameType != FRAME_DEFLATED) || frameRemaining <= 0) {
+            throw new IllegalStateException("Malformed compression frame [type=" + frameType
+                    + ", length=" + frameRemaining + "] received on " + channel);
+        }
+    }
+
+    private void copyRaw(int length) {
+        int limit = src.limit();
+        src.limit(src.position() + length);
+        dst.put(src);
+        src.limit(limit);
+        frameRemaining -= length;
+    }
+
+    private boolean inflate(int length) throws DataFormatException {
+        ByteBuffer input = src.slice();
+        input.limit(length);
+        inflater.setInput(input);
+        int produced = inflater.inflate(dst);
+        int consumed = input.position();
+        src.position(src.position() + consumed);
+        frameRemaining -= consumed;
+        stats.recordDecompressed(consumed, produced);
+        inflatePending = !dst.hasRemaining();
+        return consumed > 0 || produced > 0;
+    }
+}
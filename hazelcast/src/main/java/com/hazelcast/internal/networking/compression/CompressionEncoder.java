@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.OutboundHandler;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static java.lang.Math.min;
+import static java.util.zip.Deflater.SYNC_FLUSH;
+
+/**
+ * A {@link OutboundHandler} that compresses the bytes written by the previous
+ * handler in the pipeline.
+ * <p>
+ * The output is a sequence of frames: a type byte, the length of the frame
+ * payload as int and the payload. A frame either contains raw bytes or a part
+ * of a single deflate stream that lives as long as the connection, so the
+ * compressor keeps its dictionary between batches. Every compressed batch is
+ * sync-flushed so the receiver can decode it without waiting for more data.
+ * <p>
+ * Batches smaller than the threshold are sent raw: compressing a lone small
+ * packet costs more CPU than it saves on the wire.
+ *
+ * @see CompressionDecoder
+ */
+public class CompressionEncoder extends OutboundHandler<ByteBuffer, ByteBuffer> {
+
+    static final byte FRAME_RAW = 0;
+    static final byte FRAME_DEFLATED = 1;
+    static final int FRAME_HEADER_LENGTH = BYTE_SIZE_IN_BYTES + INT_SIZE_IN_BYTES;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+    private final int threshold;
+    private final CompressionStats stats;
+    // true if the deflater may still hold output of the current batch
+    private boolean deflatePending;
+
+    public CompressionEncoder(int threshold, CompressionStats stats) {
+        this.threshold = threshold;
+        this.stats = stats;
+    }
+
+    @Override
+    public void handlerAdded() {
+        initDstBuffer();
+        // the native memory of the deflater isn't released until it's ended
+        channel.addCloseListener(closed -> deflater.end());
+    }
+
+    @Override
+    public HandlerStatus onWrite() {
+        compactOrClear(dst);
+        try {
+            for (; ; ) {
+                if (!src.hasRemaining() && !deflatePending) {
+                    // everything is processed, so we are done
+                    return CLEAN;
+                }
+
+                if (dst.remaining() <= FRAME_HEADER_LENGTH) {
+                    // there is no room for another frame
+                    return DIRTY;
+                }
+
+                if (deflatePending || src.remaining() >= threshold) {
+                    writeDeflatedFrame();
+                } else {
+                    writeRawFrame();
+                }
+            }
+        } finally {
+            dst.flip();
+        }
+    }
+
+    private void writeRawFrame() {
+        int length = min(src.remaining(), dst.remaining() - FRAME_HEADER_LENGTH);
+        dst.put(FRAME_RAW);
+        dst.putInt(length);
+
+        int limit = src.limit();
+        src.limit(src.position() + length);
+        dst.put(src);
+        src.limit(limit);
+        stats.recordBypassed(length);
+    }
+
+    private void writeDeflatedFrame() {
+        int headerPosition = dst.position();
+        dst.position(headerPosition + FRAME_HEADER_LENGTH);
+        int available = dst.remaining();
+        int srcPosition = src.position();
+
+        deflater.setInput(src);
+        int length = deflater.deflate(dst, SYNC_FLUSH);
+        stats.recordCompressed(src.position() - srcPosition, length);
+
+        // with the output completely filled, the deflater may not have
+        // flushed everything yet
+        deflatePending = length == available;
+        if (length == 0) {
+            dst.position(headerPosition);
+            return;
+        }
+        dst.put(headerPosition, FRAME_DEFLATED);
+        dst.putInt(headerPosition + BYTE_SIZE_IN_BYTES, length);
+    }
+}
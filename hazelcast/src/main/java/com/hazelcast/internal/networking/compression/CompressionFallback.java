@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Remembers the peers that rejected a compressed connection, so that the
+ * following connections to them are opened with the uncompressed protocol.
+ * <p>
+ * A peer that doesn't know the compressed protocol closes the connection
+ * right after reading the protocol bytes, without writing anything. A peer
+ * that accepts it always answers: a member echoes the protocol, a member
+ * accepting a client sends the authentication response. A compressed
+ * connection closed before anything was read is therefore taken as a
+ * rejection. The peers are identified by the {@link Address} attribute of
+ * the channel.
+ * <p>
+ * A peer that is shutting down or drops the connection for another reason
+ * looks the same, so a rejection is only remembered for a limited time.
+ * After that, the next connection to the peer tries the compression again,
+ * and a compressed connection the peer answers clears the rejection.
+ */
+public class CompressionFallback {
+
+    /**
+     * The time for which a rejection is remembered.
+     */
+    public static final long DEFAULT_REJECTION_TTL_MILLIS = MINUTES.toMillis(5);
+
+    private static final ILogger LOGGER = Logger.getLogger(CompressionFallback.class);
+
+    // the time until which each peer is connected uncompressed
+    private final ConcurrentMap<Address, Long> rejectedUntil = new ConcurrentHashMap<>();
+    private final long rejectionTtlMillis;
+    private final LongSupplier clock;
+
+    public CompressionFallback() {
+        this(DEFAULT_REJECTION_TTL_MILLIS, Clock::currentTimeMillis);
+    }
+
+    CompressionFallback(long rejectionTtlMillis, LongSupplier clock) {
+        this.rejectionTtlMillis = rejectionTtlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Decides whether the given channel, which is about to be started,
+     * should use the compressed protocol. If it should, a listener that
+     * detects the rejection of the compression is added to the channel.
+     *
+     * @return {@code false} if the peer of the channel has recently rejected
+     * a compressed connection, {@code true} otherwise
+     */
+    public boolean tryCompress(Channel channel) {
+        Address peer = (Address) channel.attributeMap().get(Address.class);
+        if (peer == null) {
+            return true;
+        }
+        if (isRejectedBy(peer)) {
+            return false;
+        }
+        channel.addCloseListener(closed -> {
+            if (closed.bytesRead() > 0) {
+                rejectedUntil.remove(peer);
+            } else if (rejectedUntil.put(peer, clock.getAsLong() + rejectionTtlMillis) == null) {
+                LOGGER.info("Compressed connection to " + peer + " was closed before the peer answered, "
+                        + "connections to it are not compressed for the next " + rejectionTtlMillis + " ms");
+            }
+        });
+        return true;
+    }
+
+    boolean isRejectedBy(Address peer) {
+        Long until = rejectedUntil.get(peer);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.getAsLong()) {
+            return true;
+        }
+        rejectedUntil.remove(peer, until);
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.MwCounter;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_BYTES_BYPASSED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_BYTES_IN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_BYTES_OUT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_COMPRESSION_RATIO;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_DECOMPRESSION_BYTES_IN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TCP_METRIC_DECOMPRESSION_BYTES_OUT;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * Compression statistics shared by all {@link CompressionEncoder} and
+ * {@link CompressionDecoder} instances of a member or client.
+ */
+public class CompressionStats {
+
+    @Probe(name = TCP_METRIC_COMPRESSION_BYTES_IN, unit = BYTES)
+    private final MwCounter compressionBytesIn = newMwCounter();
+
+    @Probe(name = TCP_METRIC_COMPRESSION_BYTES_OUT, unit = BYTES)
+    private final MwCounter compressionBytesOut = newMwCounter();
+
+    @Probe(name = TCP_METRIC_COMPRESSION_BYTES_BYPASSED, unit = BYTES)
+    private final MwCounter compressionBytesBypassed = newMwCounter();
+
+    @Probe(name = TCP_METRIC_DECOMPRESSION_BYTES_IN, unit = BYTES)
+    private final MwCounter decompressionBytesIn = newMwCounter();
+
+    @Probe(name = TCP_METRIC_DECOMPRESSION_BYTES_OUT, unit = BYTES)
+    private final MwCounter decompressionBytesOut = newMwCounter();
+
+    void recordCompressed(int uncompressedBytes, int compressedBytes) {
+        compressionBytesIn.inc(uncompressedBytes);
+        compressionBytesOut.inc(compressedBytes);
+    }
+
+    void recordBypassed(int bytes) {
+        compressionBytesBypassed.inc(bytes);
+    }
+
+    void recordDecompressed(int compressedBytes, int uncompressedBytes) {
+        decompressionBytesIn.inc(compressedBytes);
+        decompressionBytesOut.inc(uncompressedBytes);
+    }
+
+    /**
+     * Returns the number of bytes that were handed to the compressor.
+     */
+    public long compressionBytesIn() {
+        return compressionBytesIn.get();
+    }
+
+    /**
+     * Returns the number of compressed bytes the compressor produced.
+     */
+    public long compressionBytesOut() {
+        return compressionBytesOut.get();
+    }
+
+    /**
+     * Returns the number of bytes that were sent uncompressed because the
+     * pending batch was smaller than the compression threshold.
+     */
+    public long compressionBytesBypassed() {
+        return compressionBytesBypassed.get();
+    }
+
+    /**
+     * Returns the number of compressed bytes that were decompressed.
+     */
+    public long decompressionBytesIn() {
+        return decompressionBytesIn.get();
+    }
+
+    /**
+     * Returns the number of bytes the decompressor produced.
+     */
+    public long decompressionBytesOut() {
+        return decompressionBytesOut.get();
+    }
+
+    /**
+     * Returns the ratio between the bytes handed to the compressor and the
+     * compressed bytes produced, or 0 if nothing has been compressed yet.
+     */
+    @Probe(name = TCP_METRIC_COMPRESSION_RATIO)
+    public double compressionRatio() {
+        long out = compressionBytesOut.get();
+        return out == 0 ? 0 : (double) compressionBytesIn.get() / out;
+    }
+}
@@ -107,6 +107,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     private final String threadNamePrefix;
     private final ChannelErrorHandler errorHandler;
     private final int balancerIntervalSeconds;
+    private final int balancerImbalancedRounds;
     private final int inputThreadCount;
     private final int outputThreadCount;
     private final Set<NioChannel> channels = ConcurrentHashMap.newKeySet();
@@ -147,6 +148,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         this.inputThreadAffinity = ctx.inputThreadAffinity;
         this.outputThreadAffinity = ctx.outputThreadAffinity;
         this.balancerIntervalSeconds = ctx.balancerIntervalSeconds;
+        this.balancerImbalancedRounds = ctx.balancerImbalancedRounds;
         this.selectorMode = ctx.selectorMode;
         this.selectorWorkaroundTest = ctx.selectorWorkaroundTest;
         this.idleStrategy = ctx.idleStrategy;
@@ -247,7 +249,8 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     }
 
     private void startIOBalancer() {
-        ioBalancer = new IOBalancer(inputThreads, outputThreads, threadNamePrefix, balancerIntervalSeconds, loggingService);
+        ioBalancer = new IOBalancer(inputThreads, outputThreads, threadNamePrefix, balancerIntervalSeconds,
+                balancerImbalancedRounds, loggingService);
         ioBalancer.start();
     }
 
@@ -481,6 +484,7 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         private int inputThreadCount = 1;
         private int outputThreadCount = 1;
         private int balancerIntervalSeconds;
+        private int balancerImbalancedRounds = 2;
         private ThreadAffinity inputThreadAffinity = ThreadAffinity.DISABLED;
         private ThreadAffinity outputThreadAffinity = ThreadAffinity.DISABLED;
 
@@ -592,5 +596,10 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
             this.balancerIntervalSeconds = balancerIntervalSeconds;
             return this;
         }
+
+        public Context balancerImbalancedRounds(int balancerImbalancedRounds) {
+            this.balancerImbalancedRounds = balancerImbalancedRounds;
+            return this;
+        }
     }
 }
@@ -20,6 +20,7 @@ import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.IOVector;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.OutboundPipeline;
@@ -118,6 +119,8 @@ public final class NioOutboundPipeline
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
     private ByteBuffer sendBuffer;
+    // set instead of the sendBuffer when the last handler does gathering writes
+    private IOVector sendVector;
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -326,7 +329,7 @@ public final class NioOutboundPipeline
             return;
         }
 
-        if (sendBuffer.remaining() > 0) {
+        if (hasPendingBytes()) {
             pipelineStatus = DIRTY;
         }
 
@@ -430,9 +433,13 @@ public final class NioOutboundPipeline
         }
     }
 
+    private boolean hasPendingBytes() {
+        return sendVector != null ? sendVector.hasRemaining() : sendBuffer.remaining() > 0;
+    }
+
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        long written = sendVector != null ? sendVector.write(socketChannel) : socketChannel.write(sendBuffer);
         bytesWritten.inc(written);
         //System.out.println(channel + " bytes written:" + written);
     }
@@ -510,7 +517,14 @@ public final class NioOutboundPipeline
 
     private void updatePipeline(OutboundHandler[] newHandlers) {
         this.handlers = newHandlers;
-        this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
+        Object dst = newHandlers.length == 0 ? null : newHandlers[newHandlers.length - 1].dst();
+        if (dst instanceof IOVector vector) {
+            this.sendVector = vector;
+            this.sendBuffer = null;
+        } else {
+            this.sendVector = null;
+            this.sendBuffer = (ByteBuffer) dst;
+        }
 
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
@@ -520,6 +534,9 @@ public final class NioOutboundPipeline
                 Object src = prev.dst();
                 if (src instanceof ByteBuffer) {
                     handler.src(src);
+                } else if (src instanceof IOVector) {
+                    throw new IllegalArgumentException("Handler " + prev + " writes to an IOVector,"
+                            + " so it needs to be the last handler in the pipeline");
                 }
             }
             prev = handler;
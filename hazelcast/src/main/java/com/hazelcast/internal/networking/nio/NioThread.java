@@ -35,6 +35,7 @@ import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_BUSY_TIME_NANOS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_BYTES_TRANSCEIVED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_COMPLETED_TASK_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_THREAD_EVENT_COUNT;
@@ -49,12 +50,14 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKIN
 import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
 import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.internal.networking.nio.SelectorMode.SELECT_NOW;
 import static com.hazelcast.internal.tpcengine.nio.SelectorOptimizer.newSelector;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
 import static java.lang.Math.max;
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 
 @ExcludedMetricTargets(MANAGEMENT_CENTER)
 public class NioThread extends HazelcastManagedThread implements OperationHostileThread {
@@ -98,6 +101,9 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
     // count number of times the selector was rebuilt (if selectWorkaround is enabled)
     @Probe(name = NETWORKING_METRIC_NIO_THREAD_SELECTOR_REBUILD_COUNT)
     private final SwCounter selectorRebuildCount = newSwCounter();
+    // time spent processing selection keys and tasks, used by the IOBalancer as a measure of utilization
+    @Probe(name = NETWORKING_METRIC_NIO_THREAD_BUSY_TIME_NANOS, unit = NS)
+    private final SwCounter busyTimeNanos = newSwCounter();
 
     private final ILogger logger;
 
@@ -174,6 +180,16 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
         return completedTaskCount.get();
     }
 
+    /**
+     * Returns the total time this thread has spent processing selection keys
+     * and tasks. Time spent blocked in the selector or idling is excluded.
+     *
+     * @return the busy time in nanoseconds.
+     */
+    public long busyTimeNanos() {
+        return busyTimeNanos.get();
+    }
+
     /**
      * Gets the Selector
      *
@@ -347,19 +363,28 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
 
     private boolean processTaskQueue() {
         boolean tasksProcessed = false;
+        long startNanos = 0;
         while (!stop) {
             Runnable task = taskQueue.poll();
             if (task == null) {
                 break;
             }
+            if (!tasksProcessed) {
+                // only read the clock when there is work; an idle selectNow loop passes here constantly
+                startNanos = nanoTime();
+            }
             task.run();
             completedTaskCount.inc();
             tasksProcessed = true;
         }
+        if (tasksProcessed) {
+            busyTimeNanos.inc(nanoTime() - startNanos);
+        }
         return tasksProcessed;
     }
 
     private void processSelectionKeys() {
+        long startNanos = nanoTime();
         lastSelectTimeMs = currentTimeMillis();
         Iterator<SelectionKey> it = selector.selectedKeys().iterator();
         while (it.hasNext()) {
@@ -367,6 +392,7 @@ public class NioThread extends HazelcastManagedThread implements OperationHostil
             it.remove();
             processSelectionKey(sk);
         }
+        busyTimeNanos.inc(nanoTime() - startNanos);
     }
 
     private void processSelectionKey(SelectionKey sk) {
@@ -34,6 +34,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_SCHEDULED_COUNT;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
@@ -51,8 +52,9 @@ import static com.hazelcast.spi.properties.ClusterProperty.IO_THREAD_COUNT;
  * {@link NioInboundPipeline} and {@link NioOutboundPipeline} between {@link NioThread}
  * instances.
  * <p>
- * It measures load serviced by each pipeline in a given interval and
- * if imbalance is detected then it schedules pipeline migration to fix the situation.
+ * It measures load serviced by each pipeline and the time each {@link NioThread} spent
+ * processing in a given interval and if imbalance is detected then it schedules pipeline
+ * migration to fix the situation.
  * The exact migration strategy can be customized via
  * {@link com.hazelcast.internal.networking.nio.iobalancer.MigrationStrategy}.
  * <p>
@@ -82,6 +84,10 @@ public class IOBalancer {
     @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_IMBALANCE_DETECTED_COUNT, level = DEBUG)
     private final SwCounter imbalanceDetectedCount = newSwCounter();
 
+    // only IOBalancerThread will write to this field.
+    @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_SCHEDULED_COUNT, level = DEBUG)
+    private final SwCounter migrationScheduledCount = newSwCounter();
+
     // multiple threads can update this field.
     @Probe(name = NETWORKING_METRIC_NIO_IO_BALANCER_MIGRATION_COMPLETED_COUNT, level = DEBUG)
     private final MwCounter migrationCompletedCount = newMwCounter();
@@ -89,11 +95,11 @@ public class IOBalancer {
     public IOBalancer(NioThread[] inputThreads,
                       NioThread[] outputThreads,
                       String hzName,
-                      int balancerIntervalSeconds, LoggingService loggingService) {
+                      int balancerIntervalSeconds, int imbalancedRounds, LoggingService loggingService) {
         this.logger = loggingService.getLogger(IOBalancer.class);
         this.balancerIntervalSeconds = balancerIntervalSeconds;
 
-        this.strategy = createMigrationStrategy();
+        this.strategy = createMigrationStrategy(imbalancedRounds);
         this.hzName = hzName;
 
         this.inLoadTracker = new LoadTracker(inputThreads, logger);
@@ -169,14 +175,14 @@ public class IOBalancer {
         }
     }
 
-    private MigrationStrategy createMigrationStrategy() {
+    private MigrationStrategy createMigrationStrategy(int imbalancedRounds) {
         if (Boolean.getBoolean(PROP_MONKEY_BALANCER)) {
             logger.warning("Using Monkey IO Balancer Strategy. This is for stress tests only. Do not user in production! "
                     + "Disable by not setting the property '" + PROP_MONKEY_BALANCER + "' to true.");
             return new MonkeyMigrationStrategy();
         } else {
             logger.finest("Using normal IO Balancer Strategy.");
-            return new LoadMigrationStrategy();
+            return new LoadMigrationStrategy(imbalancedRounds);
         }
     }
 
@@ -213,6 +219,7 @@ public class IOBalancer {
             logger.finest("Scheduling migration of pipeline " + pipeline
                     + " from " + srcOwner + " to " + dstOwner);
         }
+        migrationScheduledCount.inc();
         pipeline.requestMigration(dstOwner);
     }
 
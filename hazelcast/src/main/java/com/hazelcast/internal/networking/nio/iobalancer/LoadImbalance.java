@@ -31,14 +31,25 @@ import java.util.Set;
  * {@link NioPipeline} should be migrated.
  */
 class LoadImbalance {
-    //load recorded by the busiest NioThread
+    //load recorded by the srcOwner
     long maximumLoad;
-    //load recorded by the least busy NioThread
+    //load recorded by the dstOwner
     long minimumLoad;
-    //busiest NioThread
+    //busiest NioThread, by busy time if known, by load otherwise
     NioThread srcOwner;
-    //least busy NioThread
+    //least busy NioThread, by busy time if known, by load otherwise
     NioThread dstOwner;
+    //time spent processing by the srcOwner since last calculation, 0 when not known
+    long srcBusyTimeNanos;
+    //time spent processing by the dstOwner since last calculation, 0 when not known
+    long dstBusyTimeNanos;
+    //number of consecutive calculations in which an imbalance between the same pair of NioThreads
+    //was seen, maintained by the MigrationStrategy
+    int imbalancedRounds;
+    //busiest NioThread of the imbalance counted in imbalancedRounds
+    NioThread imbalancedSrcOwner;
+    //least busy NioThread of the imbalance counted in imbalancedRounds
+    NioThread imbalancedDstOwner;
 
     private final Map<NioThread, Set<MigratablePipeline>> ownerToPipelines;
     private final ItemCounter<MigratablePipeline> pipelineLoadCounter;
@@ -24,7 +24,15 @@ import java.util.Set;
  * Default {@link MigrationStrategy} for {@link MigratablePipeline} instances.
  * <p>
  * It attempts to trigger a migration if a ratio between least busy and most
- * busy IOThreads exceeds {@link #MIN_MAX_RATIO_MIGRATION_THRESHOLD}.
+ * busy IOThreads exceeds {@link #MIN_MAX_RATIO_MIGRATION_THRESHOLD}. When the
+ * IOThreads report their busy time, the threads are compared by the time spent
+ * processing instead of the load: a thread saturated by a few expensive
+ * pipelines is relieved even if the load of all threads looks the same, and
+ * moving load between threads that are equally utilized is avoided since it
+ * only adds migration overhead. To avoid
+ * reacting to short bursts, the imbalance between the same pair of IOThreads
+ * has to be seen in a number of consecutive calculations, configured with
+ * {@link com.hazelcast.spi.properties.ClusterProperty#IO_BALANCER_IMBALANCED_ROUNDS}.
  * <p>
  * Once a migration is triggered it tries to find the busiest pipeline registered in
  * {@link LoadImbalance#srcOwner} which wouldn't cause overload of the
@@ -50,6 +58,18 @@ class LoadMigrationStrategy implements MigrationStrategy {
      */
     private static final double MAXIMUM_NO_OF_EVENTS_AFTER_MIGRATION_COEFFICIENT = 0.9;
 
+    /**
+     * The number of consecutive calculations that need to detect an imbalance
+     * between the same pair of threads before a migration is attempted. After a
+     * migration is attempted the count starts again, so the effect of a migration
+     * is measured before the next one.
+     */
+    private final int imbalancedRoundsBeforeMigration;
+
+    LoadMigrationStrategy(int imbalancedRoundsBeforeMigration) {
+        this.imbalancedRoundsBeforeMigration = imbalancedRoundsBeforeMigration;
+    }
+
     /**
      * Checks if an imbalance was detected in the system
      *
@@ -58,14 +78,38 @@ class LoadMigrationStrategy implements MigrationStrategy {
      */
     @Override
     public boolean imbalanceDetected(LoadImbalance imbalance) {
+        if (!isImbalanced(imbalance)) {
+            imbalance.imbalancedRounds = 0;
+            return false;
+        }
+
+        if (imbalance.srcOwner != imbalance.imbalancedSrcOwner || imbalance.dstOwner != imbalance.imbalancedDstOwner) {
+            // the earlier rounds saw an imbalance between other threads
+            imbalance.imbalancedRounds = 0;
+            imbalance.imbalancedSrcOwner = imbalance.srcOwner;
+            imbalance.imbalancedDstOwner = imbalance.dstOwner;
+        }
+        if (++imbalance.imbalancedRounds < imbalancedRoundsBeforeMigration) {
+            return false;
+        }
+        imbalance.imbalancedRounds = 0;
+        return true;
+    }
+
+    private static boolean isImbalanced(LoadImbalance imbalance) {
         long min = imbalance.minimumLoad;
         long max = imbalance.maximumLoad;
 
         if (min == Long.MIN_VALUE || max == Long.MAX_VALUE) {
             return false;
         }
-        long lowerBound = (long) (MIN_MAX_RATIO_MIGRATION_THRESHOLD * max);
-        return min < lowerBound;
+        long srcBusyTime = imbalance.srcBusyTimeNanos;
+        if (srcBusyTime > 0) {
+            // the threads were selected by their busy time, see LoadTracker
+            return imbalance.dstBusyTimeNanos < (long) (MIN_MAX_RATIO_MIGRATION_THRESHOLD * srcBusyTime);
+        }
+        // no busy time is known, so we go by the load only
+        return min < (long) (MIN_MAX_RATIO_MIGRATION_THRESHOLD * max);
     }
 
     /**
@@ -78,8 +122,7 @@ class LoadMigrationStrategy implements MigrationStrategy {
     @Override
     public MigratablePipeline findPipelineToMigrate(LoadImbalance imbalance) {
         Set<? extends MigratablePipeline> candidates = imbalance.getPipelinesOwnedBy(imbalance.srcOwner);
-        long migrationThreshold = (long) ((imbalance.maximumLoad - imbalance.minimumLoad)
-                * MAXIMUM_NO_OF_EVENTS_AFTER_MIGRATION_COEFFICIENT);
+        long migrationThreshold = (long) (loadDifference(imbalance) * MAXIMUM_NO_OF_EVENTS_AFTER_MIGRATION_COEFFICIENT);
         MigratablePipeline candidate = null;
         long loadInSelectedPipeline = 0;
         for (MigratablePipeline pipeline : candidates) {
@@ -93,4 +136,19 @@ class LoadMigrationStrategy implements MigrationStrategy {
         }
         return candidate;
     }
+
+    /**
+     * Returns the load the source thread has in excess of the destination
+     * thread. With busy time known, the difference of the busy times is
+     * expressed in the load of the source thread, because the threads can
+     * carry the same load and still be utilized very differently.
+     */
+    private static double loadDifference(LoadImbalance imbalance) {
+        long srcBusyTime = imbalance.srcBusyTimeNanos;
+        if (srcBusyTime > 0) {
+            double busyTimeDifference = (double) (srcBusyTime - imbalance.dstBusyTimeNanos) / srcBusyTime;
+            return imbalance.maximumLoad * busyTimeDifference;
+        }
+        return imbalance.maximumLoad - imbalance.minimumLoad;
+    }
 }
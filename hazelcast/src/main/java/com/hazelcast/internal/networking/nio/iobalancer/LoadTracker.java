@@ -49,6 +49,11 @@ class LoadTracker {
     //load per pipeline since last calculation
     private final ItemCounter<MigratablePipeline> pipelineLoadCount = new ItemCounter<>();
 
+    //busy time per NioThread since an instance started
+    private final ItemCounter<NioThread> lastBusyTimeCounter = new ItemCounter<>();
+    //busy time per NioThread since last calculation
+    private final ItemCounter<NioThread> ownerBusyTime = new ItemCounter<>();
+
     //contains all known pipelines
     private final Set<MigratablePipeline> pipelines = new HashSet<>();
 
@@ -101,29 +106,58 @@ class LoadTracker {
         imbalance.maximumLoad = Long.MIN_VALUE;
         imbalance.srcOwner = null;
         imbalance.dstOwner = null;
+        imbalance.srcBusyTimeNanos = 0;
+        imbalance.dstBusyTimeNanos = 0;
+        // when the threads report their busy time, it picks the threads instead of the load:
+        // a thread can be saturated by a few expensive pipelines while its load looks average
+        boolean busyTimeKnown = isBusyTimeKnown();
+        long maximumWeight = Long.MIN_VALUE;
+        long minimumWeight = Long.MAX_VALUE;
         for (NioThread owner : ioThreads) {
-            long load = ownerLoad.get(owner);
+            long weight = busyTimeKnown ? ownerBusyTime.get(owner) : ownerLoad.get(owner);
             int pipelineCount = ownerToPipelines.get(owner).size();
 
-            if (load > imbalance.maximumLoad && pipelineCount > 1) {
+            if (weight > maximumWeight && pipelineCount > 1) {
                 // if a nioThread has only 1 handle, there is no point in making it a source nioThread since
                 // there is no pipeline that can be migrated anyway. In that case it is better to move on to
                 // the next nioThread.
-                imbalance.maximumLoad = load;
+                maximumWeight = weight;
                 imbalance.srcOwner = owner;
             }
 
-            if (load < imbalance.minimumLoad) {
-                imbalance.minimumLoad = load;
+            if (weight < minimumWeight) {
+                minimumWeight = weight;
                 imbalance.dstOwner = owner;
             }
         }
+        if (imbalance.srcOwner != null) {
+            imbalance.maximumLoad = ownerLoad.get(imbalance.srcOwner);
+            imbalance.srcBusyTimeNanos = ownerBusyTime.get(imbalance.srcOwner);
+        }
+        if (imbalance.dstOwner != null) {
+            imbalance.minimumLoad = ownerLoad.get(imbalance.dstOwner);
+            imbalance.dstBusyTimeNanos = ownerBusyTime.get(imbalance.dstOwner);
+        }
+    }
+
+    private boolean isBusyTimeKnown() {
+        for (NioThread owner : ioThreads) {
+            if (ownerBusyTime.get(owner) > 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void updateNewWorkingImbalance() {
         for (MigratablePipeline pipeline : pipelines) {
             updatePipelineState(pipeline);
         }
+        for (NioThread owner : ioThreads) {
+            long busyTime = owner.busyTimeNanos();
+            long lastBusyTime = lastBusyTimeCounter.getAndSet(owner, busyTime);
+            ownerBusyTime.set(owner, busyTime - lastBusyTime);
+        }
     }
 
     private void updatePipelineState(MigratablePipeline pipeline) {
@@ -147,6 +181,7 @@ class LoadTracker {
     private void clearWorkingImbalance() {
         pipelineLoadCount.reset();
         ownerLoad.reset();
+        ownerBusyTime.reset();
         for (Set<MigratablePipeline> pipelines : ownerToPipelines.values()) {
             pipelines.clear();
         }
@@ -181,7 +216,9 @@ class LoadTracker {
                 .append(minThread)
                 .append(" receive-load ")
                 .append(loadPerOwner)
-                .append(" load. ");
+                .append(" load, busy ")
+                .append(ownerBusyTime.get(minThread))
+                .append(" ns. ");
         sb.append("It contains following pipelines: ").
                 append(System.lineSeparator());
         appendSelectorInfo(minThread, ownerToPipelines, sb);
@@ -190,7 +227,10 @@ class LoadTracker {
         sb.append("Max NioThread ")
                 .append(maxThread)
                 .append(" receive-load ")
-                .append(loadPerOwner);
+                .append(loadPerOwner)
+                .append(" load, busy ")
+                .append(ownerBusyTime.get(maxThread))
+                .append(" ns. ");
         sb.append("It contains following pipelines: ")
                 .append(System.lineSeparator());
         appendSelectorInfo(maxThread, ownerToPipelines, sb);
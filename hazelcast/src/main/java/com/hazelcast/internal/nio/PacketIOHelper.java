@@ -74,6 +74,23 @@ public class PacketIOHelper {
         }
     }
 
+    /**
+     * Creates a new heap {@code ByteBuffer} containing only the header of the packet, in reading mode.
+     * The payload of the packet is expected to be written directly after the header.
+     *
+     * @param packet the packet to create the header for
+     * @return the created header buffer
+     */
+    public static ByteBuffer newHeaderBuffer(Packet packet) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(VERSION);
+        header.putChar(packet.getFlags());
+        header.putInt(packet.getPartitionId());
+        header.putInt(packet.totalSize());
+        header.flip();
+        return header;
+    }
+
     private boolean writeValue(Packet packet, ByteBuffer dst) {
         if (size > 0) {
             // the number of bytes that can be written to the bb.
@@ -36,6 +36,16 @@ public final class Protocols {
      */
     public static final String CLIENT_BINARY = "CP2";
 
+    /**
+     * {@link #CLUSTER} protocol over a compressed connection
+     */
+    public static final String CLUSTER_COMPRESSED = "HZZ";
+
+    /**
+     * {@link #CLIENT_BINARY} protocol over a compressed connection
+     */
+    public static final String CLIENT_BINARY_COMPRESSED = "CPZ";
+
     /**
      * Protocol that is used by REST
      */
@@ -59,10 +69,18 @@ public final class Protocols {
             return "Cluster Protocol";
         }
 
+        if (CLUSTER_COMPRESSED.equals(protocol)) {
+            return "Compressed Cluster Protocol";
+        }
+
         if (CLIENT_BINARY.equals(protocol)) {
             return "Client Open Binary Protocol";
         }
 
+        if (CLIENT_BINARY_COMPRESSED.equals(protocol)) {
+            return "Compressed Client Open Binary Protocol";
+        }
+
         if (REST.equals(protocol)) {
             return "REST Protocol";
         }
@@ -16,36 +16,70 @@
 
 package com.hazelcast.internal.partition;
 
+import com.hazelcast.internal.cluster.Versions;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.partition.impl.MigrationStats;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.memory.Capacity;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
 
 /**
  * Helper class for serialization and deserialization of chunks.
+ * <p>
+ * If chunk compression is enabled, the chunked operations are serialized to
+ * a separate buffer first and written as a single deflated byte array. The
+ * chunk size limit still applies to the uncompressed data, so the memory
+ * needed to prepare a chunk doesn't change.
  *
  * @see ChunkedMigrationAwareService
  */
 public final class ChunkSerDeHelper {
 
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
     private final ILogger logger;
     private final int partitionId;
     private final Collection<ChunkSupplier> chunkSuppliers;
     private final int maxTotalChunkedDataInBytes;
+    private final boolean compressionEnabled;
+    private final MigrationStats stats;
 
     public ChunkSerDeHelper(ILogger logger, int partitionId,
                             Collection<ChunkSupplier> chunkSuppliers,
                             boolean chunkedMigrationEnabled,
                             int maxTotalChunkedDataInBytes) {
+        this(logger, partitionId, chunkSuppliers, chunkedMigrationEnabled, maxTotalChunkedDataInBytes, false, null);
+    }
+
+    /**
+     * @param compressionEnabled whether to deflate the chunked operations
+     * @param stats              stats to record the amount of migrated data to,
+     *                           {@code null} if it's not a migration
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    public ChunkSerDeHelper(ILogger logger, int partitionId,
+                            Collection<ChunkSupplier> chunkSuppliers,
+                            boolean chunkedMigrationEnabled,
+                            int maxTotalChunkedDataInBytes,
+                            boolean compressionEnabled,
+                            @Nullable MigrationStats stats) {
         assert chunkSuppliers != null;
         assert logger != null;
         assert !chunkedMigrationEnabled || (maxTotalChunkedDataInBytes > 0)
@@ -55,10 +89,25 @@ public final class ChunkSerDeHelper {
         this.partitionId = partitionId;
         this.chunkSuppliers = chunkSuppliers;
         this.maxTotalChunkedDataInBytes = maxTotalChunkedDataInBytes;
+        this.compressionEnabled = compressionEnabled;
+        this.stats = stats;
     }
 
     public static Collection<Operation> readChunkedOperations(ObjectDataInput in,
                                                               Collection<Operation> operations) throws IOException {
+        if (in.getVersion().isGreaterOrEqual(Versions.V5_7) && in.readBoolean()) {
+            byte[] chunk = decompress(in.readByteArray());
+            InternalSerializationService ss =
+                    (InternalSerializationService) ((SerializationServiceSupport) in).getSerializationService();
+            BufferObjectDataInput chunkIn = ss.createObjectDataInput(chunk);
+            chunkIn.setVersion(in.getVersion());
+            return readOperations(chunkIn, operations);
+        }
+        return readOperations(in, operations);
+    }
+
+    private static Collection<Operation> readOperations(ObjectDataInput in,
+                                                        Collection<Operation> operations) throws IOException {
         do {
             Operation operation = in.readObject();
             if (operation == null) {
@@ -78,6 +127,40 @@ public final class ChunkSerDeHelper {
         assert out instanceof BufferObjectDataOutput;
 
         BufferObjectDataOutput bufferedOut = (BufferObjectDataOutput) out;
+        if (!out.getVersion().isGreaterOrEqual(Versions.V5_7)) {
+            writeOperations(bufferedOut);
+            return;
+        }
+        out.writeBoolean(compressionEnabled);
+        if (!compressionEnabled) {
+            int start = bufferedOut.position();
+            writeOperations(bufferedOut);
+            recordMigratedBytes(bufferedOut.position() - start);
+            return;
+        }
+        InternalSerializationService ss = (InternalSerializationService) bufferedOut.getSerializationService();
+        try (BufferObjectDataOutput chunkOut = ss.createObjectDataOutput()) {
+            chunkOut.setVersion(out.getVersion());
+            writeOperations(chunkOut);
+            byte[] compressed = compress(chunkOut.toByteArray());
+            out.writeByteArray(compressed);
+            recordMigratedBytes(compressed.length);
+            if (logger.isFinestEnabled()) {
+                logger.finest("Compressed chunk [partitionId:%d, size:%s, compressedSize:%s]",
+                        partitionId,
+                        Capacity.toPrettyString(chunkOut.position()),
+                        Capacity.toPrettyString(compressed.length));
+            }
+        }
+    }
+
+    private void recordMigratedBytes(int bytes) {
+        if (stats != null) {
+            stats.recordMigratedBytes(bytes);
+        }
+    }
+
+    private void writeOperations(BufferObjectDataOutput bufferedOut) throws IOException {
         IsEndOfChunk isEndOfChunk = new IsEndOfChunk(maxTotalChunkedDataInBytes);
 
         for (ChunkSupplier chunkSupplier : chunkSuppliers) {
@@ -96,7 +179,7 @@ public final class ChunkSerDeHelper {
 
                 logCurrentChunk(chunkSupplier);
 
-                out.writeObject(chunk);
+                bufferedOut.writeObject(chunk);
 
                 if (isEndOfChunk.test(bufferedOut)) {
                     break;
@@ -110,11 +193,53 @@ public final class ChunkSerDeHelper {
         }
 
         // indicates end of chunked state
-        out.writeObject(null);
+        bufferedOut.writeObject(null);
 
         logEndOfAllChunks(bufferedOut, isEndOfChunk);
     }
 
+    /**
+     * Deflates with the fastest level: the point is to send more data
+     * through the network in the same time, not the best ratio.
+     */
+    private static byte[] compress(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(input.length / 2 + 1);
+            byte[] buf = new byte[COMPRESSION_BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buf);
+                bos.write(buf, 0, count);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] input) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(input.length * 2);
+            byte[] buf = new byte[COMPRESSION_BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buf);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated compressed migration chunk");
+                }
+                bos.write(buf, 0, count);
+            }
+            return bos.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Malformed compressed migration chunk", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
     private void logCurrentChunk(ChunkSupplier chunkSupplier) {
         if (!logger.isFinestEnabled()) {
             return;
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition;
+
+import com.hazelcast.internal.services.ServiceNamespace;
+
+import javax.annotation.Nullable;
+
+/**
+ * Contract for {@link FragmentedMigrationAwareService} implementations
+ * which can replicate only the difference between a backup replica and
+ * the primary replica of a fragment during the replica sync.
+ * <p>
+ * The backup replica sends a digest of its fragment along with the sync
+ * request, the primary replica gets it in {@link
+ * PartitionReplicationEvent#getReplicaDigest(ServiceNamespace)} and may
+ * prepare a replication operation which transfers only the part of the
+ * fragment that doesn't match the digest.
+ *
+ * @see com.hazelcast.internal.partition.operation.PartitionReplicaSyncRequest
+ */
+public interface DifferentialReplicationAwareService extends FragmentedMigrationAwareService {
+
+    /**
+     * Returns the digest of the local replica of the given fragment. It's
+     * called on the backup replica before sending the sync request.
+     *
+     * @param partitionId the partition ID
+     * @param namespace   namespace of the fragment
+     * @return the digest or {@code null} if the fragment has no digest and
+     * must be replicated fully
+     */
+    @Nullable
+    int[] getReplicaDigest(int partitionId, ServiceNamespace namespace);
+}
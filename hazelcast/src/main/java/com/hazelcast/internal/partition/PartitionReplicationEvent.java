@@ -17,8 +17,11 @@
 package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.services.ServiceNamespace;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * An event send to {@link MigrationAwareService} when partition changes happen.
@@ -32,6 +35,8 @@ public class PartitionReplicationEvent {
     @Nullable
     private final Address target;
 
+    private final Map<ServiceNamespace, int[]> replicaDigests;
+
     /**
      * Creates a PartitionReplicationEvent
      *
@@ -39,9 +44,23 @@ public class PartitionReplicationEvent {
      * @param replicaIndex the replica index
      */
     public PartitionReplicationEvent(Address target, int partitionId, int replicaIndex) {
+        this(target, partitionId, replicaIndex, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a PartitionReplicationEvent
+     *
+     * @param partitionId    the partition ID
+     * @param replicaIndex   the replica index
+     * @param replicaDigests digests of the target replica's fragments
+     * @see DifferentialReplicationAwareService
+     */
+    public PartitionReplicationEvent(Address target, int partitionId, int replicaIndex,
+                                     Map<ServiceNamespace, int[]> replicaDigests) {
         this.target = target;
         this.partitionId = partitionId;
         this.replicaIndex = replicaIndex;
+        this.replicaDigests = replicaDigests;
     }
 
     /**
@@ -66,6 +85,18 @@ public class PartitionReplicationEvent {
         return target;
     }
 
+    /**
+     * Gets the digest of the target replica's fragment.
+     *
+     * @param namespace namespace of the fragment
+     * @return the digest or {@code null} if the target replica didn't send one
+     * @see DifferentialReplicationAwareService#getReplicaDigest(int, ServiceNamespace)
+     */
+    @Nullable
+    public int[] getReplicaDigest(ServiceNamespace namespace) {
+        return replicaDigests.get(namespace);
+    }
+
     @Override
     public String toString() {
         return "PartitionReplicationEvent{partitionId=" + partitionId + ", replicaIndex=" + replicaIndex + '}';
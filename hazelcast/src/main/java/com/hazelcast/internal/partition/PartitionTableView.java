@@ -18,6 +18,7 @@ package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -127,6 +128,46 @@ public class PartitionTableView {
                 .collect(toSet());
     }
 
+    /**
+     * @return any replica of the member with the given UUID or {@code null}
+     * if the member has no replicas in this view
+     */
+    @Nullable
+    public PartitionReplica findReplica(UUID uuid) {
+        for (InternalPartition partition : partitions) {
+            if (partition == null) {
+                continue;
+            }
+            int replicaIndex = replicaIndexOfUuid(uuid, partition);
+            if (replicaIndex != -1) {
+                return partition.getReplica(replicaIndex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return a copy of this view in which {@code oldReplica} is replaced
+     * with {@code newReplica} in all partitions
+     */
+    public PartitionTableView replaceReplica(PartitionReplica oldReplica, PartitionReplica newReplica) {
+        InternalPartition[] newPartitions = new InternalPartition[partitions.length];
+        for (int partitionId = 0; partitionId < partitions.length; partitionId++) {
+            InternalPartition partition = partitions[partitionId];
+            if (partition == null) {
+                continue;
+            }
+            PartitionReplica[] replicas = partition.getReplicasCopy();
+            for (int index = 0; index < replicas.length; index++) {
+                if (oldReplica.equals(replicas[index])) {
+                    replicas[index] = newReplica;
+                }
+            }
+            newPartitions[partitionId] = new ReadonlyInternalPartition(replicas, partitionId, partition.version());
+        }
+        return new PartitionTableView(newPartitions);
+    }
+
     public PartitionReplica[][] toArray(Map<UUID, Address> addressMap) {
         int partitionCount = partitions.length;
 
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.partition.impl.MigrationStats;
 import com.hazelcast.internal.partition.impl.PartitionDataSerializerHook;
 import com.hazelcast.internal.serialization.impl.SerializationUtil;
 import com.hazelcast.internal.services.ServiceNamespace;
@@ -28,6 +29,7 @@ import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.TargetAware;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
@@ -58,10 +60,23 @@ public class ReplicaFragmentMigrationState
                                          boolean chunkedMigrationEnabled,
                                          int maxTotalChunkedDataInBytes, ILogger logger,
                                          int partitionId) {
+        this(namespaces, migrationOperations, chunkSuppliers, chunkedMigrationEnabled, maxTotalChunkedDataInBytes,
+                false, null, logger, partitionId);
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    public ReplicaFragmentMigrationState(Map<ServiceNamespace, long[]> namespaces,
+                                         Collection<Operation> migrationOperations,
+                                         Collection<ChunkSupplier> chunkSuppliers,
+                                         boolean chunkedMigrationEnabled,
+                                         int maxTotalChunkedDataInBytes,
+                                         boolean chunkCompressionEnabled,
+                                         @Nullable MigrationStats stats,
+                                         ILogger logger, int partitionId) {
         this.namespaces = namespaces;
         this.migrationOperations = migrationOperations;
-        this.chunkSerDeHelper = new ChunkSerDeHelper(logger, partitionId,
-                chunkSuppliers, chunkedMigrationEnabled, maxTotalChunkedDataInBytes);
+        this.chunkSerDeHelper = new ChunkSerDeHelper(logger, partitionId, chunkSuppliers, chunkedMigrationEnabled,
+                maxTotalChunkedDataInBytes, chunkCompressionEnabled, stats);
     }
 
     public Map<ServiceNamespace, long[]> getNamespaceVersionMap() {
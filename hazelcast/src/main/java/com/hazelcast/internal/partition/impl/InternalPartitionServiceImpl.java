@@ -373,6 +373,7 @@ public class InternalPartitionServiceImpl implements InternalPartitionService,
             }
             if (isLocalMemberMaster()) {
                 if (partitionStateManager.isInitialized()) {
+                    migrationManager.onMemberAdd(member);
                     migrationManager.triggerControlTask();
                 }
             }
@@ -65,6 +65,8 @@ public interface MigrationManager {
 
     int getMaxTotalChunkedDataInBytes();
 
+    boolean isChunkCompressionEnabled();
+
     boolean removeFinalizingMigration(MigrationInfo migration);
 
     boolean isFinalizingMigrationRegistered(int partitionId);
@@ -141,6 +143,16 @@ public interface MigrationManager {
 
     void onMemberRemove(Member member);
 
+    /**
+     * Called on the master node when a member joins. If the member rejoins at
+     * the address of a member which left within the rejoin grace period, it
+     * reclaims the partition replicas of the left member on the next
+     * repartitioning.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#PARTITION_REJOIN_GRACE_PERIOD_SECONDS
+     */
+    void onMemberAdd(Member member);
+
     void schedule(MigrationRunnable runnable);
 
     /**
@@ -112,10 +112,12 @@ import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.memory.MemoryUnit.MEGABYTES;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.ASYNC_EXECUTOR;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_COMPRESSION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_FRAGMENTED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_INTERVAL;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_TIMEOUT;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_REJOIN_GRACE_PERIOD_SECONDS;
 
 /**
  * Maintains migration system state and manages migration operations performed within the cluster.
@@ -157,6 +159,7 @@ public class MigrationManagerImpl implements MigrationManager {
     private final boolean fragmentedMigrationEnabled;
     private final boolean chunkedMigrationEnabled;
     private final int maxTotalChunkedDataInBytes;
+    private final boolean chunkCompressionEnabled;
     private final long memberHeartbeatTimeoutMillis;
     private boolean triggerRepartitioningWhenClusterStateAllowsMigration;
     private final int maxParallelMigrations;
@@ -170,6 +173,12 @@ public class MigrationManagerImpl implements MigrationManager {
      */
     private final int autoRebalanceDelaySeconds;
     private volatile boolean delayNextRepartitioningExecution;
+    /**
+     * the positive number of seconds to wait for a left member to rejoin
+     * before rebalancing or 0 when left members are not waited for
+     */
+    private final int rejoinGracePeriodSeconds;
+    private volatile boolean delayNextRebalancing;
     private volatile ScheduledFuture<Void> scheduledControlTaskFuture;
 
     @SuppressWarnings("checkstyle:executablestatementcount")
@@ -186,6 +195,7 @@ public class MigrationManagerImpl implements MigrationManager {
         fragmentedMigrationEnabled = properties.getBoolean(PARTITION_FRAGMENTED_MIGRATION_ENABLED);
         chunkedMigrationEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_ENABLED);
         maxTotalChunkedDataInBytes = (int) MEGABYTES.toBytes(properties.getInteger(PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB));
+        chunkCompressionEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_COMPRESSION_ENABLED);
         maxParallelMigrations = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS);
         partitionStateManager = partitionService.getPartitionStateManager();
         ILogger migrationThreadLogger = node.getLogger(MigrationThread.class);
@@ -201,6 +211,8 @@ public class MigrationManagerImpl implements MigrationManager {
                 node.getConfig().getPersistenceConfig().isEnabled()
                         ? node.getConfig().getPersistenceConfig().getRebalanceDelaySeconds()
                         : PersistenceConfig.DEFAULT_REBALANCE_DELAY;
+        this.rejoinGracePeriodSeconds = node.getConfig().getPersistenceConfig().isEnabled()
+                ? 0 : properties.getSeconds(PARTITION_REJOIN_GRACE_PERIOD_SECONDS);
         this.asyncExecutor = node.getNodeEngine().getExecutionService().getExecutor(ASYNC_EXECUTOR);
     }
 
@@ -305,6 +317,11 @@ public class MigrationManagerImpl implements MigrationManager {
         return maxTotalChunkedDataInBytes;
     }
 
+    @Override
+    public boolean isChunkCompressionEnabled() {
+        return chunkCompressionEnabled;
+    }
+
     @Override
     public boolean removeFinalizingMigration(MigrationInfo migration) {
         return finalizingMigrationsRegistry.remove(migration);
@@ -572,6 +589,8 @@ public class MigrationManagerImpl implements MigrationManager {
     public void triggerControlTaskWithDelay() {
         if (autoRebalanceDelaySeconds > 0) {
             delayNextRepartitioningExecution = true;
+        } else if (rejoinGracePeriodSeconds > 0) {
+            delayNextRebalancing = true;
         }
         triggerControlTask();
     }
@@ -640,6 +659,17 @@ public class MigrationManagerImpl implements MigrationManager {
         demoteRequestedMembers.remove(member);
     }
 
+    @Override
+    public void onMemberAdd(Member member) {
+        if (rejoinGracePeriodSeconds <= 0 || member.isLiteMember()) {
+            return;
+        }
+        if (partitionStateManager.reassignSnapshot(member, TimeUnit.SECONDS.toMillis(rejoinGracePeriodSeconds))) {
+            // hand the replicas over to the rejoined member right away
+            delayNextRebalancing = false;
+        }
+    }
+
     @Override
     public void schedule(MigrationRunnable runnable) {
         migrationQueue.add(runnable);
@@ -869,8 +899,8 @@ public class MigrationManagerImpl implements MigrationManager {
             }
 
             PartitionReplica[][] newState = null;
-            if (node.getNodeExtension().getInternalHotRestartService().isEnabled()) {
-                // check partition table snapshots when persistence is enabled
+            if (node.getNodeExtension().getInternalHotRestartService().isEnabled() || rejoinGracePeriodSeconds > 0) {
+                // check partition table snapshots when persistence is enabled or left members may rejoin
                 newState = checkSnapshots();
             }
             if (newState != null) {
@@ -1693,7 +1723,16 @@ public class MigrationManagerImpl implements MigrationManager {
 
             partitionServiceLock.lock();
             try {
-                if (success) {
+                if (success && delayNextRebalancing) {
+                    // Backups are promoted, but the lost backups are recreated
+                    // only after the grace period, unless the left member rejoins.
+                    logger.fine("Delaying next rebalancing for a left member to rejoin");
+                    delayNextRebalancing = false;
+                    ExecutionService executionService = nodeEngine.getExecutionService();
+                    scheduledControlTaskFuture = (ScheduledFuture<Void>) executionService.schedule(
+                            MigrationManagerImpl.this::triggerControlTask,
+                            rejoinGracePeriodSeconds, TimeUnit.SECONDS);
+                } else if (success) {
                     logger.finest("RedoPartitioningTask scheduled");
                     migrationQueue.add(new RedoPartitioningTask());
                 } else {
@@ -36,6 +36,8 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_MIGRATED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 
@@ -66,6 +68,14 @@ public class MigrationStats {
     @Probe(name = MIGRATION_METRIC_TOTAL_COMPLETED_MIGRATIONS)
     private final LongAdder totalCompletedMigrations = new LongAdder();
 
+    /**
+     * Size of the chunked data this member sent as a migration source, after
+     * compression if it's enabled. Its rate is the migration throughput of
+     * the member.
+     */
+    @Probe(name = MIGRATION_METRIC_TOTAL_MIGRATED_BYTES, unit = BYTES)
+    private final LongAdder totalMigratedBytes = new LongAdder();
+
     /**
      * elapsed time of migration &amp; replication operations' executions
      */
@@ -105,6 +115,20 @@ public class MigrationStats {
         totalCompletedMigrations.increment();
     }
 
+    /**
+     * Records the size of a chunk of migrated data sent by this member.
+     */
+    public void recordMigratedBytes(long bytes) {
+        totalMigratedBytes.add(bytes);
+    }
+
+    /**
+     * @return the total size of the chunked data sent by this member as a migration source.
+     */
+    public long getTotalMigratedBytes() {
+        return totalMigratedBytes.sum();
+    }
+
     /**
      * @return the last repartition time.
      */
@@ -275,7 +299,8 @@ public class MigrationStats {
                 .append(", plannedMigrations=").append(plannedMigrations)
                 .append(", completedMigrations=").append(getCompletedMigrations())
                 .append(", remainingMigrations=").append(getRemainingMigrations())
-                .append(", totalCompletedMigrations=").append(getTotalCompletedMigrations());
+                .append(", totalCompletedMigrations=").append(getTotalCompletedMigrations())
+                .append(", totalMigratedBytes=").append(getTotalMigratedBytes());
 
         if (detailed) {
             s.append(", elapsedMigrationOperationTime=").append(getElapsedMigrationOperationTime()).append("ms")
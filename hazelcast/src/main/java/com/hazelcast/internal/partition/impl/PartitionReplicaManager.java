@@ -19,6 +19,7 @@ package com.hazelcast.internal.partition.impl;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.NonFragmentedServiceNamespace;
 import com.hazelcast.internal.partition.PartitionReplica;
@@ -48,8 +49,10 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -251,13 +254,38 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         }
         replicaSyncRequestsCounter.inc();
 
+        Map<ServiceNamespace, int[]> replicaDigests = collectReplicaDigests(partitionId, namespaces);
         Operation syncRequest = ALLOW_OFFLOAD
-                ? new PartitionReplicaSyncRequestOffloadable(namespaces, partitionId, replicaIndex)
-                : new PartitionReplicaSyncRequest(namespaces, partitionId, replicaIndex);
+                ? new PartitionReplicaSyncRequestOffloadable(namespaces, replicaDigests, partitionId, replicaIndex)
+                : new PartitionReplicaSyncRequest(namespaces, replicaDigests, partitionId, replicaIndex);
 
         nodeEngine.getOperationService().send(syncRequest, target.address());
     }
 
+    /**
+     * Collects the digests of the local replica fragments, so that the partition owner can send only the difference.
+     */
+    private Map<ServiceNamespace, int[]> collectReplicaDigests(int partitionId, Collection<ServiceNamespace> namespaces) {
+        Map<ServiceNamespace, int[]> replicaDigests = Collections.emptyMap();
+        Collection<DifferentialReplicationAwareService> services
+                = nodeEngine.getServices(DifferentialReplicationAwareService.class);
+        for (DifferentialReplicationAwareService service : services) {
+            for (ServiceNamespace namespace : namespaces) {
+                if (!service.isKnownServiceNamespace(namespace)) {
+                    continue;
+                }
+                int[] digest = service.getReplicaDigest(partitionId, namespace);
+                if (digest != null) {
+                    if (replicaDigests.isEmpty()) {
+                        replicaDigests = new HashMap<>();
+                    }
+                    replicaDigests.put(namespace, digest);
+                }
+            }
+        }
+        return replicaDigests;
+    }
+
     private Collection<ServiceNamespace> registerSyncInfoForNamespaces(int partitionId,
                                                                        Collection<ServiceNamespace> requestedNamespaces,
                                                                        int replicaIndex, PartitionReplica target, int permits) {
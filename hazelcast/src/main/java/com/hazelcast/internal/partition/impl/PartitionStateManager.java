@@ -144,6 +144,16 @@ public interface PartitionStateManager {
 
     void removeSnapshot(UUID memberUuid);
 
+    /**
+     * Reassigns the snapshot of a left member to the given member, if the
+     * left member had the same address and its snapshot was stored at most
+     * {@code maxAgeMillis} ago. The left member is replaced with the given
+     * member in the reassigned snapshot.
+     *
+     * @return {@code true} if a snapshot is reassigned, {@code false} otherwise
+     */
+    boolean reassignSnapshot(Member rejoiningMember, long maxAgeMillis);
+
     /** For test usage only */
     void setReplicaUpdateInterceptor(ReplicaUpdateInterceptor interceptor);
 
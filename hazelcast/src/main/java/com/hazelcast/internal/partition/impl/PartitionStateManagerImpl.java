@@ -32,6 +32,7 @@ import com.hazelcast.internal.partition.PartitionTableView;
 import com.hazelcast.internal.partition.ReadonlyInternalPartition;
 import com.hazelcast.internal.partition.membergroup.MemberGroupFactory;
 import com.hazelcast.internal.partition.membergroup.MemberGroupFactoryFactory;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.partitiongroup.MemberGroup;
@@ -40,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -74,6 +76,7 @@ public class PartitionStateManagerImpl implements PartitionStateManager {
     // snapshot of partition assignments taken on member UUID removal and
     // before partition rebalancing
     private final ConcurrentMap<UUID, PartitionTableView> snapshotOnRemove;
+    private final ConcurrentMap<UUID, Long> snapshotTimestamps;
 
     // we keep a cached buffer because stamp calculation can happen many times
     // during repartitioning and this introduces GC pressure, especially at high
@@ -116,6 +119,7 @@ public class PartitionStateManagerImpl implements PartitionStateManager {
                 node.getDiscoveryService());
         partitionStateGenerator = new PartitionStateGeneratorImpl();
         snapshotOnRemove = new ConcurrentHashMap<>();
+        snapshotTimestamps = new ConcurrentHashMap<>();
         this.replicaUpdateInterceptor = NoOpBatchReplicaUpdateInterceptor.INSTANCE;
     }
 
@@ -484,6 +488,7 @@ public class PartitionStateManagerImpl implements PartitionStateManager {
     public void storeSnapshot(UUID crashedMemberUuid) {
         logger.info("Storing snapshot of partition assignments while removing UUID " + crashedMemberUuid);
         snapshotOnRemove.put(crashedMemberUuid, getPartitionTable());
+        snapshotTimestamps.put(crashedMemberUuid, Clock.currentTimeMillis());
     }
 
     @Override
@@ -499,6 +504,30 @@ public class PartitionStateManagerImpl implements PartitionStateManager {
     @Override
     public void removeSnapshot(UUID memberUuid) {
         snapshotOnRemove.remove(memberUuid);
+        snapshotTimestamps.remove(memberUuid);
+    }
+
+    @Override
+    public boolean reassignSnapshot(Member rejoiningMember, long maxAgeMillis) {
+        PartitionReplica newReplica = PartitionReplica.from(rejoiningMember);
+        long now = Clock.currentTimeMillis();
+        for (Map.Entry<UUID, PartitionTableView> entry : snapshotOnRemove.entrySet()) {
+            UUID leftMemberUuid = entry.getKey();
+            Long timestamp = snapshotTimestamps.get(leftMemberUuid);
+            if (leftMemberUuid.equals(newReplica.uuid()) || timestamp == null || now - timestamp > maxAgeMillis) {
+                continue;
+            }
+            PartitionReplica leftReplica = entry.getValue().findReplica(leftMemberUuid);
+            if (leftReplica == null || !leftReplica.address().equals(newReplica.address())) {
+                continue;
+            }
+            logger.info("Reassigning snapshot of partition assignments of " + leftReplica + " to rejoining " + newReplica);
+            snapshotOnRemove.put(newReplica.uuid(), entry.getValue().replaceReplica(leftReplica, newReplica));
+            snapshotTimestamps.put(newReplica.uuid(), timestamp);
+            removeSnapshot(leftMemberUuid);
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -358,8 +358,10 @@ public class MigrationRequestOperation extends BaseMigrationOperation {
             versions.put(namespace, v);
         }
 
+        MigrationManager migrationManager = ((InternalPartitionServiceImpl) partitionService).getMigrationManager();
         return new ReplicaFragmentMigrationState(versions, operations,
                 suppliers, chunkedMigrationEnabled, maxTotalChunkedDataInBytes,
+                migrationManager.isChunkCompressionEnabled(), migrationManager.getStats(),
                 getLogger(), getPartitionId());
     }
 
@@ -17,6 +17,7 @@
 package com.hazelcast.internal.partition.operation;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.IPartition;
 import com.hazelcast.internal.partition.IPartitionService;
@@ -35,6 +36,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationService;
@@ -46,10 +48,12 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.readCollection;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.writeCollection;
 import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
 /**
  * The request sent from a replica to the partition owner to
@@ -61,11 +65,16 @@ import static com.hazelcast.internal.util.CollectionUtil.isEmpty;
  * <li>the maximum number of parallel synchronizations has already been reached</li>
  * </ul>
  * An empty response can be sent if the current replica version is 0.
+ * <p>
+ * The request may carry digests of the replica's fragments, which let the
+ * {@link com.hazelcast.internal.partition.DifferentialReplicationAwareService}s
+ * send only the difference.
  */
 public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
-        implements PartitionAwareOperation, MigrationCycleOperation, SelfResponseOperation {
+        implements PartitionAwareOperation, MigrationCycleOperation, SelfResponseOperation, Versioned {
 
     protected volatile Collection<ServiceNamespace> namespaces;
+    protected volatile Map<ServiceNamespace, int[]> replicaDigests = Collections.emptyMap();
 
     public PartitionReplicaSyncRequest() {
         namespaces = Collections.emptyList();
@@ -78,6 +87,13 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
         setReplicaIndex(replicaIndex);
     }
 
+    public PartitionReplicaSyncRequest(Collection<ServiceNamespace> namespaces,
+                                       Map<ServiceNamespace, int[]> replicaDigests,
+                                       int partitionId, int replicaIndex) {
+        this(namespaces, partitionId, replicaIndex);
+        this.replicaDigests = replicaDigests;
+    }
+
     @Override
     public void beforeRun() {
         int syncReplicaIndex = getReplicaIndex();
@@ -150,7 +166,7 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
         InternalPartitionServiceImpl partitionService = getService();
         try {
             PartitionReplicationEvent event = new PartitionReplicationEvent(getCallerAddress(),
-                    partitionId(), getReplicaIndex());
+                    partitionId(), getReplicaIndex(), replicaDigests);
             Iterator<ServiceNamespace> iterator = namespaces.iterator();
             for (int i = 0; i < permits; i++) {
                 ServiceNamespace namespace = iterator.next();
@@ -282,6 +298,7 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
                 chunkSuppliers, ns, versions,
                 isChunkedMigrationEnabled(),
                 getMaxTotalChunkedDataInBytes(),
+                isChunkCompressionEnabled(),
                 getLogger(), partitionId);
         syncResponse.setPartitionId(partitionId).setReplicaIndex(replicaIndex);
         return syncResponse;
@@ -292,6 +309,11 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
         return partitionService.getMigrationManager().isChunkedMigrationEnabled();
     }
 
+    protected final boolean isChunkCompressionEnabled() {
+        InternalPartitionServiceImpl partitionService = getService();
+        return partitionService.getMigrationManager().isChunkCompressionEnabled();
+    }
+
     protected final int getMaxTotalChunkedDataInBytes() {
         InternalPartitionServiceImpl partitionService = getService();
         MigrationManager migrationManager = partitionService.getMigrationManager();
@@ -334,11 +356,37 @@ public class PartitionReplicaSyncRequest extends AbstractPartitionOperation
     @Override
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
+        writeReplicaDigests(out);
     }
 
     @Override
     protected void readInternal(ObjectDataInput in) throws IOException {
         namespaces = readCollection(in);
+        readReplicaDigests(in);
+    }
+
+    protected final void writeReplicaDigests(ObjectDataOutput out) throws IOException {
+        if (!out.getVersion().isGreaterOrEqual(Versions.V5_7)) {
+            return;
+        }
+        out.writeInt(replicaDigests.size());
+        for (Map.Entry<ServiceNamespace, int[]> entry : replicaDigests.entrySet()) {
+            out.writeObject(entry.getKey());
+            out.writeIntArray(entry.getValue());
+        }
+    }
+
+    protected final void readReplicaDigests(ObjectDataInput in) throws IOException {
+        if (!in.getVersion().isGreaterOrEqual(Versions.V5_7)) {
+            return;
+        }
+        int size = in.readInt();
+        Map<ServiceNamespace, int[]> digests = createHashMap(size);
+        for (int i = 0; i < size; i++) {
+            ServiceNamespace namespace = in.readObject();
+            digests.put(namespace, in.readIntArray());
+        }
+        replicaDigests = digests;
     }
 
     @Override
@@ -39,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -85,6 +86,13 @@ public final class PartitionReplicaSyncRequestOffloadable
         setReplicaIndex(replicaIndex);
     }
 
+    public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
+                                                  Map<ServiceNamespace, int[]> replicaDigests,
+                                                  int partitionId, int replicaIndex) {
+        this(namespaces, partitionId, replicaIndex);
+        this.replicaDigests = replicaDigests;
+    }
+
     @Override
     public CallStatus call() throws Exception {
         return new ReplicaSyncRequestOffload();
@@ -98,7 +106,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         InternalPartitionServiceImpl partitionService = getService();
         try {
             PartitionReplicationEvent event = new PartitionReplicationEvent(getCallerAddress(), partitionId,
-                    getReplicaIndex());
+                    getReplicaIndex(), replicaDigests);
             // It is only safe to read replica versions before
             // preparing replication operations. Reasoning: even
             // though partition is already marked as migrating,
@@ -202,7 +210,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         PartitionReplicaSyncResponse syncResponse
                 = new PartitionReplicaSyncResponse(operations, chunkSuppliers, ns,
                 versions, isChunkedMigrationEnabled(), getMaxTotalChunkedDataInBytes(),
-                getLogger(), partitionId);
+                isChunkCompressionEnabled(), getLogger(), partitionId);
 
         syncResponse.setPartitionId(partitionId)
                 .setReplicaIndex(replicaIndex);
@@ -267,6 +275,7 @@ public final class PartitionReplicaSyncRequestOffloadable
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
         out.writeInt(partitionId);
+        writeReplicaDigests(out);
     }
 
     @Override
@@ -274,6 +283,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         namespaces = ConcurrentHashMap.newKeySet();
         namespaces.addAll(readCollection(in));
         partitionId = in.readInt();
+        readReplicaDigests(in);
     }
 
     private boolean trySetMigratingFlag() {
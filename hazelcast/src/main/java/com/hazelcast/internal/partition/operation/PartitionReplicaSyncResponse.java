@@ -88,13 +88,14 @@ public class PartitionReplicaSyncResponse extends AbstractPartitionOperation
                                         long[] versions,
                                         boolean chunkedMigrationEnabled,
                                         int maxTotalChunkedDataInBytes,
+                                        boolean chunkCompressionEnabled,
                                         ILogger logger,
                                         int partitionId) {
         this.operations = operations;
         this.namespace = namespace;
         this.versions = versions;
         this.chunkSerDeHelper = new ChunkSerDeHelper(logger, partitionId,
-                chunkSuppliers, chunkedMigrationEnabled, maxTotalChunkedDataInBytes);
+                chunkSuppliers, chunkedMigrationEnabled, maxTotalChunkedDataInBytes, chunkCompressionEnabled, null);
     }
 
     @Override
@@ -56,6 +56,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -93,6 +94,8 @@ public abstract class AbstractSerializationService implements InternalSerializat
             new ConcurrentReferenceHashMap<>(ReferenceType.WEAK, ReferenceType.STRONG);
     private final ConcurrentMap<Integer, SerializerAdapter> idMap = new ConcurrentHashMap<>();
     private final AtomicReference<SerializerAdapter> global = new AtomicReference<>();
+    // incremented on every serializer registration to invalidate the per-thread SerializerAdapterCaches
+    private final AtomicInteger registrationVersion = new AtomicInteger();
 
     //Global serializer may override Java Serialization or not
     private boolean overrideJavaSerialization;
@@ -227,7 +230,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
         try {
             out.position(leftPadding);
 
-            SerializerAdapter serializer = serializerFor(obj, includeSchema);
+            SerializerAdapter serializer = serializerFor(obj, includeSchema, pool);
             if (writeHash) {
                 int partitionHash = calculatePartitionHash(obj, strategy);
                 out.writeInt(partitionHash, BIG_ENDIAN);
@@ -327,6 +330,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
         if (obj instanceof Data) {
             throw new HazelcastSerializationException("Cannot write a Data instance, use writeData() instead");
         }
+        // nested writes don't use the thread's SerializerAdapterCache, looking up the pool would cost as much as it saves
         SerializerAdapter serializer = serializerFor(obj, false);
         try {
             out.writeInt(serializer.getTypeId());
@@ -475,6 +479,7 @@ public abstract class AbstractSerializationService implements InternalSerializat
             throw new IllegalStateException("Global serializer is already registered");
         }
         this.overrideJavaSerialization = overrideJavaSerialization;
+        registrationVersion.incrementAndGet();
         SerializerAdapter current = idMap.putIfAbsent(serializer.getTypeId(), adapter);
         if (current != null && current.getImpl().getClass() != adapter.getImpl().getClass()) {
             global.compareAndSet(adapter, null);
@@ -510,6 +515,9 @@ public abstract class AbstractSerializationService implements InternalSerializat
             );
         }
         SerializerAdapter current = typeMap.putIfAbsent(type, serializer);
+        if (current == null) {
+            registrationVersion.incrementAndGet();
+        }
         if (current != null && current.getImpl().getClass() != serializer.getImpl().getClass()) {
             throw new IllegalStateException(
                     "Serializer[" + current.getImpl() + "] has been already registered for type: " + type);
@@ -579,6 +587,44 @@ public abstract class AbstractSerializationService implements InternalSerializat
         return serializerForClass(type, includeSchema);
     }
 
+    /**
+     * Resolves the serializer of the given non-null object using the
+     * {@link SerializerAdapterCache} of the calling thread. Subclasses that
+     * override {@link #serializerFor(Object, boolean)} must override this
+     * method too.
+     */
+    protected SerializerAdapter serializerFor(Object object, boolean includeSchema, BufferPool pool) {
+        if (!active) {
+            throw notActiveExceptionSupplier.get();
+        }
+
+        Class type = object.getClass();
+        SerializerAdapterCache cache = pool.getSerializerAdapterCache();
+        int version = registrationVersion.get();
+        SerializerAdapter serializer = cache.get(type, version);
+        if (serializer == null) {
+            // the schema only makes a difference for compact, so the cache holds the serializers without it
+            serializer = serializerForClass(type, false);
+            if (isCacheable(type)) {
+                cache.put(type, serializer, version);
+            }
+        }
+        return includeSchema && serializer == compactSerializerAdapter ? compactWithSchemaSerializerAdapter : serializer;
+    }
+
+    /**
+     * Checks if the class may be referenced by the thread caches. Classes of other
+     * class loaders, e.g. of a Jet job, are not cached so that the caches can't
+     * prevent these class loaders from being unloaded.
+     */
+    private boolean isCacheable(Class type) {
+        ClassLoader loader = type.getClassLoader();
+        return loader == null
+                || loader == classLoader
+                || loader == ClassLoader.getSystemClassLoader()
+                || loader == AbstractSerializationService.class.getClassLoader();
+    }
+
     public SerializerAdapter serializerForClass(Class type, boolean includeSchema) {
         //2-Default serializers, Dataserializable, Compact, Portable, primitives, arrays, String and
         // some helper Java types(BigInteger etc)
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+/**
+ * A per-thread cache of the {@link SerializerAdapter} resolved for a class.
+ * <p>
+ * Resolving the serializer of an object walks through a number of maps and
+ * {@code isAssignableFrom} checks, while most threads serialize the same
+ * handful of classes over and over. The cache is direct-mapped on the
+ * identity hash of the class, with the last hit kept in front of it like an
+ * inline cache, so a thread serializing the same class repeatedly doesn't
+ * even probe the table.
+ * <p>
+ * Entries are tagged with the registration version of the serialization
+ * service; as soon as a serializer is registered, the whole cache is dropped.
+ * <p>
+ * The cache is owned by a single thread (it is reachable through the
+ * thread's {@link com.hazelcast.internal.serialization.impl.bufferpool.BufferPool})
+ * and therefore isn't thread-safe.
+ */
+public final class SerializerAdapterCache {
+
+    static final int CAPACITY = 64;
+    private static final int MASK = CAPACITY - 1;
+
+    private final Class[] types = new Class[CAPACITY];
+    private final SerializerAdapter[] adapters = new SerializerAdapter[CAPACITY];
+    private int version;
+    private Class lastType;
+    private SerializerAdapter lastAdapter;
+
+    /**
+     * Returns the cached serializer for the given type, or {@code null} if it
+     * isn't cached or has been cached under another registration version.
+     */
+    SerializerAdapter get(Class type, int version) {
+        if (version != this.version) {
+            clear(version);
+            return null;
+        }
+        if (type == lastType) {
+            return lastAdapter;
+        }
+        int index = index(type);
+        if (types[index] != type) {
+            return null;
+        }
+        SerializerAdapter adapter = adapters[index];
+        lastType = type;
+        lastAdapter = adapter;
+        return adapter;
+    }
+
+    /**
+     * Caches the serializer for the given type, resolved while the serialization
+     * service was at the given registration version. A colliding entry is evicted.
+     */
+    void put(Class type, SerializerAdapter adapter, int version) {
+        if (version != this.version) {
+            clear(version);
+        }
+        int index = index(type);
+        types[index] = type;
+        adapters[index] = adapter;
+        lastType = type;
+        lastAdapter = adapter;
+    }
+
+    private void clear(int version) {
+        this.version = version;
+        for (int k = 0; k < CAPACITY; k++) {
+            types[k] = null;
+            adapters[k] = null;
+        }
+        lastType = null;
+        lastAdapter = null;
+    }
+
+    static int index(Class type) {
+        return System.identityHashCode(type) & MASK;
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.internal.serialization.impl.bufferpool;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.SerializerAdapterCache;
 
 /**
  * The BufferPool allows the pooling of the {@link BufferObjectDataInput} and {@link BufferObjectDataOutput} instances.
@@ -64,4 +65,11 @@ public interface BufferPool {
      * @param in the BufferObjectDataInput.
      */
     void returnInputBuffer(BufferObjectDataInput in);
+
+    /**
+     * Returns the cache of serializer lookups of the thread owning this pool.
+     *
+     * @return the SerializerAdapterCache
+     */
+    SerializerAdapterCache getSerializerAdapterCache();
 }
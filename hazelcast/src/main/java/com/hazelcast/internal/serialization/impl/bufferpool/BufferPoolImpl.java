@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.SerializerAdapterCache;
 
 import java.util.ArrayDeque;
 import java.util.Queue;
@@ -38,6 +39,7 @@ public class BufferPoolImpl implements BufferPool {
     // accessible for testing.
     final Queue<BufferObjectDataOutput> outputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
     final Queue<BufferObjectDataInput> inputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
+    private final SerializerAdapterCache serializerAdapterCache = new SerializerAdapterCache();
 
     public BufferPoolImpl(InternalSerializationService serializationService) {
         this.serializationService = serializationService;
@@ -91,4 +93,9 @@ public class BufferPoolImpl implements BufferPool {
 
         queue.offer(item);
     }
+
+    @Override
+    public SerializerAdapterCache getSerializerAdapterCache() {
+        return serializerAdapterCache;
+    }
 }
@@ -19,6 +19,7 @@ package com.hazelcast.internal.serialization.impl.bufferpool;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.ConcurrentReferenceHashMap;
+import com.hazelcast.internal.util.executor.HazelcastManagedThread;
 
 import java.lang.ref.WeakReference;
 import java.util.Map;
@@ -76,10 +77,20 @@ import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceTy
  * The Performance of using a ThreadLocal in combination with a WeakReference is almost the same as using a ThreadLocal without
  * WeakReference. There is an extra pointer indirection and some additional pressure on the gc system since it needs to deal with
  * the WeakReferences, but the number of threads is limited.
+ *
+ * <h1>HazelcastManagedThread fast path</h1>
+ * Partition, generic and IO threads are {@link HazelcastManagedThread} instances. For these threads the WeakReference
+ * is also cached on the thread itself (see {@link HazelcastManagedThread#setThreadLocalCache(Object)}), so the BufferPool
+ * is found with a field access instead of a ThreadLocal lookup. The cached reference only holds an identity token of
+ * its BufferPoolThreadLocal, so the thread doesn't keep the SerializationService alive. There is a single slot per thread;
+ * it is claimed by the first BufferPoolThreadLocal that uses the thread and released once its BufferPool is gc'ed. Other
+ * BufferPoolThreadLocals fall back to the ThreadLocal.
  */
 public final class BufferPoolThreadLocal {
 
-    private final ThreadLocal<WeakReference<BufferPool>> threadLocal = new ThreadLocal<>();
+    private final ThreadLocal<PoolReference> threadLocal = new ThreadLocal<>();
+    // identifies the references created by this BufferPoolThreadLocal without keeping it alive
+    private final Object token = new Object();
     private final InternalSerializationService serializationService;
     private final BufferPoolFactory bufferPoolFactory;
     private final Map<Thread, BufferPool> strongReferences = new ConcurrentReferenceHashMap<>(WEAK, STRONG);
@@ -94,23 +105,55 @@ public final class BufferPoolThreadLocal {
     }
 
     public BufferPool get() {
-        WeakReference<BufferPool> ref = threadLocal.get();
+        Thread thread = Thread.currentThread();
+        if (thread instanceof HazelcastManagedThread managedThread
+                && managedThread.getThreadLocalCache() instanceof PoolReference ref
+                && ref.token == token) {
+            return dereference(ref);
+        }
+
+        PoolReference ref = threadLocal.get();
         if (ref == null) {
             BufferPool pool = bufferPoolFactory.create(serializationService);
-            ref = new WeakReference<>(pool);
-            strongReferences.put(Thread.currentThread(), pool);
+            ref = new PoolReference(pool, token);
+            strongReferences.put(thread, pool);
             threadLocal.set(ref);
+            cacheOnThread(thread, ref);
             return pool;
         } else {
-            BufferPool pool = ref.get();
-            if (pool == null) {
-                throw notActiveExceptionSupplier.get();
+            cacheOnThread(thread, ref);
+            return dereference(ref);
+        }
+    }
+
+    private BufferPool dereference(PoolReference ref) {
+        BufferPool pool = ref.get();
+        if (pool == null) {
+            throw notActiveExceptionSupplier.get();
+        }
+        return pool;
+    }
+
+    private static void cacheOnThread(Thread thread, PoolReference ref) {
+        if (thread instanceof HazelcastManagedThread managedThread) {
+            Object cached = managedThread.getThreadLocalCache();
+            // only claim the slot if it is free or its BufferPool is gone
+            if (cached == null || cached instanceof PoolReference cachedRef && cachedRef.get() == null) {
+                managedThread.setThreadLocalCache(ref);
             }
-            return pool;
         }
     }
 
     public void clear() {
         strongReferences.clear();
     }
+
+    private static final class PoolReference extends WeakReference<BufferPool> {
+        private final Object token;
+
+        PoolReference(BufferPool pool, Object token) {
+            super(pool);
+            this.token = token;
+        }
+    }
 }
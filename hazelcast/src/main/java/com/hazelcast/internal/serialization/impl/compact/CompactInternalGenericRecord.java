@@ -199,19 +199,22 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
 
     @Override
     public boolean getBoolean(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getBoolean(getFieldDescriptor(fieldName));
+    }
+
+    boolean getBoolean(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case BOOLEAN:
-                return getBoolean(fd);
+                return getFixedSizeBoolean(fd);
             case NULLABLE_BOOLEAN:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readBoolean, "Boolean");
             default:
-                throw unexpectedFieldKind(BOOLEAN, fieldName);
+                throw unexpectedFieldKind(BOOLEAN, fd.getFieldName());
         }
     }
 
-    private boolean getBoolean(FieldDescriptor fd) {
+    private boolean getFixedSizeBoolean(FieldDescriptor fd) {
         try {
             int booleanOffset = fd.getOffset();
             int bitOffset = fd.getBitOffset();
@@ -225,7 +228,10 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
 
     @Override
     public byte getInt8(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt8(getFieldDescriptor(fieldName));
+    }
+
+    byte getInt8(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT8:
@@ -237,13 +243,16 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT8:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readByte, "Int8");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public short getInt16(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt16(getFieldDescriptor(fieldName));
+    }
+
+    short getInt16(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT16:
@@ -255,13 +264,16 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT16:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readShort, "Int16");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public int getInt32(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt32(getFieldDescriptor(fieldName));
+    }
+
+    int getInt32(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT32:
@@ -273,13 +285,16 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT32:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readInt, "Int32");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public long getInt64(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt64(getFieldDescriptor(fieldName));
+    }
+
+    long getInt64(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT64:
@@ -291,13 +306,16 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT64:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readLong, "Int64");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public float getFloat32(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getFloat32(getFieldDescriptor(fieldName));
+    }
+
+    float getFloat32(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case FLOAT32:
@@ -309,13 +327,16 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_FLOAT32:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readFloat, "Float32");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public double getFloat64(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getFloat64(getFieldDescriptor(fieldName));
+    }
+
+    double getFloat64(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case FLOAT64:
@@ -327,7 +348,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_FLOAT64:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readDouble, "Float64");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
@@ -585,7 +606,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case BOOLEAN:
-                return getBoolean(fd);
+                return getFixedSizeBoolean(fd);
             case NULLABLE_BOOLEAN:
                 return getVariableSize(fd, ObjectDataInput::readBoolean);
             default:
@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.compact;
 
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
+import com.hazelcast.nio.serialization.FieldKind;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.compact.CompactReader;
 import com.hazelcast.nio.serialization.compact.CompactSerializer;
@@ -66,7 +67,7 @@ import static java.util.stream.Collectors.toList;
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
-    private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, ClassReaderWriters> readerWritersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -96,11 +97,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean writeFast(Class clazz, CompactWriter compactWriter, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readerWriters) {
             try {
                 readerWriter.write(compactWriter, object);
             } catch (Exception e) {
@@ -111,15 +112,17 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
 
         Schema schema = compactReader.getSchema();
-        for (ReaderWriter readerWriter : readerWriters) {
+        ReaderWriter[] readerWriters = classReaderWriters.readerWriters;
+        FieldDescriptor[] descriptors = classReaderWriters.descriptorsFor(schema);
+        for (int i = 0; i < readerWriters.length; i++) {
             try {
-                readerWriter.read(compactReader, schema, object);
+                readerWriters[i].read(compactReader, schema, descriptors[i], object);
             } catch (Exception e) {
                 throw new HazelcastSerializationException(e);
             }
@@ -180,14 +183,13 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
             Class<?> type = field.getType();
             String name = field.getName();
 
-
             // Use normal reader-writers for the primitive types to avoid boxing-unboxing
             if (Byte.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT8, NULLABLE_INT8) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT8, NULLABLE_INT8)) {
-                            field.setByte(o, reader.readInt8(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setByte(o, reader.getInt8(fd));
                         }
                     }
 
@@ -197,11 +199,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Character.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT16, NULLABLE_INT16) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setChar(o, (char) reader.readInt16(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setChar(o, (char) reader.getInt16(fd));
                         }
                     }
 
@@ -211,11 +213,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Short.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT16, NULLABLE_INT16) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setShort(o, reader.readInt16(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setShort(o, reader.getInt16(fd));
                         }
                     }
 
@@ -225,11 +227,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Integer.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT32, NULLABLE_INT32) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT32, NULLABLE_INT32)) {
-                            field.setInt(o, reader.readInt32(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setInt(o, reader.getInt32(fd));
                         }
                     }
 
@@ -239,11 +241,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Long.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT64, NULLABLE_INT64) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT64, NULLABLE_INT64)) {
-                            field.setLong(o, reader.readInt64(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setLong(o, reader.getInt64(fd));
                         }
                     }
 
@@ -253,11 +255,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Float.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, FLOAT32, NULLABLE_FLOAT32) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32)) {
-                            field.setFloat(o, reader.readFloat32(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setFloat(o, reader.getFloat32(fd));
                         }
                     }
 
@@ -267,11 +269,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Double.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, FLOAT64, NULLABLE_FLOAT64) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64)) {
-                            field.setDouble(o, reader.readFloat64(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setDouble(o, reader.getFloat64(fd));
                         }
                     }
 
@@ -281,11 +283,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Boolean.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, BOOLEAN, NULLABLE_BOOLEAN) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN)) {
-                            field.setBoolean(o, reader.readBoolean(name));
+                    public void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception {
+                        if (fd != null) {
+                            field.setBoolean(o, reader.getBoolean(fd));
                         }
                     }
 
@@ -306,7 +308,7 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
             index++;
         }
 
-        readerWritersCache.put(clazz, readerWriters);
+        readerWritersCache.put(clazz, new ClassReaderWriters(readerWriters));
     }
 
     private static final class ReaderWriterAdapter implements ReaderWriter {
@@ -314,14 +316,19 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         private final ValueReaderWriter readerWriter;
         private final Field field;
 
-
         ReaderWriterAdapter(ValueReaderWriter readerWriter, Field field) {
             this.readerWriter = readerWriter;
             this.field = field;
         }
 
         @Override
-        public void read(CompactReader reader, Schema schema, Object o) throws Exception {
+        public FieldDescriptor resolve(Schema schema) {
+            // value reader writers look up the field by name themselves
+            return null;
+        }
+
+        @Override
+        public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o) throws Exception {
             field.set(o, readerWriter.read(reader, schema));
         }
 
@@ -331,8 +338,97 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         }
     }
 
+    /**
+     * Reads and writes a primitive field. The field is read from the data
+     * only if the schema has it with the same or the nullable kind, the
+     * value in the newly created object is kept as it is otherwise.
+     */
+    private abstract static class PrimitiveReaderWriter implements ReaderWriter {
+
+        private final String name;
+        private final FieldKind kind;
+        private final FieldKind nullableKind;
+
+        PrimitiveReaderWriter(String name, FieldKind kind, FieldKind nullableKind) {
+            this.name = name;
+            this.kind = kind;
+            this.nullableKind = nullableKind;
+        }
+
+        @Override
+        public FieldDescriptor resolve(Schema schema) {
+            return isFieldExist(schema, name, kind, nullableKind) ? schema.getField(name) : null;
+        }
+
+        @Override
+        public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o) throws Exception {
+            read(reader, fd, o);
+        }
+
+        /**
+         * @param fd the descriptor of the field in the schema of the data,
+         *           or {@code null} if the field cannot be read from it
+         */
+        abstract void read(DefaultCompactReader reader, FieldDescriptor fd, Object o) throws Exception;
+    }
+
+    /**
+     * The reader writers of a class, along with the descriptors they use
+     * to read the fields of each schema the class is read with.
+     * <p>
+     * The descriptors are resolved by name once per schema, so that reading
+     * the data written with a different version of the class (e.g. during
+     * rolling upgrades) does not look up the fields by name on each read.
+     */
+    private static final class ClassReaderWriters {
+
+        private final ReaderWriter[] readerWriters;
+        private final Map<Long, FieldMapping> fieldMappings = new ConcurrentHashMap<>();
+        // the schema of the last read data, typically the same for all reads
+        private volatile FieldMapping lastFieldMapping;
+
+        ClassReaderWriters(ReaderWriter[] readerWriters) {
+            this.readerWriters = readerWriters;
+        }
+
+        FieldDescriptor[] descriptorsFor(Schema schema) {
+            long schemaId = schema.getSchemaId();
+            FieldMapping fieldMapping = lastFieldMapping;
+            if (fieldMapping == null || fieldMapping.schemaId != schemaId) {
+                fieldMapping = fieldMappings.computeIfAbsent(schemaId, id -> new FieldMapping(id, resolve(schema)));
+                lastFieldMapping = fieldMapping;
+            }
+            return fieldMapping.descriptors;
+        }
+
+        private FieldDescriptor[] resolve(Schema schema) {
+            FieldDescriptor[] descriptors = new FieldDescriptor[readerWriters.length];
+            for (int i = 0; i < readerWriters.length; i++) {
+                descriptors[i] = readerWriters[i].resolve(schema);
+            }
+            return descriptors;
+        }
+    }
+
+    private static final class FieldMapping {
+
+        private final long schemaId;
+        private final FieldDescriptor[] descriptors;
+
+        FieldMapping(long schemaId, FieldDescriptor[] descriptors) {
+            this.schemaId = schemaId;
+            this.descriptors = descriptors;
+        }
+    }
+
     private interface ReaderWriter {
-        void read(CompactReader reader, Schema schema, Object o) throws Exception;
+        /**
+         * Returns the descriptor to read the field from the data having
+         * the given schema, or {@code null} if it is not used.
+         */
+        FieldDescriptor resolve(Schema schema);
+
+        void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o) throws Exception;
 
         void write(CompactWriter writer, Object o) throws Exception;
     }
@@ -25,6 +25,8 @@ import com.hazelcast.config.SymmetricEncryptionConfig;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.ascii.TextCommandService;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionFallback;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.logging.LoggingService;
@@ -124,4 +126,14 @@ public interface ServerContext {
     OutboundHandler[] createOutboundHandlers(EndpointQualifier qualifier, ServerConnection connection);
 
     AuditlogService getAuditLogService();
+
+    /**
+     * Returns the statistics shared by all compressed connections of this member.
+     */
+    CompressionStats getCompressionStats();
+
+    /**
+     * Returns the members that rejected a compressed connection opened by this member.
+     */
+    CompressionFallback getCompressionFallback();
 }
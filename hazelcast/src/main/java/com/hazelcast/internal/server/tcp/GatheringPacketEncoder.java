@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.IOVector;
+import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.nio.Packet;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.nio.PacketIOHelper.newHeaderBuffer;
+import static java.lang.Math.min;
+
+/**
+ * A {@link OutboundHandler} for member to member communication that writes
+ * {@link Packet} instances to an {@link IOVector} instead of copying them into
+ * a send buffer like the {@link PacketEncoder} does.
+ * <p>
+ * For every packet a header buffer is added, followed by the payload byte-array
+ * of the packet wrapped in a buffer. This way many small packets are written with
+ * a single gathering write. To bound the amount of data handed to the socket in a
+ * single write, the pending bytes are limited to SO_SNDBUF and larger payloads are
+ * added in chunks.
+ * <p>
+ * It needs to be the last handler in the outbound pipeline.
+ *
+ * @see PacketEncoder
+ */
+public class GatheringPacketEncoder extends OutboundHandler<Supplier<Packet>, IOVector> {
+
+    // the header and at least one payload chunk should fit into the vector
+    private static final int MIN_CAPACITY_PER_PACKET = 2;
+
+    private int maxPendingBytes;
+    private Packet packet;
+    private int payloadOffset;
+
+    @Override
+    public void handlerAdded() {
+        dst = new IOVector();
+        maxPendingBytes = channel.options().getOption(SO_SNDBUF);
+    }
+
+    @Override
+    public HandlerStatus onWrite() {
+        for (; ; ) {
+            if (dst.remaining() >= maxPendingBytes) {
+                return DIRTY;
+            }
+
+            if (packet == null) {
+                if (dst.capacity() < MIN_CAPACITY_PER_PACKET) {
+                    return DIRTY;
+                }
+
+                packet = src.get();
+                if (packet == null) {
+                    // everything is processed, so we are done
+                    return CLEAN;
+                }
+
+                dst.offer(newHeaderBuffer(packet));
+                payloadOffset = 0;
+                // the header could have used up the pending bytes budget, so check again
+                continue;
+            }
+
+            if (dst.capacity() == 0) {
+                return DIRTY;
+            }
+
+            int payloadSize = packet.totalSize();
+            if (payloadOffset < payloadSize) {
+                int chunkSize = (int) min(payloadSize - payloadOffset, maxPendingBytes - dst.remaining());
+                dst.offer(ByteBuffer.wrap(packet.toByteArray(), payloadOffset, chunkSize));
+                payloadOffset += chunkSize;
+            }
+
+            if (payloadOffset == payloadSize) {
+                // packet got written, lets see if another packet can be written
+                packet = null;
+            }
+        }
+    }
+}
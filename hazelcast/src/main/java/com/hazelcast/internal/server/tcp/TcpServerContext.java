@@ -35,6 +35,8 @@ import com.hazelcast.internal.ascii.TextCommandService;
 import com.hazelcast.internal.cluster.ClusterService;
 import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionFallback;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.server.ServerContext;
@@ -69,6 +71,8 @@ public class TcpServerContext implements ServerContext {
     private final NodeEngine nodeEngine;
     private final RestApiConfig restApiConfig;
     private final MemcacheProtocolConfig memcacheProtocolConfig;
+    private final CompressionStats compressionStats = new CompressionStats();
+    private final CompressionFallback compressionFallback = new CompressionFallback();
 
     public TcpServerContext(Node node, NodeEngine nodeEngine) {
         this.node = node;
@@ -351,4 +355,14 @@ public class TcpServerContext implements ServerContext {
     public AuditlogService getAuditLogService() {
         return node.getNodeExtension().getAuditlogService();
     }
+
+    @Override
+    public CompressionStats getCompressionStats() {
+        return compressionStats;
+    }
+
+    @Override
+    public CompressionFallback getCompressionFallback() {
+        return compressionFallback;
+    }
 }
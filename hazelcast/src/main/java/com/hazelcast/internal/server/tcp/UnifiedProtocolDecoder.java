@@ -25,6 +25,8 @@ import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.networking.ChannelOptions;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.nio.Protocols;
 import com.hazelcast.internal.nio.ascii.MemcacheTextDecoder;
@@ -45,7 +47,9 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.nio.IOUtil.newByteBuffer;
 import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
@@ -99,9 +103,13 @@ public class UnifiedProtocolDecoder
                     .addParameter("protocol", protocol)
                     .log();
             if (CLUSTER.equals(protocol)) {
-                initChannelForCluster();
+                initChannelForCluster(false);
+            } else if (CLUSTER_COMPRESSED.equals(protocol)) {
+                initChannelForCluster(true);
             } else if (CLIENT_BINARY.equals(protocol)) {
-                initChannelForClient();
+                initChannelForClient(false);
+            } else if (CLIENT_BINARY_COMPRESSED.equals(protocol)) {
+                initChannelForClient(true);
             } else if (RestApiTextDecoder.TEXT_PARSERS.isCommandPrefix(protocol)) {
                 RestApiConfig restApiConfig = serverContext.getRestApiConfig();
                 if (!restApiConfig.isEnabledAndNotEmpty()) {
@@ -151,7 +159,12 @@ public class UnifiedProtocolDecoder
         return new String(protocolBytes, StandardCharsets.UTF_8);
     }
 
-    private void initChannelForCluster() {
+    private void initChannelForCluster(boolean compressed) {
+        if (compressed) {
+            // picked up by the node extension when it creates the member handlers
+            // for both directions, so it needs to be set before the encoder replaces itself
+            channel.attributeMap().put(CompressionStats.class, serverContext.getCompressionStats());
+        }
         protocolEncoder.signalEncoderCanReplace();
         channel.options()
                 .setOption(SO_SNDBUF, props.getInteger(SOCKET_RECEIVE_BUFFER_SIZE) * KILO_BYTE);
@@ -161,7 +174,7 @@ public class UnifiedProtocolDecoder
         channel.inboundPipeline().replace(this, serverContext.createInboundHandlers(EndpointQualifier.MEMBER, connection));
     }
 
-    private void initChannelForClient() {
+    private void initChannelForClient(boolean compressed) {
         protocolEncoder.signalEncoderCanReplace();
         channel.options()
                 .setOption(SO_RCVBUF, clientRcvBuf())
@@ -169,7 +182,12 @@ public class UnifiedProtocolDecoder
                 .setOption(DIRECT_BUF, false);
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
-        channel.inboundPipeline().replace(this, new ClientMessageDecoder(connection, serverContext.getClientEngine(), props));
+        ClientMessageDecoder decoder = new ClientMessageDecoder(connection, serverContext.getClientEngine(), props);
+        if (compressed) {
+            channel.inboundPipeline().replace(this, new CompressionDecoder(serverContext.getCompressionStats()), decoder);
+        } else {
+            channel.inboundPipeline().replace(this, decoder);
+        }
     }
 
     private void initChannelForText(String protocol, boolean restApi) {
@@ -20,6 +20,7 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
 import com.hazelcast.internal.nio.ascii.TextEncoder;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.ServerConnection;
@@ -32,11 +33,15 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.nio.ascii.TextEncoder.TEXT_ENCODER;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_COMPRESSION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_COMPRESSION_THRESHOLD_BYTES;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_CLIENT_SEND_BUFFER_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_SEND_BUFFER_SIZE;
 
@@ -48,6 +53,13 @@ import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_SEND_BUFFER_SI
  * write the cluster protocol immediately. The ProtocolEncoder on the 'server' side
  * of the connection will wait till it has received the protocol and then will only
  * send the protocol if the client side was a member.
+ * <p>
+ * If {@link com.hazelcast.spi.properties.ClusterProperty#NETWORK_COMPRESSION_ENABLED}
+ * is set, the 'client' side writes the compressed cluster protocol instead. The
+ * 'server' side echoes the protocol it received, which confirms the compression.
+ * A member running an older version closes the connection instead, and the next
+ * connections to it are opened with the uncompressed protocol for a while, see
+ * {@link com.hazelcast.internal.networking.compression.CompressionFallback}.
  */
 public class UnifiedProtocolEncoder
         extends OutboundHandler<Void, ByteBuffer> {
@@ -69,7 +81,9 @@ public class UnifiedProtocolEncoder
 
         if (channel.isClientMode()) {
             // from the clientSide of a connection, we always send the cluster protocol to a fellow member.
-            inboundProtocol = CLUSTER;
+            boolean compressed = props.getBoolean(NETWORK_COMPRESSION_ENABLED)
+                    && serverContext.getCompressionFallback().tryCompress(channel);
+            inboundProtocol = compressed ? CLUSTER_COMPRESSED : CLUSTER;
         }
     }
 
@@ -93,12 +107,12 @@ public class UnifiedProtocolEncoder
                 return CLEAN;
             }
 
-            if (CLUSTER.equals(inboundProtocol)) {
+            if (CLUSTER.equals(inboundProtocol) || CLUSTER_COMPRESSED.equals(inboundProtocol)) {
                 // in case of a member, the cluster protocol needs to be sent first before initializing the channel.
 
                 if (!clusterProtocolBuffered) {
                     clusterProtocolBuffered = true;
-                    dst.put(stringToBytes(CLUSTER));
+                    dst.put(stringToBytes(inboundProtocol));
                     // Return false because ProtocolEncoder is not ready yet; but first we need to flush protocol
                     return DIRTY;
                 }
@@ -111,10 +125,10 @@ public class UnifiedProtocolEncoder
                 if (encoderCanReplace) {
                     initChannelForCluster();
                 }
-            } else if (CLIENT_BINARY.equals(inboundProtocol)) {
+            } else if (CLIENT_BINARY.equals(inboundProtocol) || CLIENT_BINARY_COMPRESSED.equals(inboundProtocol)) {
                 // in case of a client, the member will not send the member protocol
                 if (encoderCanReplace) {
-                    initChannelForClient();
+                    initChannelForClient(CLIENT_BINARY_COMPRESSED.equals(inboundProtocol));
                 }
             } else {
                 // in case of a text-client, the member will not send the member protocol
@@ -150,11 +164,17 @@ public class UnifiedProtocolEncoder
         channel.outboundPipeline().replace(this, handlers);
     }
 
-    private void initChannelForClient() {
+    private void initChannelForClient(boolean compressed) {
         channel.options()
                 .setOption(SO_SNDBUF, clientSndBuf());
 
-        channel.outboundPipeline().replace(this, new ClientMessageEncoder());
+        if (compressed) {
+            CompressionEncoder compressionEncoder = new CompressionEncoder(
+                    props.getInteger(NETWORK_COMPRESSION_THRESHOLD_BYTES), serverContext.getCompressionStats());
+            channel.outboundPipeline().replace(this, new ClientMessageEncoder(), compressionEncoder);
+        } else {
+            channel.outboundPipeline().replace(this, new ClientMessageEncoder());
+        }
     }
 
     private void initChannelForText() {
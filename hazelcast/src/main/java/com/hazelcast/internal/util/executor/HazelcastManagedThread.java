@@ -34,6 +34,7 @@ import java.util.BitSet;
 public class HazelcastManagedThread extends Thread {
 
     private BitSet allowedCpus;
+    private Object threadLocalCache;
 
     public HazelcastManagedThread() {
     }
@@ -54,6 +55,28 @@ public class HazelcastManagedThread extends Thread {
         this.allowedCpus = threadAffinity.nextAllowedCpus();
     }
 
+    /**
+     * Returns the value cached on this thread by a thread-local construct,
+     * see {@link #setThreadLocalCache(Object)}.
+     * <p>
+     * Should only be called by this thread.
+     */
+    public Object getThreadLocalCache() {
+        return threadLocalCache;
+    }
+
+    /**
+     * Caches a value on this thread, so it can be read with a field access
+     * instead of a {@link ThreadLocal} lookup. There is a single slot per
+     * thread, so the caller needs to recognize its own value and must not
+     * overwrite a value of someone else that is still in use.
+     * <p>
+     * Should only be called by this thread.
+     */
+    public void setThreadLocalCache(Object threadLocalCache) {
+        this.threadLocalCache = threadLocalCache;
+    }
+
     @Override
     public void setContextClassLoader(ClassLoader cl) {
         // Set only if specified classloader is not empty, otherwise go one with current
@@ -38,6 +38,7 @@ import com.hazelcast.internal.services.ManagedService;
 import com.hazelcast.internal.services.MembershipAwareService;
 import com.hazelcast.internal.services.MembershipServiceEvent;
 import com.hazelcast.internal.util.InvocationUtil;
+import com.hazelcast.internal.util.ThreadAffinity;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.JetService;
 import com.hazelcast.jet.config.JetConfig;
@@ -85,9 +86,11 @@ import java.util.function.Supplier;
 import static com.hazelcast.cluster.ClusterState.PASSIVE;
 import static com.hazelcast.config.MapConfig.DISABLED_TTL_SECONDS;
 import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.internal.util.ThreadAffinity.newSystemThreadAffinity;
 import static com.hazelcast.jet.impl.JobRepository.INTERNAL_JET_OBJECTS_PREFIX;
 import static com.hazelcast.jet.impl.JobRepository.JOB_METRICS_MAP_NAME;
 import static com.hazelcast.jet.impl.JobRepository.JOB_RESULTS_MAP_NAME;
+import static com.hazelcast.jet.impl.execution.TaskletExecutionService.COOPERATIVE_THREAD_AFFINITY;
 import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
 import static com.hazelcast.jet.impl.util.Util.memoizeConcurrent;
 import static com.hazelcast.spi.properties.ClusterProperty.JOB_RESULTS_TTL_SECONDS;
@@ -137,8 +140,10 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
         this.nodeEngine = (NodeEngineImpl) engine;
         this.jet = new JetInstanceImpl(nodeEngine.getNode().hazelcastInstance, jetConfig);
         jobRepository = new JobRepository(engine.getHazelcastInstance());
+        ThreadAffinity threadAffinity = newSystemThreadAffinity(COOPERATIVE_THREAD_AFFINITY);
         taskletExecutionService = new TaskletExecutionService(
-                nodeEngine, jetConfig.getCooperativeThreadCount(), nodeEngine.getProperties()
+                nodeEngine, cooperativeThreadCount(jetConfig, threadAffinity, logger), nodeEngine.getProperties(),
+                threadAffinity
         );
         jobCoordinationService = createJobCoordinationService();
         jobClassLoaderService = new JobClassLoaderService(nodeEngine, jobRepository);
@@ -160,13 +165,37 @@ public class JetServiceBackend implements ManagedService, MembershipAwareService
                     " since the ClientExceptionFactory is not accessible.");
         }
         logger.info("Setting number of cooperative threads and default parallelism to "
-                    + jetConfig.getCooperativeThreadCount());
+                    + getCooperativeThreadCount());
 
         // Run periodically to clean expired jar uploads
         this.jobUploadStoreCheckerFuture = nodeEngine.getExecutionService().scheduleWithRepetition(
                 jobUploadStore::cleanExpiredUploads, 0, JOB_UPLOAD_STORE_PERIOD, SECONDS);
     }
 
+    /**
+     * Returns the number of cooperative threads of this member. An enabled
+     * thread affinity determines the number, the configured count is then
+     * ignored. The config isn't changed, a warning is logged instead.
+     */
+    static int cooperativeThreadCount(JetConfig jetConfig, ThreadAffinity threadAffinity, ILogger logger) {
+        int configured = jetConfig.getCooperativeThreadCount();
+        if (!threadAffinity.isEnabled() || threadAffinity.getThreadCount() == configured) {
+            return configured;
+        }
+        logger.warning("The configured cooperative thread count " + configured
+                + " is overridden by the " + COOPERATIVE_THREAD_AFFINITY + " property, which allows "
+                + threadAffinity.getThreadCount() + " threads");
+        return threadAffinity.getThreadCount();
+    }
+
+    /**
+     * Returns the number of cooperative threads of this member, which is also
+     * the default local parallelism of the vertices.
+     */
+    public int getCooperativeThreadCount() {
+        return taskletExecutionService.getCooperativeThreadCount();
+    }
+
     public ConcurrentMap<String, Long> getConnectorInitializeCounts() {
         return connectorInitializeCounts;
     }
@@ -195,7 +195,7 @@ public class JobCoordinationService implements DynamicMetricsProvider {
         this.nodeEngine = nodeEngine;
         this.jetServiceBackend = jetServiceBackend;
         this.config = config;
-        this.pipelineToDagContext = this.config::getCooperativeThreadCount;
+        this.pipelineToDagContext = jetServiceBackend::getCooperativeThreadCount;
         this.logger = nodeEngine.getLogger(getClass());
         this.jobRepository = jobRepository;
 
@@ -1301,7 +1301,7 @@ public class JobCoordinationService implements DynamicMetricsProvider {
     }
 
     private String dagToJson(DAG dag) {
-        int coopThreadCount = config.getCooperativeThreadCount();
+        int coopThreadCount = jetServiceBackend.getCooperativeThreadCount();
         return dag.toJson(coopThreadCount).toString();
     }
 
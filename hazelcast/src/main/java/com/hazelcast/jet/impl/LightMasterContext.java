@@ -23,7 +23,6 @@ import com.hazelcast.internal.cluster.MemberInfo;
 import com.hazelcast.internal.cluster.impl.MembersView;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.JetException;
-import com.hazelcast.jet.config.JetConfig;
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.core.ProcessorMetaSupplier;
@@ -146,9 +145,9 @@ public final class LightMasterContext {
         }
 
         if (logger.isFineEnabled()) {
-            JetConfig jetConfig = nodeEngine.getConfig().getJetConfig();
-            String dotRepresentation = dag.toDotString(jetConfig.getCooperativeThreadCount(),
-                    jetConfig.getDefaultEdgeConfig().getQueueSize());
+            JetServiceBackend jetServiceBackend = nodeEngine.getService(JetServiceBackend.SERVICE_NAME);
+            String dotRepresentation = dag.toDotString(jetServiceBackend.getCooperativeThreadCount(),
+                    nodeEngine.getConfig().getJetConfig().getDefaultEdgeConfig().getQueueSize());
             logger.fine("""
                             Start executing light job %s, execution graph in DOT format:
                             %s
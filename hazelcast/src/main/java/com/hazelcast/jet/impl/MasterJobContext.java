@@ -198,7 +198,7 @@ public class MasterJobContext {
     MasterJobContext(MasterContext masterContext, ILogger logger) {
         mc = masterContext;
         this.logger = logger;
-        defaultParallelism = mc.getJetServiceBackend().getJetConfig().getCooperativeThreadCount();
+        defaultParallelism = mc.getJetServiceBackend().getCooperativeThreadCount();
         defaultQueueSize = mc.getJetServiceBackend().getJetConfig()
                 .getDefaultEdgeConfig().getQueueSize();
         MetricDescriptorImpl jobMetricDescriptor = DEFAULT_DESCRIPTOR_SUPPLIER.get()
@@ -20,11 +20,13 @@ import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.util.RuntimeAvailableProcessors;
+import com.hazelcast.internal.util.ThreadAffinity;
 import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
 import com.hazelcast.internal.util.concurrent.IdleStrategy;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.internal.util.executor.HazelcastManagedThread;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.impl.execution.init.Contexts;
@@ -79,6 +81,7 @@ import static java.util.stream.Collectors.toList;
 public class TaskletExecutionService {
 
     public static final String TASKLET_INIT_CLOSE_EXECUTOR_NAME = "jet:tasklet_initClose";
+    public static final String COOPERATIVE_THREAD_AFFINITY = "hazelcast.jet.cooperative.thread.affinity";
 
     private final ExecutorService blockingTaskletExecutor = newCachedThreadPool(new BlockingTaskThreadFactory());
     private final ExecutionService hzExecutionService;
@@ -93,8 +96,22 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final ThreadAffinity threadAffinity;
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
+        this(nodeEngine, threadCount, properties, ThreadAffinity.DISABLED);
+    }
+
+    /**
+     * If the given thread affinity is enabled, it determines the number of
+     * cooperative threads and the {@code threadCount} is ignored.
+     */
+    public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties,
+                                   ThreadAffinity threadAffinity) {
+        this.threadAffinity = threadAffinity;
+        if (threadAffinity.isEnabled()) {
+            threadCount = threadAffinity.getThreadCount();
+        }
         hzExecutionService = nodeEngine.getExecutionService();
         hzExecutionService.register(TASKLET_INIT_CLOSE_EXECUTOR_NAME,
                 RuntimeAvailableProcessors.get(), Integer.MAX_VALUE, CACHED);
@@ -111,8 +128,12 @@ public class TaskletExecutionService {
         );
 
         Arrays.setAll(cooperativeWorkers, i -> new CooperativeWorker());
-        Arrays.setAll(cooperativeThreadPool, i -> new CooperativeWorkerThread(cooperativeWorkers[i],
-                String.format("hz.%s.jet.cooperative.thread-%d", hzInstanceName, i)));
+        Arrays.setAll(cooperativeThreadPool, i -> {
+            CooperativeWorkerThread thread = new CooperativeWorkerThread(cooperativeWorkers[i],
+                    String.format("hz.%s.jet.cooperative.thread-%d", hzInstanceName, i));
+            thread.setThreadAffinity(threadAffinity);
+            return thread;
+        });
         Arrays.stream(cooperativeThreadPool).forEach(Thread::start);
 
         // register metrics
@@ -159,6 +180,10 @@ public class TaskletExecutionService {
         return executionTracker.future;
     }
 
+    public int getCooperativeThreadCount() {
+        return cooperativeWorkers.length;
+    }
+
     public void shutdown() {
         isShutdown = true;
         Arrays.stream(cooperativeWorkers).forEach(thread -> thread.newTaskletSemaphore.release());
@@ -508,7 +533,7 @@ public class TaskletExecutionService {
         }
     }
 
-    private static final class CooperativeWorkerThread extends Thread implements CooperativeThread {
+    private static final class CooperativeWorkerThread extends HazelcastManagedThread implements CooperativeThread {
         CooperativeWorkerThread(Runnable target, String name) {
             super(target, name);
         }
@@ -126,7 +126,8 @@ public final class ExecutionPlanBuilder {
         final boolean isJobDistributed = memberCount > 1;
 
         final VerticesIdAndOrder verticesIdAndOrder = VerticesIdAndOrder.assignVertexIds(dag);
-        final int defaultParallelism = nodeEngine.getConfig().getJetConfig().getCooperativeThreadCount();
+        final int defaultParallelism = nodeEngine.<JetServiceBackend>getService(JetServiceBackend.SERVICE_NAME)
+                .getCooperativeThreadCount();
         final EdgeConfig defaultEdgeConfig = nodeEngine.getConfig().getJetConfig().getDefaultEdgeConfig();
 
         final Map<MemberInfo, ExecutionPlan> plans = new HashMap<>();
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
+
+/**
+ * Keeps the first {@code n} items of its input according to the given
+ * comparator and emits them in that order in the {@code complete} phase.
+ * <p>
+ * The items are kept in a heap ordered in reverse, so that the greatest of
+ * the retained items is at the head and can be replaced in logarithmic time
+ * when a smaller item arrives. Unlike {@link SortP}, the memory needed is
+ * bounded by {@code n} and not by the size of the input.
+ */
+public class TopNP<T> extends AbstractProcessor {
+
+    /**
+     * Limit for the initial capacity of the heap, {@code n} is often much
+     * higher than the actual number of items, e.g. with no LIMIT in SQL.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private final long n;
+    private final Comparator<T> comparator;
+    private final PriorityQueue<T> heap;
+
+    private long maxItems;
+    private Traverser<T> resultTraverser;
+
+    public TopNP(long n, @Nonnull Comparator<T> comparator) {
+        this.n = checkNotNegative(n, "n must not be negative");
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>((int) Math.min(n, MAX_INITIAL_CAPACITY) + 1, comparator.reversed());
+    }
+
+    @Override
+    protected void init(@Nonnull Processor.Context context) throws Exception {
+        maxItems = context.maxProcessorAccumulatedRecords();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean tryProcess0(@Nonnull Object item) {
+        T t = (T) item;
+        if (heap.size() < n) {
+            if (heap.size() == maxItems) {
+                throw new AccumulationLimitExceededException();
+            }
+            heap.add(t);
+        } else if (n > 0 && comparator.compare(t, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(t);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean complete() {
+        if (resultTraverser == null) {
+            T[] items = (T[]) new Object[heap.size()];
+            // the heap is reversed, polling it yields the items from the last to the first
+            for (int i = items.length - 1; i >= 0; i--) {
+                items[i] = heap.poll();
+            }
+            resultTraverser = Traversers.traverseArray(items);
+        }
+        return emitFromTraverser(resultTraverser);
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+}
@@ -24,6 +24,7 @@ import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.AbstractSerializationService;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
 import com.hazelcast.internal.serialization.impl.SerializerAdapter;
+import com.hazelcast.internal.serialization.impl.bufferpool.BufferPool;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.JetException;
@@ -152,6 +153,12 @@ public class DelegatingSerializationService extends AbstractSerializationService
         return serializer;
     }
 
+    @Override
+    protected SerializerAdapter serializerFor(Object object, boolean includeSchema, BufferPool pool) {
+        // the per-job serializers take precedence, so the thread cache of the delegate can't be used
+        return serializerFor(object, includeSchema);
+    }
+
     private RuntimeException serializationException(@Nullable Class<?> clazz, Throwable t) {
         return new JetException("Unable to serialize instance of " + clazz + ": " +
                 t.getMessage() + " - Note: You can register a serializer using JobConfig.registerSerializer()", t);
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import com.hazelcast.internal.json.Json;
+import com.hazelcast.internal.json.JsonArray;
+import com.hazelcast.internal.json.JsonObject;
+import com.hazelcast.internal.json.JsonValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * File source options through which a Parquet scan is narrowed down to the
+ * columns and row groups the query actually needs.
+ * <p>
+ * The options are plain string options of the file source, so they travel
+ * to the Hadoop-based reader in its configuration. The columns option lists
+ * the top-level columns to read, the filter option lists conditions that are
+ * all required to hold for a row. The reader uses the conditions to skip row
+ * groups whose footer statistics rule them out, but it's not required to
+ * apply them exactly - the caller must still evaluate its full predicate.
+ */
+public final class ParquetPushdown {
+
+    /**
+     * Option with the encoded list of columns to read.
+     */
+    public static final String OPTION_COLUMNS = "hazelcast.parquet.pushdown.columns";
+
+    /**
+     * Option with the encoded list of conditions a row must satisfy.
+     */
+    public static final String OPTION_FILTER = "hazelcast.parquet.pushdown.filter";
+
+    private static final String COLUMN = "column";
+    private static final String OPERATOR = "operator";
+    private static final String TYPE = "type";
+    private static final String VALUE = "value";
+
+    private ParquetPushdown() {
+    }
+
+    @Nonnull
+    public static String encodeColumns(@Nonnull Collection<String> columns) {
+        JsonArray array = Json.array();
+        for (String column : columns) {
+            array.add(column);
+        }
+        return array.toString();
+    }
+
+    @Nonnull
+    public static List<String> decodeColumns(@Nonnull String columns) {
+        List<String> result = new ArrayList<>();
+        for (JsonValue value : Json.parse(columns).asArray()) {
+            result.add(value.asString());
+        }
+        return result;
+    }
+
+    @Nonnull
+    public static String encodeFilter(@Nonnull Collection<Condition> conditions) {
+        JsonArray array = Json.array();
+        for (Condition condition : conditions) {
+            JsonObject object = Json.object()
+                    .add(COLUMN, condition.column)
+                    .add(OPERATOR, condition.operator.name());
+            Object value = condition.value;
+            if (value instanceof Long longValue) {
+                object.add(TYPE, "long").add(VALUE, longValue);
+            } else if (value instanceof Double doubleValue) {
+                object.add(TYPE, "double").add(VALUE, doubleValue);
+            } else if (value instanceof String stringValue) {
+                object.add(TYPE, "string").add(VALUE, stringValue);
+            } else if (value instanceof Boolean booleanValue) {
+                object.add(TYPE, "boolean").add(VALUE, booleanValue);
+            }
+            array.add(object);
+        }
+        return array.toString();
+    }
+
+    @Nonnull
+    public static List<Condition> decodeFilter(@Nonnull String filter) {
+        List<Condition> result = new ArrayList<>();
+        for (JsonValue element : Json.parse(filter).asArray()) {
+            JsonObject object = element.asObject();
+            JsonValue type = object.get(TYPE);
+            JsonValue value = object.get(VALUE);
+            Object decodedValue = null;
+            if (type != null) {
+                decodedValue = switch (type.asString()) {
+                    case "long" -> value.asLong();
+                    case "double" -> value.asDouble();
+                    case "string" -> value.asString();
+                    case "boolean" -> value.asBoolean();
+                    default -> throw new IllegalArgumentException("Unknown value type: " + type.asString());
+                };
+            }
+            result.add(new Condition(
+                    object.get(COLUMN).asString(),
+                    Operator.valueOf(object.get(OPERATOR).asString()),
+                    decodedValue
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * Comparison of a column with a constant.
+     */
+    public enum Operator {
+        EQUALS,
+        NOT_EQUALS,
+        LESS_THAN,
+        LESS_THAN_OR_EQUAL,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUAL,
+        IS_NULL,
+        IS_NOT_NULL
+    }
+
+    /**
+     * A single condition on a top-level column. The value is a {@link Long},
+     * {@link Double}, {@link String} or {@link Boolean}, and it's {@code
+     * null} for {@link Operator#IS_NULL} and {@link Operator#IS_NOT_NULL}.
+     */
+    public static final class Condition implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String column;
+        private final Operator operator;
+        private final Object value;
+
+        public Condition(@Nonnull String column, @Nonnull Operator operator, @Nullable Object value) {
+            this.column = column;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        @Nonnull
+        public String column() {
+            return column;
+        }
+
+        @Nonnull
+        public Operator operator() {
+            return operator;
+        }
+
+        @Nullable
+        public Object value() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Condition that = (Condition) o;
+            return column.equals(that.column) && operator == that.operator && Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(column, operator, value);
+        }
+
+        @Override
+        public String toString() {
+            return column + ' ' + operator + (value == null ? "" : " " + value);
+        }
+    }
+}
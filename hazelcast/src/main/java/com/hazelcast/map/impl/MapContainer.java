@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 public interface MapContainer {
@@ -60,6 +61,18 @@ public interface MapContainer {
 
     AtomicLong getLastInvalidMergePolicyCheckTime();
 
+    /**
+     * Returns the counter of mutations of this map on this member. It is
+     * incremented whenever a record is added, updated, removed, evicted,
+     * loaded or replicated. Counters of different map containers with the
+     * same name (e.g. after the map was destroyed and recreated) start from
+     * distinct offsets, so two equal sums mean that no mutation happened in
+     * between.
+     *
+     * @return the mutation counter of this map on this member
+     */
+    LongAdder getMutationCounter();
+
     void initEvictor();
 
     boolean shouldUseGlobalIndex();
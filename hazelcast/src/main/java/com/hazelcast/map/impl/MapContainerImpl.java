@@ -60,6 +60,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -80,6 +81,9 @@ import static java.lang.System.getProperty;
 @SuppressWarnings({"WeakerAccess", "checkstyle:classfanoutcomplexity", "MethodCount"})
 public class MapContainerImpl implements MapContainer {
 
+    private static final AtomicLong MUTATION_COUNTER_SEED = new AtomicLong();
+    private static final int MUTATION_COUNTER_SEED_SHIFT = 32;
+
     protected final String name;
     protected final String splitBrainProtectionName;
     // on-heap indexes are global, meaning there is only one index per map,
@@ -104,6 +108,11 @@ public class MapContainerImpl implements MapContainer {
     protected final AtomicInteger invalidationListenerCount = new AtomicInteger();
     protected final AtomicLong lastInvalidMergePolicyCheckTime = new AtomicLong();
     protected final AtomicBoolean onDestroyCalled = new AtomicBoolean();
+    /**
+     * Counts mutations, seeded with a per-container offset so that a
+     * recreated map never reports a count of its previous incarnation.
+     */
+    protected final LongAdder mutationCounter = new LongAdder();
 
     protected volatile MapConfig mapConfig;
     private volatile Evictor evictor;
@@ -123,6 +132,7 @@ public class MapContainerImpl implements MapContainer {
         this.name = name;
         this.mapConfig = config.findMapConfig(name);
         this.eventJournalConfig = mapConfig.getEventJournalConfig();
+        this.mutationCounter.add(MUTATION_COUNTER_SEED.incrementAndGet() << MUTATION_COUNTER_SEED_SHIFT);
         this.mapServiceContext = mapServiceContext;
         NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
         this.partitioningStrategy = createPartitioningStrategy();
@@ -197,6 +207,11 @@ public class MapContainerImpl implements MapContainer {
         return lastInvalidMergePolicyCheckTime;
     }
 
+    @Override
+    public LongAdder getMutationCounter() {
+        return mutationCounter;
+    }
+
     private class IndexResultFilterFactory implements Supplier<Predicate<QueryableEntry>> {
 
         @Override
@@ -76,6 +76,7 @@ import com.hazelcast.map.impl.operation.MapFlushOperation;
 import com.hazelcast.map.impl.operation.MapFlushOperationFactory;
 import com.hazelcast.map.impl.operation.MapGetAllOperationFactory;
 import com.hazelcast.map.impl.operation.MapGetInvalidationMetaDataOperation;
+import com.hazelcast.map.impl.operation.MapGetMutationStampsOperation;
 import com.hazelcast.map.impl.operation.MapGetInvalidationMetaDataOperation.MetaDataResponse;
 import com.hazelcast.map.impl.operation.MapIsEmptyOperation;
 import com.hazelcast.map.impl.operation.MapLoadAllOperationFactory;
@@ -328,8 +329,9 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int MAP_GET_MUTATION_STAMPS = 159;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = MAP_GET_MUTATION_STAMPS + 1;
 
     @Override
     public int getFactoryId() {
@@ -497,6 +499,7 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = IndexIterationPointer::new;
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = MapFetchIndexOperationResult::new;
         constructors[MAP_CHUNK] = MapChunk::new;
+        constructors[MAP_GET_MUTATION_STAMPS] = MapGetMutationStampsOperation::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
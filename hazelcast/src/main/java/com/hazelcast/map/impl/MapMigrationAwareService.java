@@ -21,6 +21,7 @@ import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataGenerator;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkSuppliers;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.MigrationEndpoint;
 import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
 import com.hazelcast.internal.partition.PartitionMigrationEvent;
@@ -42,10 +43,14 @@ import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.hazelcast.config.CacheDeserializedValues.NEVER;
@@ -54,14 +59,20 @@ import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.removeAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.sendEndOfSequenceEvents;
+import static java.util.Collections.singleton;
 
 /**
  * Defines migration behavior of map service.
+ * <p>
+ * When Merkle trees are enabled for a map, the replica sync transfers
+ * only the entries under the leaves of the tree which differ between the
+ * primary and the backup replica.
  *
  * @see MapService
  */
 class MapMigrationAwareService
-        implements ChunkedMigrationAwareService, OffloadedReplicationPreparation {
+        implements ChunkedMigrationAwareService, OffloadedReplicationPreparation,
+        DifferentialReplicationAwareService {
 
     protected final PartitionContainer[] containers;
     protected final MapServiceContext mapServiceContext;
@@ -138,8 +149,9 @@ class MapMigrationAwareService
 
         int partitionId = event.getPartitionId();
 
-        Operation operation = new MapReplicationOperation(containers[partitionId],
+        MapReplicationOperation operation = new MapReplicationOperation(containers[partitionId],
                 namespaces, partitionId, event.getReplicaIndex());
+        operation.setMerkleTreeDiffByMapName(getMerkleTreeDiffByMapName(event, namespaces));
         operation.setService(mapServiceContext.getService());
         operation.setNodeEngine(mapServiceContext.getNodeEngine());
 
@@ -151,6 +163,12 @@ class MapMigrationAwareService
                                           Collection<ServiceNamespace> namespaces) {
         List<ChunkSupplier> chain = new ArrayList<>(namespaces.size());
         for (ServiceNamespace namespace : namespaces) {
+            if (getMerkleTreeDiff(event, namespace) != null) {
+                // the difference is replicated in a single chunk
+                Collection<ServiceNamespace> singleNamespace = singleton(namespace);
+                chain.add(ChunkSuppliers.newSingleChunkSupplier(() -> prepareReplicationOperation(event, singleNamespace)));
+                continue;
+            }
             chain.add(new MapChunkSupplier(mapServiceContext, namespace,
                     event.getPartitionId(), event.getReplicaIndex()));
         }
@@ -158,6 +176,55 @@ class MapMigrationAwareService
         return ChunkSuppliers.newChainedChunkSupplier(chain);
     }
 
+    @Override
+    public int[] getReplicaDigest(int partitionId, ServiceNamespace namespace) {
+        MerkleTree merkleTree = getMerkleTree(partitionId, namespace);
+        return merkleTree != null ? MerkleTreeUtil.getLeaves(merkleTree) : null;
+    }
+
+    private Map<String, int[]> getMerkleTreeDiffByMapName(PartitionReplicationEvent event,
+                                                          Collection<ServiceNamespace> namespaces) {
+        Map<String, int[]> merkleTreeDiffByMapName = null;
+        for (ServiceNamespace namespace : namespaces) {
+            int[] merkleTreeDiff = getMerkleTreeDiff(event, namespace);
+            if (merkleTreeDiff != null) {
+                if (merkleTreeDiffByMapName == null) {
+                    merkleTreeDiffByMapName = new HashMap<>();
+                }
+                merkleTreeDiffByMapName.put(((ObjectNamespace) namespace).getObjectName(), merkleTreeDiff);
+            }
+        }
+        return merkleTreeDiffByMapName;
+    }
+
+    /**
+     * Compares the local Merkle tree of the map with the digest the
+     * replica sent in its sync request.
+     *
+     * @return the order/value pairs of the differing leaves or {@code
+     * null} if the map has to be replicated fully
+     */
+    private int[] getMerkleTreeDiff(PartitionReplicationEvent event, ServiceNamespace namespace) {
+        int[] replicaDigest = event.getReplicaDigest(namespace);
+        if (replicaDigest == null) {
+            return null;
+        }
+        MerkleTree merkleTree = getMerkleTree(event.getPartitionId(), namespace);
+        if (merkleTree == null) {
+            return null;
+        }
+        int[] merkleTreeDiff = MerkleTreeUtil.compareLeaves(merkleTree, replicaDigest);
+        // there are two ints per differing leaf: when more than half of the
+        // leaves differ, the full replication which can be chunked is preferred
+        return merkleTreeDiff != null && merkleTreeDiff.length <= replicaDigest.length ? merkleTreeDiff : null;
+    }
+
+    private MerkleTree getMerkleTree(int partitionId, ServiceNamespace namespace) {
+        String mapName = ((ObjectNamespace) namespace).getObjectName();
+        RecordStore recordStore = containers[partitionId].getExistingRecordStore(mapName);
+        return recordStore != null ? recordStore.getMerkleTree() : null;
+    }
+
     boolean assertAllKnownNamespaces(Collection<ServiceNamespace> namespaces) {
         for (ServiceNamespace namespace : namespaces) {
             assert isKnownServiceNamespace(namespace)
@@ -26,6 +26,7 @@ import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.IPartitionLostEvent;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
@@ -109,7 +110,7 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
         SplitBrainProtectionAwareService, NotifiableEventListener,
         ClusterStateListener, LockInterceptorService<Data>,
         DynamicMetricsProvider, TenantContextAwareService,
-        OffloadedReplicationPreparation {
+        OffloadedReplicationPreparation, DifferentialReplicationAwareService {
 
     public static final String SERVICE_NAME = "hz:impl:mapService";
 
@@ -415,6 +416,11 @@ public class MapService implements ManagedService, ChunkedMigrationAwareService,
         return migrationAwareService.newChunkSupplier(event, namespace);
     }
 
+    @Override
+    public int[] getReplicaDigest(int partitionId, ServiceNamespace namespace) {
+        return migrationAwareService.getReplicaDigest(partitionId, namespace);
+    }
+
     /**
      * Looks up the User Code Namespace name associated with the specified map name. This starts
      * by looking for an existing {@link MapContainer} and checking its defined
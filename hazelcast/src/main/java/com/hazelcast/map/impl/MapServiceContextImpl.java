@@ -204,6 +204,16 @@ class MapServiceContextImpl implements MapServiceContext {
         return forceOffloadEnabled;
     }
 
+    /**
+     * Merkle trees are maintained only when they are explicitly
+     * enabled in the map config. The trees let the replica sync
+     * transfer only the entries under the differing leaves.
+     */
+    @Override
+    public boolean shouldEnableMerkleTree(MapConfig mapConfig) {
+        return Boolean.TRUE.equals(mapConfig.getMerkleTreeConfig().getEnabled());
+    }
+
     @Override
     public long getMaxSuccessiveOffloadedOpRunNanos() {
         return maxSuccessiveOffloadedOpRunNanos;
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.hazelcast.internal.util.CollectionUtil.isNotEmpty;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.map.impl.MapDataSerializerHook.F_ID;
+import static com.hazelcast.map.impl.MapDataSerializerHook.MAP_GET_MUTATION_STAMPS;
+
+/**
+ * Returns the {@link MapContainer#getMutationCounter() mutation counts} of
+ * the given maps on the target member, in the order of the map names. A
+ * map which has no container on the member yet is reported with count
+ * {@code 0}, which no existing container ever has.
+ * <p>
+ * Entries expire without a mutation being counted until the expired entry
+ * is evicted. For a map holding entries with a TTL or max-idle on the
+ * member, the count is therefore incremented before it is read, so that it
+ * never repeats.
+ */
+public class MapGetMutationStampsOperation extends Operation implements IdentifiedDataSerializable, ReadonlyOperation {
+
+    private List<String> mapNames;
+    private long[] response;
+
+    public MapGetMutationStampsOperation() {
+    }
+
+    public MapGetMutationStampsOperation(List<String> mapNames) {
+        checkTrue(isNotEmpty(mapNames), "mapNames cannot be null or empty");
+        this.mapNames = mapNames;
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public void run() {
+        MapService mapService = getService();
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+
+        response = new long[mapNames.size()];
+        for (int i = 0; i < response.length; i++) {
+            String mapName = mapNames.get(i);
+            MapContainer mapContainer = mapServiceContext.getExistingMapContainer(mapName);
+            if (mapContainer == null) {
+                response[i] = 0;
+                continue;
+            }
+            LongAdder mutationCounter = mapContainer.getMutationCounter();
+            if (hasExpirableEntries(mapServiceContext, mapName)) {
+                mutationCounter.increment();
+            }
+            response[i] = mutationCounter.sum();
+        }
+    }
+
+    private static boolean hasExpirableEntries(MapServiceContext mapServiceContext, String mapName) {
+        for (PartitionContainer partitionContainer : mapServiceContext.getPartitionContainers()) {
+            RecordStore recordStore = partitionContainer.getExistingRecordStore(mapName);
+            if (recordStore != null && !recordStore.getExpirySystem().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+
+        out.writeInt(mapNames.size());
+        for (String mapName : mapNames) {
+            out.writeString(mapName);
+        }
+    }
+
+    @Override
+    public void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+
+        int size = in.readInt();
+        List<String> mapNames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            mapNames.add(in.readString());
+        }
+        this.mapNames = mapNames;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MAP_GET_MUTATION_STAMPS;
+    }
+}
@@ -30,6 +30,7 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Replicates all IMap-states of this partition to a replica partition.
@@ -142,6 +143,17 @@ public class MapReplicationOperation extends Operation
         mapNearCacheStateHolder.setMapReplicationOperation(this);
     }
 
+    /**
+     * Makes the operation replicate only the entries under the given
+     * differing Merkle tree leaves of the maps.
+     *
+     * @param merkleTreeDiffByMapName the leaf order/value pairs by map name
+     * @see MapReplicationStateHolder#setMerkleTreeDiffByMapName(Map)
+     */
+    public void setMerkleTreeDiffByMapName(Map<String, int[]> merkleTreeDiffByMapName) {
+        mapReplicationStateHolder.setMerkleTreeDiffByMapName(merkleTreeDiffByMapName);
+    }
+
     public RecordStore getRecordStore(String mapName) {
         final boolean skipLoadingOnRecordStoreCreate = true;
         MapService mapService = getService();
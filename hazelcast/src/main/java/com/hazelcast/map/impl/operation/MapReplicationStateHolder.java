@@ -32,6 +32,7 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.ThreadUtil;
+import com.hazelcast.internal.util.collection.IntHashSet;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
@@ -51,6 +52,7 @@ import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.MapIndexInfo;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -62,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import static com.hazelcast.config.MaxSizePolicy.PER_NODE;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -261,8 +264,16 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
     }
 
     protected void initializeRecordStore(String mapName, RecordStore recordStore) {
-        if (!merkleTreeDiffByMapName.containsKey(mapName)) {
+        int[] merkleTreeDiff = merkleTreeDiffByMapName.get(mapName);
+        if (merkleTreeDiff == null) {
             recordStore.reset();
+        } else {
+            // the replicated records replace the ones under the differing leaves
+            List<Data> dataKeys = new ArrayList<>();
+            forEachRecordOfLeaves(recordStore, merkleTreeDiff, true, (dataKey, record) -> dataKeys.add(dataKey));
+            for (Data dataKey : dataKeys) {
+                recordStore.removeReplicatedRecord(dataKey, true);
+            }
         }
     }
 
@@ -365,9 +376,31 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         }
     }
 
+    /**
+     * Writes the records under the differing Merkle tree leaves of the map.
+     * The replica replaces the records under these leaves with the written
+     * ones and keeps the rest of its records.
+     */
     protected void writeDifferentialData(String mapName,
                                          RecordStore<Record> recordStore, ObjectDataOutput out) throws IOException {
-        throw new UnsupportedOperationException();
+        int[] merkleTreeDiff = merkleTreeDiffByMapName.get(mapName);
+        out.writeIntArray(merkleTreeDiff);
+
+        List<Data> dataKeys = new ArrayList<>();
+        List<Record> records = new ArrayList<>();
+        forEachRecordOfLeaves(recordStore, merkleTreeDiff, operation.getReplicaIndex() != 0, (dataKey, record) -> {
+            dataKeys.add(dataKey);
+            records.add(record);
+        });
+
+        SerializationService ss = getSerializationService(recordStore.getMapContainer());
+        out.writeInt(dataKeys.size());
+        for (int i = 0; i < dataKeys.size(); i++) {
+            writeRecord(recordStore, ss, dataKeys.get(i), records.get(i), out);
+        }
+        LocalReplicationStatsImpl replicationStats = statsByMapName.get(recordStore.getName());
+        replicationStats.incrementDiffPartitionReplicationCount();
+        replicationStats.incrementDiffPartitionReplicationRecordsCount(dataKeys.size());
     }
 
     private void writeRecordStoreData(RecordStore<Record> recordStore, ObjectDataOutput out)
@@ -377,10 +410,7 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         // No expiration should be done in forEach, since we have serialized size before.
         recordStore.forEach((dataKey, record) -> {
             try {
-                IOUtil.writeData(out, dataKey);
-                Records.writeRecord(out, record, ss.toData(record.getValue()));
-                Records.writeExpiry(out, recordStore.getExpirySystem()
-                        .getExpiryMetadata(dataKey));
+                writeRecord(recordStore, ss, dataKey, record, out);
             } catch (IOException e) {
                 throw ExceptionUtil.rethrow(e);
             }
@@ -390,6 +420,32 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         replicationStats.incrementFullPartitionReplicationRecordsCount(recordStore.size());
     }
 
+    private static void writeRecord(RecordStore<Record> recordStore, SerializationService ss,
+                                    Data dataKey, Record record, ObjectDataOutput out) throws IOException {
+        IOUtil.writeData(out, dataKey);
+        Records.writeRecord(out, record, ss.toData(record.getValue()));
+        Records.writeExpiry(out, recordStore.getExpirySystem()
+                .getExpiryMetadata(dataKey));
+    }
+
+    /**
+     * Iterates over the records whose keys belong to the given Merkle tree
+     * leaves, including the expired ones.
+     */
+    private static void forEachRecordOfLeaves(RecordStore<Record> recordStore, int[] merkleTreeDiff, boolean backup,
+                                              BiConsumer<Data, Record> consumer) {
+        if (merkleTreeDiff.length == 0) {
+            return;
+        }
+        IntHashSet leafOrders = MerkleTreeUtil.setOfNodeOrders(merkleTreeDiff);
+        int leafLevel = recordStore.getMapContainer().getMapConfig().getMerkleTreeConfig().getDepth() - 1;
+        recordStore.forEach((dataKey, record) -> {
+            if (leafOrders.contains(MerkleTreeUtil.getLeafOrderForHash(dataKey.hashCode(), leafLevel))) {
+                consumer.accept(dataKey, record);
+            }
+        }, backup, true);
+    }
+
     protected static SerializationService getSerializationService(MapContainer mapContainer) {
         return mapContainer.getMapServiceContext()
                 .getNodeEngine().getSerializationService();
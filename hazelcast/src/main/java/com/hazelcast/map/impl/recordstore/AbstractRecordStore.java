@@ -44,8 +44,10 @@ import com.hazelcast.map.impl.record.RecordFactory;
 import com.hazelcast.map.impl.record.RecordReaderWriter;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.wan.impl.CallerProvenance;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Contains record store common parts.
@@ -68,6 +70,7 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     protected RecordFactory recordFactory;
     protected Storage<Data, Record> storage;
     protected IndexingMutationObserver<Record> indexingObserver;
+    protected MerkleTreeMutationObserver merkleTreeObserver;
 
     protected AbstractRecordStore(MapContainer mapContainer, int partitionId) {
         this.name = mapContainer.getName();
@@ -102,6 +105,8 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         this.recordFactory = createRecordFactory();
         this.storage = createStorage(recordFactory, inMemoryFormat);
         addMutationObservers();
+        // registered last and outside the overridable method, see MutationCountingObserver
+        mutationObserver.add(new MutationCountingObserver(mapContainer));
     }
 
     public ValueComparator getValueComparator() {
@@ -130,12 +135,26 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         // Add observer for indexing
         indexingObserver = new IndexingMutationObserver<>(this, serializationService);
         mutationObserver.add(indexingObserver);
+
+        // Add observer for merkle tree
+        MapConfig mapConfig = mapContainer.getMapConfig();
+        if (mapServiceContext.shouldEnableMerkleTree(mapConfig)) {
+            merkleTreeObserver = new MerkleTreeMutationObserver(serializationService,
+                    mapConfig.getMerkleTreeConfig().getDepth());
+            mutationObserver.add(merkleTreeObserver);
+        }
     }
 
     public IndexingMutationObserver<Record> getIndexingObserver() {
         return indexingObserver;
     }
 
+    @Nullable
+    @Override
+    public MerkleTree getMerkleTree() {
+        return merkleTreeObserver != null ? merkleTreeObserver.getMerkleTree() : null;
+    }
+
     @Override
     public InMemoryFormat getInMemoryFormat() {
         return inMemoryFormat;
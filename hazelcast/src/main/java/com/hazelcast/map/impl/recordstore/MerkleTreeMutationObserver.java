@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.wan.impl.merkletree.ArrayMerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.internal.util.HashUtil.MurmurHash3_fmix;
+
+/**
+ * Maintains a {@link MerkleTree} of the entries of the observed {@link
+ * RecordStore}. The replicas of a partition that went through the same
+ * mutations have the same trees, which lets the replica sync compare the
+ * trees and transfer only the entries under the leaves that differ.
+ * <p>
+ * The leaf of an entry is selected by the hash of its key, and an entry
+ * contributes to the hash of its leaf with the mixed hashes of its key
+ * and its serialized value. Hashing the serialized value makes the hash
+ * independent of the in-memory format and the same on every member.
+ * <p>
+ * The tree is not thread-safe, it's updated on the partition thread
+ * together with the record store.
+ */
+public class MerkleTreeMutationObserver implements MutationObserver<Record> {
+
+    private final SerializationService serializationService;
+    private final MerkleTree merkleTree;
+
+    public MerkleTreeMutationObserver(SerializationService serializationService, int depth) {
+        this.serializationService = serializationService;
+        this.merkleTree = new ArrayMerkleTree(depth);
+    }
+
+    public MerkleTree getMerkleTree() {
+        return merkleTree;
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, Record record, Object oldValue, boolean backup) {
+        add(key, record.getValue());
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull Record record, boolean populateIndex) {
+        // replicated records are put into a reset record store or
+        // in place of the removed records of the differing leaves
+        add(key, record.getValue());
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull Record record,
+                               Object oldValue, Object newValue, boolean backup) {
+        // the operations carry the new value serialized, reuse it
+        // instead of serializing the value of the record again
+        Object value = newValue instanceof Data ? newValue : record.getValue();
+        if (oldValue == null) {
+            add(key, value);
+        } else if (value == null) {
+            remove(key, oldValue);
+        } else {
+            merkleTree.updateReplace(key, entryHash(key, oldValue), entryHash(key, value));
+        }
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, Record record, boolean backup) {
+        if (record != null) {
+            remove(key, record.getValue());
+        }
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        remove(key, record.getValue());
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        add(key, record.getValue());
+    }
+
+    @Override
+    public void onReset() {
+        merkleTree.clear();
+    }
+
+    @Override
+    public void onClear() {
+        merkleTree.clear();
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        merkleTree.clear();
+    }
+
+    private void add(Data key, Object value) {
+        if (value != null) {
+            merkleTree.updateAdd(key, entryHash(key, value));
+        }
+    }
+
+    private void remove(Data key, Object value) {
+        if (value != null) {
+            merkleTree.updateRemove(key, entryHash(key, value));
+        }
+    }
+
+    /**
+     * The leaf hashes are the sums of the entry hashes, so the key and the
+     * value are mixed non-linearly. Otherwise, e.g. swapping the values of
+     * two keys under the same leaf would leave the leaf hash unchanged.
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    private int entryHash(Data key, Object value) {
+        Data valueData = serializationService.toData(value);
+        return MurmurHash3_fmix(31 * MurmurHash3_fmix(key.hashCode()) + valueData.hashCode());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.record.Record;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Increments the {@link MapContainer#getMutationCounter() mutation counter}
+ * of the map on every mutation of the observed {@link RecordStore}. Backup
+ * mutations are counted as well, which can only make the counter change
+ * more often than strictly needed, never less.
+ * <p>
+ * This observer is registered after all other observers, so that by the
+ * time a new count is visible, indexes are already up-to-date.
+ */
+public class MutationCountingObserver implements MutationObserver<Record> {
+
+    private final LongAdder mutationCounter;
+
+    public MutationCountingObserver(MapContainer mapContainer) {
+        this.mutationCounter = mapContainer.getMutationCounter();
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, Record record, Object oldValue, boolean backup) {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull Record record, boolean populateIndex) {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull Record record,
+                               Object oldValue, Object newValue, boolean backup) {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, Record record, boolean backup) {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onReset() {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onClear() {
+        mutationCounter.increment();
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        mutationCounter.increment();
+    }
+}
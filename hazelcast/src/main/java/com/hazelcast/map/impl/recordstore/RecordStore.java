@@ -44,6 +44,7 @@ import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
 import com.hazelcast.spi.merge.SplitBrainMergeTypes.MapMergeTypes;
 import com.hazelcast.wan.impl.CallerProvenance;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -682,6 +683,19 @@ public interface RecordStore<R extends Record> {
         // no-op
     }
 
+    /**
+     * Returns the Merkle tree of the entries of this record store.
+     * <p>
+     * The tree is maintained only if it's enabled in the map's
+     * {@link com.hazelcast.config.MerkleTreeConfig}.
+     *
+     * @return the Merkle tree or {@code null} if it's not maintained
+     */
+    @Nullable
+    default MerkleTree getMerkleTree() {
+        return null;
+    }
+
     Set<MapOperation> getOffloadedOperations();
 
     void incMapStoreOffloadedOperationsCount();
@@ -28,6 +28,7 @@ import com.hazelcast.multimap.impl.operations.DeleteOperation;
 import com.hazelcast.multimap.impl.operations.EntrySetOperation;
 import com.hazelcast.multimap.impl.operations.EntrySetResponse;
 import com.hazelcast.multimap.impl.operations.GetAllOperation;
+import com.hazelcast.multimap.impl.operations.GetValuesPageOperation;
 import com.hazelcast.multimap.impl.operations.KeySetOperation;
 import com.hazelcast.multimap.impl.operations.MergeBackupOperation;
 import com.hazelcast.multimap.impl.operations.MergeOperation;
@@ -35,6 +36,7 @@ import com.hazelcast.multimap.impl.operations.MultiMapOperationFactory;
 import com.hazelcast.multimap.impl.operations.MultiMapPutAllOperationFactory;
 import com.hazelcast.multimap.impl.operations.MultiMapReplicationOperation;
 import com.hazelcast.multimap.impl.operations.MultiMapResponse;
+import com.hazelcast.multimap.impl.operations.MultiMapValuesPageResponse;
 import com.hazelcast.multimap.impl.operations.PutAllBackupOperation;
 import com.hazelcast.multimap.impl.operations.PutAllOperation;
 import com.hazelcast.multimap.impl.operations.PutBackupOperation;
@@ -130,6 +132,8 @@ public class MultiMapDataSerializerHook implements DataSerializerHook {
     public static final int PUT_ALL = 53;
     public static final int PUT_ALL_BACKUP = 54;
     public static final int PUT_ALL_PARTITION_AWARE_FACTORY = 55;
+    public static final int GET_VALUES_PAGE = 56;
+    public static final int VALUES_PAGE_RESPONSE = 57;
 
     @Override
     public int getFactoryId() {
@@ -138,7 +142,7 @@ public class MultiMapDataSerializerHook implements DataSerializerHook {
 
     @Override
     public DataSerializableFactory createFactory() {
-        Supplier<IdentifiedDataSerializable>[] constructors = new Supplier[PUT_ALL_PARTITION_AWARE_FACTORY + 1];
+        Supplier<IdentifiedDataSerializable>[] constructors = new Supplier[VALUES_PAGE_RESPONSE + 1];
 
         constructors[CLEAR_BACKUP] = ClearBackupOperation::new;
         constructors[CLEAR] = ClearOperation::new;
@@ -184,6 +188,8 @@ public class MultiMapDataSerializerHook implements DataSerializerHook {
         constructors[PUT_ALL] = PutAllOperation::new;
         constructors[PUT_ALL_BACKUP] = PutAllBackupOperation::new;
         constructors[PUT_ALL_PARTITION_AWARE_FACTORY] = MultiMapPutAllOperationFactory::new;
+        constructors[GET_VALUES_PAGE] = GetValuesPageOperation::new;
+        constructors[VALUES_PAGE_RESPONSE] = MultiMapValuesPageResponse::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
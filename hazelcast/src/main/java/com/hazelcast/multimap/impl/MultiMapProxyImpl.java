@@ -27,6 +27,7 @@ import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.map.impl.DataCollection;
 import com.hazelcast.multimap.LocalMultiMapStats;
 import com.hazelcast.multimap.MultiMap;
+import com.hazelcast.multimap.impl.iterator.MultiMapValueIterator;
 import com.hazelcast.multimap.impl.operations.EntrySetResponse;
 import com.hazelcast.multimap.impl.operations.MultiMapResponse;
 import com.hazelcast.spi.impl.InitializingObject;
@@ -40,6 +41,7 @@ import java.util.Collection;
 import java.util.EventListener;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -146,6 +148,29 @@ public class MultiMapProxyImpl<K, V>
         return result.getObjectCollection(nodeEngine);
     }
 
+    /**
+     * Returns an iterator over the values of the given key which fetches the
+     * values from the partition owner in pages of at most {@code pageSize}
+     * values. Unlike {@link #get(Object)}, neither the member nor the caller
+     * materializes the whole value collection at once, which makes this
+     * method suitable for keys with very large numbers of values.
+     * <p>
+     * The iterator is backed by a snapshot of the values taken when the first
+     * page is fetched and does not support {@link Iterator#remove()}.
+     *
+     * @param key      the key whose values to iterate over
+     * @param pageSize the maximum number of values to fetch in a single page
+     * @return an iterator over the values of the key
+     */
+    @Nonnull
+    public Iterator<V> valueIterator(@Nonnull K key, int pageSize) {
+        checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
+        checkPositive("pageSize", pageSize);
+
+        NodeEngine nodeEngine = getNodeEngine();
+        return new MultiMapValueIterator<>(nodeEngine, name, nodeEngine.toData(key), pageSize);
+    }
+
     @Override
     public boolean remove(@Nonnull Object key, @Nonnull Object value) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
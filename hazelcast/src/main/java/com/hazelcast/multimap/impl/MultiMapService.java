@@ -50,6 +50,7 @@ import com.hazelcast.internal.util.ContextMutexFactory;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.map.impl.event.EventData;
 import com.hazelcast.multimap.LocalMultiMapStats;
+import com.hazelcast.multimap.impl.iterator.MultiMapValueIterationService;
 import com.hazelcast.multimap.impl.operations.MergeOperation;
 import com.hazelcast.multimap.impl.operations.MultiMapReplicationOperation;
 import com.hazelcast.multimap.impl.txn.TransactionalMultiMapProxy;
@@ -120,6 +121,7 @@ public class MultiMapService implements ManagedService, RemoteService, ChunkedMi
     private final MultiMapEventsDispatcher dispatcher;
     private final MultiMapEventsPublisher publisher;
     private final SplitBrainProtectionService splitBrainProtectionService;
+    private final MultiMapValueIterationService valueIterationService;
 
     private final ConcurrentMap<String, Object> splitBrainProtectionConfigCache = new ConcurrentHashMap<>();
     private final ContextMutexFactory splitBrainProtectionConfigCacheMutexFactory = new ContextMutexFactory();
@@ -139,6 +141,7 @@ public class MultiMapService implements ManagedService, RemoteService, ChunkedMi
         this.dispatcher = new MultiMapEventsDispatcher(this, nodeEngine.getClusterService());
         this.publisher = new MultiMapEventsPublisher(nodeEngine);
         this.splitBrainProtectionService = nodeEngine.getSplitBrainProtectionService();
+        this.valueIterationService = new MultiMapValueIterationService(nodeEngine);
     }
 
     @Override
@@ -188,6 +191,7 @@ public class MultiMapService implements ManagedService, RemoteService, ChunkedMi
 
     @Override
     public void shutdown(boolean terminate) {
+        valueIterationService.shutdown();
         reset();
     }
 
@@ -203,6 +207,10 @@ public class MultiMapService implements ManagedService, RemoteService, ChunkedMi
         return partitionContainers[partitionId];
     }
 
+    public MultiMapValueIterationService getValueIterationService() {
+        return valueIterationService;
+    }
+
     @Override
     public DistributedObject createDistributedObject(String name, UUID source, boolean local) {
         MultiMapConfig multiMapConfig = nodeEngine.getConfig().findMultiMapConfig(name);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap.impl.iterator;
+
+import com.hazelcast.internal.iteration.IterationResult;
+import com.hazelcast.internal.iteration.IteratorWithCursor;
+import com.hazelcast.internal.iteration.IteratorWithCursorManager;
+import com.hazelcast.multimap.impl.MultiMapRecord;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperties;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Manages the paged iterations over the values of a single MultiMap key.
+ * <p>
+ * An iteration starts with a snapshot of the record references of the key,
+ * so creating it is a shallow copy of the value collection and does not
+ * serialize or copy the records themselves. Each subsequent request only
+ * ships a bounded page of records, so neither the member nor the caller
+ * has to materialize the whole value collection at once.
+ * <p>
+ * Iterations are driven by partition operations, so they are always
+ * created and progressed on the partition thread owning the key. If the
+ * partition owner changes during iteration, the iteration will fail with
+ * an {@link IllegalStateException} stating that there is no iteration with
+ * the provided cursor id.
+ */
+public class MultiMapValueIterationService {
+
+    /**
+     * MultiMap value iteration keeps a snapshot of the iterated records on the
+     * member until the iteration is complete or the timeout expires. This
+     * property configures the period of the task that checks for stale iterators.
+     * The timeout for an iterator to be considered stale is configured via
+     * {@link MultiMapValueIterationService#ITERATOR_CLEANUP_TIMEOUT_MILLIS}.
+     */
+    public static final HazelcastProperty ITERATOR_CLEANUP_PERIOD_SECONDS = new HazelcastProperty(
+            "hazelcast.multimap.iterator.cleanup.period.seconds", 30, TimeUnit.SECONDS);
+    /**
+     * The timeout in milliseconds for cleaning up stale iterators. The task that checks for stale iterators runs every
+     * {@link MultiMapValueIterationService#ITERATOR_CLEANUP_PERIOD_SECONDS} seconds.
+     */
+    public static final HazelcastProperty ITERATOR_CLEANUP_TIMEOUT_MILLIS = new HazelcastProperty(
+            "hazelcast.multimap.iterator.cleanup.timeout.millis", 300_000, TimeUnit.MILLISECONDS);
+
+    private final NodeEngine nodeEngine;
+    private final HazelcastProperties properties;
+    private final IteratorWithCursorManager<MultiMapRecord> iteratorManager;
+    private final AtomicBoolean noIteratorCreated = new AtomicBoolean(true);
+    private volatile ScheduledFuture iteratorCleanupFuture;
+
+    public MultiMapValueIterationService(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+        this.properties = nodeEngine.getProperties();
+        this.iteratorManager = new IteratorWithCursorManager<>(nodeEngine);
+    }
+
+    /**
+     * Creates an iteration over the given records if there is no iteration
+     * with the given id yet. Calling this method again with the same
+     * iteration id is a no-op, which makes retried operations safe.
+     *
+     * @param records     the current value records of the key, {@code null} if the key does not exist
+     * @param iterationId the id of the iteration, which is also the cursor id of its first page
+     */
+    public void createIterator(Collection<MultiMapRecord> records, UUID iterationId) {
+        if (noIteratorCreated.getAndSet(false)) {
+            // little optimization to create the future upon first iterator creation.
+            this.iteratorCleanupFuture = nodeEngine.getExecutionService().getGlobalTaskScheduler().scheduleWithRepetition(
+                    this::removeStaleIterators, 0,
+                    properties.getInteger(ITERATOR_CLEANUP_PERIOD_SECONDS), TimeUnit.SECONDS);
+        }
+        if (iteratorManager.getIterator(iterationId) != null) {
+            return;
+        }
+        Collection<MultiMapRecord> snapshot = records == null
+                ? Collections.emptyList()
+                : new ArrayList<>(records);
+        iteratorManager.createIterator(snapshot.iterator(), iterationId);
+    }
+
+    public IterationResult<MultiMapRecord> iterate(UUID cursorId, int maxCount) {
+        return iteratorManager.iterate(cursorId, maxCount);
+    }
+
+    public void cleanupIterator(UUID iterationId) {
+        iteratorManager.cleanupIterator(iterationId);
+    }
+
+    public void removeStaleIterators() {
+        ConcurrentHashMap.KeySetView<UUID, IteratorWithCursor<MultiMapRecord>> keySetView = iteratorManager.getKeySet();
+        long staleBefore = System.currentTimeMillis() - properties.getLong(ITERATOR_CLEANUP_TIMEOUT_MILLIS);
+        for (UUID iteratorId : keySetView) {
+            IteratorWithCursor<MultiMapRecord> paginator = iteratorManager.getIterator(iteratorId);
+            if (paginator != null && paginator.getLastAccessTime() < staleBefore) {
+                iteratorManager.cleanupIterator(iteratorId);
+            }
+        }
+    }
+
+    public IteratorWithCursorManager<MultiMapRecord> getIteratorManager() {
+        return iteratorManager;
+    }
+
+    public void shutdown() {
+        ScheduledFuture future = iteratorCleanupFuture;
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap.impl.iterator;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.ThreadUtil;
+import com.hazelcast.internal.util.UuidUtil;
+import com.hazelcast.multimap.impl.MultiMapRecord;
+import com.hazelcast.multimap.impl.MultiMapService;
+import com.hazelcast.multimap.impl.operations.GetValuesPageOperation;
+import com.hazelcast.multimap.impl.operations.MultiMapValuesPageResponse;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Iterates over the values of a single MultiMap key by fetching them in
+ * pages of at most {@code pageSize} values.
+ * <p>
+ * The values are a snapshot taken on the partition owner when the first
+ * page is fetched, so concurrent updates of the key are not reflected in
+ * the iteration. Only the current page is kept in memory by the iterator.
+ * If the iterator is abandoned before it is exhausted, the member releases
+ * the snapshot after
+ * {@link MultiMapValueIterationService#ITERATOR_CLEANUP_TIMEOUT_MILLIS}.
+ *
+ * @param <V> the type of values
+ * @see MultiMapValueIterationService
+ */
+public class MultiMapValueIterator<V> implements Iterator<V> {
+
+    private final NodeEngine nodeEngine;
+    private final String name;
+    private final Data dataKey;
+    private final int partitionId;
+    private final int pageSize;
+    private final UUID iterationId = UuidUtil.newUnsecureUUID();
+
+    private UUID cursorId = iterationId;
+    private boolean lastPageFetched;
+    private List<MultiMapRecord> page;
+    private int index;
+
+    public MultiMapValueIterator(NodeEngine nodeEngine, String name, Data dataKey, int pageSize) {
+        this.nodeEngine = nodeEngine;
+        this.name = name;
+        this.dataKey = dataKey;
+        this.partitionId = nodeEngine.getPartitionService().getPartitionId(dataKey);
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (page == null || index >= page.size()) {
+            if (lastPageFetched) {
+                return false;
+            }
+            fetchPage();
+        }
+        return true;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MultiMapRecord record = page.get(index++);
+        return nodeEngine.toObject(record.getObject());
+    }
+
+    private void fetchPage() {
+        GetValuesPageOperation operation = new GetValuesPageOperation(name, dataKey, iterationId, cursorId, pageSize);
+        operation.setThreadId(ThreadUtil.getThreadId());
+        MultiMapValuesPageResponse response = nodeEngine.getOperationService()
+                .<MultiMapValuesPageResponse>invokeOnPartition(MultiMapService.SERVICE_NAME, operation, partitionId)
+                .joinInternal();
+        page = response.getRecords();
+        index = 0;
+        cursorId = response.getCursorId();
+        lastPageFetched = response.isLast();
+    }
+}
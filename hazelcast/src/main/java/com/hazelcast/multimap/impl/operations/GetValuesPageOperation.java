@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap.impl.operations;
+
+import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.internal.iteration.IterationResult;
+import com.hazelcast.internal.locksupport.LockWaitNotifyKey;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.services.DistributedObjectNamespace;
+import com.hazelcast.multimap.impl.MultiMapContainer;
+import com.hazelcast.multimap.impl.MultiMapDataSerializerHook;
+import com.hazelcast.multimap.impl.MultiMapRecord;
+import com.hazelcast.multimap.impl.MultiMapService;
+import com.hazelcast.multimap.impl.MultiMapValue;
+import com.hazelcast.multimap.impl.iterator.MultiMapValueIterationService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.BlockingOperation;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static com.hazelcast.internal.util.UUIDSerializationUtil.readUUID;
+import static com.hazelcast.internal.util.UUIDSerializationUtil.writeUUID;
+
+/**
+ * Returns a bounded page of the values of a key. The first page of an
+ * iteration is requested with a cursor id equal to the iteration id, which
+ * snapshots the current values of the key on the member. Each following
+ * page is requested with the cursor id returned with the previous page.
+ * Requesting the previous cursor id again returns the same page, so the
+ * operation can be retried safely.
+ */
+public class GetValuesPageOperation extends AbstractKeyBasedMultiMapOperation
+        implements BlockingOperation, ReadonlyOperation {
+
+    private UUID iterationId;
+    private UUID cursorId;
+    private int pageSize;
+
+    public GetValuesPageOperation() {
+    }
+
+    public GetValuesPageOperation(String name, Data dataKey, UUID iterationId, UUID cursorId, int pageSize) {
+        super(name, dataKey);
+        this.iterationId = iterationId;
+        this.cursorId = cursorId;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void run() throws Exception {
+        MultiMapService service = getService();
+        MultiMapValueIterationService iterationService = service.getValueIterationService();
+        if (isFirstPage()) {
+            MultiMapContainer container = getOrCreateContainer();
+            MultiMapValue multiMapValue = container.getMultiMapValueOrNull(dataKey);
+            Collection<MultiMapRecord> records = null;
+            if (multiMapValue != null) {
+                multiMapValue.incrementHit();
+                records = multiMapValue.getCollection(false);
+            }
+            iterationService.createIterator(records, iterationId);
+        }
+        IterationResult<MultiMapRecord> result = iterationService.iterate(cursorId, pageSize);
+        List<MultiMapRecord> page = result.getPage();
+        boolean last = page.size() < pageSize;
+        if (last) {
+            iterationService.cleanupIterator(iterationId);
+        }
+        response = new MultiMapValuesPageResponse(page, result.getCursorId(), last);
+    }
+
+    private boolean isFirstPage() {
+        return iterationId.equals(cursorId);
+    }
+
+    @Override
+    public WaitNotifyKey getWaitKey() {
+        return new LockWaitNotifyKey(new DistributedObjectNamespace(MultiMapService.SERVICE_NAME, name), dataKey);
+    }
+
+    @Override
+    public boolean shouldWait() {
+        if (!isFirstPage()) {
+            // the values have already been captured when the iteration was created
+            return false;
+        }
+        MultiMapContainer container = getOrCreateContainer();
+        if (container.isTransactionallyLocked(dataKey)) {
+            return !container.canAcquireLock(dataKey, getCallerUuid(), threadId);
+        }
+        return false;
+    }
+
+    @Override
+    public void onWaitExpire() {
+        sendResponse(new OperationTimeoutException("Cannot read transactionally locked entry!"));
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        writeUUID(out, iterationId);
+        writeUUID(out, cursorId);
+        out.writeInt(pageSize);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        iterationId = readUUID(in);
+        cursorId = readUUID(in);
+        pageSize = in.readInt();
+    }
+
+    @Override
+    public int getClassId() {
+        return MultiMapDataSerializerHook.GET_VALUES_PAGE;
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+
+        sb.append(", iterationId=").append(iterationId);
+        sb.append(", cursorId=").append(cursorId);
+        sb.append(", pageSize=").append(pageSize);
+    }
+}
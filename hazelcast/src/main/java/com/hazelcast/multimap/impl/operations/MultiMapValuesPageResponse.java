@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap.impl.operations;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.multimap.impl.MultiMapDataSerializerHook;
+import com.hazelcast.multimap.impl.MultiMapRecord;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A single page of the values of a MultiMap key, returned by
+ * {@link GetValuesPageOperation}.
+ */
+public class MultiMapValuesPageResponse implements IdentifiedDataSerializable {
+
+    private List<MultiMapRecord> records;
+    private UUID cursorId;
+    private boolean last;
+
+    public MultiMapValuesPageResponse() {
+    }
+
+    public MultiMapValuesPageResponse(List<MultiMapRecord> records, UUID cursorId, boolean last) {
+        this.records = records;
+        this.cursorId = cursorId;
+        this.last = last;
+    }
+
+    public List<MultiMapRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns the cursor id to be used to fetch the page following this one.
+     */
+    public UUID getCursorId() {
+        return cursorId;
+    }
+
+    /**
+     * Returns {@code true} if this is the last page of the iteration. The
+     * member has already released the iteration in this case.
+     */
+    public boolean isLast() {
+        return last;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        UUIDSerializationUtil.writeUUID(out, cursorId);
+        out.writeBoolean(last);
+        out.writeInt(records.size());
+        for (MultiMapRecord record : records) {
+            IOUtil.writeObject(out, record);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        cursorId = UUIDSerializationUtil.readUUID(in);
+        last = in.readBoolean();
+        int size = in.readInt();
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(IOUtil.readObject(in));
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MultiMapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return MultiMapDataSerializerHook.VALUES_PAGE_RESPONSE;
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A {@link Ringbuffer} which stores the serialized items outside of the
+ * Java heap, either in a direct buffer or in a memory-mapped temporary
+ * file. It can only hold items in {@link Data} format, so it is used only
+ * for ringbuffers with the {@link com.hazelcast.config.InMemoryFormat#BINARY}
+ * in-memory format.
+ * <p>
+ * The storage consists of a fixed-size index with one entry per slot,
+ * holding the position and the length of the item, and a payload area in
+ * which the item bytes are appended one after another, wrapping around at
+ * the end. The payload area is sized for the expected average item size,
+ * and the {@link #remainingCapacity() remaining capacity} takes the free
+ * bytes of the payload area into account. So adds with the
+ * {@link com.hazelcast.ringbuffer.OverflowPolicy#FAIL} policy fail when the
+ * payload area is full, see {@link RingbufferContainer#remainingCapacity()}.
+ * Only the adds which are allowed to overwrite the oldest items evict them
+ * from the payload area, just as they overwrite the oldest slot when the
+ * ringbuffer is full.
+ * <p>
+ * The direct memory and the mapping are released by {@link #destroy()}.
+ * <p>
+ * Items are copied out of the payload area on each read. Just like the
+ * {@link ArrayRingbuffer}, it isn't thread-safe since a partition can only
+ * be accessed by a single thread at any given moment.
+ *
+ * @param <E> the type of the data stored in the ringbuffer, must be {@link Data}
+ */
+public class OffHeapRingbuffer<E> implements Ringbuffer<E> {
+
+    // the logical position of the item in the payload area (long) and its length (int)
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+
+    private final int capacity;
+    private ByteBuffer index;
+    private ByteBuffer payload;
+    private final int payloadCapacity;
+
+    private long tailSequence = -1;
+    private long headSequence = tailSequence + 1;
+    // the logical position at which the next item is appended, the physical
+    // position is this position modulo the payload capacity
+    private long writePosition;
+
+    /**
+     * Creates a ringbuffer with its payload area in a direct buffer.
+     *
+     * @param capacity        the capacity of the ringbuffer
+     * @param payloadCapacity the size of the payload area in bytes
+     */
+    public OffHeapRingbuffer(int capacity, int payloadCapacity) {
+        this(capacity, ByteBuffer.allocateDirect(payloadCapacity));
+    }
+
+    /**
+     * Creates a ringbuffer with its payload area mapped to a temporary file
+     * in the given directory. The file is opened with
+     * {@link java.nio.file.StandardOpenOption#DELETE_ON_CLOSE} and its channel
+     * is closed right after mapping, so the file is removed from the directory
+     * immediately on POSIX systems, while the mapping stays valid. The disk
+     * space is released when the mapping is released by {@link #destroy()}.
+     *
+     * @param capacity        the capacity of the ringbuffer
+     * @param payloadCapacity the size of the payload area in bytes
+     * @param directory       the directory of the temporary file
+     */
+    public OffHeapRingbuffer(int capacity, int payloadCapacity, Path directory) {
+        this(capacity, map(directory, payloadCapacity));
+    }
+
+    private OffHeapRingbuffer(int capacity, ByteBuffer payload) {
+        if ((long) capacity * INDEX_ENTRY_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is too large for an off-heap ringbuffer");
+        }
+        this.capacity = capacity;
+        this.index = ByteBuffer.allocateDirect(capacity * INDEX_ENTRY_SIZE);
+        this.payload = payload;
+        this.payloadCapacity = payload.capacity();
+        clearIndex();
+    }
+
+    private static ByteBuffer map(Path directory, int size) {
+        try {
+            Path file = Files.createTempFile(directory, "ringbuffer-", ".bin");
+            try (FileChannel channel = FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE)) {
+                // the mapping stays valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        } catch (IOException e) {
+            throw new HazelcastException("Failed to map the ringbuffer payload area in " + directory, e);
+        }
+    }
+
+    @Override
+    public long tailSequence() {
+        return tailSequence;
+    }
+
+    @Override
+    public long peekNextTailSequence() {
+        return tailSequence + 1;
+    }
+
+    @Override
+    public void setTailSequence(long sequence) {
+        this.tailSequence = sequence;
+    }
+
+    @Override
+    public long headSequence() {
+        return headSequence;
+    }
+
+    @Override
+    public void setHeadSequence(long sequence) {
+        this.headSequence = sequence;
+    }
+
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the size of the payload area in bytes.
+     */
+    public int getPayloadCapacity() {
+        return payloadCapacity;
+    }
+
+    /**
+     * Returns the number of free bytes in the payload area, that is the
+     * bytes which can be appended without overwriting any item.
+     */
+    public long remainingPayloadCapacity() {
+        for (long sequence = headSequence; sequence <= tailSequence; sequence++) {
+            int entry = toIndex(sequence) * INDEX_ENTRY_SIZE;
+            if (index.getInt(entry + Long.BYTES) != NULL_LENGTH) {
+                long oldestPosition = index.getLong(entry);
+                return payloadCapacity - (writePosition - oldestPosition);
+            }
+        }
+        return payloadCapacity;
+    }
+
+    /**
+     * Returns the number of items of the expected average size which fit
+     * into the free bytes of the payload area, at most the capacity. The
+     * average size is the one the payload area was sized for.
+     */
+    public long remainingCapacity() {
+        return Math.min(capacity, remainingPayloadCapacity() * capacity / payloadCapacity);
+    }
+
+    @Override
+    public long size() {
+        return tailSequence - headSequence + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public long add(E item) {
+        tailSequence++;
+
+        if (tailSequence - capacity == headSequence) {
+            headSequence++;
+        }
+
+        set(tailSequence, item);
+
+        return tailSequence;
+    }
+
+    @Override
+    public E read(long sequence) {
+        checkReadSequence(sequence);
+        return readSlot(sequence);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E readSlot(long sequence) {
+        int entry = toIndex(sequence) * INDEX_ENTRY_SIZE;
+        int length = index.getInt(entry + Long.BYTES);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        long logicalPosition = index.getLong(entry);
+        if (logicalPosition < writePosition - payloadCapacity) {
+            // the bytes were overwritten by newer items
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        int position = toPayloadIndex(logicalPosition);
+        int firstPart = Math.min(length, payloadCapacity - position);
+        payload.get(position, bytes, 0, firstPart);
+        if (firstPart < length) {
+            payload.get(0, bytes, firstPart, length - firstPart);
+        }
+        return (E) new HeapData(bytes);
+    }
+
+    @Override
+    public void checkBlockableReadSequence(long readSequence) {
+        if (readSequence > tailSequence + 1) {
+            throw new IllegalArgumentException("sequence:" + readSequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (readSequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + readSequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void checkReadSequence(long sequence) {
+        if (sequence > tailSequence) {
+            throw new IllegalArgumentException("sequence:" + sequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (sequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + sequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    private int toIndex(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private int toPayloadIndex(long position) {
+        return (int) (position % payloadCapacity);
+    }
+
+    @Override
+    public void set(long seq, E data) {
+        int entry = toIndex(seq) * INDEX_ENTRY_SIZE;
+        if (data == null) {
+            index.putInt(entry + Long.BYTES, NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = ((Data) data).toByteArray();
+        int length = bytes.length;
+        if (length > payloadCapacity) {
+            throw new IllegalArgumentException("Item of " + length + " bytes doesn't fit into the off-heap ringbuffer"
+                    + " payload area of " + payloadCapacity + " bytes");
+        }
+
+        long position = writePosition;
+        int physicalPosition = toPayloadIndex(position);
+        int firstPart = Math.min(length, payloadCapacity - physicalPosition);
+        payload.put(physicalPosition, bytes, 0, firstPart);
+        if (firstPart < length) {
+            payload.put(0, bytes, firstPart, length - firstPart);
+        }
+        writePosition += length;
+
+        index.putLong(entry, position);
+        index.putInt(entry + Long.BYTES, length);
+
+        evictOverwritten(seq);
+    }
+
+    /**
+     * Moves the head sequence past the items older than {@code seq} whose
+     * bytes have been overwritten by newer items.
+     */
+    private void evictOverwritten(long seq) {
+        long oldestValidPosition = writePosition - payloadCapacity;
+        if (oldestValidPosition <= 0) {
+            return;
+        }
+        for (long sequence = headSequence; sequence < seq; sequence++) {
+            int entry = toIndex(sequence) * INDEX_ENTRY_SIZE;
+            if (index.getInt(entry + Long.BYTES) == NULL_LENGTH) {
+                continue;
+            }
+            if (index.getLong(entry) >= oldestValidPosition) {
+                return;
+            }
+            index.putInt(entry + Long.BYTES, NULL_LENGTH);
+            headSequence = sequence + 1;
+        }
+    }
+
+    @Override
+    public void clear() {
+        clearIndex();
+        writePosition = 0;
+        tailSequence = -1;
+        headSequence = tailSequence + 1;
+    }
+
+    /**
+     * Releases the direct memory of the index and the payload area, or the
+     * mapping of the payload area. The ringbuffer can't be used afterwards.
+     * It must be called on the partition thread of the ringbuffer, so no
+     * other thread accesses the released memory.
+     */
+    public void destroy() {
+        if (payload == null) {
+            return;
+        }
+        ByteBuffer released = payload;
+        ByteBuffer releasedIndex = index;
+        payload = null;
+        index = null;
+        if (UNSAFE_AVAILABLE) {
+            UNSAFE.invokeCleaner(released);
+            UNSAFE.invokeCleaner(releasedIndex);
+        }
+    }
+
+    private void clearIndex() {
+        for (int i = 0; i < capacity; i++) {
+            index.putInt(i * INDEX_ENTRY_SIZE + Long.BYTES, NULL_LENGTH);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ReadOnlyRingbufferIterator<>(this);
+    }
+
+    /**
+     * Copies the items to an on-heap array, each item at the index of its
+     * slot.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] getItems() {
+        E[] items = (E[]) new Object[capacity];
+        for (long seq = Math.max(headSequence, tailSequence - capacity + 1); seq <= tailSequence; seq++) {
+            items[toIndex(seq)] = readSlot(seq);
+        }
+        return items;
+    }
+}
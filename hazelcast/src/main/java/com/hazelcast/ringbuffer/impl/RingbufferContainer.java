@@ -20,6 +20,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.RingbufferConfig;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.internal.namespace.impl.NodeEngineThreadLocalContext;
 import com.hazelcast.internal.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -32,15 +33,20 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Notifier;
 import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.internal.serialization.SerializationService;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 
 import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.config.InMemoryFormat.values;
 import static com.hazelcast.internal.namespace.NamespaceUtil.callWithNamespace;
 import static com.hazelcast.internal.namespace.NamespaceUtil.runWithNamespace;
+import static com.hazelcast.ringbuffer.impl.RingbufferService.OFF_HEAP_AVERAGE_ITEM_SIZE;
+import static com.hazelcast.ringbuffer.impl.RingbufferService.OFF_HEAP_ENABLED;
+import static com.hazelcast.ringbuffer.impl.RingbufferService.OFF_HEAP_MAPPED_DIRECTORY;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_JOURNAL_CLEANUP_THRESHOLD;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -128,7 +134,7 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         this(namespace, partitionId, config.getUserCodeNamespace());
 
         this.inMemoryFormat = config.getInMemoryFormat();
-        this.ringbuffer = new ArrayRingbuffer<>(config.getCapacity());
+        this.ringbuffer = createRingbuffer(config.getCapacity(), nodeEngine.getProperties());
 
         final long ttlMs = SECONDS.toMillis(config.getTimeToLiveSeconds());
         if (ttlMs != TTL_DISABLED) {
@@ -157,6 +163,22 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         );
     }
 
+    private boolean isOffHeap(HazelcastProperties properties) {
+        return inMemoryFormat == BINARY && properties != null && properties.getBoolean(OFF_HEAP_ENABLED);
+    }
+
+    private Ringbuffer<E> createRingbuffer(int capacity, HazelcastProperties properties) {
+        if (!isOffHeap(properties)) {
+            return new ArrayRingbuffer<>(capacity);
+        }
+        long averageItemSize = properties.getInteger(OFF_HEAP_AVERAGE_ITEM_SIZE);
+        int payloadCapacity = (int) Math.min(Integer.MAX_VALUE, capacity * averageItemSize);
+        String directory = properties.getString(OFF_HEAP_MAPPED_DIRECTORY);
+        return directory == null
+                ? new OffHeapRingbuffer<>(capacity, payloadCapacity)
+                : new OffHeapRingbuffer<>(capacity, payloadCapacity, Paths.get(directory));
+    }
+
     private void initRingbufferStore(ClassLoader classLoader, NodeEngine nodeEngine) {
         this.store = RingbufferStoreWrapper.create(objectNamespace,
                 config.getRingbufferStoreConfig(),
@@ -277,6 +299,9 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
      * not yet been marked as expired and cleaned up. Keep in mind that some
      * slots could have expired items that have not yet been cleaned up and
      * that the returned value could be stale as soon as it is returned.
+     * If the items are stored off-heap, it is also limited by the free bytes
+     * of the payload area, see {@link OffHeapRingbuffer#remainingCapacity()},
+     * so it is zero once the payload area is full.
      * <p>
      * If TTL is disabled, the remaining capacity is equal to the total
      * ringbuffer capacity.
@@ -285,12 +310,42 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
      */
     public long remainingCapacity() {
         if (expirationPolicy != null) {
-            return ringbuffer.getCapacity() - size();
+            long remainingCapacity = ringbuffer.getCapacity() - size();
+            if (ringbuffer instanceof OffHeapRingbuffer<E> offHeapRingbuffer) {
+                // the payload area may be full before the slots are
+                remainingCapacity = Math.min(remainingCapacity, offHeapRingbuffer.remainingCapacity());
+            }
+            return remainingCapacity;
         }
 
         return ringbuffer.getCapacity();
     }
 
+    /**
+     * Checks if the given items can be added without overwriting any item
+     * which has not expired, as required by the
+     * {@link com.hazelcast.ringbuffer.OverflowPolicy#FAIL} policy. Unlike
+     * {@link #remainingCapacity()}, it takes the actual item sizes into
+     * account for the off-heap ringbuffers.
+     *
+     * @param items the items to add
+     * @return {@code true} if the items can be added, {@code false} otherwise
+     * @see #remainingCapacity()
+     */
+    public boolean hasCapacityFor(Data... items) {
+        if (expirationPolicy == null || !(ringbuffer instanceof OffHeapRingbuffer<E> offHeapRingbuffer)) {
+            return remainingCapacity() >= items.length;
+        }
+        if (ringbuffer.getCapacity() - size() < items.length) {
+            return false;
+        }
+        long totalSize = 0;
+        for (Data item : items) {
+            totalSize += item.totalSize();
+        }
+        return totalSize <= offHeapRingbuffer.remainingPayloadCapacity();
+    }
+
     /**
      * Adds one item to the ring buffer. Sets the expiration time if TTL is
      * configured and also attempts to store the item in the data store if one
@@ -647,7 +702,11 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         final long ttlMs = in.readLong();
         inMemoryFormat = values()[in.readInt()];
 
-        ringbuffer = new ArrayRingbuffer(capacity);
+        // the replicated ringbuffer is read before the container is
+        // initialized, so the store type is resolved from the member
+        // properties of the deserializing thread
+        NodeEngine engine = NodeEngineThreadLocalContext.getNodeEngineThreadLocalContextOrNull();
+        ringbuffer = createRingbuffer(capacity, engine != null ? engine.getProperties() : null);
         ringbuffer.setTailSequence(tailSequence);
         ringbuffer.setHeadSequence(headSequence);
 
@@ -674,6 +733,24 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         });
     }
 
+    /**
+     * Releases the memory of the ringbuffer if it is stored off-heap. The
+     * container can't be used afterwards. It must be called on the partition
+     * thread of the container.
+     */
+    public void destroy() {
+        if (ringbuffer instanceof OffHeapRingbuffer<E> offHeapRingbuffer) {
+            offHeapRingbuffer.destroy();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the items of the ringbuffer are stored off-heap.
+     */
+    public boolean isOffHeap() {
+        return ringbuffer instanceof OffHeapRingbuffer;
+    }
+
     /**
      * Returns the ringbuffer containing the actual items.
      */
@@ -729,4 +806,5 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
             expirationPolicy.clear();
         }
     }
+
 }
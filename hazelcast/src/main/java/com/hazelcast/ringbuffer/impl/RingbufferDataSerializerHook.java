@@ -27,6 +27,7 @@ import com.hazelcast.ringbuffer.impl.operations.GenericOperation;
 import com.hazelcast.ringbuffer.impl.operations.MergeBackupOperation;
 import com.hazelcast.ringbuffer.impl.operations.MergeOperation;
 import com.hazelcast.ringbuffer.impl.operations.ReadManyOperation;
+import com.hazelcast.ringbuffer.impl.operations.ReadManyProjectedOperation;
 import com.hazelcast.ringbuffer.impl.operations.ReadOneOperation;
 import com.hazelcast.ringbuffer.impl.operations.ReplicationOperation;
 
@@ -52,6 +53,7 @@ public class RingbufferDataSerializerHook implements DataSerializerHook {
     public static final int RINGBUFFER_CONTAINER = 10;
     public static final int MERGE_OPERATION = 11;
     public static final int MERGE_BACKUP_OPERATION = 12;
+    public static final int READ_MANY_PROJECTED_OPERATION = 13;
 
     @Override
     public int getFactoryId() {
@@ -74,6 +76,7 @@ public class RingbufferDataSerializerHook implements DataSerializerHook {
             case RINGBUFFER_CONTAINER -> new RingbufferContainer<>();
             case MERGE_OPERATION -> new MergeOperation();
             case MERGE_BACKUP_OPERATION -> new MergeBackupOperation();
+            case READ_MANY_PROJECTED_OPERATION -> new ReadManyProjectedOperation<>();
             default -> null;
         };
     }
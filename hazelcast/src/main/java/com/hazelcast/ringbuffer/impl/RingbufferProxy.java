@@ -19,6 +19,7 @@ package com.hazelcast.ringbuffer.impl;
 import com.hazelcast.config.RingbufferConfig;
 import com.hazelcast.core.IFunction;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.splitbrainprotection.SplitBrainProtectionOn;
 import com.hazelcast.ringbuffer.OverflowPolicy;
 import com.hazelcast.ringbuffer.ReadResultSet;
@@ -27,6 +28,7 @@ import com.hazelcast.ringbuffer.impl.operations.AddAllOperation;
 import com.hazelcast.ringbuffer.impl.operations.AddOperation;
 import com.hazelcast.ringbuffer.impl.operations.GenericOperation;
 import com.hazelcast.ringbuffer.impl.operations.ReadManyOperation;
+import com.hazelcast.ringbuffer.impl.operations.ReadManyProjectedOperation;
 import com.hazelcast.ringbuffer.impl.operations.ReadOneOperation;
 import com.hazelcast.spi.impl.AbstractDistributedObject;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -207,6 +209,33 @@ public class RingbufferProxy<E> extends AbstractDistributedObject<RingbufferServ
 
         Operation op = new ReadManyOperation<>(name, startSequence, minCount, maxCount, filter)
                 .setPartitionId(partitionId);
+        return invokeReadMany(op);
+    }
+
+    /**
+     * Same as {@link #readManyAsync(long, int, int, IFunction)}, but the
+     * given projection is applied to the items on the partition owner, so
+     * only the projected items are returned.
+     *
+     * @param projection the projection applied to the items passing the filter
+     * @param <R>        the projected type
+     */
+    public <R> CompletionStage<ReadResultSet<R>> readManyAsync(long startSequence, int minCount, int maxCount,
+                                                               @Nullable IFunction<E, Boolean> filter,
+                                                               @Nonnull Projection<? super E, R> projection) {
+        checkNotNull(projection, "projection can't be null");
+        checkSequence(startSequence);
+        checkNotNegative(minCount, "minCount can't be smaller than 0");
+        checkTrue(maxCount >= minCount, "maxCount should be equal or larger than minCount");
+        checkTrue(maxCount <= config.getCapacity(), "the maxCount should be smaller than or equal to the capacity");
+        checkTrue(maxCount <= MAX_BATCH_SIZE, "maxCount can't be larger than " + MAX_BATCH_SIZE);
+
+        Operation op = new ReadManyProjectedOperation<>(name, startSequence, minCount, maxCount, filter, projection)
+                .setPartitionId(partitionId);
+        return invokeReadMany(op);
+    }
+
+    private <T> CompletionStage<ReadResultSet<T>> invokeReadMany(Operation op) {
         OperationService operationService = getOperationService();
         return operationService.createInvocationBuilder(null, op, partitionId)
                                .setCallTimeout(Long.MAX_VALUE)
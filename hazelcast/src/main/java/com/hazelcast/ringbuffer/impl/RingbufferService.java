@@ -41,10 +41,13 @@ import com.hazelcast.ringbuffer.impl.operations.ReplicationOperation;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.merge.AbstractContainerMerger;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 import com.hazelcast.spi.merge.RingbufferMergeData;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
 import com.hazelcast.spi.merge.SplitBrainMergeTypes.RingbufferMergeTypes;
+import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.splitbrainprotection.SplitBrainProtectionOn;
 import com.hazelcast.splitbrainprotection.SplitBrainProtectionService;
 
@@ -82,6 +85,33 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
      */
     public static final String SERVICE_NAME = "hz:impl:ringbufferService";
 
+    /**
+     * Stores the items of the ringbuffers with the
+     * {@link com.hazelcast.config.InMemoryFormat#BINARY} in-memory format
+     * outside of the Java heap. Ringbuffers keeping items in the
+     * {@link com.hazelcast.config.InMemoryFormat#OBJECT} format, such as the
+     * event journals, are not affected.
+     *
+     * @see OffHeapRingbuffer
+     */
+    public static final HazelcastProperty OFF_HEAP_ENABLED
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.enabled", false);
+    /**
+     * The expected average size of a serialized item in bytes in an off-heap
+     * ringbuffer. The payload area of an off-heap ringbuffer is sized as its
+     * capacity multiplied by this size, up to 2GB. If the items are larger on
+     * average, the oldest items are evicted before the ringbuffer is full.
+     */
+    public static final HazelcastProperty OFF_HEAP_AVERAGE_ITEM_SIZE
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.average.item.size.bytes", 256);
+    /**
+     * The directory in which the payload areas of the off-heap ringbuffers are
+     * memory-mapped to temporary files. If not set, the payload areas are
+     * allocated in direct memory.
+     */
+    public static final HazelcastProperty OFF_HEAP_MAPPED_DIRECTORY
+            = new HazelcastProperty("hazelcast.ringbuffer.offheap.mapped.directory");
+
     private static final Object NULL_OBJECT = new Object();
 
     /**
@@ -152,11 +182,38 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         if (partitionContainers == null) {
             return;
         }
-        partitionContainers.remove(namespace);
+        destroyLater(partitionId, partitionContainers.remove(namespace));
+    }
+
+    /**
+     * Releases the memory of a container stored off-heap once the operations
+     * already queued for its partition have completed.
+     */
+    private void destroyLater(int partitionId, RingbufferContainer container) {
+        if (container == null || !container.isOffHeap()) {
+            return;
+        }
+        final OperationServiceImpl operationService = (OperationServiceImpl) nodeEngine.getOperationService();
+        operationService.execute(new PartitionSpecificRunnable() {
+            @Override
+            public void run() {
+                container.destroy();
+            }
+
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+        });
     }
 
     @Override
     public void reset() {
+        for (Entry<Integer, Map<ObjectNamespace, RingbufferContainer>> entry : containers.entrySet()) {
+            for (RingbufferContainer container : entry.getValue().values()) {
+                destroyLater(entry.getKey(), container);
+            }
+        }
         containers.clear();
     }
 
@@ -236,7 +293,10 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         checkNotNull(ringbuffer, "ringbuffer can't be null");
         ringbuffer.init(config, nodeEngine);
         ringbuffer.getStore().instrument(nodeEngine);
-        getOrCreateRingbufferContainers(partitionId).put(ringbuffer.getNamespace(), ringbuffer);
+        RingbufferContainer replaced = getOrCreateRingbufferContainers(partitionId).put(ringbuffer.getNamespace(), ringbuffer);
+        if (replaced != ringbuffer) {
+            destroyLater(partitionId, replaced);
+        }
     }
 
     @Override
@@ -297,6 +357,7 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
             final RingbufferContainer container = entry.getValue();
             if (thresholdReplicaIndex < 0 || container.getConfig().getTotalBackupCount() < thresholdReplicaIndex) {
                 iterator.remove();
+                destroyLater(partitionId, container);
             }
         }
     }
@@ -59,7 +59,7 @@ public class AddAllOperation extends AbstractRingBufferOperation
         final RingbufferContainer ringbuffer = getRingBufferContainer();
 
         if (overflowPolicy == FAIL) {
-            if (ringbuffer.remainingCapacity() < items.length) {
+            if (!ringbuffer.hasCapacityFor(items)) {
                 lastSequence = -1;
                 return;
             }
@@ -60,7 +60,7 @@ public class AddOperation extends AbstractRingBufferOperation implements Notifie
 
         //todo: move into ringbuffer.
         if (overflowPolicy == FAIL) {
-            if (ringbuffer.remainingCapacity() < 1) {
+            if (!ringbuffer.hasCapacityFor(item)) {
                 resultSequence = -1;
                 return;
             }
@@ -41,7 +41,7 @@ public class ReadManyOperation<O> extends AbstractRingBufferOperation
     private long startSequence;
     private IFunction<O, Boolean> filter;
 
-    private transient ReadResultSetImpl<O, O> resultSet;
+    private transient ReadResultSetImpl<O, ?> resultSet;
 
     public ReadManyOperation() {
     }
@@ -66,7 +66,7 @@ public class ReadManyOperation<O> extends AbstractRingBufferOperation
         RingbufferContainer ringbuffer = getRingBufferContainerOrNull();
 
         if (resultSet == null) {
-            resultSet = new ReadResultSetImpl<>(minSize, maxSize, getNodeEngine().getSerializationService(), filter);
+            resultSet = createResultSet(minSize, maxSize, filter);
             sequence = startSequence;
         }
 
@@ -97,6 +97,13 @@ public class ReadManyOperation<O> extends AbstractRingBufferOperation
         return resultSet.isMinSizeReached() ? CallStatus.RESPONSE : CallStatus.WAIT;
     }
 
+    /**
+     * Creates the result set into which the items are read.
+     */
+    protected ReadResultSetImpl<O, ?> createResultSet(int minSize, int maxSize, IFunction<O, Boolean> filter) {
+        return new ReadResultSetImpl<>(minSize, maxSize, getNodeEngine().getSerializationService(), filter);
+    }
+
     @Override
     public void unpark(OperationService service) {
         service.execute(this);
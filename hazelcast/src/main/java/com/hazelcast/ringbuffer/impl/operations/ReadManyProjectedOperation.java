@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl.operations;
+
+import com.hazelcast.core.IFunction;
+import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+
+import java.io.IOException;
+
+import static com.hazelcast.ringbuffer.impl.RingbufferDataSerializerHook.READ_MANY_PROJECTED_OPERATION;
+
+/**
+ * A {@link ReadManyOperation} which applies a {@link Projection} to the
+ * items passing the filter before they are added to the result set, so
+ * only the projected items are sent back to the caller.
+ *
+ * @param <O> deserialized ringbuffer type
+ * @param <E> projected type
+ */
+public class ReadManyProjectedOperation<O, E> extends ReadManyOperation<O> {
+
+    private Projection<? super O, E> projection;
+
+    public ReadManyProjectedOperation() {
+    }
+
+    public ReadManyProjectedOperation(String name, long startSequence, int minSize, int maxSize,
+                                      IFunction<O, Boolean> filter, Projection<? super O, E> projection) {
+        super(name, startSequence, minSize, maxSize, filter);
+        this.projection = projection;
+    }
+
+    @Override
+    protected ReadResultSetImpl<O, ?> createResultSet(int minSize, int maxSize, IFunction<O, Boolean> filter) {
+        return new ReadResultSetImpl<>(minSize, maxSize, getNodeEngine().getSerializationService(),
+                filter == null ? null : filter::apply, projection);
+    }
+
+    @Override
+    public int getClassId() {
+        return READ_MANY_PROJECTED_OPERATION;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(projection);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        projection = NamespaceUtil.callWithNamespace(getNodeEngine(), getUserCodeNamespace(), in::readObject);
+    }
+}
@@ -18,6 +18,7 @@ package com.hazelcast.spi.impl;
 
 import com.hazelcast.internal.partition.ChunkSupplier;
 import com.hazelcast.internal.partition.ChunkedMigrationAwareService;
+import com.hazelcast.internal.partition.DifferentialReplicationAwareService;
 import com.hazelcast.internal.partition.FragmentedMigrationAwareService;
 import com.hazelcast.internal.partition.MigrationAwareService;
 import com.hazelcast.internal.partition.OffloadedReplicationPreparation;
@@ -34,7 +35,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * migrations concerning the partition owner (either as current or new replica index) currently in-flight.
  */
 public class CountingMigrationAwareService
-        implements ChunkedMigrationAwareService, OffloadedReplicationPreparation {
+        implements ChunkedMigrationAwareService, OffloadedReplicationPreparation, DifferentialReplicationAwareService {
 
     static final int PRIMARY_REPLICA_INDEX = 0;
     static final int IN_FLIGHT_MIGRATION_STAMP = -1;
@@ -153,4 +154,12 @@ public class CountingMigrationAwareService
         }
         return ((ChunkedMigrationAwareService) migrationAwareService).newChunkSupplier(event, namespace);
     }
+
+    @Override
+    public int[] getReplicaDigest(int partitionId, ServiceNamespace namespace) {
+        if (!(migrationAwareService instanceof DifferentialReplicationAwareService)) {
+            return null;
+        }
+        return ((DifferentialReplicationAwareService) migrationAwareService).getReplicaDigest(partitionId, namespace);
+    }
 }
@@ -95,6 +95,21 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_BALANCER_INTERVAL_SECONDS
             = new HazelcastProperty("hazelcast.io.balancer.interval.seconds", 20, SECONDS);
 
+    /**
+     * The number of consecutive
+     * {@link com.hazelcast.internal.networking.nio.iobalancer.IOBalancer}
+     * executions that need to see an imbalance between the same pair of I/O
+     * threads before a pipeline is migrated between them. Higher values
+     * ignore longer bursts of load, but react slower to a lasting imbalance.
+     * <p>
+     * The default is 2. A value of 1 migrates as soon as an imbalance is seen.
+     *
+     * @see #IO_BALANCER_INTERVAL_SECONDS
+     * @since 5.7
+     */
+    public static final HazelcastProperty IO_BALANCER_IMBALANCED_ROUNDS
+            = new HazelcastProperty("hazelcast.io.balancer.imbalanced.rounds", 2);
+
     /**
      * Prefer IPv4 network interface when picking a local address.
      */
@@ -151,6 +166,58 @@ public final class ClusterProperty {
     public static final HazelcastProperty SOCKET_BUFFER_DIRECT
             = new HazelcastProperty("hazelcast.socket.buffer.direct", false);
 
+    /**
+     * If member to member packets should be written to the socket with gathering
+     * writes ({@code true}) instead of being copied into the socket send buffer
+     * first ({@code false}).
+     * <p>
+     * With gathering writes the header and payload of each packet are handed to
+     * the socket as separate buffers, so many small packets are written with
+     * a single system call without being copied into the send buffer. It applies
+     * to member connections without TLS only.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @since 5.7
+     */
+    public static final HazelcastProperty SOCKET_GATHERING_WRITE
+            = new HazelcastProperty("hazelcast.socket.gathering.write", false);
+
+    /**
+     * If member connections opened by this member should request a compressed
+     * connection ({@code true}) or not ({@code false}).
+     * <p>
+     * Compression is negotiated with the protocol bytes: the accepting member
+     * confirms it, so it is only used once both sides agree. Every member
+     * accepts compressed member and client connections regardless of this
+     * property. Members running an older version reject them, the following
+     * connections to such a member are then opened uncompressed for five
+     * minutes. A connection closed before the peer answered is taken as a
+     * rejection too. Compression applies to connections without TLS opened
+     * over the unified (non-advanced) network configuration only, and
+     * gathering writes are not used for compressed connections.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @see #NETWORK_COMPRESSION_THRESHOLD_BYTES
+     * @since 5.7
+     */
+    public static final HazelcastProperty NETWORK_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.network.compression.enabled", false);
+
+    /**
+     * The minimum number of pending bytes on a compressed connection before
+     * they are compressed. Smaller batches, like a lone heartbeat or a small
+     * operation, are sent uncompressed since compressing them costs more CPU
+     * than it saves on the wire.
+     * <p>
+     * Default is {@code 1024} bytes.
+     *
+     * @since 5.7
+     */
+    public static final HazelcastProperty NETWORK_COMPRESSION_THRESHOLD_BYTES
+            = new HazelcastProperty("hazelcast.network.compression.threshold.bytes", 1024);
+
     /**
      * Overrides receive buffer size for connections opened by clients.
      * <p>
@@ -530,6 +597,49 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB
             = new HazelcastProperty("hazelcast.partition.migration.chunks.max.migrating.data.in.mb", 250);
 
+    /**
+     * Enable to compress each chunk of migrated partition data before it's
+     * sent to the destination. It trades CPU time on both members for less
+     * data on the network, which shortens migrations of large partitions
+     * when the network is the bottleneck.
+     * <p>
+     * Default disabled.
+     *
+     * @see ClusterProperty#PARTITION_CHUNKED_MIGRATION_ENABLED
+     * @since 5.7
+     */
+    public static final HazelcastProperty PARTITION_CHUNKED_MIGRATION_COMPRESSION_ENABLED
+            = new HazelcastProperty("hazelcast.partition.migration.chunks.compression.enabled", false);
+
+    /**
+     * The time the master waits for a crashed or terminated data member to
+     * rejoin before it rebalances the partitions. It's meant for rolling
+     * restarts of members which come back at the same address.
+     * <p>
+     * The backups of the partitions owned by the left member are promoted
+     * right away, but the lost backups aren't recreated on the remaining
+     * members until the period elapses. If a member joins at the address of
+     * the left member within the period, it gets back the partition replicas
+     * of the left member. The data of the rejoining member isn't kept, so
+     * all its replicas are still copied to it. What is saved is the
+     * migration to the remaining members and back.
+     * <p>
+     * During this period the partitions of the left member have one backup
+     * less than configured, and none at all if the backup count is 1. If
+     * another member fails within the period, the data of which it held the
+     * only copy is lost.
+     * <p>
+     * Has no effect when persistence is enabled, in that case
+     * {@link com.hazelcast.config.PersistenceConfig#getRebalanceDelaySeconds()}
+     * applies.
+     * <p>
+     * Default is 0, which disables it.
+     *
+     * @since 5.7
+     */
+    public static final HazelcastProperty PARTITION_REJOIN_GRACE_PERIOD_SECONDS
+            = new HazelcastProperty("hazelcast.partition.rejoin.grace.period.seconds", 0, SECONDS);
+
     /**
      * The time that a newly-appointed master node waits before forming a cluster.
      * Once a cluster is being started, a newly-appointed master node may receive
@@ -50,7 +50,7 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
     protected final String topicName;
     protected volatile long sequence;
     private final SerializationService serializationService;
-    private final ConcurrentMap<UUID, MessageRunner<E>> runnersMap;
+    private final ConcurrentMap<UUID, ? extends MessageRunner<?>> runnersMap;
     private final UUID id;
     private final Executor executor;
     private final int batchSize;
@@ -65,7 +65,7 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
                          int batchSize,
                          SerializationService serializationService,
                          Executor executor,
-                         ConcurrentMap<UUID, MessageRunner<E>> runnersMap,
+                         ConcurrentMap<UUID, ? extends MessageRunner<?>> runnersMap,
                          ILogger logger) {
         this.id = id;
         this.listener = listener;
@@ -90,11 +90,24 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
             return;
         }
         // Save the Future so that we can cancel readManyAsync()
-        readRingBufferCompletionStage = ringbuffer.readManyAsync(sequence, 1, batchSize, null);
+        readRingBufferCompletionStage = readManyAsync(sequence, batchSize);
         readRingBufferCompletionStage
                 .whenCompleteAsync(this, executor);
     }
 
+    /**
+     * Reads the next batch of messages from the ringbuffer, blocking until at
+     * least one message is available. Subclasses may override this to filter
+     * or project the messages on the partition owner of the ringbuffer.
+     *
+     * @param sequence  the sequence to read from
+     * @param batchSize the maximum number of messages to read
+     * @return the future of the read batch
+     */
+    protected CompletionStage<ReadResultSet<ReliableTopicMessage>> readManyAsync(long sequence, int batchSize) {
+        return ringbuffer.readManyAsync(sequence, 1, batchSize, null);
+    }
+
     @Override
     public void accept(ReadResultSet<ReliableTopicMessage> result, Throwable throwable) {
         if (cancelled) {
@@ -124,6 +137,9 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
                         }
                     }
                 }
+                if (!cancelled) {
+                    storeFilteredSequence(result);
+                }
             });
 
             sequence = result.getNextSequenceToReadFrom();
@@ -138,6 +154,19 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
         }
     }
 
+    /**
+     * Messages skipped by a server-side filter at the end of the batch have
+     * been consumed as well, even though they were not delivered, so their
+     * sequence is stored.
+     */
+    private void storeFilteredSequence(ReadResultSet<ReliableTopicMessage> result) {
+        long lastReadSequence = result.getNextSequenceToReadFrom() - 1;
+        if (result.readCount() > result.size()
+                && (result.size() == 0 || result.getSequence(result.size() - 1) < lastReadSequence)) {
+            listener.storeSequence(lastReadSequence);
+        }
+    }
+
     protected abstract void runWithNamespaceAwareness(Runnable runnable);
 
     private Message<E> toMessage(ReliableTopicMessage m) {
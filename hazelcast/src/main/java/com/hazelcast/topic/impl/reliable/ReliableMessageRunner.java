@@ -21,17 +21,22 @@ import com.hazelcast.internal.cluster.ClusterService;
 import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.ringbuffer.ReadResultSet;
+import com.hazelcast.ringbuffer.impl.RingbufferProxy;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.topic.ReliableMessageListener;
 
 import javax.annotation.Nullable;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 
 public class ReliableMessageRunner<E> extends MessageRunner<E> {
 
     private final ClusterService clusterService;
-    private final ReliableTopicProxy<E> proxy;
+    private final ReliableTopicProxy<?> proxy;
+    private final @Nullable ReliableTopicMessageFilter<?> filter;
+    private final @Nullable ReliableTopicMessageProjection<?, E> projection;
 
     private final NodeEngine nodeEngine;
     private final @Nullable String namespace;
@@ -40,14 +45,34 @@ public class ReliableMessageRunner<E> extends MessageRunner<E> {
                           SerializationService serializationService,
                           Executor executor, ILogger logger, ClusterService clusterService,
                           ReliableTopicProxy<E> proxy) {
+        this(id, listener, serializationService, executor, logger, clusterService, proxy, null, null);
+    }
+
+    ReliableMessageRunner(UUID id, ReliableMessageListener<E> listener,
+                          SerializationService serializationService,
+                          Executor executor, ILogger logger, ClusterService clusterService,
+                          ReliableTopicProxy<?> proxy,
+                          @Nullable ReliableTopicMessageFilter<?> filter,
+                          @Nullable ReliableTopicMessageProjection<?, E> projection) {
         super(id, listener, proxy.ringbuffer, proxy.getName(), proxy.topicConfig.getReadBatchSize(),
                 serializationService, executor, proxy.runnersMap, logger);
         this.clusterService = clusterService;
         this.proxy = proxy;
+        this.filter = filter;
+        this.projection = projection;
         this.nodeEngine = proxy.getNodeEngine();
         this.namespace = ReliableTopicService.lookupNamespace(nodeEngine, proxy.getName());
     }
 
+    @Override
+    protected CompletionStage<ReadResultSet<ReliableTopicMessage>> readManyAsync(long sequence, int batchSize) {
+        if (projection == null) {
+            return ringbuffer.readManyAsync(sequence, 1, batchSize, filter);
+        }
+        return ((RingbufferProxy<ReliableTopicMessage>) ringbuffer).readManyAsync(sequence, 1, batchSize, filter,
+                projection);
+    }
+
     @Override
     protected void runWithNamespaceAwareness(Runnable runnable) {
         NamespaceUtil.runWithNamespace(nodeEngine, namespace, runnable);
@@ -62,6 +87,4 @@ public class ReliableMessageRunner<E> extends MessageRunner<E> {
     protected Throwable adjustThrowable(Throwable t) {
         return t;
     }
-
-
 }
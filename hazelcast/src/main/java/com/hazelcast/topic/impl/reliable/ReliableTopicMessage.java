@@ -48,6 +48,18 @@ public class ReliableTopicMessage implements IdentifiedDataSerializable {
         this.payload = payload;
     }
 
+    /**
+     * Returns a copy of this message with the given payload, keeping the
+     * publish time and the publisher address.
+     */
+    ReliableTopicMessage withPayload(Data payload) {
+        ReliableTopicMessage message = new ReliableTopicMessage();
+        message.publishTime = publishTime;
+        message.publisherAddress = publisherAddress;
+        message.payload = payload;
+        return message;
+    }
+
     public long getPublishTime() {
         return publishTime;
     }
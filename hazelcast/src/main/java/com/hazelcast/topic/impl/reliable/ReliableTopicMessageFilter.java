@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.core.IFunction;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.SerializationServiceAware;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.function.Predicate;
+
+import static com.hazelcast.topic.impl.TopicDataSerializerHook.F_ID;
+import static com.hazelcast.topic.impl.TopicDataSerializerHook.RELIABLE_TOPIC_MESSAGE_FILTER;
+
+/**
+ * A ringbuffer read filter which tests the deserialized payload of a
+ * {@link ReliableTopicMessage} against a predicate. It is evaluated on the
+ * partition owner of the topic's ringbuffer, so the messages not matching
+ * the predicate are not sent to the subscriber.
+ *
+ * @param <E> the type of the message payload
+ */
+public class ReliableTopicMessageFilter<E> implements IFunction<ReliableTopicMessage, Boolean>,
+        IdentifiedDataSerializable, SerializationServiceAware {
+
+    private transient SerializationService serializationService;
+    private Predicate<? super E> predicate;
+
+    public ReliableTopicMessageFilter() {
+    }
+
+    public ReliableTopicMessageFilter(Predicate<? super E> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public Boolean apply(ReliableTopicMessage message) {
+        E payload = serializationService.toObject(message.getPayload());
+        return predicate.test(payload);
+    }
+
+    @Override
+    public void setSerializationService(SerializationService serializationService) {
+        this.serializationService = serializationService;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RELIABLE_TOPIC_MESSAGE_FILTER;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(predicate);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        predicate = in.readObject();
+    }
+}
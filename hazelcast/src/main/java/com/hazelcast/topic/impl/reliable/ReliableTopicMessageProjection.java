@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.SerializationServiceAware;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.projection.Projection;
+
+import java.io.IOException;
+
+import static com.hazelcast.topic.impl.TopicDataSerializerHook.F_ID;
+import static com.hazelcast.topic.impl.TopicDataSerializerHook.RELIABLE_TOPIC_MESSAGE_PROJECTION;
+
+/**
+ * A ringbuffer read projection which replaces the payload of a
+ * {@link ReliableTopicMessage} with the result of a projection applied to
+ * the deserialized payload. The publish time and the publisher address of
+ * the message are kept. It is evaluated on the partition owner of the
+ * topic's ringbuffer, so only the projected payload is sent to the
+ * subscriber.
+ *
+ * @param <E> the type of the message payload
+ * @param <P> the type of the projected payload
+ */
+public class ReliableTopicMessageProjection<E, P> implements Projection<ReliableTopicMessage, ReliableTopicMessage>,
+        IdentifiedDataSerializable, SerializationServiceAware {
+
+    private transient SerializationService serializationService;
+    private Projection<? super E, ? extends P> projection;
+
+    public ReliableTopicMessageProjection() {
+    }
+
+    public ReliableTopicMessageProjection(Projection<? super E, ? extends P> projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public ReliableTopicMessage transform(ReliableTopicMessage message) {
+        E payload = serializationService.toObject(message.getPayload());
+        return message.withPayload(serializationService.toData(projection.transform(payload)));
+    }
+
+    @Override
+    public void setSerializationService(SerializationService serializationService) {
+        this.serializationService = serializationService;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return RELIABLE_TOPIC_MESSAGE_PROJECTION;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeObject(projection);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        projection = in.readObject();
+    }
+}
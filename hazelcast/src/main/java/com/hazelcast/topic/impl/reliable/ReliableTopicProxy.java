@@ -25,13 +25,17 @@ import com.hazelcast.internal.monitor.impl.LocalTopicStatsImpl;
 import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.UuidUtil;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.ringbuffer.OverflowPolicy;
 import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.ringbuffer.impl.RingbufferProxy;
 import com.hazelcast.spi.impl.AbstractDistributedObject;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.topic.ITopic;
 import com.hazelcast.topic.LocalTopicStats;
 import com.hazelcast.topic.MessageListener;
@@ -40,6 +44,7 @@ import com.hazelcast.topic.TopicOverloadException;
 import com.hazelcast.topic.TopicOverloadPolicy;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -48,14 +53,18 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
 import static com.hazelcast.internal.util.ExceptionUtil.peel;
 import static com.hazelcast.internal.util.Preconditions.checkNoNullInside;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
 import static com.hazelcast.ringbuffer.impl.RingbufferService.TOPIC_RB_PREFIX;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.ASYNC_EXECUTOR;
+import static com.hazelcast.topic.impl.reliable.ReliableTopicService.PUBLISH_COALESCING_DELAY_MILLIS;
+import static com.hazelcast.topic.impl.reliable.ReliableTopicService.PUBLISH_COALESCING_MAX_BATCH_SIZE;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 
@@ -87,6 +96,7 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
     private final NodeEngine nodeEngine;
     private final Address thisAddress;
     private final String name;
+    private final ReliableTopicPublishAccumulator publishAccumulator;
 
     public ReliableTopicProxy(String name, NodeEngine nodeEngine, ReliableTopicService service,
                               ReliableTopicConfig topicConfig) {
@@ -100,6 +110,7 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
         this.thisAddress = nodeEngine.getThisAddress();
         this.overloadPolicy = topicConfig.getTopicOverloadPolicy();
         this.localTopicStats = service.getLocalTopicStats(name);
+        this.publishAccumulator = initPublishAccumulator(nodeEngine);
 
         for (ListenerConfig listenerConfig : topicConfig.getMessageListenerConfigs()) {
             addMessageListener(listenerConfig);
@@ -164,12 +175,29 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
         return executor;
     }
 
+    private ReliableTopicPublishAccumulator initPublishAccumulator(NodeEngine nodeEngine) {
+        HazelcastProperties properties = nodeEngine.getProperties();
+        long delayMillis = properties.getMillis(PUBLISH_COALESCING_DELAY_MILLIS);
+        if (delayMillis < 0) {
+            return null;
+        }
+        int maxBatchSize = properties.getInteger(PUBLISH_COALESCING_MAX_BATCH_SIZE);
+        checkTrue(maxBatchSize > 0 && maxBatchSize <= RingbufferProxy.MAX_BATCH_SIZE,
+                PUBLISH_COALESCING_MAX_BATCH_SIZE.getName() + " must be 1.." + RingbufferProxy.MAX_BATCH_SIZE);
+        return new ReliableTopicPublishAccumulator(name, ringbuffer, overloadPolicy,
+                nodeEngine.getExecutionService().getGlobalTaskScheduler(), delayMillis, maxBatchSize);
+    }
+
     @Override
     public void publish(@Nonnull E payload) {
         checkNotNull(payload, NULL_MESSAGE_IS_NOT_ALLOWED);
         try {
             Data data = nodeEngine.toData(payload);
             ReliableTopicMessage message = new ReliableTopicMessage(data, thisAddress);
+            if (publishAccumulator != null) {
+                publishAccumulator.add(message).get();
+                return;
+            }
             switch (overloadPolicy) {
                 case ERROR:
                     addOrFail(message);
@@ -196,6 +224,10 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
     public CompletionStage<Void> publishAsync(@Nonnull E payload) {
         checkNotNull(payload, NULL_MESSAGE_IS_NOT_ALLOWED);
 
+        if (publishAccumulator != null) {
+            ReliableTopicMessage message = new ReliableTopicMessage(nodeEngine.toData(payload), thisAddress);
+            return publishAccumulator.add(message);
+        }
         Collection<E> messages = Collections.singleton(payload);
         return publishAllAsync(messages);
     }
@@ -230,10 +262,37 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
     @Nonnull
     @Override
     public UUID addMessageListener(@Nonnull MessageListener<E> listener) {
+        return addMessageListener(listener, null, null);
+    }
+
+    /**
+     * Subscribes to this topic, filtering and projecting the messages on the
+     * member owning the topic's ringbuffer. Only the messages matching the
+     * predicate are read by the listener, and they are transformed by the
+     * projection before they are sent to this member. Messages skipped by
+     * the predicate are not reported as lost to a {@link ReliableMessageListener}.
+     * <p>
+     * The predicate and the projection must be serializable.
+     *
+     * @param listener   the listener of the projected messages
+     * @param predicate  the predicate applied to the message payloads, or
+     *                   {@code null} to receive all messages
+     * @param projection the projection applied to the payloads of the matching
+     *                   messages, or {@code null} to receive the payloads as
+     *                   they were published. If {@code null}, the type of
+     *                   the listener must match the type of this topic
+     * @param <P>        the type of the projected payload
+     * @return the registration ID
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <P> UUID addMessageListener(@Nonnull MessageListener<P> listener,
+                                       @Nullable Predicate<? super E> predicate,
+                                       @Nullable Projection<? super E, ? extends P> projection) {
         checkNotNull(listener, NULL_LISTENER_IS_NOT_ALLOWED);
 
         UUID id = UuidUtil.newUnsecureUUID();
-        ReliableMessageListener<E> reliableMessageListener;
+        ReliableMessageListener<P> reliableMessageListener;
         if (listener instanceof HazelcastInstanceAware aware) {
             aware.setHazelcastInstance(nodeEngine.getHazelcastInstance());
         }
@@ -244,10 +303,23 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
             reliableMessageListener = new ReliableMessageListenerAdapter<>(listener);
         }
 
-        MessageRunner<E> runner = new ReliableMessageRunner<>(id, reliableMessageListener,
-                nodeEngine.getSerializationService(), executor, nodeEngine.getLogger(this.getClass()),
-                nodeEngine.getClusterService(), this);
-        runnersMap.put(id, runner);
+        SerializationService serializationService = nodeEngine.getSerializationService();
+        ReliableTopicMessageFilter<E> filter = null;
+        if (predicate != null) {
+            filter = new ReliableTopicMessageFilter<>(predicate);
+            filter.setSerializationService(serializationService);
+        }
+        ReliableTopicMessageProjection<E, P> messageProjection = null;
+        if (projection != null) {
+            messageProjection = new ReliableTopicMessageProjection<>(projection);
+            messageProjection.setSerializationService(serializationService);
+        }
+
+        MessageRunner<P> runner = new ReliableMessageRunner<>(id, reliableMessageListener,
+                serializationService, executor, nodeEngine.getLogger(this.getClass()),
+                nodeEngine.getClusterService(), this, filter, messageProjection);
+        // the runner of a projected listener isn't a MessageRunner<E>, but the map only tracks registrations
+        ((ConcurrentMap<UUID, MessageRunner<?>>) (ConcurrentMap<UUID, ?>) runnersMap).put(id, runner);
         runner.next();
         return id;
     }
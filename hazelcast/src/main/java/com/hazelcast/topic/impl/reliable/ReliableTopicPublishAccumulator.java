@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.ringbuffer.OverflowPolicy;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.topic.TopicOverloadException;
+import com.hazelcast.topic.TopicOverloadPolicy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.topic.impl.reliable.ReliableTopicProxy.INITIAL_BACKOFF_MS;
+import static com.hazelcast.topic.impl.reliable.ReliableTopicProxy.MAX_BACKOFF;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Coalesces the messages published concurrently to a reliable topic into
+ * {@link Ringbuffer#addAllAsync} batches.
+ * <p>
+ * At most one batch is in flight at a time, so the messages are added to
+ * the ringbuffer in the order in which they were accumulated. While a batch
+ * is in flight, new messages are accumulated and sent as the next batch
+ * once the previous one completes. If a delay is configured, the first
+ * message accumulated while no batch is in flight waits for up to that
+ * delay for more messages to join its batch.
+ * <p>
+ * The {@link TopicOverloadPolicy} is applied to the whole batch: with
+ * {@link TopicOverloadPolicy#ERROR} all messages of a batch which did not
+ * fit into the ringbuffer fail, with {@link TopicOverloadPolicy#BLOCK} the
+ * batch is retried with backoff, holding back the following batches.
+ */
+class ReliableTopicPublishAccumulator {
+
+    private final String topicName;
+    private final Ringbuffer<ReliableTopicMessage> ringbuffer;
+    private final TopicOverloadPolicy overloadPolicy;
+    private final TaskScheduler scheduler;
+    private final long delayMillis;
+    private final int maxBatchSize;
+
+    // guarded by this
+    private final Queue<PendingMessage> pending = new ArrayDeque<>();
+    // guarded by this
+    private boolean flushing;
+
+    ReliableTopicPublishAccumulator(String topicName, Ringbuffer<ReliableTopicMessage> ringbuffer,
+                                    TopicOverloadPolicy overloadPolicy, TaskScheduler scheduler,
+                                    long delayMillis, int maxBatchSize) {
+        this.topicName = topicName;
+        this.ringbuffer = ringbuffer;
+        this.overloadPolicy = overloadPolicy;
+        this.scheduler = scheduler;
+        this.delayMillis = delayMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Accumulates the message to be added to the ringbuffer with the next
+     * batch.
+     *
+     * @return a future completed once the batch of the message is added to
+     * the ringbuffer, or completed exceptionally if it failed
+     */
+    InternalCompletableFuture<Void> add(ReliableTopicMessage message) {
+        InternalCompletableFuture<Void> future = new InternalCompletableFuture<>();
+        boolean startFlush;
+        synchronized (this) {
+            pending.add(new PendingMessage(message, future));
+            startFlush = !flushing;
+            flushing = true;
+        }
+        if (startFlush) {
+            if (delayMillis > 0) {
+                scheduler.schedule(this::flush, delayMillis, MILLISECONDS);
+            } else {
+                flush();
+            }
+        }
+        return future;
+    }
+
+    private void flush() {
+        List<PendingMessage> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                flushing = false;
+                return;
+            }
+            batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+            while (batch.size() < maxBatchSize && !pending.isEmpty()) {
+                batch.add(pending.poll());
+            }
+        }
+        List<ReliableTopicMessage> messages = new ArrayList<>(batch.size());
+        for (PendingMessage pendingMessage : batch) {
+            messages.add(pendingMessage.message);
+        }
+        send(batch, messages, INITIAL_BACKOFF_MS);
+    }
+
+    private void send(List<PendingMessage> batch, List<ReliableTopicMessage> messages, long pauseMillis) {
+        OverflowPolicy overflowPolicy = overloadPolicy == TopicOverloadPolicy.DISCARD_OLDEST
+                ? OverflowPolicy.OVERWRITE
+                : OverflowPolicy.FAIL;
+        try {
+            ringbuffer.addAllAsync(messages, overflowPolicy).whenCompleteAsync((sequence, t) -> {
+                if (t == null && sequence == -1 && overloadPolicy == TopicOverloadPolicy.BLOCK) {
+                    scheduler.schedule(() -> send(batch, messages, Math.min(pauseMillis * 2, MAX_BACKOFF)),
+                            pauseMillis, MILLISECONDS);
+                    return;
+                }
+                complete(batch, sequence, t);
+                flush();
+            }, CALLER_RUNS);
+        } catch (Throwable t) {
+            complete(batch, null, t);
+            flush();
+        }
+    }
+
+    private void complete(List<PendingMessage> batch, Long sequence, Throwable t) {
+        for (PendingMessage pendingMessage : batch) {
+            if (t != null) {
+                pendingMessage.future.completeExceptionally(t);
+            } else if (sequence == -1 && overloadPolicy == TopicOverloadPolicy.ERROR) {
+                pendingMessage.future.completeExceptionally(new TopicOverloadException(
+                        "Failed to publish message: " + pendingMessage.message + " on topic:" + topicName));
+            } else {
+                pendingMessage.future.complete(null);
+            }
+        }
+    }
+
+    private static final class PendingMessage {
+        private final ReliableTopicMessage message;
+        private final InternalCompletableFuture<Void> future;
+
+        private PendingMessage(ReliableTopicMessage message, InternalCompletableFuture<Void> future) {
+            this.message = message;
+            this.future = future;
+        }
+    }
+}
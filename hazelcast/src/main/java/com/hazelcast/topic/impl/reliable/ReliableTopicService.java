@@ -28,8 +28,10 @@ import com.hazelcast.internal.services.RemoteService;
 import com.hazelcast.internal.services.StatisticsAwareService;
 import com.hazelcast.internal.util.ConstructorFunction;
 import com.hazelcast.internal.util.MapUtil;
+import com.hazelcast.ringbuffer.impl.RingbufferProxy;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.topic.LocalTopicStats;
 
 import java.util.Map;
@@ -37,6 +39,7 @@ import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.RELIABLE_TOPIC_PREFIX;
 import static com.hazelcast.internal.metrics.impl.ProviderHelper.provide;
@@ -46,6 +49,25 @@ public class ReliableTopicService implements ManagedService, RemoteService,
         StatisticsAwareService<LocalTopicStats>, DynamicMetricsProvider {
 
     public static final String SERVICE_NAME = "hz:impl:reliableTopicService";
+
+    /**
+     * Enables coalescing of concurrent {@link com.hazelcast.topic.ITopic#publish}
+     * and {@link com.hazelcast.topic.ITopic#publishAsync} calls on reliable
+     * topics into batched ringbuffer additions. A negative value disables
+     * coalescing, zero sends accumulated messages as soon as the previous
+     * batch completes, and a positive value additionally lets the first
+     * message of a batch wait up to this many milliseconds for more
+     * messages to join the batch.
+     */
+    public static final HazelcastProperty PUBLISH_COALESCING_DELAY_MILLIS = new HazelcastProperty(
+            "hazelcast.reliabletopic.publish.coalescing.delay.millis", -1, TimeUnit.MILLISECONDS);
+    /**
+     * The maximum number of messages in a coalesced publish batch. It can't be
+     * larger than the maximum batch size of a ringbuffer addition.
+     */
+    public static final HazelcastProperty PUBLISH_COALESCING_MAX_BATCH_SIZE = new HazelcastProperty(
+            "hazelcast.reliabletopic.publish.coalescing.max.batch.size", RingbufferProxy.MAX_BATCH_SIZE);
+
     private final ConcurrentMap<String, LocalTopicStatsImpl> statsMap = new ConcurrentHashMap<>();
     private final ConstructorFunction<String, LocalTopicStatsImpl> localTopicStatsConstructorFunction =
         mapName -> new LocalTopicStatsImpl();
@@ -378,6 +378,53 @@ public final class MerkleTreeUtil {
         return new RemoteMerkleTreeView(leaves, depth);
     }
 
+    /**
+     * Returns the hashes of the leaves of a Merkle tree in the order of
+     * the leaves
+     *
+     * @param merkleTreeView The Merkle tree which leaves to be returned
+     * @return the hashes of the leaves
+     */
+    @Nonnull
+    public static int[] getLeaves(MerkleTreeView merkleTreeView) {
+        int leafLevel = merkleTreeView.depth() - 1;
+        int numberOfLeaves = getNodesOnLevel(leafLevel);
+        int leftMostLeaf = getLeftMostNodeOrderOnLevel(leafLevel);
+
+        int[] leaves = new int[numberOfLeaves];
+        for (int i = 0; i < numberOfLeaves; i++) {
+            leaves[i] = merkleTreeView.getNodeHash(leftMostLeaf + i);
+        }
+        return leaves;
+    }
+
+    /**
+     * Compares the provided local Merkle tree with the leaves of a remote
+     * Merkle tree returned by {@link #getLeaves(MerkleTreeView)} and
+     * returns the leaves that found to be different as
+     * {@code [leafOrder, localHash]} pairs.
+     *
+     * @param local        The view of the local Merkle tree
+     * @param remoteLeaves The hashes of the remote tree's leaves
+     * @return the order/value pairs of the leaves found to be different or
+     * {@code null} if the remote tree has a different depth
+     * @see #setOfNodeOrders(int[])
+     */
+    public static int[] compareLeaves(MerkleTreeView local, int[] remoteLeaves) {
+        if (remoteLeaves.length != getNodesOnLevel(local.depth() - 1)) {
+            return null;
+        }
+
+        Collection<Integer> deltaOrders = compareTrees(local, new RemoteMerkleTreeView(remoteLeaves, local.depth()));
+        int[] merkleTreeOrderValuePairs = new int[deltaOrders.size() * 2];
+        int i = 0;
+        for (int leafOrder : deltaOrders) {
+            merkleTreeOrderValuePairs[i++] = leafOrder;
+            merkleTreeOrderValuePairs[i++] = local.getNodeHash(leafOrder);
+        }
+        return merkleTreeOrderValuePairs;
+    }
+
     /**
      * @param merkleTreeOrderValuePairs an array of {@code [nodeOrder, hashValue]} pairs
      * @return set of given Merkle tree node orders
@@ -24,6 +24,8 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hazelcast.flakeidgen.impl.FlakeIdConcurrencyTestUtil.IDS_IN_THREAD;
 import static com.hazelcast.flakeidgen.impl.FlakeIdConcurrencyTestUtil.NUM_THREADS;
@@ -72,4 +74,91 @@ public class AutoBatcherTest {
             assertTrue("Missing ID: " + i, ids.contains((long) i));
         }
     }
+
+    @Test
+    public void adaptive_when_steadyConsumption_then_refillInBackground() {
+        AutoBatcher adaptiveBatcher = new AutoBatcher(10, VALIDITY, new SequentialSupplier(), true);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, adaptiveBatcher.newId());
+        }
+        // only the very first batch was waited for
+        assertEquals(1, adaptiveBatcher.getStallCount());
+    }
+
+    @Test
+    public void adaptive_when_slowConsumption_then_smallerBatches() {
+        AtomicLong clock = new AtomicLong();
+        AutoBatcher adaptiveBatcher = new AutoBatcher(1000, 100, new SequentialSupplier(), true, clock::get);
+
+        adaptiveBatcher.newId();
+        assertEquals(1000, adaptiveBatcher.getLastBatchSize());
+        clock.addAndGet(200);
+        adaptiveBatcher.newId();
+        assertEquals(1, adaptiveBatcher.getLastBatchSize());
+    }
+
+    @Test
+    public void adaptive_when_prefetchedBatchBecomesCurrentLater_then_rateMeasuredFromThen() {
+        AtomicLong clock = new AtomicLong();
+        AutoBatcher adaptiveBatcher = new AutoBatcher(1000, 0, new SequentialSupplier(), true, clock::get);
+
+        // the second batch is prefetched at time 0, but the first one lasts until time 8000
+        newIds(adaptiveBatcher, 1000);
+        clock.set(8000);
+        // the second batch is current from time 8000 and lasts until time 12000
+        newIds(adaptiveBatcher, 1000);
+        clock.set(12000);
+        // the third batch triggers a prefetch sized from the rates 1000/8000 and 1000/4000
+        newIds(adaptiveBatcher, 100);
+        assertEquals(188, adaptiveBatcher.getLastBatchSize());
+    }
+
+    @Test
+    public void adaptive_when_backgroundRefillFails_then_fetchSynchronously() {
+        SequentialSupplier supplier = new SequentialSupplier() {
+            @Override
+            public CompletableFuture<IdBatch> newIdBatchAsync(int batchSize) {
+                return CompletableFuture.failedFuture(new RuntimeException("expected"));
+            }
+        };
+        AutoBatcher adaptiveBatcher = new AutoBatcher(4, VALIDITY, supplier, true);
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, adaptiveBatcher.newId());
+        }
+        assertEquals(2, adaptiveBatcher.getStallCount());
+    }
+
+    @Test
+    public void adaptive_concurrencySmokeTest() throws Exception {
+        AutoBatcher adaptiveBatcher = new AutoBatcher(3, VALIDITY, new SequentialSupplier(), true);
+
+        Set<Long> ids = FlakeIdConcurrencyTestUtil.concurrentlyGenerateIds(adaptiveBatcher::newId);
+        assertEquals(NUM_THREADS * IDS_IN_THREAD, ids.size());
+    }
+
+    private static void newIds(AutoBatcher batcher, int count) {
+        for (int i = 0; i < count; i++) {
+            batcher.newId();
+        }
+    }
+
+    /**
+     * Supplies consecutive batches, completing the background fetches immediately.
+     */
+    private static class SequentialSupplier implements AutoBatcher.IdBatchSupplier {
+
+        private final AtomicLong base = new AtomicLong();
+
+        @Override
+        public IdBatch newIdBatch(int batchSize) {
+            return new IdBatch(base.getAndAdd(batchSize), 1, batchSize);
+        }
+
+        @Override
+        public CompletableFuture<IdBatch> newIdBatchAsync(int batchSize) {
+            return CompletableFuture.completedFuture(newIdBatch(batchSize));
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+import static com.hazelcast.internal.networking.IOVector.IOV_MAX;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IOVectorTest {
+
+    private final IOVector vector = new IOVector();
+
+    @Test
+    public void whenEmpty() {
+        assertEquals(0, vector.size());
+        assertEquals(IOV_MAX, vector.capacity());
+        assertEquals(0, vector.remaining());
+        assertFalse(vector.hasRemaining());
+    }
+
+    @Test
+    public void whenWrittenCompletely() throws Exception {
+        vector.offer(ByteBuffer.wrap(new byte[]{1, 2}));
+        vector.offer(ByteBuffer.wrap(new byte[]{3}));
+        assertEquals(2, vector.size());
+        assertEquals(3, vector.remaining());
+
+        CollectingChannel channel = new CollectingChannel(Integer.MAX_VALUE);
+        assertEquals(3, vector.write(channel));
+
+        assertArrayEquals(new byte[]{1, 2, 3}, channel.bytes.toByteArray());
+        assertEquals(0, vector.size());
+        assertFalse(vector.hasRemaining());
+    }
+
+    @Test
+    public void whenWrittenPartially() throws Exception {
+        vector.offer(ByteBuffer.wrap(new byte[]{1, 2}));
+        vector.offer(ByteBuffer.wrap(new byte[]{3, 4}));
+        vector.offer(ByteBuffer.wrap(new byte[]{5}));
+
+        CollectingChannel channel = new CollectingChannel(3);
+        assertEquals(3, vector.write(channel));
+        assertEquals(2, vector.size());
+        assertEquals(2, vector.remaining());
+
+        assertEquals(2, vector.write(channel));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, channel.bytes.toByteArray());
+        assertEquals(0, vector.size());
+    }
+
+    @Test
+    public void whenFull_thenOfferRejected() {
+        for (int k = 0; k < IOV_MAX; k++) {
+            assertTrue(vector.offer(ByteBuffer.allocate(1)));
+        }
+
+        assertEquals(0, vector.capacity());
+        assertFalse(vector.offer(ByteBuffer.allocate(1)));
+    }
+
+    @Test
+    public void whenFullAndPartiallyWritten_thenOfferCompacts() throws Exception {
+        for (int k = 0; k < IOV_MAX; k++) {
+            vector.offer(ByteBuffer.wrap(new byte[]{(byte) k}));
+        }
+
+        CollectingChannel channel = new CollectingChannel(2);
+        vector.write(channel);
+        assertEquals(2, vector.capacity());
+
+        assertTrue(vector.offer(ByteBuffer.wrap(new byte[]{42})));
+        assertEquals(IOV_MAX - 1, vector.size());
+        assertEquals(IOV_MAX - 1, vector.remaining());
+
+        channel.maxBytesPerWrite = Integer.MAX_VALUE;
+        vector.write(channel);
+        byte[] bytes = channel.bytes.toByteArray();
+        assertEquals(IOV_MAX + 1, bytes.length);
+        assertEquals(42, bytes[IOV_MAX]);
+    }
+
+    @Test
+    public void testClear() {
+        vector.offer(ByteBuffer.allocate(10));
+
+        vector.clear();
+
+        assertEquals(0, vector.size());
+        assertEquals(0, vector.remaining());
+    }
+
+    public static class CollectingChannel implements GatheringByteChannel {
+        public final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        public int maxBytesPerWrite;
+
+        public CollectingChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int k = offset; k < offset + length && written < maxBytesPerWrite; k++) {
+                ByteBuffer src = srcs[k];
+                while (src.hasRemaining() && written < maxBytesPerWrite) {
+                    bytes.write(src.get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[]{src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelCloseListener;
+import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_RCVBUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompressionEncoderDecoderTest extends HazelcastTestSupport {
+
+    private static final int THRESHOLD = 128;
+
+    private Channel channel;
+    private CompressionStats stats;
+    private CompressionEncoder encoder;
+    private CompressionDecoder decoder;
+    private ByteArrayOutputStream received;
+
+    @Before
+    public void setup() {
+        ChannelOptions options = mock(ChannelOptions.class);
+        when(options.getOption(SO_SNDBUF)).thenReturn(256);
+        when(options.getOption(SO_RCVBUF)).thenReturn(200);
+        when(options.getOption(DIRECT_BUF)).thenReturn(false);
+        channel = mock(Channel.class);
+        when(channel.options()).thenReturn(options);
+
+        stats = new CompressionStats();
+        encoder = new CompressionEncoder(THRESHOLD, stats);
+        encoder.setChannel(channel).handlerAdded();
+        decoder = new CompressionDecoder(stats);
+        decoder.setChannel(channel).handlerAdded();
+        // smaller than the decompressed batches, so the decoder has to stop halfway
+        decoder.dst(ByteBuffer.allocate(100));
+        received = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void whenBatchBelowThreshold_thenSentRaw() throws Exception {
+        byte[] bytes = "small".getBytes(UTF_8);
+
+        transfer(bytes);
+
+        assertArrayEquals(bytes, received.toByteArray());
+        assertEquals(bytes.length, stats.compressionBytesBypassed());
+        assertEquals(0, stats.compressionBytesIn());
+        assertEquals(0, stats.decompressionBytesOut());
+    }
+
+    @Test
+    public void whenBatchAboveThreshold_thenCompressed() throws Exception {
+        byte[] bytes = compressibleBytes(100_000);
+
+        transfer(bytes);
+
+        assertArrayEquals(bytes, received.toByteArray());
+        assertEquals(0, stats.compressionBytesBypassed());
+        assertEquals(bytes.length, stats.compressionBytesIn());
+        assertEquals(bytes.length, stats.decompressionBytesOut());
+        assertEquals(stats.compressionBytesOut(), stats.decompressionBytesIn());
+        assertTrue("ratio: " + stats.compressionRatio(), stats.compressionRatio() > 5);
+    }
+
+    @Test
+    public void whenRawAndCompressedBatchesInterleaved_thenBytesKeptInOrder() throws Exception {
+        Random random = new Random();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int k = 0; k < 200; k++) {
+            int length = k % 3 == 0 ? random.nextInt(THRESHOLD) + 1 : random.nextInt(5000) + THRESHOLD;
+            byte[] bytes = k % 2 == 0 ? compressibleBytes(length) : randomBytes(random, length);
+            expected.write(bytes);
+
+            transfer(bytes);
+        }
+
+        assertArrayEquals(expected.toByteArray(), received.toByteArray());
+        assertTrue(stats.compressionBytesBypassed() > 0);
+        assertTrue(stats.compressionBytesIn() > 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void whenMalformedFrame_thenFailure() throws Exception {
+        decoder.src().put((byte) 7).putInt(10);
+
+        decoder.onRead();
+    }
+
+    /**
+     * Pushes the bytes through the encoder and the decoder until they have
+     * all been received, just like the pipelines would.
+     */
+    @Test
+    public void whenChannelClosed_thenDeflaterAndInflaterEnded() throws Exception {
+        transfer(compressibleBytes(10_000));
+
+        ArgumentCaptor<ChannelCloseListener> listeners = ArgumentCaptor.forClass(ChannelCloseListener.class);
+        verify(channel, times(2)).addCloseListener(listeners.capture());
+        listeners.getAllValues().forEach(listener -> listener.onClose(channel));
+
+        // an ended deflater or inflater refuses to work
+        assertThrows(NullPointerException.class, () -> transfer(compressibleBytes(10_000)));
+        decoder.src().put(CompressionEncoder.FRAME_DEFLATED).putInt(1).put((byte) 0);
+        assertThrows(NullPointerException.class, () -> decoder.onRead());
+    }
+
+    private void transfer(byte[] bytes) throws Exception {
+        ByteBuffer src = ByteBuffer.wrap(bytes);
+        encoder.src(src);
+        int expectedSize = received.size() + bytes.length;
+        ByteBuffer frames;
+        int round = 0;
+        do {
+            assertTrue("no progress", round++ < 100_000);
+            encoder.onWrite();
+
+            // the encoder dst is in reading mode, the decoder src in writing mode
+            frames = encoder.dst();
+            ByteBuffer rcv = decoder.src();
+            int length = min(frames.remaining(), rcv.remaining());
+            rcv.put(frames.slice(frames.position(), length));
+            frames.position(frames.position() + length);
+
+            decoder.onRead();
+            ByteBuffer dst = decoder.dst();
+            dst.flip();
+            byte[] decoded = new byte[dst.remaining()];
+            dst.get(decoded);
+            received.write(decoded);
+            dst.clear();
+        } while (received.size() < expectedSize || frames.hasRemaining() || decoder.src().position() > 0);
+        assertEquals(0, src.remaining());
+    }
+
+    private static byte[] compressibleBytes(int length) {
+        byte[] pattern = "key-value-pair;".getBytes(UTF_8);
+        byte[] bytes = new byte[length];
+        for (int k = 0; k < length; k++) {
+            bytes[k] = pattern[k % pattern.length];
+        }
+        return bytes;
+    }
+
+    private static byte[] randomBytes(Random random, int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelCloseListener;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompressionFallbackTest extends HazelcastTestSupport {
+
+    private static final long TTL_MILLIS = 1000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CompressionFallback fallback = new CompressionFallback(TTL_MILLIS, clock::get);
+
+    @Test
+    public void whenClosedBeforeAnythingRead_thenNextConnectionUncompressed() throws UnknownHostException {
+        Address peer = new Address("127.0.0.1", 5701);
+        Channel channel = channel(peer);
+
+        assertTrue(fallback.tryCompress(channel));
+        closeListener(channel).onClose(channel);
+
+        assertTrue(fallback.isRejectedBy(peer));
+        assertFalse(fallback.tryCompress(channel(peer)));
+        assertTrue(fallback.tryCompress(channel(new Address("127.0.0.1", 5702))));
+    }
+
+    @Test
+    public void whenClosedAfterPeerAnswered_thenNextConnectionCompressed() throws UnknownHostException {
+        Address peer = new Address("127.0.0.1", 5701);
+        Channel channel = channel(peer);
+
+        assertTrue(fallback.tryCompress(channel));
+        when(channel.bytesRead()).thenReturn(3L);
+        closeListener(channel).onClose(channel);
+
+        assertFalse(fallback.isRejectedBy(peer));
+        assertTrue(fallback.tryCompress(channel(peer)));
+    }
+
+    @Test
+    public void whenRejectionExpired_thenNextConnectionCompressed() throws UnknownHostException {
+        Address peer = new Address("127.0.0.1", 5701);
+        Channel channel = channel(peer);
+
+        assertTrue(fallback.tryCompress(channel));
+        closeListener(channel).onClose(channel);
+        clock.addAndGet(TTL_MILLIS - 1);
+        assertFalse(fallback.tryCompress(channel(peer)));
+
+        clock.addAndGet(1);
+        assertFalse(fallback.isRejectedBy(peer));
+        assertTrue(fallback.tryCompress(channel(peer)));
+    }
+
+    @Test
+    public void whenCompressedConnectionAnsweredAfterRejection_thenRejectionCleared() throws UnknownHostException {
+        Address peer = new Address("127.0.0.1", 5701);
+        Channel rejected = channel(peer);
+        Channel accepted = channel(peer);
+
+        // two connections attempted concurrently, the first one is dropped
+        assertTrue(fallback.tryCompress(rejected));
+        assertTrue(fallback.tryCompress(accepted));
+        closeListener(rejected).onClose(rejected);
+        assertTrue(fallback.isRejectedBy(peer));
+
+        when(accepted.bytesRead()).thenReturn(3L);
+        closeListener(accepted).onClose(accepted);
+        assertFalse(fallback.isRejectedBy(peer));
+    }
+
+    private static Channel channel(Address peer) {
+        ConcurrentMap<Object, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put(Address.class, peer);
+        Channel channel = mock(Channel.class);
+        when(channel.attributeMap()).thenReturn(attributes);
+        return channel;
+    }
+
+    private static ChannelCloseListener closeListener(Channel channel) {
+        ArgumentCaptor<ChannelCloseListener> listener = ArgumentCaptor.forClass(ChannelCloseListener.class);
+        verify(channel).addCloseListener(listener.capture());
+        return listener.getValue();
+    }
+}
@@ -39,6 +39,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -106,6 +107,19 @@ public abstract class NioThreadAbstractTest extends HazelcastTestSupport {
         assertStillRunning();
     }
 
+    @Test
+    public void whenTaskProcessed_thenBusyTimeRecorded() {
+        startThread();
+
+        thread.addTaskAndWakeup(() -> sleepMillis(10));
+
+        assertTrueEventually(() -> {
+            assertEquals(1, thread.completedTaskCount());
+            assertTrue(thread.busyTimeNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+        });
+        assertStillRunning();
+    }
+
     @Test
     public void whenInvalidSelectionKey_thenHandlerOnFailureCalledWithCancelledKeyException() {
         startThread();
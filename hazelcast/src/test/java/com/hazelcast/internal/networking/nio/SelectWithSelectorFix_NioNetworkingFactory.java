@@ -23,6 +23,7 @@ import com.hazelcast.internal.server.NetworkingFactory;
 import com.hazelcast.internal.server.tcp.TcpServerConnectionChannelErrorHandler;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
+import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_IMBALANCED_ROUNDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_INPUT_THREAD_COUNT;
 import static com.hazelcast.spi.properties.ClusterProperty.IO_OUTPUT_THREAD_COUNT;
@@ -44,6 +45,7 @@ public class SelectWithSelectorFix_NioNetworkingFactory implements NetworkingFac
                         .inputThreadCount(properties.getInteger(IO_INPUT_THREAD_COUNT))
                         .outputThreadCount(properties.getInteger(IO_OUTPUT_THREAD_COUNT))
                         .balancerIntervalSeconds(properties.getInteger(IO_BALANCER_INTERVAL_SECONDS))
+                        .balancerImbalancedRounds(properties.getInteger(IO_BALANCER_IMBALANCED_ROUNDS))
                         .selectorMode(SelectorMode.SELECT_WITH_FIX)
                         .selectorWorkaroundTest(true));
     }
@@ -39,7 +39,7 @@ public class IOBalancerTest {
     // https://github.com/hazelcast/hazelcast/issues/11501
     @Test
     public void whenChannelAdded_andDisabled_thenSkipTaskCreation() {
-        IOBalancer ioBalancer = new IOBalancer(new NioThread[1], new NioThread[1], "foo", 1, loggingService);
+        IOBalancer ioBalancer = new IOBalancer(new NioThread[1], new NioThread[1], "foo", 1, 2, loggingService);
         MigratablePipeline inboundPipeline = mock(MigratablePipeline.class);
         MigratablePipeline outboundPipeline = mock(MigratablePipeline.class);
 
@@ -51,7 +51,7 @@ public class IOBalancerTest {
     // https://github.com/hazelcast/hazelcast/issues/11501
     @Test
     public void whenChannelRemoved_andDisabled_thenSkipTaskCreation() {
-        IOBalancer ioBalancer = new IOBalancer(new NioThread[1], new NioThread[1], "foo", 1, loggingService);
+        IOBalancer ioBalancer = new IOBalancer(new NioThread[1], new NioThread[1], "foo", 1, 2, loggingService);
         MigratablePipeline inboundPipeline = mock(MigratablePipeline.class);
         MigratablePipeline outboundPipelines = mock(MigratablePipeline.class);
 
@@ -53,7 +53,7 @@ public class LoadMigrationStrategyTest extends HazelcastTestSupport {
         ownerToPipelines = new HashMap<>();
         loadCounter = new ItemCounter<>();
         imbalance = new LoadImbalance(ownerToPipelines, loadCounter);
-        strategy = new LoadMigrationStrategy();
+        strategy = new LoadMigrationStrategy(2);
     }
 
     @Test
@@ -86,8 +86,119 @@ public class LoadMigrationStrategyTest extends HazelcastTestSupport {
         imbalance.maximumLoad = 1000;
         imbalance.minimumLoad = (long) (1000 * 0.8) - 1;
 
-        boolean imbalanceDetected = strategy.imbalanceDetected(imbalance);
-        assertTrue(imbalanceDetected);
+        // the imbalance has to be seen in 2 consecutive rounds
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldStartOverAfterDetection() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 100;
+
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldStartOverWhenBalancedInBetween() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 100;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.minimumLoad = 900;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.minimumLoad = 100;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldStartOverWhenThreadsChange() {
+        NioThread thread1 = mock(NioThread.class);
+        NioThread thread2 = mock(NioThread.class);
+        NioThread thread3 = mock(NioThread.class);
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 100;
+
+        imbalance.srcOwner = thread1;
+        imbalance.dstOwner = thread2;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+
+        imbalance.dstOwner = thread3;
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_whenOneRoundConfigured_thenMigratesImmediately() {
+        strategy = new LoadMigrationStrategy(1);
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 100;
+
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldReturnFalseWhenBusyTimeBalanced() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 100;
+        imbalance.srcBusyTimeNanos = 1000;
+        imbalance.dstBusyTimeNanos = 900;
+
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertFalse(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldReturnTrueWhenBusyTimeNotBalanced() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 100;
+        imbalance.srcBusyTimeNanos = 1000;
+        imbalance.dstBusyTimeNanos = 100;
+
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testImbalanceDetected_shouldReturnTrueWhenLoadBalancedButBusyTimeNotBalanced() {
+        imbalance.maximumLoad = 1000;
+        imbalance.minimumLoad = 1000;
+        imbalance.srcBusyTimeNanos = 1000;
+        imbalance.dstBusyTimeNanos = 100;
+
+        assertFalse(strategy.imbalanceDetected(imbalance));
+        assertTrue(strategy.imbalanceDetected(imbalance));
+    }
+
+    @Test
+    public void testFindPipelineToMigrate_whenLoadBalancedButBusyTimeNotBalanced() {
+        NioThread srcOwner = mock(NioThread.class);
+        NioThread dstOwner = mock(NioThread.class);
+        imbalance.srcOwner = srcOwner;
+        imbalance.dstOwner = dstOwner;
+        imbalance.srcBusyTimeNanos = 1000;
+        imbalance.dstBusyTimeNanos = 100;
+
+        imbalance.minimumLoad = 300;
+        MigratablePipeline pipeline1 = mock(MigratablePipeline.class);
+        loadCounter.set(pipeline1, 300L);
+        ownerToPipelines.put(dstOwner, singleton(pipeline1));
+
+        imbalance.maximumLoad = 300;
+        MigratablePipeline pipeline2 = mock(MigratablePipeline.class);
+        MigratablePipeline pipeline3 = mock(MigratablePipeline.class);
+        loadCounter.set(pipeline2, 200L);
+        loadCounter.set(pipeline3, 100L);
+        ownerToPipelines.put(srcOwner, Set.of(pipeline2, pipeline3));
+
+        // the busy time difference is 90% of the source, i.e. 270 of its load
+        MigratablePipeline pipelineToMigrate = strategy.findPipelineToMigrate(imbalance);
+        assertEquals(pipeline2, pipelineToMigrate);
     }
 
     @Test
@@ -115,4 +115,69 @@ public class LoadTrackerTest {
         assertEquals(owner2, loadImbalance.dstOwner);
         assertEquals(owner2, loadImbalance.srcOwner);
     }
+
+    @Test
+    public void testUpdateImbalance_busyTimeSinceLastCheck() {
+        when(owner1.busyTimeNanos()).thenReturn(0L).thenReturn(1000L);
+        when(owner2.busyTimeNanos()).thenReturn(0L).thenReturn(5000L);
+
+        MigratablePipeline owner1Pipeline = mock(MigratablePipeline.class);
+        when(owner1Pipeline.load()).thenReturn(0L).thenReturn(100L);
+        when(owner1Pipeline.owner()).thenReturn(owner1);
+        loadTracker.addPipeline(owner1Pipeline);
+
+        MigratablePipeline owner2Pipeline1 = mock(MigratablePipeline.class);
+        when(owner2Pipeline1.load()).thenReturn(0L).thenReturn(200L);
+        when(owner2Pipeline1.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline1);
+
+        MigratablePipeline owner2Pipeline2 = mock(MigratablePipeline.class);
+        when(owner2Pipeline2.load()).thenReturn(0L).thenReturn(100L);
+        when(owner2Pipeline2.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline2);
+
+        LoadImbalance loadImbalance = loadTracker.updateImbalance();
+        assertEquals(0, loadImbalance.srcBusyTimeNanos);
+        assertEquals(0, loadImbalance.dstBusyTimeNanos);
+
+        loadTracker.updateImbalance();
+        assertEquals(owner2, loadImbalance.srcOwner);
+        assertEquals(owner1, loadImbalance.dstOwner);
+        assertEquals(5000, loadImbalance.srcBusyTimeNanos);
+        assertEquals(1000, loadImbalance.dstBusyTimeNanos);
+    }
+
+    @Test
+    public void testUpdateImbalance_whenBusyTimeKnown_thenThreadsSelectedByBusyTime() {
+        // owner1 carries more load, but owner2 spends more time processing it
+        when(owner1.busyTimeNanos()).thenReturn(0L).thenReturn(1000L);
+        when(owner2.busyTimeNanos()).thenReturn(0L).thenReturn(5000L);
+
+        MigratablePipeline owner1Pipeline1 = mock(MigratablePipeline.class);
+        when(owner1Pipeline1.load()).thenReturn(0L).thenReturn(300L);
+        when(owner1Pipeline1.owner()).thenReturn(owner1);
+        loadTracker.addPipeline(owner1Pipeline1);
+
+        MigratablePipeline owner1Pipeline2 = mock(MigratablePipeline.class);
+        when(owner1Pipeline2.load()).thenReturn(0L).thenReturn(300L);
+        when(owner1Pipeline2.owner()).thenReturn(owner1);
+        loadTracker.addPipeline(owner1Pipeline2);
+
+        MigratablePipeline owner2Pipeline1 = mock(MigratablePipeline.class);
+        when(owner2Pipeline1.load()).thenReturn(0L).thenReturn(200L);
+        when(owner2Pipeline1.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline1);
+
+        MigratablePipeline owner2Pipeline2 = mock(MigratablePipeline.class);
+        when(owner2Pipeline2.load()).thenReturn(0L).thenReturn(100L);
+        when(owner2Pipeline2.owner()).thenReturn(owner2);
+        loadTracker.addPipeline(owner2Pipeline2);
+
+        loadTracker.updateImbalance();
+        LoadImbalance loadImbalance = loadTracker.updateImbalance();
+        assertEquals(owner2, loadImbalance.srcOwner);
+        assertEquals(owner1, loadImbalance.dstOwner);
+        assertEquals(300, loadImbalance.maximumLoad);
+        assertEquals(600, loadImbalance.minimumLoad);
+    }
 }
@@ -34,6 +34,7 @@ import static com.hazelcast.internal.partition.PartitionStampUtil.calculateStamp
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -156,6 +157,23 @@ public class PartitionTableViewTest {
         assertEquals((MAX_REPLICA_COUNT - 3) * MAX_REPLICA_COUNT, table2.distanceOf(table1));
     }
 
+    @Test
+    public void testReplaceReplica() throws Exception {
+        PartitionTableView table1 = createRandomPartitionTable();
+        PartitionReplica oldReplica = table1.getReplica(0, 1);
+        PartitionReplica newReplica = new PartitionReplica(oldReplica.address(), UuidUtil.newUnsecureUUID());
+
+        assertEquals(oldReplica, table1.findReplica(oldReplica.uuid()));
+        assertNull(table1.findReplica(newReplica.uuid()));
+
+        PartitionTableView table2 = table1.replaceReplica(oldReplica, newReplica);
+
+        assertEquals(newReplica, table2.getReplica(0, 1));
+        assertEquals(newReplica, table2.findReplica(newReplica.uuid()));
+        assertNull(table2.findReplica(oldReplica.uuid()));
+        assertEquals(MAX_REPLICA_COUNT, table2.distanceOf(table1));
+    }
+
     private static PartitionTableView createRandomPartitionTable() throws UnknownHostException {
         return new PartitionTableView(createRandomPartitions());
     }
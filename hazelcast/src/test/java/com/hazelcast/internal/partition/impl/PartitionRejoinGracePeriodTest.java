@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hazelcast.test.Accessors.getAddress;
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionRejoinGracePeriodTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 71;
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void rejoiningMember_reclaimsReplicasOfLeftMember_withinGracePeriod() {
+        Config config = newConfig(60);
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(4);
+        HazelcastInstance[] instances = startCluster(factory, config);
+        HazelcastInstance master = instances[0];
+        IMap<Integer, Integer> map = fillMap(master);
+
+        Address address = getAddress(instances[2]);
+        Set<Integer> ownedPartitions = getOwnedPartitions(master, address);
+        instances[2].getLifecycleService().terminate();
+        assertClusterSizeEventually(2, master, instances[1]);
+
+        // backups are promoted, but the lost backups aren't recreated
+        assertTrueEventually(() -> assertAllPartitionsOwned(master));
+        assertTrueAllTheTime(() -> assertTrue(hasPartitionWithoutBackup(master)), 3);
+
+        HazelcastInstance rejoined = factory.newHazelcastInstance(address, config);
+        waitAllForSafeState(master, instances[1], rejoined);
+
+        assertEquals(ownedPartitions, getOwnedPartitions(master, address));
+        assertMapContents(map);
+    }
+
+    @Test
+    public void backupsAreRecreated_afterGracePeriod() {
+        Config config = newConfig(3);
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance[] instances = startCluster(factory, config);
+        HazelcastInstance master = instances[0];
+        IMap<Integer, Integer> map = fillMap(master);
+
+        instances[2].getLifecycleService().terminate();
+        assertClusterSizeEventually(2, master, instances[1]);
+
+        waitAllForSafeState(master, instances[1]);
+        assertTrueEventually(() -> assertFalse(hasPartitionWithoutBackup(master)));
+        assertMapContents(map);
+    }
+
+    private static Config newConfig(int gracePeriodSeconds) {
+        return smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), String.valueOf(PARTITION_COUNT))
+                .setProperty(ClusterProperty.PARTITION_REJOIN_GRACE_PERIOD_SECONDS.getName(),
+                        String.valueOf(gracePeriodSeconds));
+    }
+
+    private static HazelcastInstance[] startCluster(TestHazelcastInstanceFactory factory, Config config) {
+        HazelcastInstance[] instances = new HazelcastInstance[3];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = factory.newHazelcastInstance(config);
+        }
+        assertClusterSizeEventually(instances.length, instances);
+        warmUpPartitions(instances);
+        waitAllForSafeState(instances);
+        return instances;
+    }
+
+    private static IMap<Integer, Integer> fillMap(HazelcastInstance instance) {
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    private static void assertMapContents(IMap<Integer, Integer> map) {
+        assertEquals(ENTRY_COUNT, map.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    private static Set<Integer> getOwnedPartitions(HazelcastInstance instance, Address address) {
+        Set<Integer> partitionIds = new HashSet<>();
+        for (InternalPartition partition : getNode(instance).partitionService.getInternalPartitions()) {
+            if (address.equals(partition.getOwnerOrNull())) {
+                partitionIds.add(partition.getPartitionId());
+            }
+        }
+        return partitionIds;
+    }
+
+    private static void assertAllPartitionsOwned(HazelcastInstance instance) {
+        for (InternalPartition partition : getNode(instance).partitionService.getInternalPartitions()) {
+            assertNotNull(partition.getOwnerOrNull());
+        }
+    }
+
+    private static boolean hasPartitionWithoutBackup(HazelcastInstance instance) {
+        for (InternalPartition partition : getNode(instance).partitionService.getInternalPartitions()) {
+            if (partition.getReplicaAddress(1) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.serialization.impl;
 
+import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
@@ -210,6 +211,22 @@ public class AbstractSerializationServiceTest {
         abstractSerializationService.serializerFor(new CustomSerializationTest.Foo(), false);
     }
 
+    @Test
+    public void testToData_whenSerializerRegisteredAfterFirstUse_thenRegisteredSerializerUsed() {
+        AbstractSerializationService service = new DefaultSerializationServiceBuilder()
+                .setConfig(new SerializationConfig().setAllowOverrideDefaultSerializers(true))
+                .build();
+        Data data = service.toData(new BaseClass(1, "foo"));
+        assertEquals(SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE, data.getType());
+
+        BaseClassSerializer serializer = new BaseClassSerializer();
+        service.register(BaseClass.class, serializer);
+
+        data = service.toData(new BaseClass(2, "bar"));
+        assertEquals(serializer.getTypeId(), data.getType());
+        assertEquals(new BaseClass(2, "bar"), service.toObject(data));
+    }
+
     @Test
     public void testDeserializationForSpecificType() {
         BaseClass baseObject = new BaseClass(5, "abc");
@@ -241,6 +258,26 @@ public class AbstractSerializationServiceTest {
         assertEquals(typedBaseObject, deserializedObject);
     }
 
+    private static class BaseClassSerializer implements StreamSerializer<BaseClass> {
+
+        @Override
+        public int getTypeId() {
+            return 100001;
+        }
+
+        @Override
+        public void write(ObjectDataOutput out, BaseClass object) throws IOException {
+            object.writeData(out);
+        }
+
+        @Override
+        public BaseClass read(ObjectDataInput in) throws IOException {
+            BaseClass object = new BaseClass();
+            object.readData(in);
+            return object;
+        }
+    }
+
     public static class TypedBaseClass implements DataSerializable, TypedDataSerializable {
         private final BaseClass innerObj;
 
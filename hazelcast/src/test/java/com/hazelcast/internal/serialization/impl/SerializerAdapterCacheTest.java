@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SerializerAdapterCacheTest {
+
+    private final SerializerAdapterCache cache = new SerializerAdapterCache();
+    private final SerializerAdapter stringAdapter = mock(SerializerAdapter.class);
+    private final SerializerAdapter integerAdapter = mock(SerializerAdapter.class);
+
+    @Test
+    public void get_whenNotCached() {
+        assertNull(cache.get(String.class, 0));
+    }
+
+    @Test
+    public void get_whenCached() {
+        cache.put(String.class, stringAdapter, 0);
+        cache.put(Integer.class, integerAdapter, 0);
+
+        assertSame(stringAdapter, cache.get(String.class, 0));
+        assertSame(integerAdapter, cache.get(Integer.class, 0));
+        assertSame(integerAdapter, cache.get(Integer.class, 0));
+    }
+
+    @Test
+    public void get_whenVersionChanged_thenEverythingDropped() {
+        cache.put(String.class, stringAdapter, 0);
+        cache.put(Integer.class, integerAdapter, 0);
+
+        assertNull(cache.get(String.class, 1));
+        assertNull(cache.get(Integer.class, 1));
+        // and not resurrected when the old version shows up again
+        assertNull(cache.get(String.class, 0));
+    }
+
+    @Test
+    public void put_whenMoreTypesThanCapacity_thenStillConsistent() {
+        List<Class> types = distinctTypes(2 * SerializerAdapterCache.CAPACITY);
+        Map<Class, SerializerAdapter> adapters = new HashMap<>();
+        for (Class type : types) {
+            adapters.put(type, mock(SerializerAdapter.class));
+            cache.put(type, adapters.get(type), 0);
+        }
+
+        int cached = 0;
+        for (Class type : types) {
+            SerializerAdapter adapter = cache.get(type, 0);
+            if (adapter != null) {
+                assertSame(adapters.get(type), adapter);
+                cached++;
+            }
+        }
+        assertTrue(cached <= SerializerAdapterCache.CAPACITY);
+
+        for (Class type : types) {
+            if (cache.get(type, 0) == null) {
+                cache.put(type, adapters.get(type), 0);
+            }
+            assertSame(adapters.get(type), cache.get(type, 0));
+        }
+    }
+
+    @Test
+    public void put_whenSlotTaken_thenPreviousTypeEvicted() {
+        Class[] colliding = collidingTypes();
+        SerializerAdapter firstAdapter = mock(SerializerAdapter.class);
+        SerializerAdapter secondAdapter = mock(SerializerAdapter.class);
+
+        cache.put(colliding[0], firstAdapter, 0);
+        cache.put(colliding[1], secondAdapter, 0);
+        assertNull(cache.get(colliding[0], 0));
+        assertSame(secondAdapter, cache.get(colliding[1], 0));
+
+        cache.put(colliding[0], firstAdapter, 0);
+        assertSame(firstAdapter, cache.get(colliding[0], 0));
+        assertNull(cache.get(colliding[1], 0));
+    }
+
+    /**
+     * Returns two types mapped to the same slot, there are more types than
+     * slots so some must share one.
+     */
+    private static Class[] collidingTypes() {
+        Map<Integer, Class> typeBySlot = new HashMap<>();
+        for (Class type : distinctTypes(SerializerAdapterCache.CAPACITY + 1)) {
+            Class other = typeBySlot.putIfAbsent(SerializerAdapterCache.index(type), type);
+            if (other != null) {
+                return new Class[]{other, type};
+            }
+        }
+        throw new AssertionError("no colliding types");
+    }
+
+    /**
+     * Returns the given number of distinct array classes of increasing dimension.
+     */
+    private static List<Class> distinctTypes(int count) {
+        List<Class> types = new ArrayList<>(count);
+        Class type = Object.class;
+        for (int k = 0; k < count; k++) {
+            type = Array.newInstance(type, 0).getClass();
+            types.add(type);
+        }
+        return types;
+    }
+}
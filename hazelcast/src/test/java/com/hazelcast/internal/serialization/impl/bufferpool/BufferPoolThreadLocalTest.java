@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.bufferpool;
 
 import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.executor.HazelcastManagedThread;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -29,6 +30,7 @@ import org.junit.runner.RunWith;
 
 import java.lang.ref.WeakReference;
 
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -97,6 +99,41 @@ public class BufferPoolThreadLocalTest extends HazelcastTestSupport {
         assertNotSame(pool1, pool2);
     }
 
+    @Test
+    public void get_whenManagedThread_thenPoolCachedOnThread() throws Exception {
+        BufferPool[] pools = new BufferPool[2];
+        Object[] cached = new Object[1];
+        HazelcastManagedThread thread = new HazelcastManagedThread(() -> {
+            pools[0] = bufferPoolThreadLocal.get();
+            cached[0] = ((HazelcastManagedThread) Thread.currentThread()).getThreadLocalCache();
+            pools[1] = bufferPoolThreadLocal.get();
+        });
+        thread.start();
+        thread.join();
+
+        assertNotNull(cached[0]);
+        assertSame(pools[0], pools[1]);
+    }
+
+    @Test
+    public void get_whenManagedThreadSharedByThreadLocals_thenEachGetsItsOwnPool() throws Exception {
+        BufferPoolThreadLocal bufferPoolThreadLocal2 = new BufferPoolThreadLocal(
+                serializationService, new BufferPoolFactoryImpl(), HazelcastInstanceNotActiveException::new);
+        BufferPool[] pools = new BufferPool[4];
+        HazelcastManagedThread thread = new HazelcastManagedThread(() -> {
+            pools[0] = bufferPoolThreadLocal.get();
+            pools[1] = bufferPoolThreadLocal2.get();
+            pools[2] = bufferPoolThreadLocal.get();
+            pools[3] = bufferPoolThreadLocal2.get();
+        });
+        thread.start();
+        thread.join();
+
+        assertNotSame(pools[0], pools[1]);
+        assertSame(pools[0], pools[2]);
+        assertSame(pools[1], pools[3]);
+    }
+
     // if clear is called, all strong references to the pool are cut, and therefor eventually the buffer-pool
     //should be gc'd
     @Test
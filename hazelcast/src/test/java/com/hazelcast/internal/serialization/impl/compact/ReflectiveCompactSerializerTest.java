@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder.compact;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReflectiveCompactSerializerTest {
+
+    private static final String TYPE_NAME = VersionedDTO.class.getName();
+
+    private final InternalSerializationService service = createSerializationService();
+
+    @Test
+    public void testRead_whenDataWrittenWithDifferentSchemas() {
+        Data current = service.toData(new VersionedDTO(1, 2L, true, "current"));
+        // written by an older version of the class, without the flag and the name
+        Data older = toData(compact(TYPE_NAME)
+                .setInt32("id", 3)
+                .setInt64("count", 4L)
+                .build());
+        // written by a version of the class having nullable fields and an extra one
+        Data newer = toData(compact(TYPE_NAME)
+                .setNullableInt32("id", 5)
+                .setNullableInt64("count", 6L)
+                .setNullableBoolean("flag", true)
+                .setString("name", "newer")
+                .setFloat64("extra", 7.0)
+                .build());
+
+        // read more than once to use the cached field mappings as well
+        for (int i = 0; i < 3; i++) {
+            assertVersionedDTO(service.toObject(current), 1, 2L, true, "current");
+            assertVersionedDTO(service.toObject(older), 3, 4L, false, null);
+            assertVersionedDTO(service.toObject(newer), 5, 6L, true, "newer");
+        }
+    }
+
+    @Test
+    public void testRead_whenFieldKindIsIncompatible_thenFieldIsNotRead() {
+        Data data = toData(compact(TYPE_NAME)
+                .setInt32("id", 1)
+                .setInt32("count", 2)
+                .setBoolean("flag", true)
+                .build());
+
+        assertVersionedDTO(service.toObject(data), 1, 0L, true, null);
+        assertVersionedDTO(service.toObject(data), 1, 0L, true, null);
+    }
+
+    private Data toData(GenericRecord record) {
+        return service.toData(record);
+    }
+
+    private static void assertVersionedDTO(VersionedDTO dto, int id, long count, boolean flag, String name) {
+        assertEquals(id, dto.id);
+        assertEquals(count, dto.count);
+        assertEquals(flag, dto.flag);
+        if (name == null) {
+            assertNull(dto.name);
+        } else {
+            assertEquals(name, dto.name);
+        }
+    }
+
+    public static class VersionedDTO {
+        private int id;
+        private long count;
+        private boolean flag;
+        private String name;
+
+        public VersionedDTO() {
+        }
+
+        VersionedDTO(int id, long count, boolean flag, String name) {
+            this.id = id;
+            this.count = count;
+            this.flag = flag;
+            this.name = name;
+        }
+    }
+}
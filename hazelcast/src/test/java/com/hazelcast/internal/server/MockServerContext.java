@@ -27,6 +27,8 @@ import com.hazelcast.instance.BuildInfoProvider;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.ascii.TextCommandService;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionFallback;
+import com.hazelcast.internal.networking.compression.CompressionStats;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -72,6 +74,8 @@ public class MockServerContext implements ServerContext {
     public final InternalSerializationService serializationService;
     public final LoggingServiceImpl loggingService;
     private final HazelcastProperties properties;
+    private final CompressionStats compressionStats = new CompressionStats();
+    private final CompressionFallback compressionFallback = new CompressionFallback();
     public volatile Consumer<Packet> packetConsumer;
     private final ILogger logger;
 
@@ -406,4 +410,14 @@ public class MockServerContext implements ServerContext {
         return NoOpAuditlogService.INSTANCE;
     }
 
+    @Override
+    public CompressionStats getCompressionStats() {
+        return compressionStats;
+    }
+
+    @Override
+    public CompressionFallback getCompressionFallback() {
+        return compressionFallback;
+    }
+
 }
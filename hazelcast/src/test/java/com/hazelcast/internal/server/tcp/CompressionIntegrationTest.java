@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceFactory;
+import com.hazelcast.internal.networking.compression.CompressionStats;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.spi.properties.ClusterProperty.NETWORK_COMPRESSION_ENABLED;
+import static com.hazelcast.test.Accessors.getNode;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class CompressionIntegrationTest extends HazelcastTestSupport {
+
+    @After
+    public void after() {
+        HazelcastClient.shutdownAll();
+        HazelcastInstanceFactory.terminateAll();
+    }
+
+    @Test
+    public void whenMemberCompressionEnabled_thenValuesTransferred() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(newConfig(true));
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(newConfig(true));
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        byte[][] values = putValues(hz1);
+
+        IMap<Integer, byte[]> map2 = hz2.getMap("map");
+        for (int k = 0; k < values.length; k++) {
+            assertArrayEquals(values[k], map2.get(k));
+        }
+        assertCompressed(compressionStats(hz1));
+        assertCompressed(compressionStats(hz2));
+    }
+
+    @Test
+    public void whenOnlyJoiningMemberRequestsCompression_thenValuesTransferred() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(newConfig(false));
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(newConfig(true));
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        byte[][] values = putValues(hz1);
+
+        IMap<Integer, byte[]> map2 = hz2.getMap("map");
+        for (int k = 0; k < values.length; k++) {
+            assertArrayEquals(values[k], map2.get(k));
+        }
+        // the connection opened by the second member is compressed in both directions
+        assertCompressed(compressionStats(hz1));
+    }
+
+    @Test
+    public void whenClientCompressionEnabled_thenValuesTransferred() {
+        HazelcastInstance hz = Hazelcast.newHazelcastInstance(newConfig(false));
+        ClientConfig clientConfig = new ClientConfig();
+        clientConfig.setProperty(ClientProperty.NETWORK_COMPRESSION_ENABLED.getName(), "true");
+        HazelcastInstance client = HazelcastClient.newHazelcastClient(clientConfig);
+
+        byte[][] values = putValues(client);
+
+        // read through the client, so large values are compressed in both directions
+        IMap<Integer, byte[]> map = client.getMap("map");
+        for (int k = 0; k < values.length; k++) {
+            assertArrayEquals(values[k], map.get(k));
+        }
+        assertCompressed(compressionStats(hz));
+        assertCompressed(getHazelcastClientInstanceImpl(client).getClientExtension().getCompressionStats());
+    }
+
+    private static byte[][] putValues(HazelcastInstance instance) {
+        Random random = new Random();
+        byte[][] values = new byte[200][];
+        IMap<Integer, byte[]> map = instance.getMap("map");
+        for (int k = 0; k < values.length; k++) {
+            // mix small values with large, well compressible values
+            values[k] = new byte[k % 10 == 0 ? 1024 * 1024 : random.nextInt(100)];
+            random.nextBytes(values[k]);
+            if (k % 10 == 0) {
+                fill(values[k], (byte) k);
+            }
+            map.put(k, values[k]);
+        }
+        return values;
+    }
+
+    private static void fill(byte[] bytes, byte value) {
+        for (int k = 0; k < bytes.length; k += 2) {
+            bytes[k] = value;
+        }
+    }
+
+    private static void assertCompressed(CompressionStats stats) {
+        assertTrue(stats.compressionBytesIn() > 0);
+        assertTrue(stats.decompressionBytesOut() > 0);
+        assertTrue("ratio: " + stats.compressionRatio(), stats.compressionRatio() > 1);
+    }
+
+    private static CompressionStats compressionStats(HazelcastInstance hz) {
+        return getNode(hz).getServer().getContext().getCompressionStats();
+    }
+
+    private Config newConfig(boolean compressionEnabled) {
+        Config config = smallInstanceConfig();
+        config.setProperty(NETWORK_COMPRESSION_ENABLED.getName(), String.valueOf(compressionEnabled));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}
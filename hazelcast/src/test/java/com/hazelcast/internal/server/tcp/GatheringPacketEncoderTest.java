@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.IOVector;
+import com.hazelcast.internal.networking.IOVectorTest.CollectingChannel;
+import com.hazelcast.internal.nio.Packet;
+import com.hazelcast.internal.nio.PacketIOHelper;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.server.tcp.PacketEncoderTest.PacketSupplier;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class GatheringPacketEncoderTest extends HazelcastTestSupport {
+
+    private InternalSerializationService serializationService;
+    private GatheringPacketEncoder encoder;
+    private PacketSupplier src;
+    private CollectingChannel socket;
+
+    @Before
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+
+        ChannelOptions options = mock(ChannelOptions.class);
+        when(options.getOption(SO_SNDBUF)).thenReturn(1000);
+        Channel channel = mock(Channel.class);
+        when(channel.options()).thenReturn(options);
+
+        encoder = new GatheringPacketEncoder();
+        encoder.setChannel(channel).handlerAdded();
+        src = new PacketSupplier();
+        encoder.src(src);
+        socket = new CollectingChannel(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void whenPacketsFullyWritten() throws Exception {
+        Packet packet1 = new Packet(serializationService.toBytes("foo"));
+        Packet packet2 = new Packet(serializationService.toBytes("bar"));
+        src.queue.add(packet1);
+        src.queue.add(packet2);
+
+        HandlerStatus result = encoder.onWrite();
+
+        assertEquals(CLEAN, result);
+        IOVector dst = encoder.dst();
+        assertEquals(4, dst.size());
+        dst.write(socket);
+
+        // now we read out the written bytes and check if we can find the written packets.
+        ByteBuffer written = ByteBuffer.wrap(socket.bytes.toByteArray());
+        assertEquals(packet1, new PacketIOHelper().readFrom(written));
+        assertEquals(packet2, new PacketIOHelper().readFrom(written));
+    }
+
+    @Test
+    public void whenPacketWithoutPayload() throws Exception {
+        Packet packet = new Packet();
+        src.queue.add(packet);
+
+        assertEquals(CLEAN, encoder.onWrite());
+        encoder.dst().write(socket);
+
+        ByteBuffer written = ByteBuffer.wrap(socket.bytes.toByteArray());
+        assertEquals(packet, new PacketIOHelper().readFrom(written));
+    }
+
+    @Test
+    public void whenPayloadLargerThanSendBuffer_thenWrittenInChunks() throws Exception {
+        Packet packet = new Packet(serializationService.toBytes(new byte[2500]));
+        src.queue.add(packet);
+
+        IOVector dst = encoder.dst();
+        HandlerStatus result = encoder.onWrite();
+        assertEquals(DIRTY, result);
+        assertEquals(1000, dst.remaining());
+
+        while (result == DIRTY) {
+            dst.write(socket);
+            result = encoder.onWrite();
+        }
+        dst.write(socket);
+
+        ByteBuffer written = ByteBuffer.wrap(socket.bytes.toByteArray());
+        assertEquals(packet, new PacketIOHelper().readFrom(written));
+        assertEquals(0, written.remaining());
+    }
+
+    @Test
+    public void whenSocketWritesPartially() throws Exception {
+        socket.maxBytesPerWrite = 7;
+        for (int k = 0; k < 10; k++) {
+            src.queue.add(new Packet(serializationService.toBytes("value-" + k)));
+        }
+
+        IOVector dst = encoder.dst();
+        HandlerStatus result;
+        do {
+            result = encoder.onWrite();
+            dst.write(socket);
+        } while (result == DIRTY || dst.hasRemaining());
+
+        ByteBuffer written = ByteBuffer.wrap(socket.bytes.toByteArray());
+        for (int k = 0; k < 10; k++) {
+            Packet packet = new PacketIOHelper().readFrom(written);
+            assertEquals("value-" + k, serializationService.toObject(new HeapData(packet.toByteArray())));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.server.tcp;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceFactory;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_GATHERING_WRITE;
+import static org.junit.Assert.assertArrayEquals;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class GatheringWriteIntegrationTest extends HazelcastTestSupport {
+
+    @After
+    public void after() {
+        HazelcastInstanceFactory.terminateAll();
+    }
+
+    @Test
+    public void whenGatheringWriteEnabled_thenSmallAndLargeValuesTransferred() {
+        HazelcastInstance hz1 = Hazelcast.newHazelcastInstance(newConfig());
+        HazelcastInstance hz2 = Hazelcast.newHazelcastInstance(newConfig());
+        assertClusterSizeEventually(2, hz1, hz2);
+
+        Random random = new Random();
+        byte[][] values = new byte[200][];
+        IMap<Integer, byte[]> map1 = hz1.getMap("map");
+        for (int k = 0; k < values.length; k++) {
+            // mix values smaller and larger than the socket send buffer
+            values[k] = new byte[k % 10 == 0 ? 1024 * 1024 : random.nextInt(100)];
+            random.nextBytes(values[k]);
+            map1.put(k, values[k]);
+        }
+
+        IMap<Integer, byte[]> map2 = hz2.getMap("map");
+        for (int k = 0; k < values.length; k++) {
+            assertArrayEquals(values[k], map2.get(k));
+        }
+    }
+
+    private Config newConfig() {
+        Config config = smallInstanceConfig();
+        config.setProperty(SOCKET_GATHERING_WRITE.getName(), "true");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        return config;
+    }
+}
@@ -20,8 +20,11 @@ import com.hazelcast.config.Config;
 import com.hazelcast.config.DataPersistenceConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.util.ThreadAffinity;
 import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.config.JetConfig;
 import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.proxy.MapProxyImpl;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -35,10 +38,16 @@ import java.io.FileNotFoundException;
 import static com.hazelcast.config.MapConfig.DEFAULT_BACKUP_COUNT;
 import static com.hazelcast.jet.impl.JetServiceBackend.SQL_CATALOG_MAP_NAME;
 import static com.hazelcast.jet.impl.JetServiceBackend.createSqlCatalogConfig;
+import static com.hazelcast.jet.impl.JetServiceBackend.cooperativeThreadCount;
 import static org.junit.Assert.assertEquals;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -145,6 +154,28 @@ public class JetServiceBackendTest extends JetTestSupport {
         assertEquals(DEFAULT_BACKUP_COUNT, otherMapConfig.getBackupCount());
     }
 
+    @Test
+    public void when_threadAffinityEnabled_then_cooperativeThreadCountFromAffinity() {
+        JetConfig jetConfig = new JetConfig().setCooperativeThreadCount(4);
+        ThreadAffinity threadAffinity = mock(ThreadAffinity.class);
+        when(threadAffinity.isEnabled()).thenReturn(true);
+        when(threadAffinity.getThreadCount()).thenReturn(6);
+        ILogger logger = mock(ILogger.class);
+
+        assertEquals(6, cooperativeThreadCount(jetConfig, threadAffinity, logger));
+        assertEquals(4, jetConfig.getCooperativeThreadCount());
+        verify(logger).warning(anyString());
+    }
+
+    @Test
+    public void when_threadAffinityDisabled_then_configuredCooperativeThreadCount() {
+        JetConfig jetConfig = new JetConfig().setCooperativeThreadCount(4);
+        ILogger logger = mock(ILogger.class);
+
+        assertEquals(4, cooperativeThreadCount(jetConfig, ThreadAffinity.DISABLED, logger));
+        verifyNoInteractions(logger);
+    }
+
     private static MapConfig getMapConfig(String mapName, DataPersistenceConfig dataPersistenceConfig) {
         return new MapConfig(mapName).setDataPersistenceConfig(dataPersistenceConfig);
     }
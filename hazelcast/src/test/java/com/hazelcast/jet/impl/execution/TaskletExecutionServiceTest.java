@@ -19,6 +19,7 @@ package com.hazelcast.jet.impl.execution;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.internal.util.ThreadAffinity;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.core.JetTestSupport;
 import com.hazelcast.jet.impl.util.ProgressState;
@@ -79,13 +80,15 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
     private final CompletableFuture<Void> cancellationFuture = new CompletableFuture<>();
 
     private TaskletExecutionService tes;
+    private NodeEngine neMock;
+    private HazelcastProperties properties;
     private ExecutorService executor;
     private final ClassLoader classLoader = getClass().getClassLoader();
 
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -104,7 +107,7 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         MetricsRegistryImpl metricsRegistry = new MetricsRegistryImpl(mock(ILogger.class), ProbeLevel.INFO);
         when(neMock.getMetricsRegistry()).thenReturn(metricsRegistry);
 
-        HazelcastProperties properties = new HazelcastProperties(new Properties());
+        properties = new HazelcastProperties(new Properties());
         tes = new TaskletExecutionService(neMock, THREAD_COUNT, properties);
     }
 
@@ -114,6 +117,20 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         executor.shutdown();
     }
 
+    @Test
+    public void when_threadAffinityEnabled_then_itDeterminesThreadCount() {
+        ThreadAffinity threadAffinity = mock(ThreadAffinity.class);
+        when(threadAffinity.isEnabled()).thenReturn(true);
+        when(threadAffinity.getThreadCount()).thenReturn(THREAD_COUNT + 2);
+
+        TaskletExecutionService affinityTes = new TaskletExecutionService(neMock, THREAD_COUNT, properties, threadAffinity);
+        try {
+            assertEquals(THREAD_COUNT + 2, affinityTes.getCooperativeThreadCount());
+        } finally {
+            affinityTes.shutdown();
+        }
+    }
+
     @Test
     public void when_blockingTask_then_executed() {
         // Given
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.processor;
+
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TopNPTest extends JetTestSupport {
+
+    @Test
+    public void test_keepsFirstNItemsInOrder() {
+        TestSupport
+                .verifyProcessor(() -> new TopNP<>(3, ComparatorEx.<Integer>naturalOrder()))
+                .disableSnapshots()
+                .input(asList(5, 1, 8, 3, 9, 2, 7, 2))
+                .expectOutput(asList(1, 2, 2));
+    }
+
+    @Test
+    public void test_lessItemsThanN() {
+        TestSupport
+                .verifyProcessor(() -> new TopNP<>(10, ComparatorEx.<Integer>naturalOrder().reversed()))
+                .disableSnapshots()
+                .input(asList(5, 1, 8))
+                .expectOutput(asList(8, 5, 1));
+    }
+
+    @Test
+    public void test_zero() {
+        TestSupport
+                .verifyProcessor(() -> new TopNP<>(0, ComparatorEx.<Integer>naturalOrder()))
+                .disableSnapshots()
+                .input(asList(5, 1, 8))
+                .expectOutput(emptyList());
+    }
+}
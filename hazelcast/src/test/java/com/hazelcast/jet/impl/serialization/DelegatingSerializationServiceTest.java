@@ -131,6 +131,17 @@ public class DelegatingSerializationServiceTest {
         assertThat(service.serializerFor((byte) 1, false).getImpl()).isEqualTo(serializer);
     }
 
+    @Test
+    public void when_serializesObjects_then_Delegates() {
+        // Given
+        DelegatingSerializationService service = new DelegatingSerializationService(emptyMap(), DELEGATE);
+
+        // When
+        // Then
+        assertThat(service.toData(new Value()).getType()).isEqualTo(TYPE_ID);
+        assertThat((String) service.toObject(service.toData("value"))).isEqualTo("value");
+    }
+
     @Test
     public void when_triesToFindSerializerForNullObject_then_Succeeds() {
         // Given
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.pipeline.file.impl;
+
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Condition;
+import com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.Operator;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.decodeColumns;
+import static com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.decodeFilter;
+import static com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.encodeColumns;
+import static com.hazelcast.jet.pipeline.file.impl.ParquetPushdown.encodeFilter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ParquetPushdownTest {
+
+    @Test
+    public void shouldRoundTripColumns() {
+        List<String> columns = List.of("id", "name with spaces", "comma,\"quote\"");
+
+        assertThat(decodeColumns(encodeColumns(columns))).isEqualTo(columns);
+    }
+
+    @Test
+    public void shouldRoundTripFilter() {
+        List<Condition> conditions = List.of(
+                new Condition("id", Operator.GREATER_THAN_OR_EQUAL, Long.MIN_VALUE),
+                new Condition("price", Operator.LESS_THAN, 1.5D),
+                new Condition("name", Operator.EQUALS, "Ali"),
+                new Condition("active", Operator.NOT_EQUALS, false),
+                new Condition("deleted", Operator.IS_NULL, null)
+        );
+
+        assertThat(decodeFilter(encodeFilter(conditions))).isEqualTo(conditions);
+    }
+}
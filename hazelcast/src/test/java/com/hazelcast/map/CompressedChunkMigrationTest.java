@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompressedChunkMigrationTest extends MigrationTest {
+
+    @Override
+    protected Config getConfig(String mapName) {
+        Config config = super.getConfig(mapName);
+        config.setProperty(ClusterProperty.PARTITION_CHUNKED_MIGRATION_COMPRESSION_ENABLED.getName(), "true");
+        return config;
+    }
+
+    @Test
+    public void testMigratedBytesAreRecordedOnSource() {
+        int size = 1_000;
+        String name = randomString();
+        Config config = getConfig(name);
+        TestHazelcastInstanceFactory nodeFactory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = nodeFactory.newHazelcastInstance(config);
+
+        IMap<Integer, String> map = instance1.getMap(name);
+        for (int i = 0; i < size; i++) {
+            map.put(i, "value-" + i);
+        }
+
+        HazelcastInstance instance2 = nodeFactory.newHazelcastInstance(config);
+        waitAllForSafeState(instance1, instance2);
+
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(instance1);
+        assertTrue(partitionService.getMigrationManager().getStats().getTotalMigratedBytes() > 0);
+        for (int i = 0; i < size; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+    }
+}
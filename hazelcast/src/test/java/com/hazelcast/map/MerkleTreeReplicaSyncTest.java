@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.partition.LocalReplicationStats;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.test.backup.BackupAccessor;
+import com.hazelcast.test.backup.TestBackupUtils;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+
+import static com.hazelcast.test.Accessors.getFirstBackupInstance;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static com.hazelcast.test.TestTaskExecutorUtil.runOnPartitionThread;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MerkleTreeReplicaSyncTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_ID = 0;
+    private static final int ENTRY_COUNT = 1_000;
+
+    @Test
+    public void testReplicaSync_transfersOnlyDifference_whenMerkleTreeEnabled() {
+        String mapName = randomMapName();
+        HazelcastInstance[] instances = createInstances(mapName, true);
+        HazelcastInstance owner = instances[0];
+        HazelcastInstance backup = getFirstBackupInstance(instances, PARTITION_ID);
+        IMap<Integer, String> map = fillMap(owner, mapName);
+
+        divergeBackup(backup, mapName);
+        triggerReplicaSync(backup, mapName);
+
+        assertBackupEqualsEventually(instances, map);
+        assertTrueEventually(() -> {
+            LocalReplicationStats stats = map.getLocalMapStats().getReplicationStats();
+            assertEquals(1, stats.getDifferentialPartitionReplicationCount());
+            assertTrue(stats.getDifferentialReplicationRecordCount() < ENTRY_COUNT / 10);
+        });
+        assertArrayEquals(getLeaves(owner, mapName), getLeaves(backup, mapName));
+    }
+
+    @Test
+    public void testReplicaSync_transfersAllEntries_whenMerkleTreeDisabled() {
+        String mapName = randomMapName();
+        HazelcastInstance[] instances = createInstances(mapName, false);
+        HazelcastInstance owner = instances[0];
+        HazelcastInstance backup = getFirstBackupInstance(instances, PARTITION_ID);
+        IMap<Integer, String> map = fillMap(owner, mapName);
+
+        divergeBackup(backup, mapName);
+        triggerReplicaSync(backup, mapName);
+
+        assertBackupEqualsEventually(instances, map);
+        assertTrueEventually(() -> {
+            LocalReplicationStats stats = map.getLocalMapStats().getReplicationStats();
+            assertEquals(0, stats.getDifferentialPartitionReplicationCount());
+            assertEquals(ENTRY_COUNT, stats.getFullReplicationRecordCount());
+        });
+    }
+
+    private HazelcastInstance[] createInstances(String mapName, boolean merkleTreeEnabled) {
+        Config config = getConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), "1");
+        config.getMapConfig(mapName).getMerkleTreeConfig().setEnabled(merkleTreeEnabled);
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+        waitAllForSafeState(instances);
+        // the partition owner first
+        return getPartitionService(instances[0]).getPartition(PARTITION_ID).isLocal()
+                ? instances
+                : new HazelcastInstance[]{instances[1], instances[0]};
+    }
+
+    private static IMap<Integer, String> fillMap(HazelcastInstance owner, String mapName) {
+        IMap<Integer, String> map = owner.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value-" + i);
+        }
+        return map;
+    }
+
+    /**
+     * Removes, updates and adds an entry on the backup replica without
+     * changing its replica versions.
+     */
+    private static void divergeBackup(HazelcastInstance backup, String mapName) {
+        SerializationService ss = getSerializationService(backup);
+        runOnPartitionThread(backup, () -> {
+            RecordStore recordStore = getRecordStore(backup, mapName);
+            recordStore.removeReplicatedRecord(ss.toData(0), true);
+            recordStore.set(ss.toData(1), ss.toData("diverged"), -1, -1);
+            recordStore.set(ss.toData(ENTRY_COUNT), ss.toData("stray"), -1, -1);
+            return null;
+        }, PARTITION_ID);
+    }
+
+    private static void triggerReplicaSync(HazelcastInstance backup, String mapName) {
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(backup);
+        ServiceNamespace namespace = MapService.getObjectNamespace(mapName);
+        partitionService.getReplicaManager().triggerPartitionReplicaSync(PARTITION_ID, Collections.singleton(namespace), 1);
+    }
+
+    private static void assertBackupEqualsEventually(HazelcastInstance[] instances, IMap<Integer, String> map) {
+        BackupAccessor<Integer, String> backupAccessor = TestBackupUtils.newMapAccessor(instances, map.getName());
+        assertTrueEventually(() -> {
+            assertEquals(ENTRY_COUNT, backupAccessor.size());
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                assertEquals("value-" + i, backupAccessor.get(i));
+            }
+        });
+    }
+
+    private static int[] getLeaves(HazelcastInstance instance, String mapName) {
+        return runOnPartitionThread(instance, () -> {
+            MerkleTree merkleTree = getRecordStore(instance, mapName).getMerkleTree();
+            return MerkleTreeUtil.getLeaves(merkleTree);
+        }, PARTITION_ID);
+    }
+
+    private static RecordStore getRecordStore(HazelcastInstance instance, String mapName) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        return mapServiceContext.getPartitionContainer(PARTITION_ID).getExistingRecordStore(mapName);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.test.Accessors.getAddress;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapGetMutationStampsOperationTest extends HazelcastTestSupport {
+
+    private HazelcastInstance instance;
+    private String mapName;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        instance = createHazelcastInstance();
+        mapName = randomMapName();
+        map = instance.getMap(mapName);
+    }
+
+    @Test
+    public void when_mapDoesNotExist_then_zero() {
+        assertThat(stamp(randomMapName())).isZero();
+    }
+
+    @Test
+    public void when_mapIsRead_then_stampDoesNotChange() {
+        map.put(1, 1);
+        long stamp = stamp(mapName);
+
+        map.get(1);
+        map.containsKey(2);
+        map.entrySet();
+
+        assertThat(stamp(mapName)).isEqualTo(stamp);
+    }
+
+    @Test
+    public void when_mapIsModified_then_stampChanges() {
+        long stamp = stamp(mapName);
+        map.put(1, 1);
+        assertThat(stamp(mapName)).isNotEqualTo(stamp);
+
+        stamp = stamp(mapName);
+        map.put(1, 2);
+        assertThat(stamp(mapName)).isNotEqualTo(stamp);
+
+        stamp = stamp(mapName);
+        map.remove(1);
+        assertThat(stamp(mapName)).isNotEqualTo(stamp);
+
+        map.put(1, 1);
+        stamp = stamp(mapName);
+        map.clear();
+        assertThat(stamp(mapName)).isNotEqualTo(stamp);
+    }
+
+    @Test
+    public void when_mapIsRecreated_then_stampDiffers() {
+        map.put(1, 1);
+        long stamp = stamp(mapName);
+
+        map.destroy();
+        map = instance.getMap(mapName);
+        map.put(1, 1);
+
+        assertThat(stamp(mapName)).isNotEqualTo(stamp);
+    }
+
+    @Test
+    public void when_mapHasExpirableEntries_then_stampChangesOnEveryRead() {
+        map.put(1, 1, 1, TimeUnit.HOURS);
+        long stamp = stamp(mapName);
+
+        assertThat(stamp(mapName)).isNotEqualTo(stamp);
+    }
+
+    @Test
+    public void when_expirableEntryIsRemoved_then_stampIsStableAgain() {
+        map.put(1, 1, 1, TimeUnit.HOURS);
+        map.remove(1);
+        long stamp = stamp(mapName);
+
+        assertThat(stamp(mapName)).isEqualTo(stamp);
+    }
+
+    private long stamp(String name) {
+        MapGetMutationStampsOperation operation = new MapGetMutationStampsOperation(singletonList(name));
+        long[] stamps = getOperationService(instance)
+                .<long[]>invokeOnTarget(MapService.SERVICE_NAME, operation, getAddress(instance))
+                .join();
+        return stamps[0];
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.SimpleRecord;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MerkleTreeMutationObserverTest {
+
+    private static final int DEPTH = 4;
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testSwappedValuesUnderSameLeaf_produceDifferentLeafHash() {
+        Data key1 = ss.toData(0);
+        Data key2 = keyUnderSameLeaf(key1);
+        Data value1 = ss.toData("value1");
+        Data value2 = ss.toData("value2");
+
+        MerkleTreeMutationObserver observer = new MerkleTreeMutationObserver(ss, DEPTH);
+        put(observer, key1, value1);
+        put(observer, key2, value2);
+
+        MerkleTreeMutationObserver swapped = new MerkleTreeMutationObserver(ss, DEPTH);
+        put(swapped, key1, value2);
+        put(swapped, key2, value1);
+
+        int leafOrder = leafOrder(key1);
+        assertNotEquals(observer.getMerkleTree().getNodeHash(leafOrder),
+                swapped.getMerkleTree().getNodeHash(leafOrder));
+    }
+
+    @Test
+    public void testUpdate_producesSameTreeAsPut() {
+        Data key = ss.toData(0);
+        Data oldValue = ss.toData("old");
+        Data newValue = ss.toData("new");
+
+        MerkleTreeMutationObserver updated = new MerkleTreeMutationObserver(ss, DEPTH);
+        put(updated, key, oldValue);
+        updated.onUpdateRecord(key, new SimpleRecord<>(newValue), oldValue, newValue, false);
+
+        MerkleTreeMutationObserver put = new MerkleTreeMutationObserver(ss, DEPTH);
+        put(put, key, newValue);
+
+        assertTreesEqual(put.getMerkleTree(), updated.getMerkleTree(), key);
+    }
+
+    @Test
+    public void testUpdateWithObjectValue_producesSameTreeAsPut() {
+        Data key = ss.toData(0);
+
+        MerkleTreeMutationObserver updated = new MerkleTreeMutationObserver(ss, DEPTH);
+        updated.onPutRecord(key, new SimpleRecord<>("old"), null, false);
+        updated.onUpdateRecord(key, new SimpleRecord<>("new"), "old", "new", false);
+
+        MerkleTreeMutationObserver put = new MerkleTreeMutationObserver(ss, DEPTH);
+        put(put, key, ss.toData("new"));
+
+        assertTreesEqual(put.getMerkleTree(), updated.getMerkleTree(), key);
+    }
+
+    @Test
+    public void testRemove_restoresEmptyTree() {
+        Data key = ss.toData(0);
+        Record<Object> record = new SimpleRecord<>(ss.toData("value"));
+
+        MerkleTreeMutationObserver observer = new MerkleTreeMutationObserver(ss, DEPTH);
+        observer.onPutRecord(key, record, null, false);
+        observer.onRemoveRecord(key, record, false);
+
+        assertTreesEqual(new MerkleTreeMutationObserver(ss, DEPTH).getMerkleTree(), observer.getMerkleTree(), key);
+    }
+
+    private static void put(MerkleTreeMutationObserver observer, Data key, Data value) {
+        observer.onPutRecord(key, new SimpleRecord<>(value), null, false);
+    }
+
+    private Data keyUnderSameLeaf(Data key) {
+        int leafOrder = leafOrder(key);
+        for (int i = 1; ; i++) {
+            Data candidate = ss.toData(i);
+            if (leafOrder(candidate) == leafOrder) {
+                return candidate;
+            }
+        }
+    }
+
+    private static int leafOrder(Data key) {
+        return MerkleTreeUtil.getLeafOrderForHash(key.hashCode(), DEPTH - 1);
+    }
+
+    private static void assertTreesEqual(MerkleTree expected, MerkleTree actual, Data key) {
+        // the root and the leaf of the key
+        assertEquals(expected.getNodeHash(0), actual.getNodeHash(0));
+        assertEquals(expected.getNodeHash(leafOrder(key)), actual.getNodeHash(leafOrder(key)));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MultiMapConfig.ValueCollectionType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.multimap.MultiMap;
+import com.hazelcast.multimap.impl.iterator.MultiMapValueIterationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MultiMapValueIteratorTest extends HazelcastTestSupport {
+
+    private static final int VALUE_COUNT = 1000;
+
+    private HazelcastInstance local;
+    private HazelcastInstance remote;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfig();
+        config.getMultiMapConfig("set*").setValueCollectionType(ValueCollectionType.SET);
+        config.getMultiMapConfig("list*").setValueCollectionType(ValueCollectionType.LIST);
+        HazelcastInstance[] instances = createHazelcastInstances(config, 2);
+        local = instances[0];
+        remote = instances[1];
+    }
+
+    @Test
+    public void testIterateList_localKey() {
+        String key = generateKeyOwnedBy(local);
+        testIterateList(key);
+    }
+
+    @Test
+    public void testIterateList_remoteKey() {
+        String key = generateKeyOwnedBy(remote);
+        testIterateList(key);
+    }
+
+    @Test
+    public void testIterateSet() {
+        MultiMap<String, Integer> multiMap = local.getMultiMap("set");
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            multiMap.put("key", i);
+        }
+
+        Set<Integer> values = new HashSet<>();
+        valueIterator(multiMap, "key", 64).forEachRemaining(values::add);
+
+        assertThat(values).hasSize(VALUE_COUNT).isEqualTo(new HashSet<>(multiMap.get("key")));
+    }
+
+    @Test
+    public void testIterate_whenPageSizeDividesValueCount() {
+        MultiMap<String, Integer> multiMap = local.getMultiMap("list");
+        for (int i = 0; i < 100; i++) {
+            multiMap.put("key", i);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        valueIterator(multiMap, "key", 10).forEachRemaining(values::add);
+
+        assertThat(values).hasSize(100);
+        assertNoIterationsLeft();
+    }
+
+    @Test
+    public void testIterate_missingKey() {
+        MultiMap<String, Integer> multiMap = local.getMultiMap("list");
+
+        Iterator<Integer> iterator = valueIterator(multiMap, "missing", 10);
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        assertNoIterationsLeft();
+    }
+
+    @Test
+    public void testIterate_isNotAffectedByConcurrentUpdates() {
+        MultiMap<String, Integer> multiMap = local.getMultiMap("list");
+        for (int i = 0; i < 100; i++) {
+            multiMap.put("key", i);
+        }
+
+        Iterator<Integer> iterator = valueIterator(multiMap, "key", 10);
+        assertThat(iterator.next()).isEqualTo(0);
+        multiMap.remove("key");
+        multiMap.put("key", -1);
+
+        List<Integer> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        assertThat(values).hasSize(99).doesNotContain(-1);
+    }
+
+    @Test
+    public void testIterate_withNonPositivePageSize() {
+        MultiMap<String, Integer> multiMap = local.getMultiMap("list");
+
+        assertThatThrownBy(() -> valueIterator(multiMap, "key", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void testIterateList(String key) {
+        MultiMap<String, Integer> multiMap = local.getMultiMap("list");
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            multiMap.put(key, i);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        valueIterator(multiMap, key, 64).forEachRemaining(values::add);
+
+        assertThat(values).containsExactlyElementsOf(multiMap.get(key));
+        assertNoIterationsLeft();
+    }
+
+    private void assertNoIterationsLeft() {
+        for (HazelcastInstance instance : new HazelcastInstance[]{local, remote}) {
+            MultiMapService service = getNodeEngineImpl(instance).getService(MultiMapService.SERVICE_NAME);
+            MultiMapValueIterationService iterationService = service.getValueIterationService();
+            assertThat(iterationService.getIteratorManager().getIterators()).isEmpty();
+        }
+    }
+
+    private static <V> Iterator<V> valueIterator(MultiMap<String, V> multiMap, String key, int pageSize) {
+        return ((MultiMapProxyImpl<String, V>) multiMap).valueIterator(key, pageSize);
+    }
+}
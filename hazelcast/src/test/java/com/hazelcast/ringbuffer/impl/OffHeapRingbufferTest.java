@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapRingbufferTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test(expected = StaleSequenceException.class)
+    public void testReadStaleSequenceThrowsException() {
+        OffHeapRingbuffer<Data> rb = fullRingbuffer();
+        rb.read(rb.headSequence() - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFutureSequenceThrowsException() {
+        OffHeapRingbuffer<Data> rb = fullRingbuffer();
+        rb.read(rb.tailSequence() + 1);
+    }
+
+    @Test
+    public void testIsEmpty() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024);
+        assertTrue(rb.isEmpty());
+        rb.add(toData(""));
+        assertFalse(rb.isEmpty());
+    }
+
+    @Test
+    public void testAddAndRead() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024);
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i, rb.add(toData("item" + i)));
+        }
+
+        assertEquals(7, rb.headSequence());
+        assertEquals(11, rb.tailSequence());
+        for (long seq = rb.headSequence(); seq <= rb.tailSequence(); seq++) {
+            assertEquals("item" + seq, toObject(rb.read(seq)));
+        }
+    }
+
+    @Test
+    public void testAdd_whenPayloadAreaWrapsAround() {
+        Data item = toData("item");
+        int itemSize = item.totalSize();
+        // room for two and a half items, so the items are split at the end of the area
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(10, itemSize * 5 / 2);
+
+        for (int i = 0; i < 20; i++) {
+            rb.add(toData("item"));
+            assertEquals("item", toObject(rb.read(rb.tailSequence())));
+            // the oldest items are evicted when their bytes are overwritten
+            assertTrue(rb.size() <= 2);
+            for (long seq = rb.headSequence(); seq <= rb.tailSequence(); seq++) {
+                assertEquals("item", toObject(rb.read(seq)));
+            }
+        }
+        assertEquals(19, rb.tailSequence());
+        assertEquals(18, rb.headSequence());
+    }
+
+    @Test
+    public void testRemainingCapacity() {
+        Data item = toData("item");
+        int itemSize = item.totalSize();
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(10, itemSize * 4);
+        assertEquals(itemSize * 4, rb.remainingPayloadCapacity());
+        assertEquals(10, rb.remainingCapacity());
+
+        rb.add(item);
+        rb.add(item);
+        assertEquals(itemSize * 2, rb.remainingPayloadCapacity());
+        assertEquals(5, rb.remainingCapacity());
+
+        rb.add(item);
+        rb.add(item);
+        assertEquals(0, rb.remainingPayloadCapacity());
+        assertEquals(0, rb.remainingCapacity());
+        assertEquals(4, rb.size());
+    }
+
+    @Test
+    public void testRemainingCapacity_whenPayloadAreaWrapsAround() {
+        Data item = toData("item");
+        int itemSize = item.totalSize();
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(10, itemSize * 5 / 2);
+        for (int i = 0; i < 5; i++) {
+            rb.add(item);
+        }
+
+        // only the last two items are left, but they may be split at the end of the area
+        assertEquals(2, rb.size());
+        assertEquals(itemSize * 5 / 2 - itemSize * 2, rb.remainingPayloadCapacity());
+    }
+
+    @Test
+    public void testDestroy() {
+        OffHeapRingbuffer<Data> rb = fullRingbuffer();
+
+        rb.destroy();
+        // destroying twice doesn't release the memory twice
+        rb.destroy();
+    }
+
+    @Test
+    public void testDestroy_whenMemoryMapped() throws Exception {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024, tempFolder.newFolder().toPath());
+        rb.add(toData("item"));
+
+        rb.destroy();
+        rb.destroy();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdd_whenItemLargerThanPayloadArea() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(10, 8);
+        rb.add(toData("a string which does not fit"));
+    }
+
+    @Test
+    public void testSetNull() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024);
+        rb.add(toData("item"));
+        rb.set(0, null);
+        assertNull(rb.read(0));
+    }
+
+    @Test
+    public void testClear() {
+        OffHeapRingbuffer<Data> rb = fullRingbuffer();
+        rb.clear();
+
+        assertTrue(rb.isEmpty());
+        assertEquals(-1, rb.tailSequence());
+        assertEquals(0, rb.add(toData("item")));
+        assertEquals("item", toObject(rb.read(0)));
+    }
+
+    @Test
+    public void testGetItems() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024);
+        for (int i = 0; i < 7; i++) {
+            rb.add(toData("item" + i));
+        }
+
+        Object[] items = rb.getItems();
+        assertEquals(5, items.length);
+        for (long seq = rb.headSequence(); seq <= rb.tailSequence(); seq++) {
+            assertEquals("item" + seq, toObject((Data) items[(int) (seq % 5)]));
+        }
+    }
+
+    @Test
+    public void testMemoryMapped() throws Exception {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024, tempFolder.newFolder().toPath());
+        for (int i = 0; i < 7; i++) {
+            rb.add(toData("item" + i));
+        }
+
+        for (long seq = rb.headSequence(); seq <= rb.tailSequence(); seq++) {
+            assertEquals("item" + seq, toObject(rb.read(seq)));
+        }
+    }
+
+    private OffHeapRingbuffer<Data> fullRingbuffer() {
+        OffHeapRingbuffer<Data> rb = new OffHeapRingbuffer<>(5, 1024);
+        for (int i = 0; i < rb.getCapacity(); i++) {
+            rb.add(toData(""));
+        }
+        return rb;
+    }
+
+    private Data toData(Object object) {
+        return serializationService.toData(object);
+    }
+
+    private Object toObject(Data data) {
+        return serializationService.toObject(data);
+    }
+}
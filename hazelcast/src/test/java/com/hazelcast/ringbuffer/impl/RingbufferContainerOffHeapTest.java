@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.RingbufferConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.namespace.impl.NodeEngineThreadLocalContext;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.ringbuffer.impl.RingbufferService.OFF_HEAP_AVERAGE_ITEM_SIZE;
+import static com.hazelcast.ringbuffer.impl.RingbufferService.OFF_HEAP_ENABLED;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class RingbufferContainerOffHeapTest extends HazelcastTestSupport {
+
+    private static final int AVERAGE_ITEM_SIZE = 32;
+
+    private SerializationService serializationService;
+    private NodeEngineImpl nodeEngine;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig()
+                .setProperty(OFF_HEAP_ENABLED.getName(), "true")
+                .setProperty(OFF_HEAP_AVERAGE_ITEM_SIZE.getName(), String.valueOf(AVERAGE_ITEM_SIZE));
+        HazelcastInstance hz = createHazelcastInstance(config);
+        nodeEngine = getNodeEngineImpl(hz);
+        serializationService = getSerializationService(hz);
+    }
+
+    @After
+    public void teardown() {
+        NodeEngineThreadLocalContext.destroyNodeEngineReference();
+    }
+
+    @Test
+    public void hasCapacityFor_whenPayloadAreaFull_andTTLEnabled() {
+        NodeEngineThreadLocalContext.declareNodeEngineReference(nodeEngine);
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(10).setTimeToLiveSeconds(30);
+        RingbufferContainer<Data, Data> ringbuffer = getRingbufferContainer(config);
+        assertTrue(ringbuffer.isOffHeap());
+
+        // items twice the average size fill the payload area before the slots
+        int headerSize = toData(new byte[0]).totalSize();
+        Data item = toData(new byte[2 * AVERAGE_ITEM_SIZE - headerSize]);
+        assertEquals(2 * AVERAGE_ITEM_SIZE, item.totalSize());
+        while (ringbuffer.hasCapacityFor(item)) {
+            ringbuffer.add(item);
+        }
+
+        assertEquals(config.getCapacity() / 2, ringbuffer.size());
+        assertFalse(ringbuffer.hasCapacityFor(toData("")));
+        assertEquals(0, ringbuffer.remainingCapacity());
+        // none of the unread items were evicted
+        assertEquals(0, ringbuffer.headSequence());
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            assertEquals(item, ringbuffer.readAsData(seq));
+        }
+
+        ringbuffer.destroy();
+    }
+
+    @Test
+    public void readData_createsOffHeapRingbuffer() {
+        NodeEngineThreadLocalContext.declareNodeEngineReference(nodeEngine);
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(10);
+        RingbufferContainer<Data, Data> ringbuffer = getRingbufferContainer(config);
+        ringbuffer.add(toData("1"));
+        ringbuffer.add(toData("2"));
+
+        RingbufferContainer<Data, Data> clone = serializationService.toObject(serializationService.toData(ringbuffer));
+
+        assertTrue(clone.isOffHeap());
+        assertEquals(0, clone.headSequence());
+        assertEquals(1, clone.tailSequence());
+        // the clone is not initialized, so the items are read from the ringbuffer
+        assertEquals(toData("1"), clone.getRingbuffer().read(0));
+        assertEquals(toData("2"), clone.getRingbuffer().read(1));
+    }
+
+    private Data toData(Object item) {
+        return serializationService.toData(item);
+    }
+
+    private <K, V> RingbufferContainer<K, V> getRingbufferContainer(RingbufferConfig config) {
+        // partitionId is irrelevant for this test
+        return new RingbufferContainer<>(RingbufferService.getRingbufferNamespace(config.getName()), config,
+                nodeEngine, 0);
+    }
+}
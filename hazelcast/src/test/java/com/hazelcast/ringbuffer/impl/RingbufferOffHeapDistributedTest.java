@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.ringbuffer.impl.RingbufferService.OFF_HEAP_ENABLED;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class RingbufferOffHeapDistributedTest extends RingbufferAbstractTest {
+
+    private static TestHazelcastInstanceFactory factory
+            = new TestHazelcastInstanceFactory(2);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        prepare(config -> factory.newInstances(config.setProperty(OFF_HEAP_ENABLED.getName(), "true")));
+    }
+
+    @AfterClass
+    public static void afterClass() throws Exception {
+        factory.terminateAll();
+    }
+}
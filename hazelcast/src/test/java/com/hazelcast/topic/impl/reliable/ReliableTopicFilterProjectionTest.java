@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.function.PredicateEx;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.topic.MessageListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReliableTopicFilterProjectionTest extends HazelcastTestSupport {
+
+    private static final int MESSAGE_COUNT = 100;
+
+    private HazelcastInstance local;
+    private HazelcastInstance remote;
+
+    @Before
+    public void setup() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        local = factory.newHazelcastInstance(smallInstanceConfig());
+        remote = factory.newHazelcastInstance(smallInstanceConfig());
+        assertClusterSizeEventually(2, local, remote);
+    }
+
+    @Test
+    public void testFilterAndProjection_onRemoteRingbuffer() {
+        testFilterAndProjection(remote);
+    }
+
+    @Test
+    public void testFilterAndProjection_onLocalRingbuffer() {
+        testFilterAndProjection(local);
+    }
+
+    @Test
+    public void testFilterOnly() {
+        ReliableTopicProxy<Integer> topic = topicOwnedBy(remote);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        MessageListener<Integer> listener = message -> received.add(message.getMessageObject());
+        topic.addMessageListener(listener, new EvenPredicate(), null);
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> assertThat(received).hasSize(MESSAGE_COUNT / 2));
+        for (int i = 0; i < MESSAGE_COUNT / 2; i++) {
+            assertThat(received.get(i)).isEqualTo(i * 2);
+        }
+    }
+
+    @Test
+    public void testProjectionOnly() {
+        ReliableTopicProxy<Integer> topic = topicOwnedBy(remote);
+        ReliableMessageListenerMock listener = new ReliableMessageListenerMock();
+        topic.addMessageListener(listener, null, new ToStringProjection());
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> assertThat(listener.objects).hasSize(MESSAGE_COUNT));
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            assertThat(listener.objects.get(i)).isEqualTo("value-" + i);
+        }
+        assertThat(listener.messages.get(0).getPublishingMember()).isEqualTo(local.getCluster().getLocalMember());
+    }
+
+    private void testFilterAndProjection(HazelcastInstance owner) {
+        ReliableTopicProxy<Integer> topic = topicOwnedBy(owner);
+        ReliableMessageListenerMock listener = new ReliableMessageListenerMock();
+        topic.addMessageListener(listener, new EvenPredicate(), new ToStringProjection());
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> {
+            assertThat(listener.objects).hasSize(MESSAGE_COUNT / 2);
+            assertThat(listener.storedSequence).isGreaterThanOrEqualTo(MESSAGE_COUNT - 2);
+        });
+        for (int i = 0; i < MESSAGE_COUNT / 2; i++) {
+            assertThat(listener.objects.get(i)).isEqualTo("value-" + i * 2);
+        }
+        // the skipped messages must not be reported as lost to a loss intolerant listener
+        assertThat(listener.onCancelCalled).isFalse();
+        assertThat(topic.runnersMap).hasSize(1);
+    }
+
+    private ReliableTopicProxy<Integer> topicOwnedBy(HazelcastInstance owner) {
+        String name = randomName() + "@" + generateKeyOwnedBy(owner);
+        return (ReliableTopicProxy<Integer>) local.<Integer>getReliableTopic(name);
+    }
+
+    private static class EvenPredicate implements PredicateEx<Integer> {
+        @Override
+        public boolean testEx(Integer value) {
+            return value % 2 == 0;
+        }
+    }
+
+    private static class ToStringProjection implements Projection<Integer, String> {
+        @Override
+        public String transform(Integer value) {
+            return "value-" + value;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2008-2026, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.topic.ITopic;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReliableTopicPublishCoalescingTest extends HazelcastTestSupport {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int MESSAGES_PER_THREAD = 500;
+
+    @Test
+    public void testConcurrentPublish_withoutDelay() throws Exception {
+        testConcurrentPublish("0");
+    }
+
+    @Test
+    public void testConcurrentPublish_withDelay() throws Exception {
+        testConcurrentPublish("1");
+    }
+
+    @Test
+    public void testPublishAsync_keepsOrder() {
+        ITopic<Integer> topic = createTopic("0");
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        topic.addMessageListener(message -> received.add(message.getMessageObject()));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(topic.publishAsync(i).toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertTrueEventually(() -> assertThat(received).hasSize(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+    }
+
+    private void testConcurrentPublish(String delayMillis) throws Exception {
+        ITopic<String> topic = createTopic(delayMillis);
+        Map<Integer, List<Integer>> receivedByThread = new ConcurrentHashMap<>();
+        topic.addMessageListener(message -> {
+            String[] parts = message.getMessageObject().split(":");
+            receivedByThread.computeIfAbsent(Integer.parseInt(parts[0]), k -> new CopyOnWriteArrayList<>())
+                            .add(Integer.parseInt(parts[1]));
+        });
+
+        List<Future> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            int thread = t;
+            futures.add(spawn(() -> {
+                for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                    topic.publish(thread + ":" + i);
+                }
+            }));
+        }
+        for (Future future : futures) {
+            assertCompletesEventually(future);
+        }
+
+        assertTrueEventually(() -> {
+            assertThat(receivedByThread).hasSize(THREAD_COUNT);
+            for (List<Integer> received : receivedByThread.values()) {
+                assertThat(received).hasSize(MESSAGES_PER_THREAD);
+            }
+        });
+        for (List<Integer> received : receivedByThread.values()) {
+            for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                assertThat(received.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    private <E> ITopic<E> createTopic(String delayMillis) {
+        Config config = smallInstanceConfig();
+        config.setProperty(ReliableTopicService.PUBLISH_COALESCING_DELAY_MILLIS.getName(), delayMillis);
+        config.getRingbufferConfig("*").setCapacity(THREAD_COUNT * MESSAGES_PER_THREAD);
+        HazelcastInstance hz = createHazelcastInstance(config);
+        return hz.getReliableTopic(randomName());
+    }
+}
@@ -33,8 +33,10 @@ import java.io.InputStream;
 import java.util.Collection;
 
 import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -455,4 +457,43 @@ public class MerkleTreeUtilTest {
         Collection<Integer> deltaOrders = MerkleTreeUtil.compareTrees(merkleTree, remoteMerkleTreeView);
         assertTrue(deltaOrders.isEmpty());
     }
+
+    @Test
+    public void testCompareLeaves() {
+        MerkleTree localTree = new ArrayMerkleTree(3);
+        localTree.updateAdd(0x80000000, 1); // leaf 3
+        localTree.updateAdd(0xC0000000, 2); // leaf 4
+        localTree.updateAdd(0x00000000, 3); // leaf 5
+
+        MerkleTree remoteTree = new ArrayMerkleTree(3);
+        remoteTree.updateAdd(0x80000000, 1); // leaf 3
+        remoteTree.updateAdd(0xC0000000, 4); // leaf 4
+        remoteTree.updateAdd(0x40000000, 3); // leaf 6
+
+        int[] remoteLeaves = MerkleTreeUtil.getLeaves(remoteTree);
+        assertEquals(4, remoteLeaves.length);
+        assertEquals(remoteTree.getNodeHash(3), remoteLeaves[0]);
+
+        int[] diff = MerkleTreeUtil.compareLeaves(localTree, remoteLeaves);
+        assertArrayEquals(new int[]{
+                4, localTree.getNodeHash(4),
+                5, localTree.getNodeHash(5),
+                6, localTree.getNodeHash(6)}, diff);
+    }
+
+    @Test
+    public void testCompareLeavesOfSameTrees() {
+        MerkleTree merkleTree = new ArrayMerkleTree(3);
+        merkleTree.updateAdd(0x80000000, 1);
+
+        assertEquals(0, MerkleTreeUtil.compareLeaves(merkleTree, MerkleTreeUtil.getLeaves(merkleTree)).length);
+    }
+
+    @Test
+    public void testCompareLeavesOfDifferentDepth() {
+        MerkleTree localTree = new ArrayMerkleTree(3);
+        MerkleTree remoteTree = new ArrayMerkleTree(4);
+
+        assertNull(MerkleTreeUtil.compareLeaves(localTree, MerkleTreeUtil.getLeaves(remoteTree)));
+    }
 }